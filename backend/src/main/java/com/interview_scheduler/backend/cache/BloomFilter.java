@@ -0,0 +1,97 @@
+package com.interview_scheduler.backend.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings: {@link #mightContain} never returns {@code false} for a key that was
+ * put, and returns {@code true} for an absent key with roughly the false positive probability it was sized for,
+ * rising once more keys than expected have been put. Keys cannot be removed.
+ * <p>
+ * Each key is hashed once to 64 bits and the probe positions are derived from the two halves (Kirsch and
+ * Mitzenmacher), so a lookup costs one pass over the key. Bits are set with CAS, so concurrent puts and
+ * lookups need no lock.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /** A filter sized to hold {@code expectedInsertions} keys at false positive probability {@code fpp}. */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp must be between 0 and 1");
+        }
+        long n = Math.max(expectedInsertions, 1);
+        // Probe positions are ints, which caps the filter at 256 MB
+        long bits = Math.min(Integer.MAX_VALUE,
+                Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = bitIndex(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = bitIndex(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    private long bitIndex(int combined) {
+        // Flip negative combinations instead of taking the absolute value, which overflows for MIN_VALUE
+        return (combined < 0 ? ~combined : combined) % bitSize;
+    }
+
+    // FNV-1a over the UTF-16 code units, finished with the MurmurHash3 64-bit mix so both halves are usable
+    static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,138 @@
+package com.interview_scheduler.backend.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.interview_scheduler.backend.dto.response.CandidateResponse;
+import com.interview_scheduler.backend.event.CandidateDeletedEvent;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Per-node front for candidate lookups by normalized email: a Bloom filter per shard of every
+ * {@code (tenant, email)} pair answers "no such candidate" without a query, and an LRU of found candidates
+ * answers repeated lookups of existing ones.
+ * <p>
+ * The filters are loaded by {@code CandidateService.reload} and topped up from rows created since the last
+ * refresh, so a candidate created on another node is reported absent until this node's next refresh. Lookups
+ * fall through to the database while a shard has no filter yet, and for the root tenant, whose lookups span
+ * every tenant. Deleted candidates stay in the filter (a false positive costs one query) and are dropped from
+ * the LRU after the deleting transaction commits; other nodes serve them until their entry expires.
+ */
+@Component
+public class CandidateEmailCache implements MeterBinder {
+
+    public record Key(String shard, String tenantId, String email) {
+    }
+
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final Map<String, BloomFilter> filters = new ConcurrentHashMap<>();
+    private final ExpiringLruCache<Key, CandidateResponse> byEmail;
+    private final LongAdder filterNegatives = new LongAdder();
+
+    public CandidateEmailCache(
+            @Value("${candidate-email-cache.enabled:true}") boolean enabled,
+            @Value("${candidate-email-cache.expected-insertions:100000}") long expectedInsertions,
+            @Value("${candidate-email-cache.fpp:0.01}") double fpp,
+            @Value("${candidate-email-cache.max-entries:10000}") int maxEntries,
+            @Value("${candidate-email-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.byEmail = new ExpiringLruCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /** {@code false} only when the current tenant has no candidate with this normalized email. */
+    public boolean mightExist(String email) {
+        String tenantId = TenantContext.getTenantId();
+        BloomFilter filter = enabled && tenantId != null ? filters.get(TenantContext.getShard()) : null;
+        if (filter == null || filter.mightContain(filterKey(tenantId, email))) {
+            return true;
+        }
+        filterNegatives.increment();
+        return false;
+    }
+
+    /**
+     * The candidate with this normalized email, from the LRU or {@code loader}; {@code null} when the filter
+     * rules it out or the loader finds none.
+     */
+    public CandidateResponse find(String email, Function<String, CandidateResponse> loader) {
+        if (!mightExist(email)) {
+            return null;
+        }
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return byEmail.get(new Key(TenantContext.getShard(), TenantContext.getTenantId(), email),
+                key -> loader.apply(key.email()));
+    }
+
+    /** Records a candidate created on this node, so the filter admits it before the next refresh. */
+    public void added(String tenantId, String email) {
+        BloomFilter filter = filters.get(TenantContext.getShard());
+        if (filter != null) {
+            filter.put(filterKey(tenantId, email));
+        }
+    }
+
+    /** An empty filter for a full load of {@code count} candidates, with room for those created until the next. */
+    public BloomFilter newFilter(int count) {
+        return BloomFilter.create(Math.max(expectedInsertions, 2L * count), fpp);
+    }
+
+    public BloomFilter filter(String shard) {
+        return filters.get(shard);
+    }
+
+    public void replaceFilter(String shard, BloomFilter filter) {
+        filters.put(shard, filter);
+    }
+
+    public static void put(BloomFilter filter, String tenantId, String email) {
+        filter.put(filterKey(tenantId, email));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateDeleted(CandidateDeletedEvent event) {
+        byEmail.invalidateIf(key -> key.shard().equals(event.shard()) && key.email().equals(event.email())
+                && (key.tenantId() == null || key.tenantId().equals(event.tenantId())));
+    }
+
+    /** Empties the LRU; the filters only hold hints and are replaced by the next reload. */
+    public void clear() {
+        byEmail.invalidateAll();
+    }
+
+    public ExpiringLruCache<Key, CandidateResponse> byEmail() {
+        return byEmail;
+    }
+
+    public long getFilterNegatives() {
+        return filterNegatives.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        byEmail.bindTo(registry, "candidatesByEmail");
+        FunctionCounter.builder("candidate.email.filter.negatives", filterNegatives, LongAdder::sum)
+                .description("Candidate email lookups answered by the Bloom filter without a query")
+                .register(registry);
+    }
+
+    private static String filterKey(String tenantId, String email) {
+        return tenantId + '\0' + email;
+    }
+}
@@ -0,0 +1,154 @@
+package com.interview_scheduler.backend.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded read-through cache: least recently used entries are evicted beyond {@code capacity}, and entries
+ * older than {@code ttl} are treated as misses. The loader runs outside the lock, so a slow load never blocks
+ * other readers; two threads missing on the same key may both load it.
+ * <p>
+ * Every invalidation bumps a generation counter, and a loaded value is only stored if no invalidation
+ * happened while it was being loaded. A reader that raced a write therefore cannot put back the value the
+ * write just replaced.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private record Entry<V>(V value, long loadedAtNanos) {
+    }
+
+    private final int capacity;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<K, Entry<V>> entries;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ExpiringLruCache(int capacity, Duration ttl) {
+        this(capacity, ttl, System::nanoTime);
+    }
+
+    public ExpiringLruCache(int capacity, Duration ttl, LongSupplier nanoClock) {
+        if (capacity < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("capacity and ttl must be positive");
+        }
+        this.capacity = capacity;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for {@code key}, or loads, stores and returns it. Exceptions from the loader
+     * propagate and nothing is stored; a {@code null} result is returned but not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && nanoClock.getAsLong() - entry.loadedAtNanos() < ttlNanos) {
+                hits++;
+                return entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+                }
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<? super K> matches) {
+        generation++;
+        for (Iterator<K> keys = entries.keySet().iterator(); keys.hasNext();) {
+            if (matches.test(keys.next())) {
+                keys.remove();
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Duration getTtl() {
+        return Duration.ofNanos(ttlNanos);
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /** Entries dropped for capacity or found expired; invalidations are not counted. */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    // Same meter names and tags as Micrometer's cache binders (Caffeine, JCache), so existing cache
+    // dashboards apply
+    public void bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", this, ExpiringLruCache::getHits)
+                .tag("cache", name).tag("result", "hit")
+                .description("Lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, ExpiringLruCache::getMisses)
+                .tag("cache", name).tag("result", "miss")
+                .description("Lookups that loaded from the database")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, ExpiringLruCache::getEvictions)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", this, ExpiringLruCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
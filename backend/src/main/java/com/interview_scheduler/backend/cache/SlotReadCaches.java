@@ -0,0 +1,108 @@
+package com.interview_scheduler.backend.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Per-node caches of the slot detail and booking-by-slot responses, keyed by shard and slot id. Slot ids are
+ * only unique within a shard, and the expiry and hold jobs run per shard without a tenant, so the owning
+ * tenant is kept in the value and checked on every read instead of being part of the key.
+ * <p>
+ * Entries are dropped after the writing transaction commits, on the {@link SlotsChangedEvent} published by
+ * every booking, hold and expiry transition. Other nodes only see the change once their entry expires, so
+ * the TTL bounds cross-node staleness. Cached responses are shared between callers and must not be modified.
+ */
+@Component
+public class SlotReadCaches implements MeterBinder {
+
+    public record Key(String shard, Long slotId) {
+    }
+
+    public record CachedSlot(String tenantId, long version, InterviewSlotResponse response) {
+    }
+
+    public record CachedBooking(String tenantId, BookingResponse response) {
+    }
+
+    private final boolean enabled;
+    private final ExpiringLruCache<Key, CachedSlot> slots;
+    private final ExpiringLruCache<Key, CachedBooking> bookingsBySlot;
+
+    public SlotReadCaches(
+            @Value("${read-cache.enabled:true}") boolean enabled,
+            @Value("${read-cache.max-entries:10000}") int maxEntries,
+            @Value("${read-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.slots = new ExpiringLruCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+        this.bookingsBySlot = new ExpiringLruCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * The cached slot, or the one {@code loader} reads when absent or expired. Returns {@code null} when the
+     * slot is cached for another tenant, which the caller reports as not found.
+     */
+    public CachedSlot slot(Long slotId, Function<Long, CachedSlot> loader) {
+        CachedSlot cached = enabled
+                ? slots.get(new Key(TenantContext.getShard(), slotId), key -> loader.apply(key.slotId()))
+                : loader.apply(slotId);
+        return cached != null && visible(cached.tenantId()) ? cached : null;
+    }
+
+    public CachedBooking bookingBySlot(Long slotId, Function<Long, CachedBooking> loader) {
+        CachedBooking cached = enabled
+                ? bookingsBySlot.get(new Key(TenantContext.getShard(), slotId), key -> loader.apply(key.slotId()))
+                : loader.apply(slotId);
+        return cached != null && visible(cached.tenantId()) ? cached : null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsChanged(SlotsChangedEvent event) {
+        if (event.slotIds().isEmpty()) {
+            slots.invalidateIf(key -> key.shard().equals(event.shard()));
+            bookingsBySlot.invalidateIf(key -> key.shard().equals(event.shard()));
+            return;
+        }
+        for (Long slotId : event.slotIds()) {
+            Key key = new Key(event.shard(), slotId);
+            slots.invalidate(key);
+            bookingsBySlot.invalidate(key);
+        }
+    }
+
+    public void clear() {
+        slots.invalidateAll();
+        bookingsBySlot.invalidateAll();
+    }
+
+    public Map<String, ExpiringLruCache<?, ?>> caches() {
+        Map<String, ExpiringLruCache<?, ?>> caches = new LinkedHashMap<>();
+        caches.put("slots", slots);
+        caches.put("bookingsBySlot", bookingsBySlot);
+        return caches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        caches().forEach((name, cache) -> cache.bindTo(registry, name));
+    }
+
+    // Same rule as Hibernate's tenant filter: threads without a tenant run as the root tenant and see all rows
+    private static boolean visible(String ownerTenantId) {
+        String tenantId = TenantContext.getTenantId();
+        return tenantId == null || tenantId.equals(ownerTenantId);
+    }
+}
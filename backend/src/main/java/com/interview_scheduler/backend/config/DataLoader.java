@@ -7,17 +7,22 @@ import java.time.LocalTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import com.interview_scheduler.backend.datasource.TenantShardResolver;
 import com.interview_scheduler.backend.entity.Candidate;
 import com.interview_scheduler.backend.entity.Interviewer;
 import com.interview_scheduler.backend.entity.WeeklyAvailability;
 import com.interview_scheduler.backend.repository.CandidateRepository;
 import com.interview_scheduler.backend.repository.InterviewerRepository;
+import com.interview_scheduler.backend.tenant.TenantContext;
 
 import lombok.RequiredArgsConstructor;
 
+/** Seeds sample interviewers and candidates for demos; opt in with {@code app.seed-data.enabled=true}. */
 @Component
+@ConditionalOnProperty(name = "app.seed-data.enabled", havingValue = "true")
 @RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
 
@@ -25,9 +30,20 @@ public class DataLoader implements CommandLineRunner {
 
         private final InterviewerRepository interviewerRepository;
         private final CandidateRepository candidateRepository;
+        private final TenancyProperties tenancyProperties;
+        private final TenantShardResolver shardResolver;
 
         @Override
         public void run(String... args) throws Exception {
+                // Sample data belongs to the default tenant, not the root tenant used by system work.
+                String tenantId = tenancyProperties.getDefaultTenant();
+                TenantContext.callAs(tenantId, shardResolver.shardFor(tenantId), () -> {
+                        seed();
+                        return null;
+                });
+        }
+
+        private void seed() {
                 if (interviewerRepository.count() > 0 || candidateRepository.count() > 0) {
                         log.info("DataLoader: DB already contains data, skipping seeding.");
                         return;
@@ -0,0 +1,23 @@
+package com.interview_scheduler.backend.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.interview_scheduler.backend.filter.IdempotencyFilter;
+import com.interview_scheduler.backend.service.IdempotencyService;
+
+@Configuration
+public class IdempotencyConfig {
+
+    // After the tenant and read-your-writes filters, so keys are scoped per tenant and stored on its shard.
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyService idempotencyService) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyService));
+        registration.addUrlPatterns("/api/bookings/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package com.interview_scheduler.backend.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tunes every Hikari pool bean (the primary, the read replica, the default shard) under the {@code perf}
+ * profile. Pools are sized from the core count with HikariCP's {@code cores * 2 + spindles} rule and kept
+ * fixed-size, so no connection is opened on the request path, and the driver properties from
+ * {@code perf.datasource.driver-properties.*} are applied to each of them.
+ */
+@Configuration
+@Profile("perf")
+@Slf4j
+public class PerfDataSourceConfig {
+
+    // Static so the post-processor is registered before the DataSource beans it has to see.
+    @Bean
+    public static BeanPostProcessor perfDataSourceTuner(Environment environment) {
+        Binder binder = Binder.get(environment);
+        int size = poolSize(Runtime.getRuntime().availableProcessors(),
+                binder.bind("perf.pool.connections-per-core", Integer.class).orElse(2),
+                binder.bind("perf.pool.spindles", Integer.class).orElse(1),
+                binder.bind("perf.pool.max-size", Integer.class).orElse(64));
+        Map<String, String> driverProperties = binder
+                .bind("perf.datasource.driver-properties", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource pool) {
+                    pool.setMaximumPoolSize(size);
+                    pool.setMinimumIdle(size);
+                    driverProperties.forEach(pool::addDataSourceProperty);
+                    log.info("Sized pool {} to {} connections with driver properties {}",
+                            beanName, size, driverProperties.keySet());
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int poolSize(int cores, int connectionsPerCore, int spindles, int maxSize) {
+        return Math.max(1, Math.min(maxSize, cores * connectionsPerCore + spindles));
+    }
+}
@@ -0,0 +1,43 @@
+package com.interview_scheduler.backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.interview_scheduler.backend.monitoring.SlowQueryLog;
+import com.interview_scheduler.backend.monitoring.SlowQueryRecordingStatistics;
+
+@Configuration
+public class QueryStatisticsConfig {
+
+    @Value("${query.stats.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${query.stats.slow-threshold-ms:200}")
+    private long slowThresholdMs = 200;
+
+    @Value("${query.stats.slow-log-capacity:200}")
+    private int slowLogCapacity = 200;
+
+    @Bean
+    public SlowQueryLog slowQueryLog() {
+        return new SlowQueryLog(slowLogCapacity);
+    }
+
+    // Hibernate only reports slow statements to its statistics, so both are switched on together.
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsCustomizer(SlowQueryLog slowQueryLog) {
+        return hibernateProperties -> {
+            if (!enabled) {
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, slowThresholdMs);
+            hibernateProperties.put(AvailableSettings.STATS_BUILDER, (StatisticsFactory) sessionFactory ->
+                    new SlowQueryRecordingStatistics(sessionFactory, slowQueryLog));
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.interview_scheduler.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.interview_scheduler.backend.filter.RateLimitFilter;
+import com.interview_scheduler.backend.ratelimit.AdaptiveConcurrencyLimiter;
+import com.interview_scheduler.backend.ratelimit.TokenBucketRateLimiter;
+
+@Configuration
+@ConditionalOnProperty(name = "ratelimit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Value("${ratelimit.concurrency.initial-limit:10}")
+    private int initialLimit = 10;
+
+    @Value("${ratelimit.concurrency.min-limit:2}")
+    private int minLimit = 2;
+
+    @Value("${ratelimit.concurrency.max-limit:40}")
+    private int maxLimit = 40;
+
+    @Value("${ratelimit.concurrency.window-samples:500}")
+    private int windowSamples = 500;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter bookingConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter("bookings", initialLimit, minLimit, maxLimit, windowSamples);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter slotConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter("slots", initialLimit, minLimit, maxLimit, windowSamples);
+    }
+
+    // Right after the tenant filter: rejected requests should cost as little as possible.
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            @Value("${ratelimit.read.capacity:100}") int readCapacity,
+            @Value("${ratelimit.read.refill-per-second:50}") double readRefillPerSecond,
+            @Value("${ratelimit.write.capacity:20}") int writeCapacity,
+            @Value("${ratelimit.write.refill-per-second:5}") double writeRefillPerSecond,
+            @Value("${ratelimit.max-clients:100000}") int maxClients) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(
+                new TokenBucketRateLimiter(readCapacity, readRefillPerSecond, maxClients),
+                new TokenBucketRateLimiter(writeCapacity, writeRefillPerSecond, maxClients),
+                bookingConcurrencyLimiter(),
+                slotConcurrencyLimiter()));
+        registration.addUrlPatterns("/api/bookings/*", "/api/slots/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -3,7 +3,10 @@ package com.interview_scheduler.backend.config;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
 
+import com.interview_scheduler.backend.tracing.TracingAspect;
+
+// Retries wrap the tracing aspect, which wraps the transaction: one span and one transaction per attempt
 @Configuration
-@EnableRetry
+@EnableRetry(order = TracingAspect.ORDER - 1)
 public class RetryConfig {
 }
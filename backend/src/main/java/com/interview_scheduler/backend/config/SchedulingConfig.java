@@ -1,10 +1,21 @@
 package com.interview_scheduler.backend.config;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
-import com.interview_scheduler.backend.service.SlotService;
+import com.interview_scheduler.backend.datasource.TenantShardResolver;
+import com.interview_scheduler.backend.repository.BookingRepository;
+import com.interview_scheduler.backend.service.CalendarProjectionService;
+import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.FreeBusyService;
+import com.interview_scheduler.backend.service.IdempotencyService;
+import com.interview_scheduler.backend.service.OutboxService;
+import com.interview_scheduler.backend.service.ScheduledJobService;
+import com.interview_scheduler.backend.service.SlotExpiryService;
+import com.interview_scheduler.backend.service.SlotHoldService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,14 +26,120 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SchedulingConfig {
 
-    private final SlotService slotService;
+    private final ScheduledJobService scheduledJobService;
+    private final SlotExpiryService slotExpiryService;
+    private final OutboxService outboxService;
+    private final SlotHoldService slotHoldService;
+    private final BookingRepository bookingRepository;
+    private final TenantShardResolver shardResolver;
+    private final CalendarProjectionService calendarProjectionService;
+    private final FreeBusyService freeBusyService;
+    private final IdempotencyService idempotencyService;
+    private final CandidateService candidateService;
 
-    @Scheduled(fixedRate = 3600000)
-    public void markExpiredSlots() {
-        log.info("Running scheduled task: markExpiredSlots");
-        int count = slotService.markExpiredSlots();
-        if (count > 0) {
-            log.info("Marked {} slots as expired", count);
+    @Scheduled(fixedDelayString = "${slot.expiry.tick-ms:1000}")
+    public void expireDueSlots() {
+        boolean leader = scheduledJobService.runExclusive("slot-expiry-tick", false,
+                () -> shardResolver.sumOverShards(slotExpiryService::expireDueSlots));
+        if (!leader) {
+            // The lease holder picks up slots generated here when it scans for new ones each tick; keep our
+            // wheels turning so they do not back up.
+            shardResolver.sumOverShards(slotExpiryService::discardDueSlots);
         }
     }
+
+    @Scheduled(fixedDelayString = "${slot.expiry.reconcile-interval-ms:900000}",
+            initialDelayString = "${slot.expiry.reconcile-interval-ms:900000}")
+    public void reconcileExpiredSlots() {
+        log.info("Running scheduled task: reconcileExpiredSlots");
+        scheduledJobService.runExclusive("slot-expiry-reconcile", true,
+                () -> shardResolver.sumOverShards(slotExpiryService::reconcile));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relayOutboxEvents() {
+        scheduledJobService.runExclusive("outbox-relay", false,
+                () -> shardResolver.sumOverShards(outboxService::relayPendingEvents));
+    }
+
+    // Holds live in the wheel of the node that granted them, so every node ticks its own.
+    @Scheduled(fixedDelayString = "${slot.hold.tick-ms:1000}")
+    public void expireSlotHolds() {
+        scheduledJobService.runLocal("slot-hold-tick",
+                () -> shardResolver.sumOverShards(slotHoldService::expireDueHolds));
+    }
+
+    @Scheduled(fixedDelayString = "${slot.hold.sweep-interval-ms:60000}")
+    public void sweepExpiredSlotHolds() {
+        scheduledJobService.runExclusive("slot-hold-sweep", true,
+                () -> shardResolver.sumOverShards(slotHoldService::releaseExpiredHolds));
+    }
+
+    // Every node keeps its own free/busy index; pick up calendar and availability writes made elsewhere.
+    @Scheduled(fixedDelayString = "${freebusy.refresh-ms:5000}",
+            initialDelayString = "${freebusy.refresh-ms:5000}")
+    public void refreshFreeBusyIndex() {
+        scheduledJobService.runLocal("freebusy-refresh",
+                () -> shardResolver.sumOverShards(freeBusyService::refresh));
+    }
+
+    @Scheduled(fixedDelayString = "${freebusy.reload-interval-ms:600000}",
+            initialDelayString = "${freebusy.reload-interval-ms:600000}")
+    public void reloadFreeBusyIndex() {
+        scheduledJobService.runLocal("freebusy-reload",
+                () -> shardResolver.sumOverShards(freeBusyService::reload));
+    }
+
+    // Likewise the candidate email filters, which only need the candidates created since the last pass.
+    @Scheduled(fixedDelayString = "${candidate-email-cache.refresh-ms:5000}",
+            initialDelayString = "${candidate-email-cache.refresh-ms:5000}")
+    public void refreshCandidateEmailFilters() {
+        scheduledJobService.runLocal("candidate-email-refresh",
+                () -> shardResolver.sumOverShards(candidateService::refreshEmailFilter));
+    }
+
+    // Rebuilt so the filters are resized to the table and stop admitting deleted candidates.
+    @Scheduled(fixedDelayString = "${candidate-email-cache.reload-interval-ms:3600000}",
+            initialDelayString = "${candidate-email-cache.reload-interval-ms:3600000}")
+    public void reloadCandidateEmailFilters() {
+        scheduledJobService.runLocal("candidate-email-reload",
+                () -> shardResolver.sumOverShards(candidateService::reloadEmailFilter));
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.prune-interval-ms:3600000}",
+            initialDelayString = "${idempotency.prune-interval-ms:3600000}")
+    public void pruneIdempotencyKeys() {
+        scheduledJobService.runExclusive("idempotency-prune", true,
+                () -> shardResolver.sumOverShards(idempotencyService::pruneExpired));
+    }
+
+    @Scheduled(cron = "${scheduler.history.prune-cron:0 30 3 * * *}")
+    public void pruneJobHistory() {
+        scheduledJobService.runExclusive("job-history-prune", true, scheduledJobService::pruneHistory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSlotExpiryWheels() {
+        int loaded = shardResolver.sumOverShards(slotExpiryService::rebuild);
+        log.info("Loaded {} upcoming slot start times into the expiry wheels", loaded);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildWeekCalendars() {
+        scheduledJobService.runExclusive("calendar-rebuild", true,
+                () -> shardResolver.sumOverShards(calendarProjectionService::rebuild));
+        // Loaded after the rebuild so the index starts from the corrected calendars.
+        shardResolver.sumOverShards(freeBusyService::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCandidateEmailFilters() {
+        shardResolver.sumOverShards(candidateService::reloadEmailFilter);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBookingSlotStartTimes() {
+        scheduledJobService.runExclusive("booking-slot-start-backfill", true,
+                () -> shardResolver.sumOverShards(bookingRepository::backfillSlotStartTimes));
+    }
 }
@@ -0,0 +1,83 @@
+package com.interview_scheduler.backend.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import com.interview_scheduler.backend.datasource.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.tenancy", name = "sharding-enabled", havingValue = "true")
+@Slf4j
+public class ShardDataSourceConfig {
+
+    // ReadReplicaDataSourceConfig steps aside when sharding is on, so both would otherwise define the primary
+    // dataSource. The replica mirrors spring.datasource only and has no per-shard equivalent.
+    public ShardDataSourceConfig(Environment environment) {
+        if (environment.containsProperty("app.datasource.replica.jdbc-url")) {
+            throw new IllegalStateException("app.tenancy.sharding-enabled=true cannot be combined with "
+                    + "app.datasource.replica.jdbc-url: the read replica only covers the default shard. "
+                    + "Remove the replica settings or turn sharding off.");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource defaultShardDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource defaultShardDataSource, TenancyProperties properties) {
+        Map<Object, Object> shards = new HashMap<>();
+        shards.put(properties.getDefaultShard(), defaultShardDataSource);
+        properties.getShards().forEach((name, shard) -> {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name + "-pool");
+            dataSource.setJdbcUrl(shard.getJdbcUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.put(name, dataSource);
+        });
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(shards);
+        routing.setDefaultTargetDataSource(defaultShardDataSource);
+        routing.afterPropertiesSet();
+        log.info("Routing tenants across shards {}", shards.keySet());
+        return routing;
+    }
+
+    // Flyway's own DataSource is the routing one, which resolves to the default shard outside a request;
+    // every other shard gets the same migrations before the application starts serving.
+    @Bean
+    public FlywayMigrationStrategy shardMigrationStrategy(TenancyProperties properties) {
+        return flyway -> {
+            flyway.migrate();
+            properties.getShards().forEach((name, shard) -> {
+                log.info("Migrating shard {}", name);
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shard.getJdbcUrl(), shard.getUsername(), shard.getPassword())
+                        .load()
+                        .migrate();
+            });
+        };
+    }
+}
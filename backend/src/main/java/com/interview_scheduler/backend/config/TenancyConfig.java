@@ -0,0 +1,26 @@
+package com.interview_scheduler.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.interview_scheduler.backend.datasource.TenantShardResolver;
+import com.interview_scheduler.backend.filter.TenantFilter;
+
+@Configuration
+@EnableConfigurationProperties(TenancyProperties.class)
+public class TenancyConfig {
+
+    // After the correlation id filter, so a rejected tenant header is still logged with its request id.
+    @Bean
+    public FilterRegistrationBean<TenantFilter> tenantFilter(TenantShardResolver shardResolver,
+            TenancyProperties properties) {
+        FilterRegistrationBean<TenantFilter> registration = new FilterRegistrationBean<>(
+                new TenantFilter(shardResolver, properties.getDefaultTenant()));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
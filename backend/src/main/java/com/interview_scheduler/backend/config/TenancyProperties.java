@@ -0,0 +1,36 @@
+package com.interview_scheduler.backend.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.tenancy")
+public class TenancyProperties {
+
+    private String defaultTenant = "default";
+
+    private boolean shardingEnabled = false;
+
+    private String defaultShard = TenantContext.DEFAULT_SHARD;
+
+    /** Tenant id to shard name; unmapped tenants live on the default shard. */
+    private Map<String, String> tenantShards = new LinkedHashMap<>();
+
+    /** Additional shards; the default shard always uses spring.datasource.*. */
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    @Data
+    public static class Shard {
+
+        private String jdbcUrl;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
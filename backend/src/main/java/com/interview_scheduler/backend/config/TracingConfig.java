@@ -0,0 +1,41 @@
+package com.interview_scheduler.backend.config;
+
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.tracing.FileSpanExporter;
+import com.interview_scheduler.backend.tracing.TracingAspect;
+import com.interview_scheduler.backend.tracing.TracingRetryListener;
+
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Layer spans on top of Boot's HTTP and scheduled-task tracing. The sampler, the OTLP exporter and
+ * propagation are configured with {@code management.tracing.*} and {@code management.otlp.tracing.*}.
+ * Any {@code SpanExporter} bean is also picked up, which is how the file exporter is added.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public TracingAspect tracingAspect(Tracer tracer) {
+        return new TracingAspect(tracer);
+    }
+
+    @Bean
+    public TracingRetryListener tracingRetryListener(Tracer tracer) {
+        return new TracingRetryListener(tracer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file.enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(ObjectMapper objectMapper,
+            @Value("${tracing.file.path:traces/spans.ndjson}") String path) {
+        return new FileSpanExporter(objectMapper, Paths.get(path));
+    }
+}
@@ -1,18 +1,54 @@
 package com.interview_scheduler.backend.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.interview_scheduler.backend.filter.CorrelationIdFilter;
+import com.interview_scheduler.backend.filter.FirstRequestTimingFilter;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // Replaces Spring's default CBOR converter so binary responses share the
+    // JSON mapper's modules and date settings (spring.jackson.*)
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public FilterRegistrationBean<FirstRequestTimingFilter> firstRequestTimingFilter() {
+        FilterRegistrationBean<FirstRequestTimingFilter> registration = new FilterRegistrationBean<>(
+                new FirstRequestTimingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter() {
+        FilterRegistrationBean<CorrelationIdFilter> registration = new FilterRegistrationBean<>(
+                new CorrelationIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:5173")
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(HttpHeaders.ETAG)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
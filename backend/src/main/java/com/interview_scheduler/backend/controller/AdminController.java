@@ -0,0 +1,116 @@
+package com.interview_scheduler.backend.controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.interview_scheduler.backend.cache.CandidateEmailCache;
+import com.interview_scheduler.backend.cache.ExpiringLruCache;
+import com.interview_scheduler.backend.cache.SlotReadCaches;
+import com.interview_scheduler.backend.dto.response.ApiResponse;
+import com.interview_scheduler.backend.dto.response.CacheStatsResponse;
+import com.interview_scheduler.backend.dto.response.ConcurrencyLimitResponse;
+import com.interview_scheduler.backend.dto.response.JobRunResponse;
+import com.interview_scheduler.backend.dto.response.JobStatsResponse;
+import com.interview_scheduler.backend.dto.response.QueryStatisticsResponse;
+import com.interview_scheduler.backend.dto.response.SlowQueryResponse;
+import com.interview_scheduler.backend.ratelimit.AdaptiveConcurrencyLimiter;
+import com.interview_scheduler.backend.service.QueryStatisticsService;
+import com.interview_scheduler.backend.service.ScheduledJobService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final ScheduledJobService scheduledJobService;
+    private final ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiters;
+    private final QueryStatisticsService queryStatisticsService;
+    private final SlotReadCaches slotReadCaches;
+    private final CandidateEmailCache candidateEmailCache;
+
+    @GetMapping("/jobs")
+    public ResponseEntity<ApiResponse<List<JobStatsResponse>>> getJobStats() {
+        return ResponseEntity.ok(ApiResponse.success(scheduledJobService.getJobStats()));
+    }
+
+    @GetMapping("/jobs/{jobName}/runs")
+    public ResponseEntity<ApiResponse<List<JobRunResponse>>> getRecentRuns(
+            @PathVariable String jobName,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                scheduledJobService.getRecentRuns(jobName, Math.min(Math.max(limit, 1), 200))));
+    }
+
+    @GetMapping("/limits")
+    public ResponseEntity<ApiResponse<List<ConcurrencyLimitResponse>>> getConcurrencyLimits() {
+        List<ConcurrencyLimitResponse> limits = concurrencyLimiters.orderedStream()
+                .map(limiter -> ConcurrencyLimitResponse.builder()
+                        .name(limiter.getName())
+                        .limit(limiter.getLimit())
+                        .inFlight(limiter.getInFlight())
+                        .rejected(limiter.getRejected())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(limits));
+    }
+
+    @GetMapping("/queries")
+    public ResponseEntity<ApiResponse<List<QueryStatisticsResponse>>> getQueryStatistics() {
+        return ResponseEntity.ok(ApiResponse.success(queryStatisticsService.getQueryStatistics()));
+    }
+
+    @GetMapping("/queries/slow")
+    public ResponseEntity<ApiResponse<List<SlowQueryResponse>>> getSlowQueries(
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                queryStatisticsService.getSlowQueries(Math.min(Math.max(limit, 1), 1000))));
+    }
+
+    @DeleteMapping("/queries")
+    public ResponseEntity<ApiResponse<Void>> resetQueryStatistics() {
+        queryStatisticsService.reset();
+        return ResponseEntity.ok(ApiResponse.success("Query statistics reset", null));
+    }
+
+    @GetMapping("/caches")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        Map<String, ExpiringLruCache<?, ?>> all = new LinkedHashMap<>(slotReadCaches.caches());
+        all.put("candidatesByEmail", candidateEmailCache.byEmail());
+        List<CacheStatsResponse> caches = all.entrySet().stream()
+                .map(entry -> {
+                    long hits = entry.getValue().getHits();
+                    long lookups = hits + entry.getValue().getMisses();
+                    return CacheStatsResponse.builder()
+                            .name(entry.getKey())
+                            .size(entry.getValue().size())
+                            .capacity(entry.getValue().getCapacity())
+                            .ttlSeconds(entry.getValue().getTtl().toSeconds())
+                            .hits(hits)
+                            .misses(entry.getValue().getMisses())
+                            .evictions(entry.getValue().getEvictions())
+                            .hitRatio(lookups == 0 ? 0 : (double) hits / lookups)
+                            .build();
+                })
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(caches));
+    }
+
+    @DeleteMapping("/caches")
+    public ResponseEntity<ApiResponse<Void>> clearCaches() {
+        slotReadCaches.clear();
+        candidateEmailCache.clear();
+        return ResponseEntity.ok(ApiResponse.success("Caches cleared", null));
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,22 +13,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.PanelBookingRequest;
 import com.interview_scheduler.backend.dto.request.UpdateBookingRequest;
 import com.interview_scheduler.backend.dto.response.ApiResponse;
 import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.PanelBookingResponse;
 import com.interview_scheduler.backend.service.BookingService;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/bookings")
 @RequiredArgsConstructor
-@Slf4j
 public class BookingController {
 
     private final BookingService bookingService;
@@ -35,39 +37,61 @@ public class BookingController {
     @PostMapping
     public ResponseEntity<ApiResponse<BookingResponse>> bookSlot(
             @Valid @RequestBody BookSlotRequest request) {
-        log.info("Booking slot {} for candidate {}", request.getSlotId(), request.getCandidateId());
         BookingResponse response = bookingService.bookSlot(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Slot booked successfully", response));
     }
 
+    @PostMapping("/panel")
+    public ResponseEntity<ApiResponse<PanelBookingResponse>> bookPanel(
+            @Valid @RequestBody PanelBookingRequest request) {
+        PanelBookingResponse response = bookingService.bookPanel(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Panel booked successfully", response));
+    }
+
+    @GetMapping("/panel/{panelId}")
+    public ResponseEntity<ApiResponse<PanelBookingResponse>> getPanel(@PathVariable String panelId) {
+        PanelBookingResponse response = bookingService.getPanel(panelId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @DeleteMapping("/panel/{panelId}")
+    public ResponseEntity<ApiResponse<PanelBookingResponse>> cancelPanel(@PathVariable String panelId) {
+        PanelBookingResponse response = bookingService.cancelPanel(panelId);
+        return ResponseEntity.ok(ApiResponse.success("Panel cancelled successfully", response));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<BookingResponse>> updateBooking(
             @PathVariable Long id,
             @Valid @RequestBody UpdateBookingRequest request) {
-        log.info("Updating booking {} to new slot {}", id, request.getNewSlotId());
         BookingResponse response = bookingService.updateBooking(id, request);
         return ResponseEntity.ok(ApiResponse.success("Booking updated successfully", response));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<BookingResponse>> cancelBooking(@PathVariable Long id) {
-        log.info("Cancelling booking {}", id);
         BookingResponse response = bookingService.cancelBooking(id);
         return ResponseEntity.ok(ApiResponse.success("Booking cancelled successfully", response));
     }
 
     @PostMapping("/{id}/confirm")
     public ResponseEntity<ApiResponse<BookingResponse>> confirmBooking(@PathVariable Long id) {
-        log.info("Confirming booking {}", id);
         BookingResponse response = bookingService.confirmBooking(id);
         return ResponseEntity.ok(ApiResponse.success("Booking confirmed successfully", response));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<BookingResponse>> getBookingById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<BookingResponse>> getBookingById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.of("booking", id, bookingService.getBookingVersion(id));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         BookingResponse response = bookingService.getBookingById(id);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response));
     }
 
     @GetMapping("/candidate/{candidateId}")
@@ -1,9 +1,11 @@
 package com.interview_scheduler.backend.controller;
 
+import java.io.InputStream;
 import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -11,13 +13,17 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
 import com.interview_scheduler.backend.dto.response.ApiResponse;
 import com.interview_scheduler.backend.dto.response.CandidateResponse;
+import com.interview_scheduler.backend.dto.response.ImportResponse;
+import com.interview_scheduler.backend.importer.ImportFormat;
 import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.ImportService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,16 +35,27 @@ import lombok.extern.slf4j.Slf4j;
 public class CandidateController {
 
     private final CandidateService candidateService;
+    private final ImportService importService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<CandidateResponse>> createCandidate(
             @Valid @RequestBody CreateCandidateRequest request) {
-        log.info("Creating new candidate: {}", request.getEmail());
+        log.debug("Creating new candidate: {}", request.getEmail());
         CandidateResponse response = candidateService.createCandidate(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Candidate created successfully", response));
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<ImportResponse>> importCandidates(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        ImportFormat format = ImportFormat.of(contentType);
+        log.debug("Importing candidates from {}", format);
+        ImportResponse response = importService.importCandidates(body, format);
+        return ResponseEntity.ok(ApiResponse.success("Candidate import finished", response));
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<List<CandidateResponse>>> getAllCandidates() {
         List<CandidateResponse> candidates = candidateService.getAllCandidates();
@@ -59,7 +76,7 @@ public class CandidateController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteCandidate(@PathVariable Long id) {
-        log.info("Deleting candidate: {}", id);
+        log.debug("Deleting candidate: {}", id);
         candidateService.deleteCandidate(id);
         return ResponseEntity.ok(ApiResponse.success("Candidate deleted successfully", null));
     }
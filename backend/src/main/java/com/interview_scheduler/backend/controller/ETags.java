@@ -0,0 +1,38 @@
+package com.interview_scheduler.backend.controller;
+
+import java.util.StringJoiner;
+
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(String resource, Object... parts) {
+        StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+        joiner.add(resource);
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return joiner.toString();
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match uses weak comparison, so a W/ prefix still matches
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
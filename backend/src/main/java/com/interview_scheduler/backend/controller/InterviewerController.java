@@ -1,9 +1,13 @@
 package com.interview_scheduler.backend.controller;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,13 +17,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
 import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
 import com.interview_scheduler.backend.dto.response.ApiResponse;
+import com.interview_scheduler.backend.dto.response.ImportResponse;
 import com.interview_scheduler.backend.dto.response.InterviewerResponse;
+import com.interview_scheduler.backend.dto.response.WeekCalendarResponse;
+import com.interview_scheduler.backend.importer.ImportFormat;
+import com.interview_scheduler.backend.service.CalendarProjectionService;
+import com.interview_scheduler.backend.service.ImportService;
 import com.interview_scheduler.backend.service.InterviewerService;
 
 import lombok.RequiredArgsConstructor;
@@ -32,25 +43,57 @@ import lombok.extern.slf4j.Slf4j;
 public class InterviewerController {
 
     private final InterviewerService interviewerService;
+    private final CalendarProjectionService calendarProjectionService;
+    private final ImportService importService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<InterviewerResponse>> createInterviewer(
             @Valid @RequestBody CreateInterviewerRequest request) {
-        log.info("Creating new interviewer: {}", request.getEmail());
+        log.debug("Creating new interviewer: {}", request.getEmail());
         InterviewerResponse response = interviewerService.createInterviewer(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Interviewer created successfully", response));
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<ImportResponse>> importInterviewers(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        ImportFormat format = ImportFormat.of(contentType);
+        log.debug("Importing interviewers from {}", format);
+        ImportResponse response = importService.importInterviewers(body, format);
+        return ResponseEntity.ok(ApiResponse.success("Interviewer import finished", response));
+    }
+
     @GetMapping
-    public ResponseEntity<ApiResponse<List<InterviewerResponse>>> getAllInterviewers() {
+    public ResponseEntity<ApiResponse<List<InterviewerResponse>>> getAllInterviewers(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.of("interviewers", interviewerService.getInterviewersCollectionVersion());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         List<InterviewerResponse> interviewers = interviewerService.getAllInterviewers();
-        return ResponseEntity.ok(ApiResponse.success(interviewers));
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(interviewers));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<InterviewerResponse>> getInterviewerById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<InterviewerResponse>> getInterviewerById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.of("interviewer", id, interviewerService.getInterviewerVersion(id));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         InterviewerResponse response = interviewerService.getInterviewerById(id);
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response));
+    }
+
+    @GetMapping("/{id}/calendar")
+    public ResponseEntity<ApiResponse<WeekCalendarResponse>> getWeekCalendar(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week) {
+        WeekCalendarResponse response = calendarProjectionService.getWeekCalendar(id,
+                week != null ? week : LocalDate.now());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -58,7 +101,7 @@ public class InterviewerController {
     public ResponseEntity<ApiResponse<InterviewerResponse>> updateWeeklyAvailability(
             @PathVariable Long id,
             @Valid @RequestBody List<WeeklyAvailabilityRequest> availabilities) {
-        log.info("Updating weekly availability for interviewer: {}", id);
+        log.debug("Updating weekly availability for interviewer: {}", id);
         InterviewerResponse response = interviewerService.updateWeeklyAvailability(id, availabilities);
         return ResponseEntity.ok(ApiResponse.success("Weekly availability updated successfully", response));
     }
@@ -67,14 +110,14 @@ public class InterviewerController {
     public ResponseEntity<ApiResponse<InterviewerResponse>> updateMaxInterviewsPerWeek(
             @PathVariable Long id,
             @RequestBody Integer maxInterviews) {
-        log.info("Updating max interviews per week for interviewer: {} to {}", id, maxInterviews);
+        log.debug("Updating max interviews per week for interviewer: {} to {}", id, maxInterviews);
         InterviewerResponse response = interviewerService.updateMaxInterviewsPerWeek(id, maxInterviews);
         return ResponseEntity.ok(ApiResponse.success("Max interviews per week updated successfully", response));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteInterviewer(@PathVariable Long id) {
-        log.info("Deleting interviewer: {}", id);
+        log.debug("Deleting interviewer: {}", id);
         interviewerService.deleteInterviewer(id);
         return ResponseEntity.ok(ApiResponse.success("Interviewer deleted successfully", null));
     }
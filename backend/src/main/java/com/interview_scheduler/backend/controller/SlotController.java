@@ -1,22 +1,35 @@
 package com.interview_scheduler.backend.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.interview_scheduler.backend.dto.request.FreeBusySearchRequest;
 import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.HoldSlotRequest;
 import com.interview_scheduler.backend.dto.response.ApiResponse;
+import com.interview_scheduler.backend.dto.response.CompactSlotPage;
+import com.interview_scheduler.backend.dto.response.FreeBusySearchResponse;
 import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
 import com.interview_scheduler.backend.dto.response.PaginatedResponse;
+import com.interview_scheduler.backend.dto.response.SlotHoldResponse;
+import com.interview_scheduler.backend.service.FreeBusyService;
+import com.interview_scheduler.backend.service.SlotHoldService;
 import com.interview_scheduler.backend.service.SlotService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +42,8 @@ import lombok.extern.slf4j.Slf4j;
 public class SlotController {
 
     private final SlotService slotService;
+    private final SlotHoldService slotHoldService;
+    private final FreeBusyService freeBusyService;
 
     @GetMapping("/health")
     public ResponseEntity<ApiResponse<String>> healthCheck() {
@@ -38,28 +53,49 @@ public class SlotController {
     @PostMapping("/generate")
     public ResponseEntity<ApiResponse<List<InterviewSlotResponse>>> generateSlots(
             @Valid @RequestBody GenerateSlotsRequest request) {
-        log.info("Generating slots for interviewer: {}", request.getInterviewerId());
+        log.debug("Generating slots for interviewer: {}", request.getInterviewerId());
         List<InterviewSlotResponse> slots = slotService.generateSlots(request);
         return ResponseEntity.ok(ApiResponse.success(
                 String.format("Generated %d slots successfully", slots.size()), slots));
     }
 
     @GetMapping("/available")
-    public ResponseEntity<ApiResponse<PaginatedResponse<InterviewSlotResponse>>> getAvailableSlots(
+    public ResponseEntity<?> getAvailableSlots(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Long interviewerId) {
+            @RequestParam(required = false) Long interviewerId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         PaginatedResponse<InterviewSlotResponse> response = slotService.getAvailableSlots(page, size, interviewerId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return slotPage(response, accept);
     }
 
     @GetMapping("/available/cursor")
-    public ResponseEntity<ApiResponse<PaginatedResponse<InterviewSlotResponse>>> getAvailableSlotsByCursor(
+    public ResponseEntity<?> getAvailableSlotsByCursor(
             @RequestParam(defaultValue = "0") Long cursor,
             @RequestParam(defaultValue = "10") int limit,
-            @RequestParam(required = false) Long interviewerId) {
+            @RequestParam(required = false) Long interviewerId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         PaginatedResponse<InterviewSlotResponse> response = slotService.getAvailableSlotsByCursor(cursor, limit,
                 interviewerId);
+        return slotPage(response, accept);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<FreeBusySearchResponse>> searchFreeWindows(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            @RequestParam(required = false) List<Long> interviewerIds,
+            @RequestParam(defaultValue = "ANY") FreeBusySearchRequest.Mode mode,
+            @RequestParam(defaultValue = "50") int limit) {
+        FreeBusySearchResponse response = freeBusyService.search(FreeBusySearchRequest.builder()
+                .from(from)
+                .to(to)
+                .durationMinutes(durationMinutes)
+                .interviewerIds(interviewerIds)
+                .mode(mode)
+                .limit(limit)
+                .build());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -71,8 +107,39 @@ public class SlotController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<InterviewSlotResponse>> getSlotById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<InterviewSlotResponse>> getSlotById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.of("slot", id, slotService.getSlotVersion(id));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         InterviewSlotResponse response = slotService.getSlotById(id);
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success(response));
+    }
+
+    @PostMapping("/{id}/hold")
+    public ResponseEntity<ApiResponse<SlotHoldResponse>> holdSlot(
+            @PathVariable Long id,
+            @Valid @RequestBody HoldSlotRequest request) {
+        SlotHoldResponse response = slotHoldService.holdSlot(id, request.getCandidateId());
+        return ResponseEntity.ok(ApiResponse.success("Slot held successfully", response));
+    }
+
+    @DeleteMapping("/{id}/hold")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(
+            @PathVariable Long id,
+            @RequestParam Long candidateId) {
+        slotHoldService.releaseHold(id, candidateId);
+        return ResponseEntity.ok(ApiResponse.success("Slot hold released", null));
+    }
+
+    private ResponseEntity<?> slotPage(PaginatedResponse<InterviewSlotResponse> response, String accept) {
+        if (CompactSlotPage.isAcceptable(accept)) {
+            return ResponseEntity.ok()
+                    .contentType(CompactSlotPage.MEDIA_TYPE)
+                    .body(CompactSlotPage.from(response));
+        }
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 }
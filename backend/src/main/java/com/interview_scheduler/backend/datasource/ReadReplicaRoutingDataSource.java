@@ -0,0 +1,27 @@
+package com.interview_scheduler.backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections for read-only transactions to the replica unless the
+ * current thread has been pinned to the primary. Must sit behind a
+ * LazyConnectionDataSourceProxy so the lookup happens after the transaction
+ * has been marked read-only.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRoutingContext.isPrimaryPinned()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
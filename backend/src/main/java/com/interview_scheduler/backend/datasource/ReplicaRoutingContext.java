@@ -0,0 +1,35 @@
+package com.interview_scheduler.backend.datasource;
+
+import java.util.function.Supplier;
+
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean alreadyPinned = isPrimaryPinned();
+        pinPrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!alreadyPinned) {
+                clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.interview_scheduler.backend.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TenantContext.getShard();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Object dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
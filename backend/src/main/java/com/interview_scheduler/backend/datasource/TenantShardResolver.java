@@ -0,0 +1,46 @@
+package com.interview_scheduler.backend.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import org.springframework.stereotype.Component;
+
+import com.interview_scheduler.backend.config.TenancyProperties;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TenantShardResolver {
+
+    private final TenancyProperties properties;
+
+    public String shardFor(String tenantId) {
+        if (!properties.isShardingEnabled() || tenantId == null) {
+            return properties.getDefaultShard();
+        }
+        return properties.getTenantShards().getOrDefault(tenantId, properties.getDefaultShard());
+    }
+
+    public List<String> shardNames() {
+        List<String> shards = new ArrayList<>();
+        shards.add(properties.getDefaultShard());
+        if (properties.isShardingEnabled()) {
+            properties.getShards().keySet().stream()
+                    .filter(shard -> !shard.equals(properties.getDefaultShard()))
+                    .forEach(shards::add);
+        }
+        return shards;
+    }
+
+    /** Runs tenant-spanning system work once per shard and sums the affected rows. */
+    public int sumOverShards(IntSupplier work) {
+        int total = 0;
+        for (String shard : shardNames()) {
+            total += TenantContext.callOnShard(shard, work);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,37 @@
+package com.interview_scheduler.backend.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeBusySearchRequest {
+
+    public enum Mode {
+        /** Any one of the interviewers is free. */
+        ANY,
+        /** All of the interviewers are free at the same time. */
+        ALL
+    }
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Builder.Default
+    private int durationMinutes = 60;
+
+    private List<Long> interviewerIds;
+
+    @Builder.Default
+    private Mode mode = Mode.ANY;
+
+    @Builder.Default
+    private int limit = 50;
+}
@@ -0,0 +1,18 @@
+package com.interview_scheduler.backend.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldSlotRequest {
+
+    @NotNull(message = "Candidate ID is required")
+    private Long candidateId;
+}
@@ -0,0 +1,32 @@
+package com.interview_scheduler.backend.dto.request;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PanelBookingRequest {
+
+    @NotNull(message = "Candidate ID is required")
+    private Long candidateId;
+
+    @NotNull(message = "Interviewer IDs are required")
+    @Size(min = 2, max = 4, message = "A panel needs between 2 and 4 interviewers")
+    private List<Long> interviewerIds;
+
+    private LocalDateTime earliestStart;
+
+    private LocalDateTime latestStart;
+
+    private String bookingNotes;
+}
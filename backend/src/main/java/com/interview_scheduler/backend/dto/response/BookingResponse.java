@@ -26,6 +26,7 @@ public class BookingResponse {
     private String interviewerName;
     private BookingStatus status;
     private String bookingNotes;
+    private String panelId;
     private Integer weekNumber;
     private Integer year;
     private LocalDateTime createdAt;
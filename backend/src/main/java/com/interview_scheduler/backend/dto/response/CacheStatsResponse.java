@@ -0,0 +1,22 @@
+package com.interview_scheduler.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private String name;
+    private int size;
+    private int capacity;
+    private long ttlSeconds;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private double hitRatio;
+}
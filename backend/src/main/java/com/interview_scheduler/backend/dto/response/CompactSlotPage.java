@@ -0,0 +1,102 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactSlotPage {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.interview-scheduler.compact+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    private List<InterviewerRef> interviewers;
+
+    private List<Long> ids;
+    private List<Integer> interviewerIndexes;
+    private List<LocalDateTime> startTimes;
+    private List<Integer> durationMinutes;
+
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+    private Long nextCursor;
+    private Boolean hasNext;
+
+    public record InterviewerRef(Long id, String name) {
+    }
+
+    public static boolean isAcceptable(String acceptHeader) {
+        if (acceptHeader == null) {
+            return false;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(acceptHeader);
+        } catch (InvalidMediaTypeException ex) {
+            // A malformed header does not ask for the compact type; content negotiation answers it as usual
+            return false;
+        }
+        for (MediaType mediaType : mediaTypes) {
+            if (MEDIA_TYPE.equalsTypeAndSubtype(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static CompactSlotPage from(PaginatedResponse<InterviewSlotResponse> response) {
+        List<InterviewSlotResponse> slots = response.getData();
+        Map<Long, Integer> interviewerIndex = new LinkedHashMap<>();
+        List<InterviewerRef> interviewers = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(slots.size());
+        List<Integer> indexes = new ArrayList<>(slots.size());
+        List<LocalDateTime> startTimes = new ArrayList<>(slots.size());
+        List<Integer> durations = new ArrayList<>(slots.size());
+
+        for (InterviewSlotResponse slot : slots) {
+            Integer index = interviewerIndex.get(slot.getInterviewerId());
+            if (index == null) {
+                index = interviewers.size();
+                interviewerIndex.put(slot.getInterviewerId(), index);
+                interviewers.add(new InterviewerRef(slot.getInterviewerId(), slot.getInterviewerName()));
+            }
+            ids.add(slot.getId());
+            indexes.add(index);
+            startTimes.add(slot.getStartTime());
+            durations.add((int) Duration.between(slot.getStartTime(), slot.getEndTime()).toMinutes());
+        }
+
+        return CompactSlotPage.builder()
+                .interviewers(interviewers)
+                .ids(ids)
+                .interviewerIndexes(indexes)
+                .startTimes(startTimes)
+                .durationMinutes(durations)
+                .page(response.getPage())
+                .size(response.getSize())
+                .totalElements(response.getTotalElements())
+                .totalPages(response.getTotalPages())
+                .nextCursor(response.getNextCursor())
+                .hasNext(response.getHasNext())
+                .build();
+    }
+}
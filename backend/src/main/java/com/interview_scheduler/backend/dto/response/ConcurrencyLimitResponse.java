@@ -0,0 +1,18 @@
+package com.interview_scheduler.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimitResponse {
+
+    private String name;
+    private int limit;
+    private int inFlight;
+    private long rejected;
+}
@@ -0,0 +1,28 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.interview_scheduler.backend.dto.request.FreeBusySearchRequest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeBusySearchResponse {
+
+    private FreeBusySearchRequest.Mode mode;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int durationMinutes;
+    private List<Window> windows;
+
+    /** A free window; {@code interviewerId} is {@code null} for windows shared by all requested interviewers. */
+    public record Window(Long interviewerId, LocalDateTime start, LocalDateTime end) {
+    }
+}
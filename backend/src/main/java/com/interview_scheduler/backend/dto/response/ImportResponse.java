@@ -0,0 +1,26 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResponse {
+
+    private long rows;
+    private long created;
+    private long failed;
+    private long durationMillis;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    /** Why a row was not imported; {@code row} counts from 1 without the CSV header or blank lines. */
+    public record RowError(long row, String field, String message) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.interview_scheduler.backend.entity.JobRunStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRunResponse {
+
+    private Long id;
+    private String jobName;
+    private String nodeId;
+    private JobRunStatus status;
+    private LocalDateTime startedAt;
+    private Long durationMs;
+    private Integer affectedRows;
+    private String errorMessage;
+}
@@ -0,0 +1,28 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatsResponse {
+
+    private String jobName;
+    private boolean exclusive;
+    private boolean leaseHeld;
+    private long runs;
+    private long skipped;
+    private long failures;
+    private double averageDurationMs;
+    private long maxDurationMs;
+    private LocalDateTime lastStartedAt;
+    private long lastDurationMs;
+    private int lastAffectedRows;
+    private String lastError;
+}
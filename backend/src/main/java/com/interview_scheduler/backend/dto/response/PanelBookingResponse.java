@@ -0,0 +1,22 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PanelBookingResponse {
+
+    private String panelId;
+    private Long candidateId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<BookingResponse> bookings;
+}
@@ -0,0 +1,22 @@
+package com.interview_scheduler.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryStatisticsResponse {
+
+    private String repositoryMethod;
+    private String query;
+    private long executions;
+    private double averageTimeMs;
+    private long maxTimeMs;
+    private long totalTimeMs;
+    private long rowsReturned;
+    private double averageRows;
+}
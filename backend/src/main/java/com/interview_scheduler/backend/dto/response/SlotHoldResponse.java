@@ -0,0 +1,19 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHoldResponse {
+
+    private Long slotId;
+    private Long candidateId;
+    private LocalDateTime heldUntil;
+}
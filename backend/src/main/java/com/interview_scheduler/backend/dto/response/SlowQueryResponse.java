@@ -0,0 +1,21 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQueryResponse {
+
+    private String sql;
+    private long durationMs;
+    private LocalDateTime recordedAt;
+    private String tenantId;
+    private String thread;
+}
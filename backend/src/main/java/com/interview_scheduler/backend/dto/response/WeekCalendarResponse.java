@@ -0,0 +1,25 @@
+package com.interview_scheduler.backend.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeekCalendarResponse {
+
+    private Long interviewerId;
+    private LocalDate weekStart;
+    private int periodMinutes;
+    private List<Day> days;
+
+    /** {@code free} and {@code booked} hold one character per period from midnight, {@code '1'} when set. */
+    public record Day(LocalDate date, String free, String booked) {
+    }
+}
@@ -17,6 +17,8 @@ import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
+import org.hibernate.annotations.TenantId;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,10 +27,11 @@ import lombok.ToString;
 
 @Entity
 @Table(name = "bookings", indexes = {
-        @Index(name = "idx_booking_candidate", columnList = "candidate_id"),
+        @Index(name = "idx_booking_candidate_window", columnList = "candidate_id, status, slot_start_time"),
         @Index(name = "idx_booking_slot", columnList = "slot_id"),
+        @Index(name = "idx_booking_panel", columnList = "panel_id"),
         @Index(name = "idx_booking_status", columnList = "status"),
-        @Index(name = "idx_booking_week", columnList = "week_number, `year`")
+        @Index(name = "idx_booking_week_status", columnList = "week_number, `year`, status")
 })
 @Data
 @Builder
@@ -40,6 +43,10 @@ public class Booking {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "candidate_id", nullable = false)
     @ToString.Exclude
@@ -55,6 +62,14 @@ public class Booking {
     @Builder.Default
     private BookingStatus status = BookingStatus.PENDING;
 
+    // Copy of slot.startTime so the booking-window check can use an index without joining slots.
+    @Column(name = "slot_start_time")
+    private LocalDateTime slotStartTime;
+
+    // Shared by the bookings of one panel interview; null for single-interviewer bookings.
+    @Column(name = "panel_id", length = 36)
+    private String panelId;
+
     @Column(name = "week_number", nullable = false)
     private Integer weekNumber;
 
@@ -80,6 +95,13 @@ public class Booking {
     @Version
     private Long version;
 
+    public void assignSlot(InterviewSlot slot) {
+        this.slot = slot;
+        this.slotStartTime = slot.getStartTime();
+        this.weekNumber = slot.getWeekNumber();
+        this.year = slot.getYear();
+    }
+
     public void confirm() {
         this.status = BookingStatus.CONFIRMED;
         this.confirmedAt = LocalDateTime.now();
@@ -0,0 +1,8 @@
+package com.interview_scheduler.backend.entity;
+
+public enum BookingEventType {
+    BOOKING_CREATED,
+    BOOKING_RESCHEDULED,
+    BOOKING_CANCELLED,
+    BOOKING_CONFIRMED
+}
@@ -1,6 +1,7 @@
 package com.interview_scheduler.backend.entity;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,10 +9,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 
+import org.hibernate.annotations.TenantId;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,7 +25,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "candidates", indexes = {
-        @Index(name = "idx_candidate_email", columnList = "email")
+        @Index(name = "idx_candidate_created_at", columnList = "created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_candidate_email_normalized_tenant",
+                columnNames = { "email_normalized", "tenant_id" })
 })
 @Data
 @Builder
@@ -31,18 +40,36 @@ public class Candidate {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @NotBlank(message = "Name is required")
     @Column(nullable = false)
     private String name;
 
     @Email(message = "Valid email is required")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
+    // Derived from email on every write; lookups and the per-tenant uniqueness check go through this column
+    @Column(name = "email_normalized", nullable = false)
+    private String emailNormalized;
+
     @Column(name = "phone_number")
     private String phoneNumber;
 
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void deriveEmailNormalized() {
+        emailNormalized = normalizeEmail(email);
+    }
 }
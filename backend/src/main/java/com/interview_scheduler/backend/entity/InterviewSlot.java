@@ -13,11 +13,12 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 
+import org.hibernate.annotations.TenantId;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,11 +27,13 @@ import lombok.ToString;
 
 @Entity
 @Table(name = "interview_slots", indexes = {
-        @Index(name = "idx_slot_interviewer", columnList = "interviewer_id"),
-        @Index(name = "idx_slot_start_time", columnList = "start_time"),
-        @Index(name = "idx_slot_status", columnList = "status"),
-        @Index(name = "idx_slot_week_number", columnList = "week_number"),
-        @Index(name = "idx_slot_cursor", columnList = "id, status, start_time")
+        @Index(name = "idx_slot_status_start", columnList = "status, start_time"),
+        @Index(name = "idx_slot_interviewer_status_start", columnList = "interviewer_id, status, start_time"),
+        @Index(name = "idx_slot_interviewer_start", columnList = "interviewer_id, start_time"),
+        @Index(name = "idx_slot_interviewer_week", columnList = "interviewer_id, week_number, `year`, status"),
+        @Index(name = "idx_slot_week", columnList = "week_number, `year`"),
+        @Index(name = "idx_slot_tenant_status_start", columnList = "tenant_id, status, start_time"),
+        @Index(name = "idx_slot_created_at", columnList = "created_at")
 })
 @Data
 @Builder
@@ -42,6 +45,10 @@ public class InterviewSlot {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "interviewer_id", nullable = false)
     @ToString.Exclude
@@ -60,16 +67,18 @@ public class InterviewSlot {
     @Builder.Default
     private SlotStatus status = SlotStatus.AVAILABLE;
 
+    @Column(name = "held_until")
+    private LocalDateTime heldUntil;
+
+    @Column(name = "held_by_candidate_id")
+    private Long heldByCandidateId;
+
     @Column(name = "week_number", nullable = false)
     private Integer weekNumber;
 
     @Column(name = "`year`", nullable = false)
     private Integer year;
 
-    @OneToOne(mappedBy = "slot", fetch = FetchType.LAZY)
-    @ToString.Exclude
-    private Booking booking;
-
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -84,18 +93,31 @@ public class InterviewSlot {
         return status == SlotStatus.AVAILABLE;
     }
 
+    public boolean isHoldExpired(LocalDateTime now) {
+        return status == SlotStatus.HELD && heldUntil != null && !heldUntil.isAfter(now);
+    }
+
+    public boolean isBookableBy(Long candidateId) {
+        if (status == SlotStatus.AVAILABLE) {
+            return true;
+        }
+        return status == SlotStatus.HELD
+                && (candidateId.equals(heldByCandidateId) || isHoldExpired(LocalDateTime.now()));
+    }
+
     public boolean isPast() {
         return startTime.isBefore(LocalDateTime.now());
     }
 
     public void markAsBooked() {
         this.status = SlotStatus.BOOKED;
+        clearHold();
         this.updatedAt = LocalDateTime.now();
     }
 
     public void markAsAvailable() {
         this.status = SlotStatus.AVAILABLE;
-        this.booking = null;
+        clearHold();
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -103,4 +125,9 @@ public class InterviewSlot {
         this.status = SlotStatus.CONFIRMED;
         this.updatedAt = LocalDateTime.now();
     }
+
+    private void clearHold() {
+        this.heldUntil = null;
+        this.heldByCandidateId = null;
+    }
 }
@@ -10,14 +10,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
+import org.hibernate.annotations.TenantId;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -25,8 +27,8 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Entity
-@Table(name = "interviewers", indexes = {
-        @Index(name = "idx_interviewer_email", columnList = "email")
+@Table(name = "interviewers", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_interviewer_tenant_email", columnNames = { "email", "tenant_id" })
 })
 @Data
 @Builder
@@ -38,12 +40,16 @@ public class Interviewer {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
     @NotBlank(message = "Name is required")
     @Column(nullable = false)
     private String name;
 
     @Email(message = "Valid email is required")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Min(value = 1, message = "Max interviews per week must be at least 1")
@@ -59,7 +65,8 @@ public class Interviewer {
     @ToString.Exclude
     private List<WeeklyAvailability> weeklyAvailabilities = new ArrayList<>();
 
-    @OneToMany(mappedBy = "interviewer", cascade = CascadeType.ALL)
+    // No cascade: InterviewerService.deleteInterviewer removes slots and their bookings in bulk chunks
+    @OneToMany(mappedBy = "interviewer")
     @Builder.Default
     @ToString.Exclude
     private List<InterviewSlot> interviewSlots = new ArrayList<>();
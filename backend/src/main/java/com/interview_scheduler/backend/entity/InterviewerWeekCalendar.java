@@ -0,0 +1,87 @@
+package com.interview_scheduler.backend.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.TenantId;
+
+import com.interview_scheduler.backend.scheduling.WeekCoverage;
+import com.interview_scheduler.backend.scheduling.WeekGrid;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Precomputed week view for one interviewer: which {@link WeekGrid} periods are covered by open slots and
+ * which by booked ones. Recomputed from the week's slots whenever one of them changes status, so a week view
+ * is a single-row read.
+ */
+@Entity
+@Table(name = "interviewer_week_calendars", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_calendar_interviewer_week",
+                columnNames = { "interviewer_id", "week_start", "tenant_id" })
+}, indexes = {
+        @Index(name = "idx_calendar_week_start", columnList = "week_start")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewerWeekCalendar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(name = "interviewer_id", nullable = false)
+    private Long interviewerId;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "free_bits", nullable = false, length = WeekGrid.BYTES_PER_WEEK)
+    @Builder.Default
+    private byte[] freeBits = new byte[0];
+
+    @Column(name = "booked_bits", nullable = false, length = WeekGrid.BYTES_PER_WEEK)
+    @Builder.Default
+    private byte[] bookedBits = new byte[0];
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public BitSet free() {
+        return WeekGrid.fromBytes(freeBits);
+    }
+
+    public BitSet booked() {
+        return WeekGrid.fromBytes(bookedBits);
+    }
+
+    /** Replaces both bitsets with the week's current slot coverage. */
+    public void apply(WeekCoverage coverage) {
+        this.freeBits = coverage.freePeriods().toByteArray();
+        this.bookedBits = coverage.bookedPeriods().toByteArray();
+        this.updatedAt = LocalDateTime.now();
+    }
+}
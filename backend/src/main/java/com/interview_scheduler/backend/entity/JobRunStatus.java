@@ -0,0 +1,6 @@
+package com.interview_scheduler.backend.entity;
+
+public enum JobRunStatus {
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,35 @@
+package com.interview_scheduler.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "scheduler_locks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
@@ -2,6 +2,7 @@ package com.interview_scheduler.backend.entity;
 
 public enum SlotStatus {
     AVAILABLE,
+    HELD,
     BOOKED,
     CONFIRMED,
     CANCELLED,
@@ -25,8 +25,7 @@ import lombok.ToString;
 
 @Entity
 @Table(name = "weekly_availabilities", indexes = {
-        @Index(name = "idx_weekly_availability_interviewer", columnList = "interviewer_id"),
-        @Index(name = "idx_weekly_availability_day", columnList = "day_of_week")
+        @Index(name = "idx_weekly_availability_interviewer_day", columnList = "interviewer_id, day_of_week")
 })
 @Data
 @Builder
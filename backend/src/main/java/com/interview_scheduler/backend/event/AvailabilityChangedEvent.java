@@ -0,0 +1,5 @@
+package com.interview_scheduler.backend.event;
+
+/** Published when an interviewer's weekly availability changes or the interviewer is deleted. */
+public record AvailabilityChangedEvent(String tenantId, Long interviewerId) {
+}
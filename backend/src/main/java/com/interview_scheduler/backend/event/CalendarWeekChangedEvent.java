@@ -0,0 +1,7 @@
+package com.interview_scheduler.backend.event;
+
+import java.time.LocalDate;
+
+/** Published when an interviewer's week calendar row is written; {@code freeBits} is the new free bitset. */
+public record CalendarWeekChangedEvent(String tenantId, Long interviewerId, LocalDate weekStart, byte[] freeBits) {
+}
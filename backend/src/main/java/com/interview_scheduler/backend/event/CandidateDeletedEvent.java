@@ -0,0 +1,11 @@
+package com.interview_scheduler.backend.event;
+
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+/** Published when a candidate is deleted; {@code email} is the normalized address. */
+public record CandidateDeletedEvent(String shard, String tenantId, String email) {
+
+    public static CandidateDeletedEvent of(String tenantId, String email) {
+        return new CandidateDeletedEvent(TenantContext.getShard(), tenantId, email);
+    }
+}
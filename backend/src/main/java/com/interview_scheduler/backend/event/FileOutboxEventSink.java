@@ -0,0 +1,59 @@
+package com.interview_scheduler.backend.event;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.entity.OutboxEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink.file.enabled", havingValue = "true")
+@Slf4j
+public class FileOutboxEventSink implements OutboxEventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxEventSink(ObjectMapper objectMapper,
+            @Value("${outbox.sink.file.path:outbox/booking-events.ndjson}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Paths.get(path);
+        log.info("Outbox file sink writing to {}", this.path.toAbsolutePath());
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxEvent event : events) {
+                    writer.write(objectMapper.writeValueAsString(OutboxEnvelope.of(event)));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append outbox events to " + path, ex);
+        }
+    }
+}
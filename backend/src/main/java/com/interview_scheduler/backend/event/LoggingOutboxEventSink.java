@@ -0,0 +1,29 @@
+package com.interview_scheduler.backend.event;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.interview_scheduler.backend.entity.OutboxEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink.logging.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    @Override
+    public String getName() {
+        return "logging";
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info("Booking event #{}: {} for booking {}",
+                    event.getId(), event.getEventType(), event.getAggregateId());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.interview_scheduler.backend.event;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.interview_scheduler.backend.entity.BookingEventType;
+import com.interview_scheduler.backend.entity.OutboxEvent;
+
+public record OutboxEnvelope(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        BookingEventType eventType,
+        LocalDateTime createdAt,
+        @JsonRawValue String payload) {
+
+    public static OutboxEnvelope of(OutboxEvent event) {
+        return new OutboxEnvelope(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getEventType(),
+                event.getCreatedAt(),
+                event.getPayload());
+    }
+}
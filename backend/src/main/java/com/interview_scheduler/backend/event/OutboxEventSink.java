@@ -0,0 +1,16 @@
+package com.interview_scheduler.backend.event;
+
+import java.util.List;
+
+import com.interview_scheduler.backend.entity.OutboxEvent;
+
+public interface OutboxEventSink {
+
+    String getName();
+
+    /**
+     * Publishes a batch of events in id order. Throwing leaves the whole batch
+     * pending, so implementations must tolerate seeing the same event again.
+     */
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,11 @@
+package com.interview_scheduler.backend.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** Published when slots change status; lists each interviewer week they start in, in lock order. */
+public record SlotWeeksChangedEvent(List<Week> weeks) {
+
+    public record Week(String tenantId, Long interviewerId, LocalDate weekStart) {
+    }
+}
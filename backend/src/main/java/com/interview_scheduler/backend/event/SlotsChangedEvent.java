@@ -0,0 +1,25 @@
+package com.interview_scheduler.backend.event;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+/**
+ * Published when slots change status or their booking changes. An empty {@code slotIds} means a bulk update
+ * that may have touched any slot on the shard.
+ */
+public record SlotsChangedEvent(String shard, List<Long> slotIds) {
+
+    public static SlotsChangedEvent of(Collection<Long> slotIds) {
+        return new SlotsChangedEvent(TenantContext.getShard(), List.copyOf(slotIds));
+    }
+
+    public static SlotsChangedEvent of(Long slotId) {
+        return new SlotsChangedEvent(TenantContext.getShard(), List.of(slotId));
+    }
+
+    public static SlotsChangedEvent anyOnShard() {
+        return new SlotsChangedEvent(TenantContext.getShard(), List.of());
+    }
+}
@@ -0,0 +1,14 @@
+package com.interview_scheduler.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class PanelBookingException extends BaseException {
+
+    public PanelBookingException(Long bookingId, String panelId) {
+        super(
+                String.format("Booking with ID %d is part of panel %s and cannot be changed on its own. "
+                        + "Cancel the whole panel with DELETE /api/bookings/panel/%s", bookingId, panelId, panelId),
+                HttpStatus.CONFLICT,
+                "PANEL_BOOKING");
+    }
+}
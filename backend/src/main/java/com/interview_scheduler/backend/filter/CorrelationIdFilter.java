@@ -0,0 +1,47 @@
+package com.interview_scheduler.backend.filter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Tags every log line written while serving a request with a {@code requestId} MDC entry and echoes it in
+ * the response. A caller-supplied {@code X-Request-Id} is reused when it is short and plain enough to log
+ * verbatim; otherwise a random 16-digit hex id is generated.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private static final Pattern REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(REQUEST_ID_HEADER);
+        String requestId = header != null && REQUEST_ID.matcher(header).matches() ? header : newRequestId();
+
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    // ThreadLocalRandom rather than UUID.randomUUID(), which goes through a shared SecureRandom
+    static String newRequestId() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+}
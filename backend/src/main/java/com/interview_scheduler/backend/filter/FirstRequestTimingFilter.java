@@ -0,0 +1,38 @@
+package com.interview_scheduler.backend.filter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs how long after JVM launch the first HTTP response was completed, the number that matters when the
+ * autoscaler adds a replica. Spring's own "Started ... in" line stops at context refresh and misses the
+ * lazy work (DispatcherServlet init, first Hibernate queries) the first request still pays for.
+ */
+@Slf4j
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicBoolean served = new AtomicBoolean();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!served.get() && served.compareAndSet(false, true)) {
+                log.info("First request ({} {}) completed {} ms after JVM start", request.getMethod(),
+                        request.getRequestURI(), ManagementFactory.getRuntimeMXBean().getUptime());
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.interview_scheduler.backend.filter;
+
+import java.io.IOException;
+import java.security.Principal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.interview_scheduler.backend.ratelimit.AdaptiveConcurrencyLimiter;
+import com.interview_scheduler.backend.ratelimit.TokenBucketRateLimiter;
+
+/**
+ * Sheds load in front of the booking and slot endpoints before it reaches the connection pool. Each client
+ * (the authenticated principal, else the remote address) gets a token bucket per endpoint class, reads and
+ * writes, and is answered with {@code 429} once it runs dry. Requests within their rate then need a
+ * place under the controller's adaptive concurrency limit, or get {@code 503}. Both carry
+ * {@code Retry-After}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BOOKINGS_PATH = "/api/bookings";
+
+    private final TokenBucketRateLimiter readLimiter;
+    private final TokenBucketRateLimiter writeLimiter;
+    private final AdaptiveConcurrencyLimiter bookingLimiter;
+    private final AdaptiveConcurrencyLimiter slotLimiter;
+
+    public RateLimitFilter(TokenBucketRateLimiter readLimiter, TokenBucketRateLimiter writeLimiter,
+            AdaptiveConcurrencyLimiter bookingLimiter, AdaptiveConcurrencyLimiter slotLimiter) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.bookingLimiter = bookingLimiter;
+        this.slotLimiter = slotLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        boolean write = ReadYourWritesFilter.isWrite(request.getMethod());
+        TokenBucketRateLimiter rateLimiter = write ? writeLimiter : readLimiter;
+        long waitNanos = rateLimiter.tryAcquire(clientKey(request));
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED",
+                    "Too many requests, slow down", Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000));
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter concurrencyLimiter = request.getRequestURI().startsWith(BOOKINGS_PATH)
+                ? bookingLimiter
+                : slotLimiter;
+        if (!concurrencyLimiter.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, "OVERLOADED",
+                    "Server is busy, retry shortly", 1);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release(System.nanoTime() - start);
+        }
+    }
+
+    // Only what the server can vouch for. X-Client-Id is chosen by the caller, who could send a new value with
+    // every request and get a full bucket each time. Behind a proxy, server.forward-headers-strategy makes
+    // the remote address the client's, taken from the forwarded headers of trusted proxies only.
+    static String clientKey(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "principal:" + principal.getName() : request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String errorCode, String message,
+            long retryAfterSeconds) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write(
+                "{\"success\":false,\"errorCode\":\"" + errorCode + "\",\"message\":\"" + message + "\"}");
+    }
+}
@@ -0,0 +1,67 @@
+package com.interview_scheduler.backend.filter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.interview_scheduler.backend.datasource.ReplicaRoutingContext;
+
+/**
+ * Keeps a client's reads on the primary for the replica's expected lag after
+ * that client performed a successful write, so a booking is visible to the
+ * client that just made it.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final int MAX_TRACKED_CLIENTS = 100_000;
+
+    private final long maxLagMillis;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(long maxLagMillis) {
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String clientKey = clientKey(request);
+        long now = System.currentTimeMillis();
+        Long until = pinnedUntil.get(clientKey);
+        boolean write = isWrite(request.getMethod());
+
+        if (write || (until != null && until > now)) {
+            ReplicaRoutingContext.pinPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+
+        if (write && response.getStatus() < 400) {
+            if (pinnedUntil.size() >= MAX_TRACKED_CLIENTS) {
+                pinnedUntil.values().removeIf(expiry -> expiry <= now);
+            }
+            pinnedUntil.put(clientKey, System.currentTimeMillis() + maxLagMillis);
+        }
+    }
+
+    static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+
+    static String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,57 @@
+package com.interview_scheduler.backend.filter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.interview_scheduler.backend.datasource.TenantShardResolver;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+public class TenantFilter extends OncePerRequestFilter {
+
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+    public static final String TENANT_MDC_KEY = "tenantId";
+
+    private static final Pattern TENANT_ID = Pattern.compile("[a-z0-9][a-z0-9_-]{0,63}");
+
+    private final TenantShardResolver shardResolver;
+    private final String defaultTenant;
+
+    public TenantFilter(TenantShardResolver shardResolver, String defaultTenant) {
+        this.shardResolver = shardResolver;
+        this.defaultTenant = defaultTenant;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(TENANT_HEADER);
+        String tenantId = header == null || header.isBlank() ? defaultTenant : header.trim();
+
+        if (!TENANT_ID.matcher(tenantId).matches()) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(
+                    "{\"success\":false,\"errorCode\":\"INVALID_TENANT\",\"message\":\"Invalid X-Tenant-Id header\"}");
+            return;
+        }
+
+        TenantContext.bind(tenantId, shardResolver.shardFor(tenantId));
+        MDC.put(TENANT_MDC_KEY, tenantId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(TENANT_MDC_KEY);
+            TenantContext.clear();
+        }
+    }
+}
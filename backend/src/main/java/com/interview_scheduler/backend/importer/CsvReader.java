@@ -0,0 +1,103 @@
+package com.interview_scheduler.backend.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: fields are comma separated, and double-quoted fields may contain commas, line
+ * breaks and doubled quotes. Records end at LF, CRLF or CR; blank lines are skipped. Buffers its own input, so
+ * the reader passed in need not be buffered.
+ */
+public class CsvReader {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private int pushedBack = NONE;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * The fields of the next record, or {@code null} at the end of the input.
+     *
+     * @throws IllegalArgumentException if the input ends inside a quoted field
+     */
+    public List<String> next() throws IOException {
+        List<String> values = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean started = false;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (!started) {
+                    return null;
+                }
+                values.add(field.toString());
+                return values;
+            }
+            started = true;
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = following;
+                    }
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pushedBack = following;
+                    }
+                }
+                if (values.isEmpty() && field.isEmpty()) {
+                    started = false;
+                    continue;
+                }
+                values.add(field.toString());
+                return values;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,34 @@
+package com.interview_scheduler.backend.importer;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.interview_scheduler.backend.exception.ValidationException;
+
+/** Body formats accepted by the bulk import endpoints, chosen by the request's {@code Content-Type}. */
+public enum ImportFormat {
+
+    /** Comma separated with a header row naming the columns. */
+    CSV,
+
+    /** One JSON object per line, shaped like the single-create request. */
+    NDJSON;
+
+    public static ImportFormat of(String contentType) {
+        if (contentType != null) {
+            try {
+                MediaType type = MediaType.parseMediaType(contentType);
+                if ("text".equals(type.getType()) && "csv".equals(type.getSubtype())) {
+                    return CSV;
+                }
+                if ("application".equals(type.getType())
+                        && ("x-ndjson".equals(type.getSubtype()) || "ndjson".equals(type.getSubtype()))) {
+                    return NDJSON;
+                }
+            } catch (InvalidMediaTypeException ex) {
+                // reported below
+            }
+        }
+        throw new ValidationException("Content-Type", "Must be text/csv or application/x-ndjson");
+    }
+}
@@ -0,0 +1,164 @@
+package com.interview_scheduler.backend.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Reads an import body one record at a time, so an import never holds more than the rows it is about to
+ * write. CSV columns are matched to request fields by header name, ignoring case; NDJSON lines are bound like
+ * the single-create request body. Bodies are read as UTF-8.
+ */
+public class ImportRowReader<T> {
+
+    /**
+     * One record, numbered from 1 without the CSV header or blank lines. {@code value} is {@code null} when
+     * the record could not be parsed, and {@code field} and {@code error} say why.
+     */
+    public record Row<T>(long number, T value, String field, String error) {
+    }
+
+    /** Builds a request from one CSV record; throws {@link RowException} for values that do not parse. */
+    @FunctionalInterface
+    public interface CsvMapper<T> {
+        T map(CsvRecord record);
+    }
+
+    public record CsvRecord(Map<String, Integer> columns, List<String> values) {
+
+        /** The trimmed value of {@code column}, or {@code null} when it is missing or empty. */
+        public String get(String column) {
+            Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        public Integer getInt(String column) {
+            String value = get(column);
+            try {
+                return value == null ? null : Integer.valueOf(value);
+            } catch (NumberFormatException ex) {
+                throw new RowException(column, "Must be a whole number");
+            }
+        }
+    }
+
+    public static class RowException extends RuntimeException {
+
+        private final String field;
+
+        public RowException(String field, String message) {
+            super(message);
+            this.field = field;
+        }
+
+        public String getField() {
+            return field;
+        }
+    }
+
+    private final ImportFormat format;
+    private final BufferedReader lines;
+    private final CsvReader csv;
+    private final ObjectReader json;
+    private final CsvMapper<T> csvMapper;
+    private Map<String, Integer> columns;
+    private long number;
+    private boolean malformed;
+
+    public ImportRowReader(InputStream body, ImportFormat format, ObjectMapper objectMapper, Class<T> type,
+            CsvMapper<T> csvMapper) {
+        this.format = format;
+        this.lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024);
+        this.csv = new CsvReader(lines);
+        this.json = objectMapper.readerFor(type);
+        this.csvMapper = csvMapper;
+    }
+
+    /** The next record, or {@code null} at the end of the body. */
+    public Row<T> next() throws IOException {
+        return format == ImportFormat.CSV ? nextCsv() : nextJson();
+    }
+
+    private Row<T> nextCsv() throws IOException {
+        if (malformed) {
+            return null;
+        }
+        List<String> values;
+        try {
+            if (columns == null) {
+                List<String> header = csv.next();
+                if (header == null) {
+                    return null;
+                }
+                columns = columnsOf(header);
+            }
+            values = csv.next();
+        } catch (IllegalArgumentException ex) {
+            // An unterminated quote swallows the rest of the body, so nothing after it can be read
+            malformed = true;
+            return new Row<>(++number, null, null, ex.getMessage());
+        }
+        if (values == null) {
+            return null;
+        }
+
+        number++;
+        try {
+            return new Row<>(number, csvMapper.map(new CsvRecord(columns, values)), null, null);
+        } catch (RowException ex) {
+            return new Row<>(number, null, ex.getField(), ex.getMessage());
+        }
+    }
+
+    private Row<T> nextJson() throws IOException {
+        String line;
+        do {
+            line = lines.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        number++;
+        try {
+            return new Row<>(number, json.readValue(line), null, null);
+        } catch (JsonProcessingException ex) {
+            return new Row<>(number, null, fieldOf(ex), ex.getOriginalMessage());
+        }
+    }
+
+    private static Map<String, Integer> columnsOf(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // A byte order mark is decoded as a leading U+FEFF on the first column name
+            String name = i == 0 ? header.get(i).replace("\uFEFF", "") : header.get(i);
+            columns.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+
+    private static String fieldOf(JsonProcessingException ex) {
+        if (ex instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return mapping.getPath().stream()
+                    .map(ref -> ref.getFieldName() != null ? ref.getFieldName() : "[" + ref.getIndex() + "]")
+                    .collect(Collectors.joining(".")).replace(".[", "[");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.interview_scheduler.backend.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback's async appender, except that only TRACE and DEBUG events are dropped once the queue's remaining
+ * capacity falls below the discarding threshold (the stock appender drops INFO as well). INFO and above are
+ * never lost: when the queue is completely full, the logging thread waits for room.
+ */
+public class DebugDroppingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,60 @@
+package com.interview_scheduler.backend.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drops the unique keys on {@code email} alone that the original entities declared, now that V3 made emails
+ * unique per tenant. Databases created by {@code ddl-auto} got Hibernate-generated names for them, so they
+ * are found by column through {@code information_schema} instead of by name. Registered with Flyway as a
+ * bean; the shard migrations copy the configuration and run it too.
+ */
+@Component
+@Slf4j
+public class V4__DropGlobalEmailKeys extends BaseJavaMigration {
+
+    private static final String SINGLE_COLUMN_EMAIL_KEYS = "SELECT tc.constraint_name "
+            + "FROM information_schema.table_constraints tc "
+            + "JOIN information_schema.key_column_usage k ON k.constraint_schema = tc.constraint_schema "
+            + "AND k.constraint_name = tc.constraint_name AND k.table_name = tc.table_name "
+            + "WHERE tc.table_schema = SCHEMA() AND tc.table_name = ? AND tc.constraint_type = 'UNIQUE' "
+            + "GROUP BY tc.constraint_name "
+            + "HAVING COUNT(*) = 1 AND MAX(k.column_name) = 'email'";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        for (String table : List.of("interviewers", "candidates")) {
+            for (String key : emailKeys(connection, table)) {
+                log.info("Dropping global unique key {} on {}.email", key, table);
+                try (Statement drop = connection.createStatement()) {
+                    drop.execute("ALTER TABLE " + table + " DROP INDEX " + key);
+                }
+            }
+        }
+    }
+
+    private static List<String> emailKeys(Connection connection, String table) throws SQLException {
+        List<String> keys = new ArrayList<>();
+        try (PreparedStatement query = connection.prepareStatement(SINGLE_COLUMN_EMAIL_KEYS)) {
+            query.setString(1, table);
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    keys.add(rows.getString(1));
+                }
+            }
+        }
+        return keys;
+    }
+}
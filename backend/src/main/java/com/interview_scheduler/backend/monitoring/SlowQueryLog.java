@@ -0,0 +1,62 @@
+package com.interview_scheduler.backend.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+/**
+ * Keeps the most recent {@code capacity} slow statements in a fixed ring; once full, each new entry
+ * overwrites the oldest. Statements are only recorded above the slow-query threshold, so contention on the
+ * ring's monitor is negligible next to the statement that was just timed.
+ */
+public class SlowQueryLog {
+
+    private final Entry[] ring;
+    private long recorded;
+
+    public SlowQueryLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.ring = new Entry[capacity];
+    }
+
+    public void record(String sql, long durationMs) {
+        Entry entry = new Entry(sql, durationMs, LocalDateTime.now(), TenantContext.getTenantId(),
+                Thread.currentThread().getName());
+        synchronized (this) {
+            ring[(int) (recorded % ring.length)] = entry;
+            recorded++;
+        }
+    }
+
+    /** Up to {@code limit} entries, newest first. */
+    public synchronized List<Entry> recent(int limit) {
+        int count = (int) Math.min(Math.min(recorded, ring.length), Math.max(limit, 0));
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            entries.add(ring[(int) ((recorded - i) % ring.length)]);
+        }
+        return entries;
+    }
+
+    /** Slow statements seen since startup or the last {@link #clear()}, including those overwritten. */
+    public synchronized long getRecorded() {
+        return recorded;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(ring, null);
+        recorded = 0;
+    }
+
+    public record Entry(String sql, long durationMs, LocalDateTime recordedAt, String tenantId, String thread) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.interview_scheduler.backend.monitoring;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate's statistics, with every statement that exceeds {@code hibernate.log_slow_query} also kept in
+ * the {@link SlowQueryLog}. Hibernate times the statement and reports it here only while statistics are
+ * enabled, so the ring needs no JDBC wrapping of its own.
+ */
+public class SlowQueryRecordingStatistics extends StatisticsImpl {
+
+    private final transient SlowQueryLog slowQueryLog;
+
+    public SlowQueryRecordingStatistics(SessionFactoryImplementor sessionFactory, SlowQueryLog slowQueryLog) {
+        super(sessionFactory);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public void slowQuery(String sql, long executionTime) {
+        super.slowQuery(sql, executionTime);
+        slowQueryLog.record(sql, executionTime);
+    }
+}
@@ -0,0 +1,97 @@
+package com.interview_scheduler.backend.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps requests in flight at a limit that follows the observed queueing delay (TCP Vegas style). Each
+ * completed request estimates how many requests are queued rather than being served:
+ * {@code queue = limit * (1 - minLatency / latency)}. The limit grows by one while that queue stays below
+ * {@code alpha} and the limit is actually in use, and shrinks by one once it exceeds {@code beta}. When the
+ * connection pool saturates, latency rises with the queue and the limit falls back towards what the pool can
+ * serve, so excess requests are rejected immediately instead of all of them waiting on the pool.
+ *
+ * <p>The no-load latency is re-measured every {@code windowSamples} samples so the limiter can adapt when
+ * the baseline itself moves, e.g. after a database failover.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int ALPHA = 3;
+    private static final int BETA = 6;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSamples;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private int samplesInWindow;
+    private long rejected;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+            int windowSamples) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSamples = windowSamples;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /** Reserves a place for one request, or returns {@code false} if the limit is reached. */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                synchronized (this) {
+                    rejected++;
+                }
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Frees the place taken by {@link #tryAcquire()} and feeds the request's latency into the limit. */
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        onSample(Math.max(1, latencyNanos), inFlightBefore);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightBefore) {
+        windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+        if (++samplesInWindow >= windowSamples) {
+            minLatencyNanos = windowMinNanos;
+            windowMinNanos = Long.MAX_VALUE;
+            samplesInWindow = 0;
+        } else {
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        }
+
+        double queue = limit * (1 - (double) minLatencyNanos / latencyNanos);
+        if (queue > BETA) {
+            limit = Math.max(minLimit, limit - 1);
+        } else if (queue < ALPHA && inFlightBefore * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
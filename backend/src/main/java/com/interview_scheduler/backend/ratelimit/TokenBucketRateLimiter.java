@@ -0,0 +1,91 @@
+package com.interview_scheduler.backend.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * One token bucket per key. A bucket starts full at {@code capacity} tokens and refills continuously at
+ * {@code refillPerSecond}; a request spends one token. Buckets are created lazily. When {@code maxKeys} are
+ * tracked, buckets that have refilled completely (and so carry no state) are dropped at most once a second;
+ * if that frees nothing, new keys share a single overflow bucket.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final String OVERFLOW_KEY = "\u0000overflow";
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile long prunedAt;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxKeys) {
+        this(capacity, refillPerSecond, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxKeys, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.prunedAt = nanoClock.getAsLong() - NANOS_PER_SECOND;
+    }
+
+    /**
+     * Takes a token from {@code key}'s bucket.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until the next token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        if (buckets.size() >= maxKeys && !buckets.containsKey(key)) {
+            if (now - prunedAt >= NANOS_PER_SECOND) {
+                prunedAt = now;
+                buckets.values().removeIf(bucket -> bucket.isFull(now));
+            }
+            if (buckets.size() >= maxKeys) {
+                key = OVERFLOW_KEY;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new Bucket(capacity, now)).tryAcquire(now);
+    }
+
+    int trackedKeys() {
+        return buckets.size();
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
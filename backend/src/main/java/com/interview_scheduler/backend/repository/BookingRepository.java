@@ -1,15 +1,19 @@
 package com.interview_scheduler.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.LockModeType;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.interview_scheduler.backend.entity.Booking;
 import com.interview_scheduler.backend.entity.BookingStatus;
@@ -21,25 +25,56 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         @Query("SELECT b FROM Booking b WHERE b.id = :id")
         Optional<Booking> findByIdWithLock(@Param("id") Long id);
 
-        Optional<Booking> findBySlotId(Long slotId);
+        @Query("SELECT b.version FROM Booking b WHERE b.id = :id")
+        Optional<Long> findVersionById(@Param("id") Long id);
 
-        List<Booking> findByCandidateId(Long candidateId);
+        // Written out rather than derived so the filter is on the foreign key column (and its index), not on
+        // the id of an outer-joined slot or candidate row.
+        @Query("SELECT b FROM Booking b WHERE b.slot.id = :slotId")
+        Optional<Booking> findBySlotId(@Param("slotId") Long slotId);
+
+        @Query("SELECT b FROM Booking b WHERE b.candidate.id = :candidateId")
+        List<Booking> findByCandidateId(@Param("candidateId") Long candidateId);
+
+        List<Booking> findByPanelIdOrderById(String panelId);
+
+        // Locks a panel's bookings in ascending id order, so the panel is cancelled as a whole or not at all.
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT b.id FROM Booking b WHERE b.panelId IN (:panelIds) ORDER BY b.id")
+        List<Long> lockIdsByPanelIdIn(@Param("panelIds") Collection<String> panelIds);
+
+        // Everything mapToResponse reads, fetched in the same statement, for the cancellation events of a bulk delete
+        @Query("SELECT b FROM Booking b JOIN FETCH b.candidate JOIN FETCH b.slot s JOIN FETCH s.interviewer " +
+                        "WHERE b.slot.id IN (:slotIds)")
+        List<Booking> findBySlotIdsWithDetails(@Param("slotIds") List<Long> slotIds);
+
+        // Locks the next chunk of a candidate's bookings in ascending id order, so that they cannot be
+        // rescheduled or cancelled while they are deleted. Joins nothing, so only the booking rows are locked.
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT b.id FROM Booking b WHERE b.candidate.id = :candidateId ORDER BY b.id")
+        List<Long> lockIdsByCandidateId(@Param("candidateId") Long candidateId, Pageable pageable);
+
+        @Query("SELECT b FROM Booking b JOIN FETCH b.candidate JOIN FETCH b.slot s JOIN FETCH s.interviewer " +
+                        "WHERE b.id IN (:ids)")
+        List<Booking> findByIdsWithDetails(@Param("ids") List<Long> ids);
 
         @Query("SELECT b FROM Booking b WHERE b.candidate.id = :candidateId " +
                         "AND b.status NOT IN ('CANCELLED')")
         List<Booking> findActiveByCandidateId(@Param("candidateId") Long candidateId);
 
+        // Enumerating the active statuses keeps the (candidate_id, status, slot_start_time) index usable for
+        // the time range; NOT IN would turn status into an open range.
         @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.candidate.id = :candidateId " +
-                        "AND b.status NOT IN ('CANCELLED') " +
-                        "AND b.slot.startTime >= :startDate AND b.slot.startTime <= :endDate")
+                        "AND b.status IN ('PENDING', 'CONFIRMED', 'NO_SHOW', 'COMPLETED') " +
+                        "AND b.slotStartTime >= :startDate AND b.slotStartTime <= :endDate")
         boolean hasActiveBookingInDateRange(
                         @Param("candidateId") Long candidateId,
                         @Param("startDate") java.time.LocalDateTime startDate,
                         @Param("endDate") java.time.LocalDateTime endDate);
 
         @Query("SELECT b FROM Booking b WHERE b.candidate.id = :candidateId " +
-                        "AND b.status NOT IN ('CANCELLED') " +
-                        "AND b.slot.startTime >= :startDate AND b.slot.startTime <= :endDate")
+                        "AND b.status IN ('PENDING', 'CONFIRMED', 'NO_SHOW', 'COMPLETED') " +
+                        "AND b.slotStartTime >= :startDate AND b.slotStartTime <= :endDate")
         Optional<Booking> findActiveBookingInDateRange(
                         @Param("candidateId") Long candidateId,
                         @Param("startDate") java.time.LocalDateTime startDate,
@@ -49,5 +84,13 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
         List<Booking> findByStatus(BookingStatus status);
 
-        boolean existsBySlotIdAndStatusNot(Long slotId, BookingStatus status);
+        @Query("SELECT COUNT(b) > 0 FROM Booking b WHERE b.slot.id = :slotId AND b.status <> :status")
+        boolean existsBySlotIdAndStatusNot(@Param("slotId") Long slotId, @Param("status") BookingStatus status);
+
+        @Modifying
+        @Transactional
+        @Query("UPDATE Booking b SET b.slotStartTime = " +
+                        "(SELECT s.startTime FROM InterviewSlot s WHERE s.id = b.slot.id) " +
+                        "WHERE b.slotStartTime IS NULL")
+        int backfillSlotStartTimes();
 }
@@ -1,16 +1,45 @@
 package com.interview_scheduler.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.interview_scheduler.backend.entity.Candidate;
 
 @Repository
-public interface CandidateRepository extends JpaRepository<Candidate, Long> {
+public interface CandidateRepository extends JpaRepository<Candidate, Long>, CandidateRepositoryCustom {
+
+    Optional<Candidate> findByEmailNormalized(String emailNormalized);
+
+    boolean existsByEmailNormalized(String emailNormalized);
+
+    // Serializes bookings for the same candidate against the one-active-booking rule
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c.id FROM Candidate c WHERE c.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Query("SELECT c.emailNormalized FROM Candidate c WHERE c.emailNormalized IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT c.tenantId AS tenantId, c.emailNormalized AS email FROM Candidate c")
+    List<EmailKey> findEmailKeys();
+
+    @Query("SELECT c.tenantId AS tenantId, c.emailNormalized AS email FROM Candidate c " +
+            "WHERE c.createdAt >= :since")
+    List<EmailKey> findEmailKeysCreatedSince(@Param("since") LocalDateTime since);
 
-    Optional<Candidate> findByEmail(String email);
+    interface EmailKey {
+        String getTenantId();
 
-    boolean existsByEmail(String email);
+        String getEmail();
+    }
 }
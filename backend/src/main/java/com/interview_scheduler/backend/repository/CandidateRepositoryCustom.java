@@ -0,0 +1,14 @@
+package com.interview_scheduler.backend.repository;
+
+import java.util.List;
+
+import com.interview_scheduler.backend.entity.Candidate;
+
+public interface CandidateRepositoryCustom {
+
+    /**
+     * Inserts the candidates as one JDBC batch, stamped with the current tenant and their normalized email.
+     * Generated ids are not read back.
+     */
+    void insertAll(List<Candidate> candidates);
+}
@@ -0,0 +1,46 @@
+package com.interview_scheduler.backend.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.interview_scheduler.backend.entity.Candidate;
+import com.interview_scheduler.backend.tenant.TenantIdentifierResolver;
+
+import lombok.RequiredArgsConstructor;
+
+// Hibernate cannot batch inserts of IDENTITY-keyed entities, so bulk inserts go through JDBC
+@RequiredArgsConstructor
+public class CandidateRepositoryCustomImpl implements CandidateRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO candidates "
+            + "(tenant_id, name, email, email_normalized, phone_number, created_at) "
+            + "VALUES (:tenantId, :name, :email, :emailNormalized, :phoneNumber, :createdAt)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TenantIdentifierResolver tenantIdentifierResolver;
+
+    @Override
+    public void insertAll(List<Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        String tenantId = tenantIdentifierResolver.resolveCurrentTenantIdentifier();
+        SqlParameterSource[] rows = new SqlParameterSource[candidates.size()];
+        for (int i = 0; i < rows.length; i++) {
+            Candidate candidate = candidates.get(i);
+            candidate.setTenantId(tenantId);
+            candidate.setEmailNormalized(Candidate.normalizeEmail(candidate.getEmail()));
+            rows[i] = new MapSqlParameterSource()
+                    .addValue("tenantId", tenantId)
+                    .addValue("name", candidate.getName())
+                    .addValue("email", candidate.getEmail())
+                    .addValue("emailNormalized", candidate.getEmailNormalized())
+                    .addValue("phoneNumber", candidate.getPhoneNumber())
+                    .addValue("createdAt", candidate.getCreatedAt());
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+}
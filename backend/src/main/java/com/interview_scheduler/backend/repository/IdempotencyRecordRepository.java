@@ -0,0 +1,55 @@
+package com.interview_scheduler.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interview_scheduler.backend.entity.IdempotencyRecord;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+        Optional<IdempotencyRecord> findByTenantIdAndIdempotencyKey(String tenantId, String idempotencyKey);
+
+        @Transactional
+        @Modifying
+        @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :status, r.contentType = :contentType, " +
+                        "r.responseBody = :body, r.completedAt = :now " +
+                        "WHERE r.tenantId = :tenantId AND r.idempotencyKey = :key AND r.requestHash = :hash " +
+                        "AND r.responseStatus IS NULL")
+        int complete(
+                        @Param("tenantId") String tenantId,
+                        @Param("key") String key,
+                        @Param("hash") String requestHash,
+                        @Param("status") int status,
+                        @Param("contentType") String contentType,
+                        @Param("body") byte[] body,
+                        @Param("now") LocalDateTime now);
+
+        /** Takes over a claim whose request never finished, e.g. because its node died. */
+        @Transactional
+        @Modifying
+        @Query("UPDATE IdempotencyRecord r SET r.createdAt = :now " +
+                        "WHERE r.id = :id AND r.responseStatus IS NULL AND r.createdAt < :staleBefore")
+        int reclaimStale(
+                        @Param("id") Long id,
+                        @Param("now") LocalDateTime now,
+                        @Param("staleBefore") LocalDateTime staleBefore);
+
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM IdempotencyRecord r WHERE r.tenantId = :tenantId AND r.idempotencyKey = :key " +
+                        "AND r.requestHash = :hash AND r.responseStatus IS NULL")
+        int release(@Param("tenantId") String tenantId, @Param("key") String key, @Param("hash") String requestHash);
+
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+        int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -10,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,7 +25,22 @@ public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Lo
         @Query("SELECT s FROM InterviewSlot s WHERE s.id = :id")
         Optional<InterviewSlot> findByIdWithLock(@Param("id") Long id);
 
-        List<InterviewSlot> findByInterviewerIdAndStatus(Long interviewerId, SlotStatus status);
+        @Query("SELECT s.version FROM InterviewSlot s WHERE s.id = :id")
+        Optional<Long> findVersionById(@Param("id") Long id);
+
+        // Derived finders on interviewer.id join interviewers and filter on the joined key, which leaves the
+        // interviewer_id indexes on this table unused; the explicit path compares the foreign key directly.
+        @Query("SELECT s FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId AND s.status = :status")
+        List<InterviewSlot> findByInterviewerIdAndStatus(
+                        @Param("interviewerId") Long interviewerId,
+                        @Param("status") SlotStatus status);
+
+        @Query("SELECT s FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId " +
+                        "AND s.status = :status AND s.startTime > :now ORDER BY s.startTime ASC")
+        List<InterviewSlot> findUpcomingByInterviewerIdAndStatus(
+                        @Param("interviewerId") Long interviewerId,
+                        @Param("status") SlotStatus status,
+                        @Param("now") LocalDateTime now);
 
         @Query("SELECT s FROM InterviewSlot s WHERE s.status = :status " +
                         "AND s.startTime >= :startDate AND s.startTime <= :endDate " +
@@ -95,11 +111,126 @@ public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Lo
                         @Param("interviewerId") Long interviewerId,
                         @Param("startTime") LocalDateTime startTime);
 
-        List<InterviewSlot> findByInterviewerId(Long interviewerId);
+        @Query("SELECT s FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId")
+        List<InterviewSlot> findByInterviewerId(@Param("interviewerId") Long interviewerId);
 
-        @Query("SELECT s FROM InterviewSlot s WHERE s.status = 'AVAILABLE' AND s.startTime < :now")
-        List<InterviewSlot> findExpiredAvailableSlots(@Param("now") LocalDateTime now);
+        // Locks the next chunk of an interviewer's slots so that no booking lands on them while they are deleted;
+        // unordered, since the caller deletes each chunk before asking for the next.
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT s.id FROM InterviewSlot s WHERE s.interviewer.id = :interviewerId")
+        List<Long> lockIdsByInterviewerId(@Param("interviewerId") Long interviewerId, Pageable pageable);
 
-        @Query("UPDATE InterviewSlot s SET s.status = 'EXPIRED' WHERE s.status = 'AVAILABLE' AND s.startTime < :now")
+        @Modifying
+        @Query("UPDATE InterviewSlot s SET s.status = 'EXPIRED', s.updatedAt = :now, s.version = s.version + 1 " +
+                        "WHERE s.status IN ('AVAILABLE', 'HELD') AND s.startTime <= :now")
         int markExpiredSlots(@Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE InterviewSlot s SET s.status = 'EXPIRED', s.updatedAt = :now, s.version = s.version + 1 " +
+                        "WHERE s.id IN (:ids) AND s.status IN ('AVAILABLE', 'HELD') AND s.startTime <= :now")
+        int markSlotsExpired(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+        @Query("SELECT s.id AS id, s.startTime AS startTime FROM InterviewSlot s " +
+                        "WHERE s.status IN ('AVAILABLE', 'HELD') AND s.startTime < :until")
+        List<SlotStart> findOpenSlotStartsBefore(@Param("until") LocalDateTime until);
+
+        @Query("SELECT s.id AS id, s.startTime AS startTime FROM InterviewSlot s " +
+                        "WHERE s.createdAt >= :since AND s.status IN ('AVAILABLE', 'HELD') AND s.startTime < :until")
+        List<SlotStart> findOpenSlotStartsCreatedSince(@Param("since") LocalDateTime since,
+                        @Param("until") LocalDateTime until);
+
+        @Modifying
+        @Query("UPDATE InterviewSlot s SET s.status = 'HELD', s.heldByCandidateId = :candidateId, " +
+                        "s.heldUntil = :heldUntil, s.updatedAt = :now, s.version = s.version + 1 " +
+                        "WHERE s.id = :id AND s.startTime > :now AND (s.status = 'AVAILABLE' " +
+                        "OR (s.status = 'HELD' AND (s.heldByCandidateId = :candidateId OR s.heldUntil <= :now)))")
+        int claimHold(
+                        @Param("id") Long id,
+                        @Param("candidateId") Long candidateId,
+                        @Param("heldUntil") LocalDateTime heldUntil,
+                        @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE InterviewSlot s SET s.status = 'AVAILABLE', s.heldByCandidateId = NULL, " +
+                        "s.heldUntil = NULL, s.updatedAt = :now, s.version = s.version + 1 " +
+                        "WHERE s.id = :id AND s.status = 'HELD' AND s.heldByCandidateId = :candidateId")
+        int releaseHold(
+                        @Param("id") Long id,
+                        @Param("candidateId") Long candidateId,
+                        @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE InterviewSlot s SET s.status = 'AVAILABLE', s.heldByCandidateId = NULL, " +
+                        "s.heldUntil = NULL, s.updatedAt = :now, s.version = s.version + 1 " +
+                        "WHERE s.id IN (:ids) AND s.status = 'HELD' AND s.heldUntil <= :now")
+        int releaseExpiredHolds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE InterviewSlot s SET s.status = 'AVAILABLE', s.heldByCandidateId = NULL, " +
+                        "s.heldUntil = NULL, s.updatedAt = :now, s.version = s.version + 1 " +
+                        "WHERE s.status = 'HELD' AND s.heldUntil <= :now")
+        int releaseAllExpiredHolds(@Param("now") LocalDateTime now);
+
+        // Clears the persistence context so the released slots can be read back with their new status
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query("UPDATE InterviewSlot s SET s.status = 'AVAILABLE', s.heldByCandidateId = NULL, " +
+                        "s.heldUntil = NULL, s.updatedAt = :now, s.version = s.version + 1 " +
+                        "WHERE s.id IN (:ids) AND s.status IN ('BOOKED', 'CONFIRMED')")
+        int releaseBookedSlots(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+        @Query("SELECT s.tenantId AS tenantId, s.interviewer.id AS interviewerId, s.startTime AS startTime, " +
+                        "s.endTime AS endTime, s.status AS status FROM InterviewSlot s " +
+                        "WHERE s.status IN ('AVAILABLE', 'HELD', 'BOOKED', 'CONFIRMED') AND s.startTime >= :from")
+        List<SlotCell> findCalendarCellsFrom(@Param("from") LocalDateTime from);
+
+        @Query("SELECT s.tenantId AS tenantId, s.interviewer.id AS interviewerId, s.startTime AS startTime, " +
+                        "s.endTime AS endTime, s.status AS status FROM InterviewSlot s " +
+                        "WHERE s.interviewer.id = :interviewerId " +
+                        "AND s.status IN ('AVAILABLE', 'HELD', 'BOOKED', 'CONFIRMED') " +
+                        "AND s.startTime >= :from AND s.startTime < :to")
+        List<SlotCell> findCalendarCellsByInterviewerId(
+                        @Param("interviewerId") Long interviewerId,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+
+        @Query("SELECT s.id AS id, s.startTime AS startTime, s.endTime AS endTime, " +
+                        "s.weekNumber AS weekNumber, s.year AS year FROM InterviewSlot s " +
+                        "WHERE s.interviewer.id = :interviewerId AND s.status = 'AVAILABLE' " +
+                        "AND s.startTime > :from ORDER BY s.startTime ASC, s.id ASC")
+        List<SlotTimes> findAvailableTimesByInterviewerId(
+                        @Param("interviewerId") Long interviewerId,
+                        @Param("from") LocalDateTime from);
+
+        interface SlotCell {
+
+                String getTenantId();
+
+                Long getInterviewerId();
+
+                LocalDateTime getStartTime();
+
+                LocalDateTime getEndTime();
+
+                SlotStatus getStatus();
+        }
+
+        interface SlotTimes {
+
+                Long getId();
+
+                LocalDateTime getStartTime();
+
+                LocalDateTime getEndTime();
+
+                Integer getWeekNumber();
+
+                Integer getYear();
+        }
+
+        interface SlotStart {
+
+                Long getId();
+
+                LocalDateTime getStartTime();
+        }
 }
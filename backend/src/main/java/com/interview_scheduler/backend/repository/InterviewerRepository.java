@@ -1,16 +1,62 @@
 package com.interview_scheduler.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.LockModeType;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.interview_scheduler.backend.entity.Interviewer;
 
 @Repository
-public interface InterviewerRepository extends JpaRepository<Interviewer, Long> {
+public interface InterviewerRepository extends JpaRepository<Interviewer, Long>, InterviewerRepositoryCustom {
 
     Optional<Interviewer> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("SELECT i.email FROM Interviewer i WHERE i.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Serializes bookings against the same interviewers' weekly caps; ascending id keeps lock order stable
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i.id FROM Interviewer i WHERE i.id IN :ids ORDER BY i.id")
+    List<Long> lockIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.version FROM Interviewer i WHERE i.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(i) AS count, COALESCE(MAX(i.id), 0) AS maxId, " +
+            "COALESCE(SUM(i.version), 0) AS versionSum FROM Interviewer i")
+    CollectionVersion findCollectionVersion();
+
+    @Query("SELECT i.id AS id, i.tenantId AS tenantId FROM Interviewer i")
+    List<TenantRef> findTenantRefs();
+
+    @Query("SELECT i.id AS id, i.tenantId AS tenantId FROM Interviewer i " +
+            "WHERE COALESCE(i.updatedAt, i.createdAt) >= :since")
+    List<TenantRef> findTenantRefsChangedSince(@Param("since") LocalDateTime since);
+
+    interface TenantRef {
+
+        Long getId();
+
+        String getTenantId();
+    }
+
+    interface CollectionVersion {
+
+        long getCount();
+
+        long getMaxId();
+
+        long getVersionSum();
+    }
 }
@@ -0,0 +1,14 @@
+package com.interview_scheduler.backend.repository;
+
+import java.util.List;
+
+import com.interview_scheduler.backend.entity.Interviewer;
+
+public interface InterviewerRepositoryCustom {
+
+    /**
+     * Inserts the interviewers as one JDBC batch, stamped with the current tenant, sets their generated ids,
+     * then inserts all of their weekly availabilities as a second batch.
+     */
+    void insertAll(List<Interviewer> interviewers);
+}
@@ -0,0 +1,75 @@
+package com.interview_scheduler.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.interview_scheduler.backend.entity.Interviewer;
+import com.interview_scheduler.backend.entity.WeeklyAvailability;
+import com.interview_scheduler.backend.tenant.TenantIdentifierResolver;
+
+import lombok.RequiredArgsConstructor;
+
+// Hibernate cannot batch inserts of IDENTITY-keyed entities, so bulk inserts go through JDBC
+@RequiredArgsConstructor
+public class InterviewerRepositoryCustomImpl implements InterviewerRepositoryCustom {
+
+    private static final String INSERT_INTERVIEWER = "INSERT INTO interviewers "
+            + "(tenant_id, name, email, max_interviews_per_week, slot_duration_minutes, created_at, version) "
+            + "VALUES (:tenantId, :name, :email, :maxInterviewsPerWeek, :slotDurationMinutes, :createdAt, 0)";
+
+    private static final String INSERT_AVAILABILITY = "INSERT INTO weekly_availabilities "
+            + "(interviewer_id, day_of_week, start_time, end_time, is_active) "
+            + "VALUES (:interviewerId, :dayOfWeek, :startTime, :endTime, :isActive)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TenantIdentifierResolver tenantIdentifierResolver;
+
+    @Override
+    public void insertAll(List<Interviewer> interviewers) {
+        if (interviewers.isEmpty()) {
+            return;
+        }
+        String tenantId = tenantIdentifierResolver.resolveCurrentTenantIdentifier();
+        SqlParameterSource[] rows = new SqlParameterSource[interviewers.size()];
+        for (int i = 0; i < rows.length; i++) {
+            Interviewer interviewer = interviewers.get(i);
+            interviewer.setTenantId(tenantId);
+            interviewer.setVersion(0L);
+            rows[i] = new MapSqlParameterSource()
+                    .addValue("tenantId", tenantId)
+                    .addValue("name", interviewer.getName())
+                    .addValue("email", interviewer.getEmail())
+                    .addValue("maxInterviewsPerWeek", interviewer.getMaxInterviewsPerWeek())
+                    .addValue("slotDurationMinutes", interviewer.getSlotDurationMinutes())
+                    .addValue("createdAt", interviewer.getCreatedAt());
+        }
+
+        // Keys come back in row order; the column is named differently per driver (ID, GENERATED_KEY)
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_INTERVIEWER, rows, keys, new String[] { "id" });
+        List<Map<String, Object>> generated = keys.getKeyList();
+        List<SqlParameterSource> availabilities = new ArrayList<>();
+        for (int i = 0; i < interviewers.size(); i++) {
+            Interviewer interviewer = interviewers.get(i);
+            interviewer.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            for (WeeklyAvailability availability : interviewer.getWeeklyAvailabilities()) {
+                availabilities.add(new MapSqlParameterSource()
+                        .addValue("interviewerId", interviewer.getId())
+                        .addValue("dayOfWeek", availability.getDayOfWeek().name())
+                        .addValue("startTime", availability.getStartTime())
+                        .addValue("endTime", availability.getEndTime())
+                        .addValue("isActive", availability.getIsActive()));
+            }
+        }
+        if (!availabilities.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_AVAILABILITY, availabilities.toArray(SqlParameterSource[]::new));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.interview_scheduler.backend.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.interview_scheduler.backend.entity.InterviewerWeekCalendar;
+
+@Repository
+public interface InterviewerWeekCalendarRepository extends JpaRepository<InterviewerWeekCalendar, Long> {
+
+        Optional<InterviewerWeekCalendar> findByInterviewerIdAndWeekStart(Long interviewerId, LocalDate weekStart);
+
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT c FROM InterviewerWeekCalendar c " +
+                        "WHERE c.interviewerId = :interviewerId AND c.weekStart = :weekStart")
+        Optional<InterviewerWeekCalendar> findForUpdate(
+                        @Param("interviewerId") Long interviewerId,
+                        @Param("weekStart") LocalDate weekStart);
+
+        List<InterviewerWeekCalendar> findByWeekStartGreaterThanEqual(LocalDate weekStart);
+
+        List<InterviewerWeekCalendar> findByWeekStartGreaterThanEqualAndUpdatedAtGreaterThanEqual(
+                        LocalDate weekStart, LocalDateTime updatedSince);
+
+        @Modifying
+        @Query("DELETE FROM InterviewerWeekCalendar c WHERE c.interviewerId = :interviewerId")
+        int deleteByInterviewerId(@Param("interviewerId") Long interviewerId);
+}
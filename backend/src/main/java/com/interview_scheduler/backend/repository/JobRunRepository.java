@@ -0,0 +1,25 @@
+package com.interview_scheduler.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interview_scheduler.backend.entity.JobRun;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+        List<JobRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+        @Transactional
+        @Modifying
+        @Query("DELETE FROM JobRun r WHERE r.startedAt < :cutoff")
+        int deleteStartedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
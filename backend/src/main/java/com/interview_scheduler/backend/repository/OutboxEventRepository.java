@@ -0,0 +1,27 @@
+package com.interview_scheduler.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.interview_scheduler.backend.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+        @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL " +
+                        "AND e.createdAt <= :cutoff ORDER BY e.id ASC")
+        List<OutboxEvent> findPendingEvents(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+        @Modifying
+        @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN (:ids)")
+        int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+        long countByPublishedAtIsNull();
+}
@@ -0,0 +1,31 @@
+package com.interview_scheduler.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interview_scheduler.backend.entity.SchedulerLock;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+        @Transactional
+        @Modifying
+        @Query("UPDATE SchedulerLock l SET l.lockedBy = :nodeId, l.lockedAt = :now, l.lockedUntil = :until " +
+                        "WHERE l.name = :name AND (l.lockedUntil <= :now OR l.lockedBy = :nodeId)")
+        int tryLock(
+                        @Param("name") String name,
+                        @Param("nodeId") String nodeId,
+                        @Param("now") LocalDateTime now,
+                        @Param("until") LocalDateTime until);
+
+        @Transactional
+        @Modifying
+        @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :nodeId")
+        int unlock(@Param("name") String name, @Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+}
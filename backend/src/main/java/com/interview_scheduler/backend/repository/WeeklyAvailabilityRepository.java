@@ -1,27 +1,60 @@
 package com.interview_scheduler.backend.repository;
 
 import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.interview_scheduler.backend.entity.WeeklyAvailability;
 
 @Repository
 public interface WeeklyAvailabilityRepository extends JpaRepository<WeeklyAvailability, Long> {
 
-    List<WeeklyAvailability> findByInterviewerIdAndIsActiveTrue(Long interviewerId);
+    // Spelled out so they filter on interviewer_id itself; the derived versions outer-join interviewers and
+    // filter on its id, which no index on this table can serve.
+    @Query("SELECT w FROM WeeklyAvailability w WHERE w.interviewer.id = :interviewerId AND w.isActive = true")
+    List<WeeklyAvailability> findByInterviewerIdAndIsActiveTrue(@Param("interviewerId") Long interviewerId);
 
-    List<WeeklyAvailability> findByInterviewerId(Long interviewerId);
+    @Query("SELECT w FROM WeeklyAvailability w WHERE w.interviewer.id = :interviewerId")
+    List<WeeklyAvailability> findByInterviewerId(@Param("interviewerId") Long interviewerId);
 
+    @Query("SELECT w FROM WeeklyAvailability w WHERE w.interviewer.id = :interviewerId " +
+            "AND w.dayOfWeek = :dayOfWeek AND w.isActive = true")
     List<WeeklyAvailability> findByInterviewerIdAndDayOfWeekAndIsActiveTrue(
-            Long interviewerId, DayOfWeek dayOfWeek);
+            @Param("interviewerId") Long interviewerId, @Param("dayOfWeek") DayOfWeek dayOfWeek);
 
-    void deleteByInterviewerId(Long interviewerId);
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM WeeklyAvailability w WHERE w.interviewer.id = :interviewerId")
+    void deleteByInterviewerId(@Param("interviewerId") Long interviewerId);
+
+    @Query("SELECT w.interviewer.id AS interviewerId, w.dayOfWeek AS dayOfWeek, w.startTime AS startTime, " +
+            "w.endTime AS endTime FROM WeeklyAvailability w WHERE w.isActive = true")
+    List<AvailabilityWindow> findActiveWindows();
+
+    @Query("SELECT w.interviewer.id AS interviewerId, w.dayOfWeek AS dayOfWeek, w.startTime AS startTime, " +
+            "w.endTime AS endTime FROM WeeklyAvailability w " +
+            "WHERE w.isActive = true AND w.interviewer.id IN (:interviewerIds)")
+    List<AvailabilityWindow> findActiveWindowsByInterviewerIds(@Param("interviewerIds") Collection<Long> interviewerIds);
 
     @Query("SELECT COUNT(w) > 0 FROM WeeklyAvailability w WHERE w.interviewer.id = :interviewerId AND w.isActive = true")
     boolean hasActiveAvailability(@Param("interviewerId") Long interviewerId);
+
+    interface AvailabilityWindow {
+
+        Long getInterviewerId();
+
+        DayOfWeek getDayOfWeek();
+
+        LocalTime getStartTime();
+
+        LocalTime getEndTime();
+    }
 }
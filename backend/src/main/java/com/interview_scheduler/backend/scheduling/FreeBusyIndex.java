@@ -0,0 +1,211 @@
+package com.interview_scheduler.backend.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory free/busy bitsets on the {@link WeekGrid}, per tenant. An interviewer is free in a period when
+ * their recurring weekly availability covers it <em>and</em> an open slot covers it that week. Searches are
+ * pure bit operations: {@link #findAny} ORs interviewers together (any one of them free),
+ * {@link #findAll} ANDs them (all of them free at once).
+ * <p>
+ * Bitsets are never mutated after being stored; updates replace them, so searches need no locking.
+ */
+public class FreeBusyIndex {
+
+    private static final Comparator<RunCursor> RUN_ORDER = Comparator.<RunCursor>comparingInt(run -> run.start)
+            .thenComparing(run -> run.interviewerId);
+
+    private final Map<String, TenantIndex> tenants = new ConcurrentHashMap<>();
+
+    public record Window(Long interviewerId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private static final class TenantIndex {
+
+        private final Map<Long, BitSet> availability = new ConcurrentHashMap<>();
+        private final Map<LocalDate, Map<Long, BitSet>> openSlots = new ConcurrentHashMap<>();
+    }
+
+    public void putAvailability(String tenantId, Long interviewerId, BitSet weeklyMask) {
+        tenant(tenantId).availability.put(interviewerId, (BitSet) weeklyMask.clone());
+    }
+
+    public void putWeek(String tenantId, Long interviewerId, LocalDate weekStart, BitSet open) {
+        Map<Long, BitSet> week = tenant(tenantId).openSlots.computeIfAbsent(weekStart,
+                w -> new ConcurrentHashMap<>());
+        if (open.isEmpty()) {
+            week.remove(interviewerId);
+        } else {
+            week.put(interviewerId, (BitSet) open.clone());
+        }
+    }
+
+    public void removeInterviewer(String tenantId, Long interviewerId) {
+        TenantIndex index = tenants.get(tenantId);
+        if (index != null) {
+            index.availability.remove(interviewerId);
+            index.openSlots.values().forEach(week -> week.remove(interviewerId));
+        }
+    }
+
+    public void pruneWeeksBefore(LocalDate weekStart) {
+        tenants.values().forEach(index -> index.openSlots.keySet().removeIf(week -> week.isBefore(weekStart)));
+    }
+
+    /** Replaces every tenant matching {@code scope} with the contents of {@code fresh}. */
+    public void replaceTenants(FreeBusyIndex fresh, Predicate<String> scope) {
+        tenants.keySet().removeIf(tenantId -> scope.test(tenantId) && !fresh.tenants.containsKey(tenantId));
+        tenants.putAll(fresh.tenants);
+    }
+
+    public int interviewerCount() {
+        return tenants.values().stream().mapToInt(index -> index.availability.size()).sum();
+    }
+
+    /**
+     * Free windows of at least {@code minPeriods} periods in {@code [from, to)}, one list entry per interviewer
+     * and window, earliest first. {@code interviewerIds} narrows the search; {@code null} searches every
+     * interviewer. Each interviewer's runs are merged lazily, so only the first {@code limit} are materialized.
+     */
+    public List<Window> findAny(String tenantId, Collection<Long> interviewerIds, LocalDateTime from,
+            LocalDateTime to, int minPeriods, int limit) {
+        TenantIndex index = tenants.get(tenantId);
+        List<Window> windows = new ArrayList<>();
+        if (index == null) {
+            return windows;
+        }
+
+        for (LocalDate weekStart = WeekGrid.weekStartOf(from); weekStart.atStartOfDay().isBefore(to)
+                && windows.size() < limit; weekStart = weekStart.plusWeeks(1)) {
+            Map<Long, BitSet> week = index.openSlots.get(weekStart);
+            if (week == null) {
+                continue;
+            }
+            BitSet range = rangeMask(weekStart, from, to);
+            PriorityQueue<RunCursor> runs = new PriorityQueue<>(RUN_ORDER);
+            for (Long interviewerId : interviewerIds != null ? interviewerIds : week.keySet()) {
+                BitSet free = freeIn(index, week, interviewerId, range);
+                if (free != null) {
+                    RunCursor cursor = new RunCursor(interviewerId, free);
+                    if (cursor.advance(0, minPeriods)) {
+                        runs.add(cursor);
+                    }
+                }
+            }
+            while (!runs.isEmpty() && windows.size() < limit) {
+                RunCursor cursor = runs.poll();
+                windows.add(new Window(cursor.interviewerId, WeekGrid.startOfPeriod(weekStart, cursor.start),
+                        WeekGrid.startOfPeriod(weekStart, cursor.end)));
+                if (cursor.advance(cursor.end, minPeriods)) {
+                    runs.add(cursor);
+                }
+            }
+        }
+        return windows;
+    }
+
+    /** Windows of at least {@code minPeriods} periods in {@code [from, to)} where every interviewer is free. */
+    public List<Window> findAll(String tenantId, Collection<Long> interviewerIds, LocalDateTime from,
+            LocalDateTime to, int minPeriods, int limit) {
+        TenantIndex index = tenants.get(tenantId);
+        List<Window> windows = new ArrayList<>();
+        if (index == null || interviewerIds.isEmpty()) {
+            return windows;
+        }
+
+        for (LocalDate weekStart = WeekGrid.weekStartOf(from); weekStart.atStartOfDay().isBefore(to)
+                && windows.size() < limit; weekStart = weekStart.plusWeeks(1)) {
+            Map<Long, BitSet> week = index.openSlots.get(weekStart);
+            if (week == null) {
+                continue;
+            }
+            BitSet common = rangeMask(weekStart, from, to);
+            for (Long interviewerId : interviewerIds) {
+                BitSet free = freeIn(index, week, interviewerId, common);
+                if (free == null) {
+                    common = null;
+                    break;
+                }
+                common = free;
+            }
+            if (common != null) {
+                collectRuns(common, weekStart, null, minPeriods, windows);
+            }
+        }
+
+        return windows.size() > limit ? new ArrayList<>(windows.subList(0, limit)) : windows;
+    }
+
+    /** Walks the free runs of one interviewer's bitset that are at least {@code minPeriods} long. */
+    private static final class RunCursor {
+
+        private final Long interviewerId;
+        private final BitSet free;
+        private int start;
+        private int end;
+
+        private RunCursor(Long interviewerId, BitSet free) {
+            this.interviewerId = interviewerId;
+            this.free = free;
+        }
+
+        private boolean advance(int fromPeriod, int minPeriods) {
+            for (start = free.nextSetBit(fromPeriod); start >= 0; start = free.nextSetBit(end)) {
+                end = free.nextClearBit(start);
+                if (end - start >= minPeriods) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private TenantIndex tenant(String tenantId) {
+        return tenants.computeIfAbsent(tenantId, t -> new TenantIndex());
+    }
+
+    /** {@code open AND availability AND mask} for one interviewer, or {@code null} when that is empty. */
+    private static BitSet freeIn(TenantIndex index, Map<Long, BitSet> week, Long interviewerId, BitSet mask) {
+        BitSet open = week.get(interviewerId);
+        BitSet availability = index.availability.get(interviewerId);
+        if (open == null || availability == null || !open.intersects(mask) || !availability.intersects(mask)) {
+            return null;
+        }
+        BitSet free = (BitSet) open.clone();
+        free.and(availability);
+        free.and(mask);
+        return free.isEmpty() ? null : free;
+    }
+
+    private static BitSet rangeMask(LocalDate weekStart, LocalDateTime from, LocalDateTime to) {
+        BitSet mask = new BitSet(WeekGrid.PERIODS_PER_WEEK);
+        int start = from.isAfter(weekStart.atStartOfDay()) ? WeekGrid.periodCeil(weekStart, from) : 0;
+        int end = WeekGrid.periodOf(weekStart, to);
+        if (end > start) {
+            mask.set(start, end);
+        }
+        return mask;
+    }
+
+    private static void collectRuns(BitSet free, LocalDate weekStart, Long interviewerId, int minPeriods,
+            List<Window> windows) {
+        for (int start = free.nextSetBit(0); start >= 0; ) {
+            int end = free.nextClearBit(start);
+            if (end - start >= minPeriods) {
+                windows.add(new Window(interviewerId, WeekGrid.startOfPeriod(weekStart, start),
+                        WeekGrid.startOfPeriod(weekStart, end)));
+            }
+            start = free.nextSetBit(end);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.interview_scheduler.backend.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.interview_scheduler.backend.repository.InterviewSlotRepository.SlotTimes;
+
+/**
+ * Finds times at which every interviewer on a panel has a slot, by sweeping their start-ordered slot lists
+ * together. Each step moves every list up to the latest current start, so each slot is visited once:
+ * {@code O(total slots)} for the whole panel.
+ */
+public final class PanelSlotSweep {
+
+    private PanelSlotSweep() {
+    }
+
+    /**
+     * Up to {@code maxMatches} groups of slots, earliest first, with one slot per input list and identical
+     * start and end times within a group. Each input list must be ordered by start time.
+     *
+     * @param latestStart groups starting after this are ignored; {@code null} for no bound
+     */
+    public static List<List<SlotTimes>> alignedSlots(List<List<SlotTimes>> slotsByInterviewer,
+            LocalDateTime latestStart, int maxMatches) {
+        List<List<SlotTimes>> matches = new ArrayList<>();
+        int panelSize = slotsByInterviewer.size();
+        int[] cursor = new int[panelSize];
+
+        while (matches.size() < maxMatches) {
+            LocalDateTime target = null;
+            for (int i = 0; i < panelSize; i++) {
+                if (cursor[i] >= slotsByInterviewer.get(i).size()) {
+                    return matches;
+                }
+                LocalDateTime start = slotsByInterviewer.get(i).get(cursor[i]).getStartTime();
+                if (target == null || start.isAfter(target)) {
+                    target = start;
+                }
+            }
+            if (latestStart != null && target.isAfter(latestStart)) {
+                return matches;
+            }
+
+            boolean aligned = true;
+            for (int i = 0; i < panelSize; i++) {
+                List<SlotTimes> slots = slotsByInterviewer.get(i);
+                while (cursor[i] < slots.size() && slots.get(cursor[i]).getStartTime().isBefore(target)) {
+                    cursor[i]++;
+                }
+                if (cursor[i] >= slots.size()) {
+                    return matches;
+                }
+                aligned &= slots.get(cursor[i]).getStartTime().equals(target);
+            }
+            if (!aligned) {
+                continue;
+            }
+
+            List<SlotTimes> group = new ArrayList<>(panelSize);
+            for (int i = 0; i < panelSize; i++) {
+                group.add(slotsByInterviewer.get(i).get(cursor[i]++));
+            }
+            LocalDateTime end = group.get(0).getEndTime();
+            if (group.stream().allMatch(slot -> slot.getEndTime().equals(end))) {
+                matches.add(group);
+            }
+        }
+        return matches;
+    }
+}
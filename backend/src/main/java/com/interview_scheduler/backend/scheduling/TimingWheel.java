@@ -0,0 +1,147 @@
+package com.interview_scheduler.backend.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical hashed timing wheel keyed by an identifier. Scheduling and
+ * cancelling are O(1); {@link #advanceTo(long)} returns the keys whose deadline
+ * has been reached, firing at most one tick late and never early.
+ * <p>
+ * Level {@code i} buckets span {@code wheelSize^i} ticks; entries that are too
+ * far out for the lower levels cascade down as the wheel turns. Levels are added
+ * on demand so there is no upper bound on the schedulable horizon.
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Set<K>>> levels = new ArrayList<>();
+    private final Map<K, Entry> entries = new HashMap<>();
+    private final List<K> due = new ArrayList<>();
+    private long currentTick;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        addLevel();
+    }
+
+    /**
+     * Schedules {@code key} to fire at {@code deadlineMillis}, replacing any
+     * existing deadline for the same key. Deadlines that have already passed
+     * fire on the next {@link #advanceTo(long)}.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        place(key, Math.ceilDiv(deadlineMillis, tickMillis));
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.level < 0) {
+            due.remove(key);
+        } else {
+            levels.get(entry.level).get(entry.bucket).remove(key);
+        }
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Turns the wheel up to {@code nowMillis} and returns every key whose
+     * deadline is at or before it. Returned keys are no longer scheduled.
+     */
+    public synchronized List<K> advanceTo(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.size() - 1; level > 0; level--) {
+                long span = span(level);
+                if (currentTick % span == 0) {
+                    cascade(levels.get(level).get(bucketIndex(currentTick / span)));
+                }
+            }
+            cascade(levels.get(0).get(bucketIndex(currentTick)));
+        }
+
+        List<K> expired = new ArrayList<>(due);
+        due.clear();
+        expired.forEach(entries::remove);
+        return expired;
+    }
+
+    private void cascade(Set<K> bucket) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (K key : keys) {
+            place(key, entries.get(key).deadlineTick);
+        }
+    }
+
+    private void place(K key, long deadlineTick) {
+        if (deadlineTick <= currentTick) {
+            due.add(key);
+            entries.put(key, new Entry(deadlineTick, -1, -1));
+            return;
+        }
+
+        int level = 0;
+        long span = 1;
+        while (deadlineTick / span - currentTick / span >= wheelSize) {
+            level++;
+            span *= wheelSize;
+            if (level == levels.size()) {
+                addLevel();
+            }
+        }
+
+        int bucket = bucketIndex(deadlineTick / span);
+        levels.get(level).get(bucket).add(key);
+        entries.put(key, new Entry(deadlineTick, level, bucket));
+    }
+
+    private long span(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span *= wheelSize;
+        }
+        return span;
+    }
+
+    private int bucketIndex(long slot) {
+        return (int) Math.floorMod(slot, (long) wheelSize);
+    }
+
+    private void addLevel() {
+        List<Set<K>> buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+        levels.add(buckets);
+    }
+
+    private record Entry(long deadlineTick, int level, int bucket) {
+    }
+}
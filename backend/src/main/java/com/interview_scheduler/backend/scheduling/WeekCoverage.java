@@ -0,0 +1,79 @@
+package com.interview_scheduler.backend.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+
+/**
+ * Minute-level open and booked coverage of one week, folded onto {@link WeekGrid} periods only when read. Slots
+ * whose length is not a multiple of {@value WeekGrid#PERIOD_MINUTES} minutes share a period with their neighbour,
+ * so a period's state has to come from every slot overlapping it rather than from whichever was recorded last.
+ */
+public final class WeekCoverage {
+
+    private static final int MINUTES_PER_WEEK = WeekGrid.PERIODS_PER_WEEK * WeekGrid.PERIOD_MINUTES;
+
+    private final LocalDate weekStart;
+    private final BitSet open = new BitSet(MINUTES_PER_WEEK);
+    private final BitSet booked = new BitSet(MINUTES_PER_WEEK);
+
+    public WeekCoverage(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public void addOpen(LocalDateTime startTime, LocalDateTime endTime) {
+        set(open, startTime, endTime);
+    }
+
+    public void addBooked(LocalDateTime startTime, LocalDateTime endTime) {
+        set(booked, startTime, endTime);
+    }
+
+    /** Periods wholly covered by open slots and not touched by any booked one. */
+    public BitSet freePeriods() {
+        BitSet periods = new BitSet(WeekGrid.PERIODS_PER_WEEK);
+        for (int from = open.nextSetBit(0); from >= 0; from = open.nextSetBit(from)) {
+            int to = open.nextClearBit(from);
+            int first = ceilDiv(from);
+            int last = to / WeekGrid.PERIOD_MINUTES;
+            for (int period = first; period < last; period++) {
+                int periodStart = period * WeekGrid.PERIOD_MINUTES;
+                int nextBooked = booked.nextSetBit(periodStart);
+                if (nextBooked < 0 || nextBooked >= periodStart + WeekGrid.PERIOD_MINUTES) {
+                    periods.set(period);
+                }
+            }
+            from = to;
+        }
+        return periods;
+    }
+
+    /** Periods overlapped by any booked slot. */
+    public BitSet bookedPeriods() {
+        BitSet periods = new BitSet(WeekGrid.PERIODS_PER_WEEK);
+        for (int from = booked.nextSetBit(0); from >= 0; from = booked.nextSetBit(from)) {
+            int to = booked.nextClearBit(from);
+            periods.set(from / WeekGrid.PERIOD_MINUTES, ceilDiv(to));
+            from = to;
+        }
+        return periods;
+    }
+
+    private void set(BitSet minutes, LocalDateTime startTime, LocalDateTime endTime) {
+        int from = minuteOf(startTime);
+        int to = minuteOf(endTime);
+        if (to > from) {
+            minutes.set(from, to);
+        }
+    }
+
+    private int minuteOf(LocalDateTime dateTime) {
+        long minutes = Duration.between(weekStart.atStartOfDay(), dateTime).toMinutes();
+        return (int) Math.max(0, Math.min(MINUTES_PER_WEEK, minutes));
+    }
+
+    private static int ceilDiv(int minutes) {
+        return (minutes + WeekGrid.PERIOD_MINUTES - 1) / WeekGrid.PERIOD_MINUTES;
+    }
+}
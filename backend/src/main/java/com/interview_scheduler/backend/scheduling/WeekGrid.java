@@ -0,0 +1,75 @@
+package com.interview_scheduler.backend.scheduling;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.BitSet;
+
+/**
+ * Maps a Monday-to-Sunday week onto a fixed grid of {@value #PERIOD_MINUTES}-minute periods, so a week of
+ * availability fits in a {@link BitSet} of {@value #PERIODS_PER_WEEK} bits (84 bytes). Bit {@code i} covers
+ * {@code weekStart + i * PERIOD_MINUTES}.
+ */
+public final class WeekGrid {
+
+    public static final int PERIOD_MINUTES = 15;
+    public static final int PERIODS_PER_DAY = 24 * 60 / PERIOD_MINUTES;
+    public static final int PERIODS_PER_WEEK = 7 * PERIODS_PER_DAY;
+    public static final int BYTES_PER_WEEK = PERIODS_PER_WEEK / 8;
+
+    private WeekGrid() {
+    }
+
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public static LocalDate weekStartOf(LocalDateTime dateTime) {
+        return weekStartOf(dateTime.toLocalDate());
+    }
+
+    /** Index of the period containing {@code dateTime}, clamped to {@code [0, PERIODS_PER_WEEK]}. */
+    public static int periodOf(LocalDate weekStart, LocalDateTime dateTime) {
+        long minutes = Duration.between(weekStart.atStartOfDay(), dateTime).toMinutes();
+        return (int) Math.max(0, Math.min(PERIODS_PER_WEEK, Math.floorDiv(minutes, PERIOD_MINUTES)));
+    }
+
+    /** First period at or after {@code dateTime}; used for exclusive range ends. */
+    public static int periodCeil(LocalDate weekStart, LocalDateTime dateTime) {
+        long minutes = Duration.between(weekStart.atStartOfDay(), dateTime).toMinutes();
+        long period = Math.floorDiv(minutes + PERIOD_MINUTES - 1, PERIOD_MINUTES);
+        return (int) Math.max(0, Math.min(PERIODS_PER_WEEK, period));
+    }
+
+    /** Sets the periods covered by a recurring {@code day} {@code start}-{@code end} window. */
+    public static void setDaily(BitSet bits, DayOfWeek day, LocalTime start, LocalTime end) {
+        int dayOffset = (day.getValue() - 1) * PERIODS_PER_DAY;
+        int from = start.toSecondOfDay() / 60 / PERIOD_MINUTES;
+        int to = end.equals(LocalTime.MIDNIGHT) ? PERIODS_PER_DAY
+                : (end.toSecondOfDay() / 60 + PERIOD_MINUTES - 1) / PERIOD_MINUTES;
+        if (to > from) {
+            bits.set(dayOffset + from, dayOffset + to);
+        }
+    }
+
+    public static LocalDateTime startOfPeriod(LocalDate weekStart, int period) {
+        return weekStart.atStartOfDay().plusMinutes((long) period * PERIOD_MINUTES);
+    }
+
+    public static BitSet fromBytes(byte[] bytes) {
+        return bytes == null ? new BitSet(PERIODS_PER_WEEK) : BitSet.valueOf(bytes);
+    }
+
+    /** One character per period ({@code '1'} when set) for the given day of the week (0 = Monday). */
+    public static String dayString(BitSet bits, int dayIndex) {
+        StringBuilder day = new StringBuilder(PERIODS_PER_DAY);
+        int offset = dayIndex * PERIODS_PER_DAY;
+        for (int period = 0; period < PERIODS_PER_DAY; period++) {
+            day.append(bits.get(offset + period) ? '1' : '0');
+        }
+        return day.toString();
+    }
+}
@@ -3,13 +3,21 @@ package com.interview_scheduler.backend.service;
 import java.util.List;
 
 import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.PanelBookingRequest;
 import com.interview_scheduler.backend.dto.request.UpdateBookingRequest;
 import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.PanelBookingResponse;
 
 public interface BookingService {
 
     BookingResponse bookSlot(BookSlotRequest request);
 
+    PanelBookingResponse bookPanel(PanelBookingRequest request);
+
+    PanelBookingResponse getPanel(String panelId);
+
+    PanelBookingResponse cancelPanel(String panelId);
+
     BookingResponse updateBooking(Long bookingId, UpdateBookingRequest request);
 
     BookingResponse cancelBooking(Long bookingId);
@@ -18,7 +26,13 @@ public interface BookingService {
 
     BookingResponse getBookingById(Long id);
 
+    long getBookingVersion(Long id);
+
     List<BookingResponse> getBookingsByCandidateId(Long candidateId);
 
     BookingResponse getBookingBySlotId(Long slotId);
+
+    int deleteInterviewerSlots(Long interviewerId, int limit);
+
+    int deleteCandidateBookings(Long candidateId, int limit);
 }
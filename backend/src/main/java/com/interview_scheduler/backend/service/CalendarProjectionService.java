@@ -0,0 +1,18 @@
+package com.interview_scheduler.backend.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import com.interview_scheduler.backend.dto.response.WeekCalendarResponse;
+import com.interview_scheduler.backend.entity.InterviewSlot;
+
+public interface CalendarProjectionService {
+
+    void recordSlotChanges(Collection<InterviewSlot> slots);
+
+    WeekCalendarResponse getWeekCalendar(Long interviewerId, LocalDate date);
+
+    int rebuild();
+
+    void deleteCalendars(Long interviewerId);
+}
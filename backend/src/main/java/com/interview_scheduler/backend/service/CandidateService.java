@@ -9,6 +9,13 @@ public interface CandidateService {
 
     CandidateResponse createCandidate(CreateCandidateRequest request);
 
+    /**
+     * Creates every candidate whose email is not taken, with one lookup and one batched insert. Returns the
+     * positions of the requests skipped because the email exists or repeats an earlier request. With
+     * {@code lookUpAll}, every email is looked up rather than only those the email filter cannot rule out.
+     */
+    List<Integer> createCandidates(List<CreateCandidateRequest> requests, boolean lookUpAll);
+
     CandidateResponse getCandidateById(Long id);
 
     CandidateResponse getCandidateByEmail(String email);
@@ -16,4 +23,10 @@ public interface CandidateService {
     List<CandidateResponse> getAllCandidates();
 
     void deleteCandidate(Long id);
+
+    /** Rebuilds this node's email filter for the current shard; returns the candidates loaded. */
+    int reloadEmailFilter();
+
+    /** Adds candidates created since the last load to the current shard's email filter. */
+    int refreshEmailFilter();
 }
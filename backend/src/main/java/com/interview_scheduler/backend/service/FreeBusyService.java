@@ -0,0 +1,13 @@
+package com.interview_scheduler.backend.service;
+
+import com.interview_scheduler.backend.dto.request.FreeBusySearchRequest;
+import com.interview_scheduler.backend.dto.response.FreeBusySearchResponse;
+
+public interface FreeBusyService {
+
+    FreeBusySearchResponse search(FreeBusySearchRequest request);
+
+    int reload();
+
+    int refresh();
+}
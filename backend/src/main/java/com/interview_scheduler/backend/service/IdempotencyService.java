@@ -0,0 +1,32 @@
+package com.interview_scheduler.backend.service;
+
+public interface IdempotencyService {
+
+    enum ClaimState {
+        /** The key is new (or its previous claim went stale); the caller must execute and then complete it. */
+        ACQUIRED,
+        /** The key already has a response; send {@link Claim#response()} instead of executing again. */
+        REPLAY,
+        /** Another request with the same key is still running. */
+        IN_PROGRESS,
+        /** The key was first used for a different method, path or body. */
+        MISMATCH
+    }
+
+    record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    record Claim(ClaimState state, StoredResponse response) {
+    }
+
+    /** Claims {@code key} for the current tenant, or reports what happened to an earlier request with it. */
+    Claim begin(String key, String requestHash);
+
+    /** Records the response of an acquired key so retries can replay it. */
+    void complete(String key, String requestHash, StoredResponse response);
+
+    /** Drops an acquired key without a response so the client can retry, e.g. after a server error. */
+    void release(String key, String requestHash);
+
+    int pruneExpired();
+}
@@ -0,0 +1,13 @@
+package com.interview_scheduler.backend.service;
+
+import java.io.InputStream;
+
+import com.interview_scheduler.backend.dto.response.ImportResponse;
+import com.interview_scheduler.backend.importer.ImportFormat;
+
+public interface ImportService {
+
+    ImportResponse importCandidates(InputStream body, ImportFormat format);
+
+    ImportResponse importInterviewers(InputStream body, ImportFormat format);
+}
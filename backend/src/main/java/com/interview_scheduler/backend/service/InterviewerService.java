@@ -10,10 +10,20 @@ public interface InterviewerService {
 
     InterviewerResponse createInterviewer(CreateInterviewerRequest request);
 
+    /**
+     * Creates every interviewer whose email is not taken, with their weekly availabilities, using one lookup
+     * and batched inserts. Returns the positions of the requests skipped as duplicates.
+     */
+    List<Integer> createInterviewers(List<CreateInterviewerRequest> requests);
+
     InterviewerResponse getInterviewerById(Long id);
 
     List<InterviewerResponse> getAllInterviewers();
 
+    long getInterviewerVersion(Long id);
+
+    String getInterviewersCollectionVersion();
+
     InterviewerResponse updateWeeklyAvailability(Long interviewerId,
             List<WeeklyAvailabilityRequest> availabilities);
 
@@ -0,0 +1,12 @@
+package com.interview_scheduler.backend.service;
+
+public interface LeaderLockService {
+
+    String getNodeId();
+
+    boolean tryAcquire(String lockName);
+
+    boolean isHeld(String lockName);
+
+    void release(String lockName);
+}
@@ -0,0 +1,11 @@
+package com.interview_scheduler.backend.service;
+
+import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.entity.BookingEventType;
+
+public interface OutboxService {
+
+    void recordBookingEvent(BookingEventType eventType, BookingResponse booking);
+
+    int relayPendingEvents();
+}
@@ -0,0 +1,15 @@
+package com.interview_scheduler.backend.service;
+
+import java.util.List;
+
+import com.interview_scheduler.backend.dto.response.QueryStatisticsResponse;
+import com.interview_scheduler.backend.dto.response.SlowQueryResponse;
+
+public interface QueryStatisticsService {
+
+    List<QueryStatisticsResponse> getQueryStatistics();
+
+    List<SlowQueryResponse> getSlowQueries(int limit);
+
+    void reset();
+}
@@ -0,0 +1,20 @@
+package com.interview_scheduler.backend.service;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import com.interview_scheduler.backend.dto.response.JobRunResponse;
+import com.interview_scheduler.backend.dto.response.JobStatsResponse;
+
+public interface ScheduledJobService {
+
+    boolean runExclusive(String jobName, boolean recordHistory, IntSupplier job);
+
+    void runLocal(String jobName, IntSupplier job);
+
+    List<JobStatsResponse> getJobStats();
+
+    List<JobRunResponse> getRecentRuns(String jobName, int limit);
+
+    int pruneHistory();
+}
@@ -0,0 +1,16 @@
+package com.interview_scheduler.backend.service;
+
+import java.time.LocalDateTime;
+
+public interface SlotExpiryService {
+
+    void register(Long slotId, LocalDateTime startTime);
+
+    int rebuild();
+
+    int expireDueSlots();
+
+    int discardDueSlots();
+
+    int reconcile();
+}
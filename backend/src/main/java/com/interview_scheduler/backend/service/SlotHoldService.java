@@ -0,0 +1,14 @@
+package com.interview_scheduler.backend.service;
+
+import com.interview_scheduler.backend.dto.response.SlotHoldResponse;
+
+public interface SlotHoldService {
+
+    SlotHoldResponse holdSlot(Long slotId, Long candidateId);
+
+    void releaseHold(Long slotId, Long candidateId);
+
+    int expireDueHolds();
+
+    int releaseExpiredHolds();
+}
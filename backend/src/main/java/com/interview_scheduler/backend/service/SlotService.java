@@ -22,5 +22,7 @@ public interface SlotService {
 
     InterviewSlotResponse getSlotById(Long id);
 
+    long getSlotVersion(Long id);
+
     int markExpiredSlots();
 }
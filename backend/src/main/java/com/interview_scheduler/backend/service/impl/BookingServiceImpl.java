@@ -1,33 +1,58 @@
 package com.interview_scheduler.backend.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.interview_scheduler.backend.cache.SlotReadCaches;
+import com.interview_scheduler.backend.cache.SlotReadCaches.CachedBooking;
 import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.PanelBookingRequest;
 import com.interview_scheduler.backend.dto.request.UpdateBookingRequest;
 import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.PanelBookingResponse;
 import com.interview_scheduler.backend.entity.Booking;
+import com.interview_scheduler.backend.entity.BookingEventType;
 import com.interview_scheduler.backend.entity.BookingStatus;
 import com.interview_scheduler.backend.entity.Candidate;
 import com.interview_scheduler.backend.entity.InterviewSlot;
+import com.interview_scheduler.backend.entity.Interviewer;
 import com.interview_scheduler.backend.entity.SlotStatus;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
 import com.interview_scheduler.backend.exception.DuplicateBookingException;
 import com.interview_scheduler.backend.exception.MaxInterviewsExceededException;
+import com.interview_scheduler.backend.exception.PanelBookingException;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
 import com.interview_scheduler.backend.exception.SlotAlreadyBookedException;
 import com.interview_scheduler.backend.exception.SlotNotAvailableException;
+import com.interview_scheduler.backend.exception.ValidationException;
 import com.interview_scheduler.backend.repository.BookingRepository;
 import com.interview_scheduler.backend.repository.CandidateRepository;
 import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.repository.InterviewerRepository;
+import com.interview_scheduler.backend.scheduling.PanelSlotSweep;
 import com.interview_scheduler.backend.service.BookingService;
+import com.interview_scheduler.backend.service.CalendarProjectionService;
+import com.interview_scheduler.backend.service.OutboxService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,15 +65,22 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final InterviewSlotRepository slotRepository;
     private final CandidateRepository candidateRepository;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotReadCaches readCaches;
+    private final CalendarProjectionService calendarProjectionService;
+    private final InterviewerRepository interviewerRepository;
 
     private static final int BOOKING_WINDOW_WEEKS = 2;
+    private static final int PANEL_MATCH_CANDIDATES = 50;
+    private static final List<SlotStatus> BOOKED_STATUSES = Arrays.asList(SlotStatus.BOOKED, SlotStatus.CONFIRMED);
 
     @Override
     @Transactional(isolation = Isolation.SERIALIZABLE)
     @Retryable(retryFor = {
             org.springframework.orm.ObjectOptimisticLockingFailureException.class }, maxAttempts = 3, backoff = @Backoff(delay = 100, multiplier = 2))
     public BookingResponse bookSlot(BookSlotRequest request) {
-        log.info("Attempting to book slot {} for candidate {}", request.getSlotId(), request.getCandidateId());
+        log.debug("Attempting to book slot {} for candidate {}", request.getSlotId(), request.getCandidateId());
 
         Candidate candidate = candidateRepository.findById(request.getCandidateId())
                 .orElseThrow(() -> new ResourceNotFoundException("Candidate", "id", request.getCandidateId()));
@@ -56,7 +88,7 @@ public class BookingServiceImpl implements BookingService {
         InterviewSlot slot = slotRepository.findByIdWithLock(request.getSlotId())
                 .orElseThrow(() -> new ResourceNotFoundException("Interview Slot", "id", request.getSlotId()));
 
-        if (slot.getStatus() != SlotStatus.AVAILABLE) {
+        if (!slot.isBookableBy(candidate.getId())) {
             throw new SlotAlreadyBookedException(request.getSlotId());
         }
 
@@ -86,23 +118,167 @@ public class BookingServiceImpl implements BookingService {
 
         slot.markAsBooked();
         slotRepository.save(slot);
+        calendarProjectionService.recordSlotChanges(List.of(slot));
+        eventPublisher.publishEvent(SlotsChangedEvent.of(slot.getId()));
 
         Booking booking = Booking.builder()
                 .candidate(candidate)
-                .slot(slot)
                 .status(BookingStatus.PENDING)
-                .weekNumber(slot.getWeekNumber())
-                .year(slot.getYear())
                 .bookingNotes(request.getBookingNotes())
                 .createdAt(LocalDateTime.now())
                 .build();
+        booking.assignSlot(slot);
 
         booking = bookingRepository.save(booking);
 
         log.info("Successfully booked slot {} for candidate {}. Booking ID: {}",
                 request.getSlotId(), request.getCandidateId(), booking.getId());
 
-        return mapToResponse(booking);
+        BookingResponse response = mapToResponse(booking);
+        outboxService.recordBookingEvent(BookingEventType.BOOKING_CREATED, response);
+        return response;
+    }
+
+    // Read committed rather than serializable: the match query reads every open slot of the panel, and
+    // serializable reads would share-lock all of them, turning concurrent panels into lock-upgrade deadlocks.
+    // Correctness comes from re-checking under row locks instead: each chosen slot's status under the slot
+    // lock, the weekly caps and the candidate's active booking under the interviewer and candidate locks.
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Retryable(retryFor = { ObjectOptimisticLockingFailureException.class,
+            PessimisticLockingFailureException.class }, maxAttemptsExpression = "${booking.panel.max-attempts:6}",
+            backoff = @Backoff(delay = 20, multiplier = 2, random = true))
+    public PanelBookingResponse bookPanel(PanelBookingRequest request) {
+        List<Long> interviewerIds = request.getInterviewerIds();
+        log.debug("Attempting to book a panel with interviewers {} for candidate {}",
+                interviewerIds, request.getCandidateId());
+
+        if (interviewerIds.stream().distinct().count() != interviewerIds.size()) {
+            throw new ValidationException("interviewerIds", "Panel interviewers must be distinct");
+        }
+
+        Candidate candidate = candidateRepository.findById(request.getCandidateId())
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate", "id", request.getCandidateId()));
+
+        Map<Long, Interviewer> interviewers = interviewerRepository.findAllById(interviewerIds).stream()
+                .collect(Collectors.toMap(Interviewer::getId, Function.identity()));
+        for (Long interviewerId : interviewerIds) {
+            if (!interviewers.containsKey(interviewerId)) {
+                throw new ResourceNotFoundException("Interviewer", "id", interviewerId);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (bookingRepository.hasActiveBookingInDateRange(candidate.getId(), now,
+                now.plusWeeks(BOOKING_WINDOW_WEEKS))) {
+            throw new DuplicateBookingException(candidate.getId());
+        }
+
+        // Match on unlocked projections first, so only the chosen slots are ever locked.
+        LocalDateTime from = request.getEarliestStart() != null && request.getEarliestStart().isAfter(now)
+                ? request.getEarliestStart()
+                : now;
+        List<List<InterviewSlotRepository.SlotTimes>> slotsByInterviewer = new ArrayList<>(interviewerIds.size());
+        for (Long interviewerId : interviewerIds) {
+            slotsByInterviewer.add(slotRepository.findAvailableTimesByInterviewerId(interviewerId, from));
+        }
+
+        Map<String, Long> weeklyCounts = new HashMap<>();
+        List<InterviewSlotRepository.SlotTimes> match = PanelSlotSweep
+                .alignedSlots(slotsByInterviewer, request.getLatestStart(), PANEL_MATCH_CANDIDATES).stream()
+                .filter(group -> withinWeeklyLimits(group, interviewerIds, interviewers, weeklyCounts))
+                .findFirst()
+                .orElseThrow(() -> new SlotNotAvailableException(
+                        "No common free slot for interviewers " + interviewerIds));
+
+        // Lock in ascending slot id order so overlapping panels cannot deadlock. If any slot was taken since
+        // the match was read, give up the whole attempt; the retry re-reads and matches again.
+        List<InterviewSlot> slots = new ArrayList<>(match.size());
+        for (Long slotId : match.stream().map(InterviewSlotRepository.SlotTimes::getId).sorted().toList()) {
+            InterviewSlot slot = slotRepository.findByIdWithLock(slotId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Interview Slot", "id", slotId));
+            if (slot.getStatus() != SlotStatus.AVAILABLE) {
+                throw new ObjectOptimisticLockingFailureException(InterviewSlot.class, slotId);
+            }
+            slots.add(slot);
+        }
+        slots.sort(Comparator.comparing(slot -> interviewerIds.indexOf(slot.getInterviewer().getId())));
+
+        // The duplicate and weekly-cap checks above ran without locks. Lock the interviewers (ascending id)
+        // and the candidate, always after the slots, then repeat them against what has committed since.
+        interviewerRepository.lockIdsByIdIn(interviewerIds.stream().sorted().toList());
+        candidateRepository.lockById(candidate.getId());
+        if (bookingRepository.hasActiveBookingInDateRange(candidate.getId(), now,
+                now.plusWeeks(BOOKING_WINDOW_WEEKS))) {
+            throw new DuplicateBookingException(candidate.getId());
+        }
+        for (InterviewSlot slot : slots) {
+            Interviewer interviewer = slot.getInterviewer();
+            long booked = slotRepository.countBookedSlotsForWeek(interviewer.getId(), slot.getWeekNumber(),
+                    slot.getYear(), BOOKED_STATUSES);
+            if (booked >= interviewer.getMaxInterviewsPerWeek()) {
+                // The week filled up since the match; the retry matches again and skips it
+                throw new ObjectOptimisticLockingFailureException(Interviewer.class, interviewer.getId());
+            }
+        }
+
+        String panelId = UUID.randomUUID().toString();
+        List<BookingResponse> bookings = new ArrayList<>(slots.size());
+        for (InterviewSlot slot : slots) {
+            slot.markAsBooked();
+            slotRepository.save(slot);
+
+            Booking booking = Booking.builder()
+                    .candidate(candidate)
+                    .status(BookingStatus.PENDING)
+                    .panelId(panelId)
+                    .bookingNotes(request.getBookingNotes())
+                    .createdAt(now)
+                    .build();
+            booking.assignSlot(slot);
+            bookings.add(mapToResponse(bookingRepository.save(booking)));
+        }
+        calendarProjectionService.recordSlotChanges(slots);
+        eventPublisher.publishEvent(SlotsChangedEvent.of(slots.stream().map(InterviewSlot::getId).toList()));
+        bookings.forEach(response -> outboxService.recordBookingEvent(BookingEventType.BOOKING_CREATED, response));
+
+        log.info("Booked panel {} at {} for candidate {}", panelId, match.get(0).getStartTime(),
+                candidate.getId());
+        return toPanelResponse(panelId, candidate.getId(), bookings);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PanelBookingResponse getPanel(String panelId) {
+        List<Booking> bookings = bookingRepository.findByPanelIdOrderById(panelId);
+        if (bookings.isEmpty()) {
+            throw new ResourceNotFoundException("Panel", "id", panelId);
+        }
+        return toPanelResponse(panelId, bookings.get(0).getCandidate().getId(),
+                bookings.stream().map(this::mapToResponse).collect(Collectors.toList()));
+    }
+
+    @Override
+    @Transactional
+    public PanelBookingResponse cancelPanel(String panelId) {
+        log.debug("Cancelling panel {}", panelId);
+
+        // Booking rows first, then their slots through the cancellation, the same order cancelBooking takes them
+        List<Long> lockedIds = bookingRepository.lockIdsByPanelIdIn(List.of(panelId));
+        if (lockedIds.isEmpty()) {
+            throw new ResourceNotFoundException("Panel", "id", panelId);
+        }
+
+        List<Booking> bookings = bookingRepository.findByIdsWithDetails(lockedIds).stream()
+                .sorted(Comparator.comparing(Booking::getId))
+                .toList();
+        if (cancelTogether(bookings).isEmpty()) {
+            throw new SlotNotAvailableException("Panel " + panelId + " is already cancelled");
+        }
+
+        log.info("Successfully cancelled panel {}", panelId);
+        return toPanelResponse(panelId, bookings.get(0).getCandidate().getId(),
+                bookings.stream().map(this::mapToResponse).collect(Collectors.toList()));
     }
 
     @Override
@@ -110,7 +286,7 @@ public class BookingServiceImpl implements BookingService {
     @Retryable(retryFor = {
             org.springframework.orm.ObjectOptimisticLockingFailureException.class }, maxAttempts = 3, backoff = @Backoff(delay = 100, multiplier = 2))
     public BookingResponse updateBooking(Long bookingId, UpdateBookingRequest request) {
-        log.info("Updating booking {} to new slot {}", bookingId, request.getNewSlotId());
+        log.debug("Updating booking {} to new slot {}", bookingId, request.getNewSlotId());
 
         Booking existingBooking = bookingRepository.findByIdWithLock(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", bookingId));
@@ -118,11 +294,14 @@ public class BookingServiceImpl implements BookingService {
         if (existingBooking.getStatus() == BookingStatus.CANCELLED) {
             throw new SlotNotAvailableException(existingBooking.getSlot().getId(), "Booking is already cancelled");
         }
+        if (existingBooking.getPanelId() != null) {
+            throw new PanelBookingException(bookingId, existingBooking.getPanelId());
+        }
 
         InterviewSlot newSlot = slotRepository.findByIdWithLock(request.getNewSlotId())
                 .orElseThrow(() -> new ResourceNotFoundException("Interview Slot", "id", request.getNewSlotId()));
 
-        if (newSlot.getStatus() != SlotStatus.AVAILABLE) {
+        if (!newSlot.isBookableBy(existingBooking.getCandidate().getId())) {
             throw new SlotAlreadyBookedException(request.getNewSlotId());
         }
 
@@ -149,10 +328,10 @@ public class BookingServiceImpl implements BookingService {
 
         newSlot.markAsBooked();
         slotRepository.save(newSlot);
+        calendarProjectionService.recordSlotChanges(List.of(oldSlot, newSlot));
+        eventPublisher.publishEvent(SlotsChangedEvent.of(List.of(oldSlot.getId(), newSlot.getId())));
 
-        existingBooking.setSlot(newSlot);
-        existingBooking.setWeekNumber(newSlot.getWeekNumber());
-        existingBooking.setYear(newSlot.getYear());
+        existingBooking.assignSlot(newSlot);
         existingBooking.setUpdatedAt(LocalDateTime.now());
         if (request.getBookingNotes() != null) {
             existingBooking.setBookingNotes(request.getBookingNotes());
@@ -162,13 +341,15 @@ public class BookingServiceImpl implements BookingService {
 
         log.info("Successfully updated booking {} to new slot {}", bookingId, request.getNewSlotId());
 
-        return mapToResponse(existingBooking);
+        BookingResponse response = mapToResponse(existingBooking);
+        outboxService.recordBookingEvent(BookingEventType.BOOKING_RESCHEDULED, response);
+        return response;
     }
 
     @Override
     @Transactional
     public BookingResponse cancelBooking(Long bookingId) {
-        log.info("Cancelling booking {}", bookingId);
+        log.debug("Cancelling booking {}", bookingId);
 
         Booking booking = bookingRepository.findByIdWithLock(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", bookingId));
@@ -176,23 +357,30 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus() == BookingStatus.CANCELLED) {
             throw new SlotNotAvailableException(booking.getSlot().getId(), "Booking is already cancelled");
         }
+        if (booking.getPanelId() != null) {
+            throw new PanelBookingException(bookingId, booking.getPanelId());
+        }
 
         InterviewSlot slot = booking.getSlot();
         slot.markAsAvailable();
         slotRepository.save(slot);
+        calendarProjectionService.recordSlotChanges(List.of(slot));
+        eventPublisher.publishEvent(SlotsChangedEvent.of(slot.getId()));
 
         booking.cancel();
         booking = bookingRepository.save(booking);
 
         log.info("Successfully cancelled booking {}", bookingId);
 
-        return mapToResponse(booking);
+        BookingResponse response = mapToResponse(booking);
+        outboxService.recordBookingEvent(BookingEventType.BOOKING_CANCELLED, response);
+        return response;
     }
 
     @Override
     @Transactional
     public BookingResponse confirmBooking(Long bookingId) {
-        log.info("Confirming booking {}", bookingId);
+        log.debug("Confirming booking {}", bookingId);
 
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", bookingId));
@@ -208,10 +396,13 @@ public class BookingServiceImpl implements BookingService {
         InterviewSlot slot = booking.getSlot();
         slot.markAsConfirmed();
         slotRepository.save(slot);
+        eventPublisher.publishEvent(SlotsChangedEvent.of(slot.getId()));
 
         log.info("Successfully confirmed booking {}", bookingId);
 
-        return mapToResponse(booking);
+        BookingResponse response = mapToResponse(booking);
+        outboxService.recordBookingEvent(BookingEventType.BOOKING_CONFIRMED, response);
+        return response;
     }
 
     @Override
@@ -222,6 +413,13 @@ public class BookingServiceImpl implements BookingService {
         return mapToResponse(booking);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getBookingVersion(Long id) {
+        return bookingRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", id));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponse> getBookingsByCandidateId(Long candidateId) {
@@ -237,9 +435,157 @@ public class BookingServiceImpl implements BookingService {
     @Override
     @Transactional(readOnly = true)
     public BookingResponse getBookingBySlotId(Long slotId) {
-        Booking booking = bookingRepository.findBySlotId(slotId)
-                .orElseThrow(() -> new ResourceNotFoundException("Booking", "slotId", slotId));
-        return mapToResponse(booking);
+        CachedBooking cached = readCaches.bookingBySlot(slotId, id -> bookingRepository.findBySlotId(id)
+                .map(booking -> new CachedBooking(booking.getTenantId(), mapToResponse(booking)))
+                .orElse(null));
+        if (cached == null) {
+            throw new ResourceNotFoundException("Booking", "slotId", slotId);
+        }
+        return cached.response();
+    }
+
+    @Override
+    @Transactional
+    public int deleteInterviewerSlots(Long interviewerId, int limit) {
+        // Locking the chunk's slots first means a concurrent booking either commits before its booking is read
+        // here, or finds the slot gone
+        List<Long> slotIds = slotRepository.lockIdsByInterviewerId(interviewerId, PageRequest.of(0, limit));
+        if (slotIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Booking> bookings = bookingRepository.findBySlotIdsWithDetails(slotIds);
+        recordCancellations(bookings);
+        cancelRestOfPanels(bookings);
+        if (!bookings.isEmpty()) {
+            bookingRepository.deleteAllByIdInBatch(bookings.stream().map(Booking::getId).toList());
+        }
+        slotRepository.deleteAllByIdInBatch(slotIds);
+        eventPublisher.publishEvent(SlotsChangedEvent.of(slotIds));
+
+        log.debug("Deleted {} slots and {} bookings of interviewer {}", slotIds.size(), bookings.size(),
+                interviewerId);
+        return slotIds.size();
+    }
+
+    @Override
+    @Transactional
+    public int deleteCandidateBookings(Long candidateId, int limit) {
+        // Booking rows first, then their slots through the release, the same order as updateBooking and
+        // cancelBooking take them
+        List<Long> lockedIds = bookingRepository.lockIdsByCandidateId(candidateId, PageRequest.of(0, limit));
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Booking> bookings = bookingRepository.findByIdsWithDetails(lockedIds);
+
+        List<Long> releasedSlotIds = recordCancellations(bookings).stream()
+                .map(BookingResponse::getSlotId)
+                .toList();
+        List<Long> bookingIds = bookings.stream().map(Booking::getId).toList();
+        if (!releasedSlotIds.isEmpty()) {
+            // Clears the persistence context, so the released slots are read back for the calendar projection
+            slotRepository.releaseBookedSlots(releasedSlotIds, LocalDateTime.now());
+            calendarProjectionService.recordSlotChanges(slotRepository.findAllById(releasedSlotIds));
+        }
+        bookingRepository.deleteAllByIdInBatch(bookingIds);
+        eventPublisher.publishEvent(SlotsChangedEvent.of(bookings.stream()
+                .map(booking -> booking.getSlot().getId())
+                .toList()));
+
+        log.debug("Deleted {} bookings of candidate {}, released {} slots", bookings.size(), candidateId,
+                releasedSlotIds.size());
+        return bookings.size();
+    }
+
+    // Cancels the bookings that are still active and frees their slots, with one cancellation event each
+    private List<BookingResponse> cancelTogether(List<Booking> bookings) {
+        List<InterviewSlot> slots = new ArrayList<>(bookings.size());
+        List<BookingResponse> cancelled = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            if (booking.getStatus() == BookingStatus.CANCELLED) {
+                continue;
+            }
+            InterviewSlot slot = booking.getSlot();
+            slot.markAsAvailable();
+            slotRepository.save(slot);
+            slots.add(slot);
+
+            booking.cancel();
+            cancelled.add(mapToResponse(bookingRepository.save(booking)));
+        }
+
+        if (!slots.isEmpty()) {
+            calendarProjectionService.recordSlotChanges(slots);
+            eventPublisher.publishEvent(SlotsChangedEvent.of(slots.stream().map(InterviewSlot::getId).toList()));
+        }
+        cancelled.forEach(response -> outboxService.recordBookingEvent(BookingEventType.BOOKING_CANCELLED, response));
+        return cancelled;
+    }
+
+    // A panel is booked all-or-nothing, so removing one member's booking cancels the others in its panel.
+    // Their booking rows are locked in ascending id order, as cancelPanel takes them.
+    private void cancelRestOfPanels(List<Booking> removed) {
+        List<String> panelIds = removed.stream()
+                .map(Booking::getPanelId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (panelIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> removedIds = removed.stream().map(Booking::getId).collect(Collectors.toSet());
+        List<Long> siblingIds = bookingRepository.lockIdsByPanelIdIn(panelIds).stream()
+                .filter(id -> !removedIds.contains(id))
+                .toList();
+        if (!siblingIds.isEmpty()) {
+            cancelTogether(bookingRepository.findByIdsWithDetails(siblingIds).stream()
+                    .sorted(Comparator.comparing(Booking::getId))
+                    .toList());
+        }
+    }
+
+    // The rows are deleted rather than updated, so the events carry the cancelled status the row never gets
+    private List<BookingResponse> recordCancellations(List<Booking> bookings) {
+        List<BookingResponse> cancelled = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (booking.getStatus() == BookingStatus.PENDING || booking.getStatus() == BookingStatus.CONFIRMED) {
+                BookingResponse response = mapToResponse(booking);
+                response.setStatus(BookingStatus.CANCELLED);
+                outboxService.recordBookingEvent(BookingEventType.BOOKING_CANCELLED, response);
+                cancelled.add(response);
+            }
+        }
+        return cancelled;
+    }
+
+    private boolean withinWeeklyLimits(List<InterviewSlotRepository.SlotTimes> group, List<Long> interviewerIds,
+            Map<Long, Interviewer> interviewers, Map<String, Long> weeklyCounts) {
+        for (int i = 0; i < group.size(); i++) {
+            Interviewer interviewer = interviewers.get(interviewerIds.get(i));
+            InterviewSlotRepository.SlotTimes slot = group.get(i);
+            long booked = weeklyCounts.computeIfAbsent(
+                    interviewer.getId() + "/" + slot.getYear() + "/" + slot.getWeekNumber(),
+                    key -> slotRepository.countBookedSlotsForWeek(interviewer.getId(), slot.getWeekNumber(),
+                            slot.getYear(), BOOKED_STATUSES));
+            if (booked >= interviewer.getMaxInterviewsPerWeek()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static PanelBookingResponse toPanelResponse(String panelId, Long candidateId,
+            List<BookingResponse> bookings) {
+        return PanelBookingResponse.builder()
+                .panelId(panelId)
+                .candidateId(candidateId)
+                .startTime(bookings.get(0).getSlotStartTime())
+                .endTime(bookings.get(0).getSlotEndTime())
+                .bookings(bookings)
+                .build();
     }
 
     private BookingResponse mapToResponse(Booking booking) {
@@ -258,6 +604,7 @@ public class BookingServiceImpl implements BookingService {
                 .interviewerName(slot.getInterviewer().getName())
                 .status(booking.getStatus())
                 .bookingNotes(booking.getBookingNotes())
+                .panelId(booking.getPanelId())
                 .weekNumber(booking.getWeekNumber())
                 .year(booking.getYear())
                 .createdAt(booking.getCreatedAt())
@@ -0,0 +1,183 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.interview_scheduler.backend.dto.response.WeekCalendarResponse;
+import com.interview_scheduler.backend.entity.InterviewSlot;
+import com.interview_scheduler.backend.entity.InterviewerWeekCalendar;
+import com.interview_scheduler.backend.event.CalendarWeekChangedEvent;
+import com.interview_scheduler.backend.event.SlotWeeksChangedEvent;
+import com.interview_scheduler.backend.exception.ResourceNotFoundException;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.repository.InterviewerRepository;
+import com.interview_scheduler.backend.repository.InterviewerWeekCalendarRepository;
+import com.interview_scheduler.backend.scheduling.WeekCoverage;
+import com.interview_scheduler.backend.scheduling.WeekGrid;
+import com.interview_scheduler.backend.service.CalendarProjectionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarProjectionServiceImpl implements CalendarProjectionService {
+
+    private static final Comparator<WeekKey> WEEK_ORDER = Comparator.comparing(WeekKey::interviewerId)
+            .thenComparing(WeekKey::weekStart);
+
+    private final InterviewerWeekCalendarRepository calendarRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void recordSlotChanges(Collection<InterviewSlot> slots) {
+        if (slots.isEmpty()) {
+            return;
+        }
+
+        Map<WeekKey, String> weeks = new TreeMap<>(WEEK_ORDER);
+        for (InterviewSlot slot : slots) {
+            weeks.putIfAbsent(new WeekKey(slot.getInterviewer().getId(), WeekGrid.weekStartOf(slot.getStartTime())),
+                    slot.getTenantId());
+        }
+        eventPublisher.publishEvent(new SlotWeeksChangedEvent(weeks.entrySet().stream()
+                .map(week -> new SlotWeeksChangedEvent.Week(week.getValue(), week.getKey().interviewerId(),
+                        week.getKey().weekStart()))
+                .toList()));
+    }
+
+    // Runs after the slot changes commit, reading the weeks under read committed: a changed slot can share a
+    // period with a neighbour it did not touch, so each week is recomputed from all of its slots, and a
+    // snapshot taken before a concurrent writer's commit would put that writer's slots back the way they were.
+    // The calendar row lock orders writers of a week; the last one to take it sees every committed change.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
+    public void onSlotWeeksChanged(SlotWeeksChangedEvent event) {
+        // Weeks arrive in a fixed order so two reschedules crossing weeks cannot deadlock.
+        for (SlotWeeksChangedEvent.Week week : event.weeks()) {
+            InterviewerWeekCalendar calendar = calendarRepository
+                    .findForUpdate(week.interviewerId(), week.weekStart())
+                    .orElseGet(() -> newCalendar(week.tenantId(),
+                            new WeekKey(week.interviewerId(), week.weekStart())));
+            LocalDateTime from = week.weekStart().atStartOfDay();
+            WeekCoverage coverage = new WeekCoverage(week.weekStart());
+            for (InterviewSlotRepository.SlotCell cell : slotRepository
+                    .findCalendarCellsByInterviewerId(week.interviewerId(), from, from.plusWeeks(1))) {
+                cover(coverage, cell);
+            }
+            calendar.apply(coverage);
+            calendarRepository.save(calendar);
+            publishChange(calendar);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WeekCalendarResponse getWeekCalendar(Long interviewerId, LocalDate date) {
+        if (!interviewerRepository.existsById(interviewerId)) {
+            throw new ResourceNotFoundException("Interviewer", "id", interviewerId);
+        }
+
+        LocalDate weekStart = WeekGrid.weekStartOf(date);
+        InterviewerWeekCalendar calendar = calendarRepository.findByInterviewerIdAndWeekStart(interviewerId, weekStart)
+                .orElseGet(() -> newCalendar(null, new WeekKey(interviewerId, weekStart)));
+
+        // Slots that have started are no longer bookable, whether or not expiry has caught up yet.
+        LocalDateTime now = LocalDateTime.now();
+        BitSet free = calendar.free();
+        if (!now.isBefore(weekStart.atStartOfDay())) {
+            free.clear(0, WeekGrid.periodOf(weekStart, now) + 1);
+        }
+        BitSet booked = calendar.booked();
+
+        List<WeekCalendarResponse.Day> days = new ArrayList<>(7);
+        for (int day = 0; day < 7; day++) {
+            days.add(new WeekCalendarResponse.Day(weekStart.plusDays(day),
+                    WeekGrid.dayString(free, day), WeekGrid.dayString(booked, day)));
+        }
+
+        return WeekCalendarResponse.builder()
+                .interviewerId(interviewerId)
+                .weekStart(weekStart)
+                .periodMinutes(WeekGrid.PERIOD_MINUTES)
+                .days(days)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        LocalDate fromWeek = WeekGrid.weekStartOf(LocalDate.now());
+
+        Map<WeekKey, InterviewerWeekCalendar> calendars = new HashMap<>();
+        for (InterviewerWeekCalendar calendar : calendarRepository.findByWeekStartGreaterThanEqual(fromWeek)) {
+            calendars.put(new WeekKey(calendar.getInterviewerId(), calendar.getWeekStart()), calendar);
+        }
+
+        Map<WeekKey, WeekCoverage> coverages = new HashMap<>();
+        for (InterviewSlotRepository.SlotCell cell : slotRepository.findCalendarCellsFrom(fromWeek.atStartOfDay())) {
+            WeekKey key = new WeekKey(cell.getInterviewerId(), WeekGrid.weekStartOf(cell.getStartTime()));
+            calendars.computeIfAbsent(key, k -> newCalendar(cell.getTenantId(), k));
+            cover(coverages.computeIfAbsent(key, k -> new WeekCoverage(k.weekStart())), cell);
+        }
+        // Weeks with no live slots left are cleared by an empty coverage.
+        calendars.forEach((key, calendar) -> calendar.apply(
+                coverages.getOrDefault(key, new WeekCoverage(key.weekStart()))));
+
+        calendarRepository.saveAll(calendars.values());
+        calendars.values().forEach(this::publishChange);
+        log.info("Rebuilt {} interviewer week calendars from {}", calendars.size(), fromWeek);
+        return calendars.size();
+    }
+
+    @Override
+    @Transactional
+    public void deleteCalendars(Long interviewerId) {
+        calendarRepository.deleteByInterviewerId(interviewerId);
+    }
+
+    private void publishChange(InterviewerWeekCalendar calendar) {
+        eventPublisher.publishEvent(new CalendarWeekChangedEvent(calendar.getTenantId(),
+                calendar.getInterviewerId(), calendar.getWeekStart(), calendar.getFreeBits().clone()));
+    }
+
+    /** Held slots still count as free; expired and cancelled ones cover nothing. */
+    private static void cover(WeekCoverage coverage, InterviewSlotRepository.SlotCell cell) {
+        switch (cell.getStatus()) {
+            case AVAILABLE, HELD -> coverage.addOpen(cell.getStartTime(), cell.getEndTime());
+            case BOOKED, CONFIRMED -> coverage.addBooked(cell.getStartTime(), cell.getEndTime());
+            default -> {
+                // Not part of the calendar.
+            }
+        }
+    }
+
+    private static InterviewerWeekCalendar newCalendar(String tenantId, WeekKey key) {
+        return InterviewerWeekCalendar.builder()
+                .tenantId(tenantId)
+                .interviewerId(key.interviewerId())
+                .weekStart(key.weekStart())
+                .build();
+    }
+
+    private record WeekKey(Long interviewerId, LocalDate weekStart) {
+    }
+}
@@ -1,19 +1,34 @@
 package com.interview_scheduler.backend.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.interview_scheduler.backend.cache.BloomFilter;
+import com.interview_scheduler.backend.cache.CandidateEmailCache;
 import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
 import com.interview_scheduler.backend.dto.response.CandidateResponse;
 import com.interview_scheduler.backend.entity.Candidate;
+import com.interview_scheduler.backend.event.CandidateDeletedEvent;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
 import com.interview_scheduler.backend.exception.ValidationException;
 import com.interview_scheduler.backend.repository.CandidateRepository;
+import com.interview_scheduler.backend.service.BookingService;
 import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.tenant.TenantContext;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,14 +39,28 @@ import lombok.extern.slf4j.Slf4j;
 public class CandidateServiceImpl implements CandidateService {
 
     private final CandidateRepository candidateRepository;
+    private final CandidateEmailCache emailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingService bookingService;
+
+    // Per shard, when the last full or incremental filter load started.
+    private final Map<String, LocalDateTime> lastRefresh = new ConcurrentHashMap<>();
+
+    @Value("${candidate-email-cache.refresh-overlap-seconds:30}")
+    private long refreshOverlapSeconds = 30;
+
+    @Value("${bulk-delete.chunk-size:500}")
+    private int deleteChunkSize = 500;
 
     @Override
     @Transactional
     public CandidateResponse createCandidate(CreateCandidateRequest request) {
         log.info("Creating candidate with email: {}", request.getEmail());
 
-        if (candidateRepository.existsByEmail(request.getEmail())) {
-            throw new ValidationException("email", "A candidate with this email already exists");
+        String email = Candidate.normalizeEmail(request.getEmail());
+        // A filter miss is definitive for this node; the unique constraint catches what it has not seen yet
+        if (emailCache.mightExist(email) && candidateRepository.existsByEmailNormalized(email)) {
+            throw duplicateEmail();
         }
 
         Candidate candidate = Candidate.builder()
@@ -41,12 +70,61 @@ public class CandidateServiceImpl implements CandidateService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        candidate = candidateRepository.save(candidate);
+        try {
+            candidate = candidateRepository.saveAndFlush(candidate);
+        } catch (DataIntegrityViolationException ex) {
+            throw duplicateEmail();
+        }
+        emailCache.added(candidate.getTenantId(), candidate.getEmailNormalized());
 
         log.info("Created candidate with ID: {}", candidate.getId());
         return mapToResponse(candidate);
     }
 
+    @Override
+    @Transactional
+    public List<Integer> createCandidates(List<CreateCandidateRequest> requests, boolean lookUpAll) {
+        List<Integer> duplicates = new ArrayList<>();
+        Map<String, Integer> firstByEmail = new LinkedHashMap<>(requests.size() * 2);
+        for (int i = 0; i < requests.size(); i++) {
+            if (firstByEmail.putIfAbsent(Candidate.normalizeEmail(requests.get(i).getEmail()), i) != null) {
+                duplicates.add(i);
+            }
+        }
+
+        // Only the emails the filter cannot rule out are looked up, all in one query. A retry after a
+        // duplicate-key failure looks up all of them, since the filter may not have seen the conflicting write.
+        List<String> unknown = lookUpAll
+                ? List.copyOf(firstByEmail.keySet())
+                : firstByEmail.keySet().stream().filter(emailCache::mightExist).toList();
+        Set<String> existing = unknown.isEmpty()
+                ? Set.of()
+                : new HashSet<>(candidateRepository.findExistingEmails(unknown));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Candidate> candidates = new ArrayList<>(firstByEmail.size());
+        firstByEmail.forEach((email, index) -> {
+            if (existing.contains(email)) {
+                duplicates.add(index);
+                return;
+            }
+            CreateCandidateRequest request = requests.get(index);
+            candidates.add(Candidate.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .phoneNumber(request.getPhoneNumber())
+                    .createdAt(now)
+                    .build());
+        });
+
+        candidateRepository.insertAll(candidates);
+        candidates.forEach(candidate -> emailCache.added(candidate.getTenantId(), candidate.getEmailNormalized()));
+
+        log.info("Created {} candidates, skipped {} duplicates", candidates.size(), duplicates.size());
+        Collections.sort(duplicates);
+        return duplicates;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CandidateResponse getCandidateById(Long id) {
@@ -58,9 +136,14 @@ public class CandidateServiceImpl implements CandidateService {
     @Override
     @Transactional(readOnly = true)
     public CandidateResponse getCandidateByEmail(String email) {
-        Candidate candidate = candidateRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("Candidate", "email", email));
-        return mapToResponse(candidate);
+        CandidateResponse candidate = emailCache.find(Candidate.normalizeEmail(email),
+                normalized -> candidateRepository.findByEmailNormalized(normalized)
+                        .map(this::mapToResponse)
+                        .orElse(null));
+        if (candidate == null) {
+            throw new ResourceNotFoundException("Candidate", "email", email);
+        }
+        return candidate;
     }
 
     @Override
@@ -71,17 +154,69 @@ public class CandidateServiceImpl implements CandidateService {
                 .collect(Collectors.toList());
     }
 
+    // Bookings go in chunks of their own transactions before the candidate row; a delete that fails
+    // part-way can be retried.
     @Override
-    @Transactional
     public void deleteCandidate(Long id) {
         log.info("Deleting candidate: {}", id);
 
-        if (!candidateRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Candidate", "id", id);
+        Candidate candidate = candidateRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate", "id", id));
+
+        int bookings = 0;
+        for (int deleted = bookingService.deleteCandidateBookings(id, deleteChunkSize); deleted > 0;
+                deleted = bookingService.deleteCandidateBookings(id, deleteChunkSize)) {
+            bookings += deleted;
         }
 
-        candidateRepository.deleteById(id);
-        log.info("Deleted candidate: {}", id);
+        candidateRepository.deleteAllByIdInBatch(List.of(id));
+        eventPublisher.publishEvent(CandidateDeletedEvent.of(candidate.getTenantId(), candidate.getEmailNormalized()));
+        log.info("Deleted candidate {} and {} bookings", id, bookings);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int reloadEmailFilter() {
+        String shard = TenantContext.getShard();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        List<CandidateRepository.EmailKey> keys = candidateRepository.findEmailKeys();
+        BloomFilter filter = emailCache.newFilter(keys.size());
+        for (CandidateRepository.EmailKey key : keys) {
+            CandidateEmailCache.put(filter, key.getTenantId(), key.getEmail());
+        }
+
+        // Candidates created on this node while loading land in the old filter; the next refresh re-reads them
+        emailCache.replaceFilter(shard, filter);
+        lastRefresh.put(shard, startedAt);
+        log.info("Loaded email filter for {} candidates on shard {} ({} bits, {} hashes)", keys.size(), shard,
+                filter.getBitSize(), filter.getHashFunctions());
+        return keys.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int refreshEmailFilter() {
+        String shard = TenantContext.getShard();
+        LocalDateTime previous = lastRefresh.get(shard);
+        BloomFilter filter = emailCache.filter(shard);
+        if (previous == null || filter == null) {
+            return reloadEmailFilter();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<CandidateRepository.EmailKey> keys = candidateRepository
+                .findEmailKeysCreatedSince(previous.minusSeconds(refreshOverlapSeconds));
+        for (CandidateRepository.EmailKey key : keys) {
+            CandidateEmailCache.put(filter, key.getTenantId(), key.getEmail());
+        }
+
+        lastRefresh.put(shard, startedAt);
+        return keys.size();
+    }
+
+    private static ValidationException duplicateEmail() {
+        return new ValidationException("email", "A candidate with this email already exists");
     }
 
     private CandidateResponse mapToResponse(Candidate candidate) {
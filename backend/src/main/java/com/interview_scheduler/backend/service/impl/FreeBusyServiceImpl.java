@@ -0,0 +1,202 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.interview_scheduler.backend.datasource.TenantShardResolver;
+import com.interview_scheduler.backend.dto.request.FreeBusySearchRequest;
+import com.interview_scheduler.backend.dto.response.FreeBusySearchResponse;
+import com.interview_scheduler.backend.entity.InterviewerWeekCalendar;
+import com.interview_scheduler.backend.entity.WeeklyAvailability;
+import com.interview_scheduler.backend.event.AvailabilityChangedEvent;
+import com.interview_scheduler.backend.event.CalendarWeekChangedEvent;
+import com.interview_scheduler.backend.exception.ValidationException;
+import com.interview_scheduler.backend.repository.InterviewerRepository;
+import com.interview_scheduler.backend.repository.InterviewerWeekCalendarRepository;
+import com.interview_scheduler.backend.repository.WeeklyAvailabilityRepository;
+import com.interview_scheduler.backend.scheduling.FreeBusyIndex;
+import com.interview_scheduler.backend.scheduling.WeekGrid;
+import com.interview_scheduler.backend.service.FreeBusyService;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FreeBusyServiceImpl implements FreeBusyService {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final InterviewerWeekCalendarRepository calendarRepository;
+    private final WeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final TenantShardResolver shardResolver;
+
+    private final FreeBusyIndex index = new FreeBusyIndex();
+
+    // Per shard, when the last full or incremental load started.
+    private final Map<String, LocalDateTime> lastRefresh = new ConcurrentHashMap<>();
+
+    @Value("${freebusy.refresh-overlap-seconds:30}")
+    private long refreshOverlapSeconds = 30;
+
+    @Value("${freebusy.max-range-days:28}")
+    private int maxRangeDays = 28;
+
+    @Override
+    public FreeBusySearchResponse search(FreeBusySearchRequest request) {
+        validate(request);
+
+        // Periods that have already started are never offered, whatever the index still says.
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = request.getFrom().isBefore(now) ? now : request.getFrom();
+        int minPeriods = (request.getDurationMinutes() + WeekGrid.PERIOD_MINUTES - 1) / WeekGrid.PERIOD_MINUTES;
+        String tenantId = TenantContext.getTenantId();
+
+        List<FreeBusyIndex.Window> windows = request.getMode() == FreeBusySearchRequest.Mode.ALL
+                ? index.findAll(tenantId, request.getInterviewerIds(), from, request.getTo(), minPeriods,
+                        request.getLimit())
+                : index.findAny(tenantId, request.getInterviewerIds(), from, request.getTo(), minPeriods,
+                        request.getLimit());
+
+        return FreeBusySearchResponse.builder()
+                .mode(request.getMode())
+                .from(from)
+                .to(request.getTo())
+                .durationMinutes(request.getDurationMinutes())
+                .windows(windows.stream()
+                        .map(w -> new FreeBusySearchResponse.Window(w.interviewerId(), w.start(), w.end()))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int reload() {
+        String shard = TenantContext.getShard();
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDate currentWeek = WeekGrid.weekStartOf(startedAt);
+
+        FreeBusyIndex fresh = new FreeBusyIndex();
+        Map<Long, String> tenants = tenantsOf(interviewerRepository.findTenantRefs());
+        loadAvailability(fresh, tenants, weeklyAvailabilityRepository.findActiveWindows());
+        loadWeeks(fresh, calendarRepository.findByWeekStartGreaterThanEqual(currentWeek));
+
+        index.replaceTenants(fresh, tenantId -> shard.equals(shardResolver.shardFor(tenantId)));
+        lastRefresh.put(shard, startedAt);
+        log.info("Loaded free/busy index for {} interviewers on shard {}", tenants.size(), shard);
+        return tenants.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int refresh() {
+        String shard = TenantContext.getShard();
+        LocalDateTime previous = lastRefresh.get(shard);
+        if (previous == null) {
+            return reload();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = previous.minusSeconds(refreshOverlapSeconds);
+        LocalDate currentWeek = WeekGrid.weekStartOf(startedAt);
+        index.pruneWeeksBefore(currentWeek);
+
+        Map<Long, String> changed = tenantsOf(interviewerRepository.findTenantRefsChangedSince(since));
+        if (!changed.isEmpty()) {
+            loadAvailability(index, changed,
+                    weeklyAvailabilityRepository.findActiveWindowsByInterviewerIds(changed.keySet()));
+        }
+        List<InterviewerWeekCalendar> weeks = calendarRepository
+                .findByWeekStartGreaterThanEqualAndUpdatedAtGreaterThanEqual(currentWeek, since);
+        loadWeeks(index, weeks);
+
+        lastRefresh.put(shard, startedAt);
+        return changed.size() + weeks.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarWeekChanged(CalendarWeekChangedEvent event) {
+        index.putWeek(event.tenantId(), event.interviewerId(), event.weekStart(),
+                WeekGrid.fromBytes(event.freeBits()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (!interviewerRepository.existsById(event.interviewerId())) {
+            index.removeInterviewer(event.tenantId(), event.interviewerId());
+            return;
+        }
+
+        BitSet mask = new BitSet(WeekGrid.PERIODS_PER_WEEK);
+        for (WeeklyAvailability window : weeklyAvailabilityRepository
+                .findByInterviewerIdAndIsActiveTrue(event.interviewerId())) {
+            WeekGrid.setDaily(mask, window.getDayOfWeek(), window.getStartTime(), window.getEndTime());
+        }
+        index.putAvailability(event.tenantId(), event.interviewerId(), mask);
+    }
+
+    private void validate(FreeBusySearchRequest request) {
+        if (request.getFrom() == null || request.getTo() == null) {
+            throw new ValidationException("from", "Both from and to are required");
+        }
+        if (!request.getTo().isAfter(request.getFrom())) {
+            throw new ValidationException("to", "Must be after from");
+        }
+        if (request.getFrom().plusDays(maxRangeDays).isBefore(request.getTo())) {
+            throw new ValidationException("to", "Search range cannot exceed " + maxRangeDays + " days");
+        }
+        if (request.getDurationMinutes() < 1 || request.getDurationMinutes() > 24 * 60) {
+            throw new ValidationException("durationMinutes", "Must be between 1 and 1440");
+        }
+        if (request.getLimit() < 1 || request.getLimit() > MAX_LIMIT) {
+            throw new ValidationException("limit", "Must be between 1 and " + MAX_LIMIT);
+        }
+        if (request.getMode() == FreeBusySearchRequest.Mode.ALL
+                && (request.getInterviewerIds() == null || request.getInterviewerIds().isEmpty())) {
+            throw new ValidationException("interviewerIds", "Required when mode is ALL");
+        }
+    }
+
+    private static Map<Long, String> tenantsOf(List<InterviewerRepository.TenantRef> refs) {
+        Map<Long, String> tenants = new HashMap<>(refs.size() * 2);
+        for (InterviewerRepository.TenantRef ref : refs) {
+            tenants.put(ref.getId(), ref.getTenantId());
+        }
+        return tenants;
+    }
+
+    /** Replaces the availability mask of every interviewer in {@code tenants}; those without windows get none. */
+    private static void loadAvailability(FreeBusyIndex target, Map<Long, String> tenants,
+            Collection<WeeklyAvailabilityRepository.AvailabilityWindow> windows) {
+        Map<Long, BitSet> masks = new HashMap<>(tenants.size() * 2);
+        for (WeeklyAvailabilityRepository.AvailabilityWindow window : windows) {
+            WeekGrid.setDaily(masks.computeIfAbsent(window.getInterviewerId(), id -> new BitSet()),
+                    window.getDayOfWeek(), window.getStartTime(), window.getEndTime());
+        }
+        tenants.forEach((interviewerId, tenantId) -> target.putAvailability(tenantId, interviewerId,
+                masks.getOrDefault(interviewerId, new BitSet())));
+    }
+
+    private static void loadWeeks(FreeBusyIndex target, List<InterviewerWeekCalendar> calendars) {
+        for (InterviewerWeekCalendar calendar : calendars) {
+            target.putWeek(calendar.getTenantId(), calendar.getInterviewerId(), calendar.getWeekStart(),
+                    calendar.free());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.interview_scheduler.backend.entity.IdempotencyRecord;
+import com.interview_scheduler.backend.repository.IdempotencyRecordRepository;
+import com.interview_scheduler.backend.service.IdempotencyService;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private record CachedResponse(String requestHash, StoredResponse response, LocalDateTime completedAt) {
+    }
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Value("${idempotency.cache-size:10000}")
+    private int cacheSize = 10_000;
+
+    @Value("${idempotency.retention-hours:24}")
+    private long retentionHours = 24;
+
+    @Value("${idempotency.claim-timeout-seconds:60}")
+    private long claimTimeoutSeconds = 60;
+
+    // Completed responses only, least recently used evicted first. The table is the source of truth; this
+    // lets a retry on the same node skip the database entirely.
+    private final Map<String, CachedResponse> recent = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    @Override
+    public Claim begin(String key, String requestHash) {
+        String tenantId = TenantContext.getTenantId();
+        LocalDateTime now = LocalDateTime.now();
+
+        CachedResponse cached = cached(tenantId, key);
+        if (cached != null && cached.completedAt().isAfter(now.minusHours(retentionHours))) {
+            return cached.requestHash().equals(requestHash)
+                    ? new Claim(ClaimState.REPLAY, cached.response())
+                    : new Claim(ClaimState.MISMATCH, null);
+        }
+
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository
+                .findByTenantIdAndIdempotencyKey(tenantId, key);
+        if (existing.isEmpty()) {
+            try {
+                idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                        .tenantId(tenantId)
+                        .idempotencyKey(key)
+                        .requestHash(requestHash)
+                        .createdAt(now)
+                        .build());
+                return new Claim(ClaimState.ACQUIRED, null);
+            } catch (DataIntegrityViolationException ex) {
+                // Lost the insert race to a concurrent request with the same key.
+                existing = idempotencyRecordRepository.findByTenantIdAndIdempotencyKey(tenantId, key);
+                if (existing.isEmpty()) {
+                    return new Claim(ClaimState.IN_PROGRESS, null);
+                }
+            }
+        }
+        return claimExisting(existing.get(), requestHash, now);
+    }
+
+    @Override
+    public void complete(String key, String requestHash, StoredResponse response) {
+        String tenantId = TenantContext.getTenantId();
+        LocalDateTime now = LocalDateTime.now();
+        int updated = idempotencyRecordRepository.complete(tenantId, key, requestHash, response.status(),
+                response.contentType(), response.body(), now);
+        if (updated == 0) {
+            log.warn("Idempotency key {} was no longer claimed when its response was stored", key);
+            return;
+        }
+        remember(tenantId, key, new CachedResponse(requestHash, response, now));
+    }
+
+    @Override
+    public void release(String key, String requestHash) {
+        idempotencyRecordRepository.release(TenantContext.getTenantId(), key, requestHash);
+    }
+
+    @Override
+    public int pruneExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        synchronized (recent) {
+            recent.values().removeIf(entry -> entry.completedAt().isBefore(cutoff));
+        }
+        return idempotencyRecordRepository.deleteCreatedBefore(cutoff);
+    }
+
+    private Claim claimExisting(IdempotencyRecord record, String requestHash, LocalDateTime now) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            return new Claim(ClaimState.MISMATCH, null);
+        }
+        if (record.getResponseStatus() != null) {
+            StoredResponse response = new StoredResponse(record.getResponseStatus(), record.getContentType(),
+                    record.getResponseBody());
+            remember(record.getTenantId(), record.getIdempotencyKey(),
+                    new CachedResponse(requestHash, response, record.getCompletedAt()));
+            return new Claim(ClaimState.REPLAY, response);
+        }
+        boolean reclaimed = idempotencyRecordRepository.reclaimStale(record.getId(), now,
+                now.minusSeconds(claimTimeoutSeconds)) == 1;
+        return new Claim(reclaimed ? ClaimState.ACQUIRED : ClaimState.IN_PROGRESS, null);
+    }
+
+    private CachedResponse cached(String tenantId, String key) {
+        synchronized (recent) {
+            return recent.get(tenantId + '\n' + key);
+        }
+    }
+
+    private void remember(String tenantId, String key, CachedResponse response) {
+        synchronized (recent) {
+            recent.put(tenantId + '\n' + key, response);
+        }
+    }
+}
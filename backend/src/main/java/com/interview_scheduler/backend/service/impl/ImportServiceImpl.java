@@ -0,0 +1,262 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
+import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
+import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.dto.response.ImportResponse;
+import com.interview_scheduler.backend.importer.ImportFormat;
+import com.interview_scheduler.backend.importer.ImportRowReader;
+import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.ImportService;
+import com.interview_scheduler.backend.service.InterviewerService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams an import body through parse, validate and write stages one chunk at a time: rows are parsed and
+ * validated as they arrive, and every {@code bulk-import.chunk-size} valid rows are deduplicated and inserted
+ * in their own transaction. Chunks already written stay written if a later one fails.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportServiceImpl implements ImportService {
+
+    private final CandidateService candidateService;
+    private final InterviewerService interviewerService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${bulk-import.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${bulk-import.max-reported-errors:1000}")
+    private int maxReportedErrors = 1000;
+
+    @Override
+    public ImportResponse importCandidates(InputStream body, ImportFormat format) {
+        return run("candidates",
+                new ImportRowReader<>(body, format, objectMapper, CreateCandidateRequest.class,
+                        ImportServiceImpl::candidateFromCsv),
+                (row, request) -> List.of(), candidateService::createCandidates,
+                "A candidate with this email already exists");
+    }
+
+    @Override
+    public ImportResponse importInterviewers(InputStream body, ImportFormat format) {
+        return run("interviewers",
+                new ImportRowReader<>(body, format, objectMapper, CreateInterviewerRequest.class,
+                        ImportServiceImpl::interviewerFromCsv),
+                ImportServiceImpl::checkAvailabilities,
+                (requests, lookUpAll) -> interviewerService.createInterviewers(requests),
+                "An interviewer with this email already exists");
+    }
+
+    private <T> ImportResponse run(String what, ImportRowReader<T> reader,
+            BiFunction<Long, T, List<ImportResponse.RowError>> extraChecks,
+            BiFunction<List<T>, Boolean, List<Integer>> create,
+            String duplicateMessage) {
+        long startedAt = System.nanoTime();
+        Report report = new Report();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkRows = new ArrayList<>(chunkSize);
+
+        try {
+            for (ImportRowReader.Row<T> row = reader.next(); row != null; row = reader.next()) {
+                report.rows++;
+                if (row.value() == null) {
+                    report.reject(new ImportResponse.RowError(row.number(), row.field(), row.error()));
+                    continue;
+                }
+                List<ImportResponse.RowError> problems = validate(row.number(), row.value(), extraChecks);
+                if (!problems.isEmpty()) {
+                    report.reject(problems);
+                    continue;
+                }
+                chunk.add(row.value());
+                chunkRows.add(row.number());
+                if (chunk.size() == chunkSize) {
+                    write(chunk, chunkRows, create, duplicateMessage, report);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read the import body", ex);
+        }
+        write(chunk, chunkRows, create, duplicateMessage, report);
+
+        report.errors.sort(Comparator.comparingLong(ImportResponse.RowError::row));
+        long durationMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Imported {} of {} {} rows in {} ms, {} rejected", report.created, report.rows, what,
+                durationMillis, report.failed);
+        return ImportResponse.builder()
+                .rows(report.rows)
+                .created(report.created)
+                .failed(report.failed)
+                .durationMillis(durationMillis)
+                .errors(report.errors)
+                .errorsTruncated(report.truncated)
+                .build();
+    }
+
+    private <T> void write(List<T> chunk, List<Long> chunkRows, BiFunction<List<T>, Boolean, List<Integer>> create,
+            String duplicateMessage, Report report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Integer> duplicates;
+        try {
+            duplicates = createChunk(chunk, create);
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Import chunk of {} rows from row {} failed twice: {}", chunk.size(), chunkRows.get(0),
+                    ex.getMostSpecificCause().getMessage());
+            for (Long row : chunkRows) {
+                report.reject(new ImportResponse.RowError(row, null, "Conflicting concurrent write, retry this row"));
+            }
+            chunk.clear();
+            chunkRows.clear();
+            return;
+        }
+
+        report.created += chunk.size() - duplicates.size();
+        for (Integer index : duplicates) {
+            report.reject(new ImportResponse.RowError(chunkRows.get(index), "email", duplicateMessage));
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    // Another writer can take an email between the chunk's lookup and its insert. The retry looks up every
+    // email in the chunk, without the candidate email filter, so its lookup sees the conflicting row.
+    private static <T> List<Integer> createChunk(List<T> chunk, BiFunction<List<T>, Boolean, List<Integer>> create) {
+        try {
+            return create.apply(chunk, false);
+        } catch (DataIntegrityViolationException ex) {
+            return create.apply(chunk, true);
+        }
+    }
+
+    private <T> List<ImportResponse.RowError> validate(long row, T value,
+            BiFunction<Long, T, List<ImportResponse.RowError>> extraChecks) {
+        List<ImportResponse.RowError> problems = new ArrayList<>();
+        for (ConstraintViolation<T> violation : validator.validate(value)) {
+            problems.add(new ImportResponse.RowError(row, violation.getPropertyPath().toString(),
+                    violation.getMessage()));
+        }
+        if (problems.isEmpty()) {
+            problems.addAll(extraChecks.apply(row, value));
+        }
+        problems.sort(Comparator.comparing(ImportResponse.RowError::field));
+        return problems;
+    }
+
+    // Same rule as InterviewerServiceImpl.validateAvailability, reported per row instead of thrown
+    private static List<ImportResponse.RowError> checkAvailabilities(long row, CreateInterviewerRequest request) {
+        List<ImportResponse.RowError> problems = new ArrayList<>();
+        List<WeeklyAvailabilityRequest> availabilities = request.getWeeklyAvailabilities();
+        for (int i = 0; availabilities != null && i < availabilities.size(); i++) {
+            WeeklyAvailabilityRequest availability = availabilities.get(i);
+            if (availability != null && !availability.getEndTime().isAfter(availability.getStartTime())) {
+                problems.add(new ImportResponse.RowError(row, "weeklyAvailabilities[" + i + "].endTime",
+                        "End time must be after start time"));
+            }
+        }
+        return problems;
+    }
+
+    private static CreateCandidateRequest candidateFromCsv(ImportRowReader.CsvRecord record) {
+        return CreateCandidateRequest.builder()
+                .name(record.get("name"))
+                .email(record.get("email"))
+                .phoneNumber(record.get("phoneNumber"))
+                .build();
+    }
+
+    private static CreateInterviewerRequest interviewerFromCsv(ImportRowReader.CsvRecord record) {
+        Integer slotDurationMinutes = record.getInt("slotDurationMinutes");
+        return CreateInterviewerRequest.builder()
+                .name(record.get("name"))
+                .email(record.get("email"))
+                .maxInterviewsPerWeek(record.getInt("maxInterviewsPerWeek"))
+                .slotDurationMinutes(slotDurationMinutes != null ? slotDurationMinutes : 60)
+                .weeklyAvailabilities(availabilitiesFromCsv(record.get("weeklyAvailabilities")))
+                .build();
+    }
+
+    /** Parses {@code MONDAY 09:00-12:00;WEDNESDAY 13:00-17:00}. */
+    private static List<WeeklyAvailabilityRequest> availabilitiesFromCsv(String value) {
+        List<WeeklyAvailabilityRequest> availabilities = new ArrayList<>();
+        if (value == null) {
+            return availabilities;
+        }
+        for (String window : value.split(";")) {
+            if (window.isBlank()) {
+                continue;
+            }
+            String[] dayAndTimes = window.trim().split("\\s+");
+            String[] times = dayAndTimes.length == 2 ? dayAndTimes[1].split("-") : new String[0];
+            if (times.length != 2) {
+                throw invalidWindow(window);
+            }
+            try {
+                availabilities.add(WeeklyAvailabilityRequest.builder()
+                        .dayOfWeek(DayOfWeek.valueOf(dayAndTimes[0].toUpperCase(Locale.ROOT)))
+                        .startTime(LocalTime.parse(times[0]))
+                        .endTime(LocalTime.parse(times[1]))
+                        .build());
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                throw invalidWindow(window);
+            }
+        }
+        return availabilities;
+    }
+
+    private static ImportRowReader.RowException invalidWindow(String window) {
+        return new ImportRowReader.RowException("weeklyAvailabilities",
+                "Expected DAY HH:mm-HH:mm, got '" + window.trim() + "'");
+    }
+
+    private final class Report {
+        private long rows;
+        private long created;
+        private long failed;
+        private boolean truncated;
+        private final List<ImportResponse.RowError> errors = new ArrayList<>();
+
+        void reject(ImportResponse.RowError error) {
+            reject(List.of(error));
+        }
+
+        // A row with several problems counts once and reports them all
+        void reject(List<ImportResponse.RowError> problems) {
+            failed++;
+            for (ImportResponse.RowError problem : problems) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(problem);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+    }
+}
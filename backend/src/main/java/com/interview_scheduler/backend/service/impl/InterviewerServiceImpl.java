@@ -1,9 +1,18 @@
 package com.interview_scheduler.backend.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,9 +22,14 @@ import com.interview_scheduler.backend.dto.response.InterviewerResponse;
 import com.interview_scheduler.backend.dto.response.WeeklyAvailabilityResponse;
 import com.interview_scheduler.backend.entity.Interviewer;
 import com.interview_scheduler.backend.entity.WeeklyAvailability;
+import com.interview_scheduler.backend.event.AvailabilityChangedEvent;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
 import com.interview_scheduler.backend.exception.ValidationException;
 import com.interview_scheduler.backend.repository.InterviewerRepository;
+import com.interview_scheduler.backend.repository.WeeklyAvailabilityRepository;
+import com.interview_scheduler.backend.service.BookingService;
+import com.interview_scheduler.backend.service.CalendarProjectionService;
 import com.interview_scheduler.backend.service.InterviewerService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +41,13 @@ import lombok.extern.slf4j.Slf4j;
 public class InterviewerServiceImpl implements InterviewerService {
 
     private final InterviewerRepository interviewerRepository;
+    private final CalendarProjectionService calendarProjectionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    private final BookingService bookingService;
+
+    @Value("${bulk-delete.chunk-size:500}")
+    private int deleteChunkSize = 500;
 
     @Override
     @Transactional
@@ -64,10 +85,66 @@ public class InterviewerServiceImpl implements InterviewerService {
             interviewer = interviewerRepository.save(interviewer);
         }
 
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(interviewer.getTenantId(), interviewer.getId()));
         log.info("Created interviewer with ID: {}", interviewer.getId());
         return mapToResponse(interviewer);
     }
 
+    @Override
+    @Transactional
+    public List<Integer> createInterviewers(List<CreateInterviewerRequest> requests) {
+        // Compared ignoring case, as MySQL's default collation does for the unique (tenant_id, email) key
+        List<Integer> duplicates = new ArrayList<>();
+        Map<String, Integer> firstByEmail = new LinkedHashMap<>(requests.size() * 2);
+        for (int i = 0; i < requests.size(); i++) {
+            if (firstByEmail.putIfAbsent(requests.get(i).getEmail().toLowerCase(Locale.ROOT), i) != null) {
+                duplicates.add(i);
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (String email : interviewerRepository.findExistingEmails(
+                firstByEmail.values().stream().map(index -> requests.get(index).getEmail()).toList())) {
+            existing.add(email.toLowerCase(Locale.ROOT));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Interviewer> interviewers = new ArrayList<>(firstByEmail.size());
+        firstByEmail.forEach((email, index) -> {
+            if (existing.contains(email)) {
+                duplicates.add(index);
+                return;
+            }
+            CreateInterviewerRequest request = requests.get(index);
+            Interviewer interviewer = Interviewer.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .maxInterviewsPerWeek(request.getMaxInterviewsPerWeek())
+                    .slotDurationMinutes(request.getSlotDurationMinutes() != null ? request.getSlotDurationMinutes() : 60)
+                    .createdAt(now)
+                    .build();
+            if (request.getWeeklyAvailabilities() != null) {
+                for (WeeklyAvailabilityRequest availReq : request.getWeeklyAvailabilities()) {
+                    validateAvailability(availReq);
+                    interviewer.addWeeklyAvailability(WeeklyAvailability.builder()
+                            .dayOfWeek(availReq.getDayOfWeek())
+                            .startTime(availReq.getStartTime())
+                            .endTime(availReq.getEndTime())
+                            .isActive(true)
+                            .build());
+                }
+            }
+            interviewers.add(interviewer);
+        });
+
+        // No AvailabilityChangedEvent per interviewer: the free/busy refresh picks new rows up by created_at
+        interviewerRepository.insertAll(interviewers);
+
+        log.info("Created {} interviewers, skipped {} duplicates", interviewers.size(), duplicates.size());
+        Collections.sort(duplicates);
+        return duplicates;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public InterviewerResponse getInterviewerById(Long id) {
@@ -84,6 +161,20 @@ public class InterviewerServiceImpl implements InterviewerService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getInterviewerVersion(Long id) {
+        return interviewerRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Interviewer", "id", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getInterviewersCollectionVersion() {
+        InterviewerRepository.CollectionVersion version = interviewerRepository.findCollectionVersion();
+        return version.getCount() + "-" + version.getMaxId() + "-" + version.getVersionSum();
+    }
+
     @Override
     @Transactional
     public InterviewerResponse updateWeeklyAvailability(Long interviewerId,
@@ -114,6 +205,7 @@ public class InterviewerServiceImpl implements InterviewerService {
         interviewer.setUpdatedAt(LocalDateTime.now());
         interviewer = interviewerRepository.save(interviewer);
 
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(interviewer.getTenantId(), interviewerId));
         log.info("Updated weekly availability for interviewer: {}", interviewerId);
         return mapToResponse(interviewer);
     }
@@ -137,17 +229,29 @@ public class InterviewerServiceImpl implements InterviewerService {
         return mapToResponse(interviewer);
     }
 
+    // Deliberately not one transaction: slots and their bookings go in chunks of their own, so a large
+    // calendar never holds its locks for the whole delete. A delete that fails part-way can be retried.
     @Override
-    @Transactional
     public void deleteInterviewer(Long id) {
         log.info("Deleting interviewer: {}", id);
 
-        if (!interviewerRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Interviewer", "id", id);
+        Interviewer interviewer = interviewerRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Interviewer", "id", id));
+
+        // Without weekly windows no new slots are generated while the existing ones are removed
+        weeklyAvailabilityRepository.deleteByInterviewerId(id);
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(interviewer.getTenantId(), id));
+
+        int slots = 0;
+        for (int deleted = bookingService.deleteInterviewerSlots(id, deleteChunkSize); deleted > 0;
+                deleted = bookingService.deleteInterviewerSlots(id, deleteChunkSize)) {
+            slots += deleted;
         }
 
-        interviewerRepository.deleteById(id);
-        log.info("Deleted interviewer: {}", id);
+        calendarProjectionService.deleteCalendars(id);
+        interviewerRepository.deleteAllByIdInBatch(List.of(id));
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(interviewer.getTenantId(), id));
+        log.info("Deleted interviewer {} and {} slots", id, slots);
     }
 
     private void validateAvailability(WeeklyAvailabilityRequest request) {
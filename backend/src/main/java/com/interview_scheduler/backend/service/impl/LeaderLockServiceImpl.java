@@ -0,0 +1,122 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.interview_scheduler.backend.entity.SchedulerLock;
+import com.interview_scheduler.backend.repository.SchedulerLockRepository;
+import com.interview_scheduler.backend.service.LeaderLockService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderLockServiceImpl implements LeaderLockService {
+
+    private final SchedulerLockRepository lockRepository;
+
+    // Lease expiry for locks this node holds, and the earliest retry time for locks held elsewhere.
+    private final Map<String, LocalDateTime> heldLeases = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> retryAfter = new ConcurrentHashMap<>();
+
+    @Value("${scheduler.node-id:}")
+    private String nodeId = "";
+
+    @Value("${scheduler.lock.lease-ms:30000}")
+    private long leaseMillis = 30000;
+
+    @Override
+    public String getNodeId() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        }
+        return nodeId;
+    }
+
+    @Override
+    public boolean tryAcquire(String lockName) {
+        LocalDateTime now = LocalDateTime.now();
+
+        LocalDateTime heldUntil = heldLeases.get(lockName);
+        if (heldUntil != null && heldUntil.isAfter(now.plus(leaseMillis / 2, ChronoUnit.MILLIS))) {
+            return true;
+        }
+        LocalDateTime retryAt = retryAfter.get(lockName);
+        if (heldUntil == null && retryAt != null && retryAt.isAfter(now)) {
+            return false;
+        }
+
+        LocalDateTime until = now.plus(leaseMillis, ChronoUnit.MILLIS);
+        boolean acquired = lockRepository.tryLock(lockName, getNodeId(), now, until) == 1
+                || createLock(lockName, now, until);
+
+        if (!acquired) {
+            if (heldLeases.remove(lockName) != null) {
+                log.warn("Node {} lost the lease for {}", getNodeId(), lockName);
+            }
+            retryAfter.put(lockName, now.plus(leaseMillis / 2, ChronoUnit.MILLIS));
+            return false;
+        }
+
+        if (heldUntil == null) {
+            log.info("Node {} acquired the lease for {}", getNodeId(), lockName);
+        }
+        retryAfter.remove(lockName);
+        heldLeases.put(lockName, until);
+        return true;
+    }
+
+    @Override
+    public boolean isHeld(String lockName) {
+        LocalDateTime heldUntil = heldLeases.get(lockName);
+        return heldUntil != null && heldUntil.isAfter(LocalDateTime.now());
+    }
+
+    @Override
+    public void release(String lockName) {
+        if (heldLeases.remove(lockName) != null) {
+            lockRepository.unlock(lockName, getNodeId(), LocalDateTime.now());
+        }
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        for (String lockName : List.copyOf(heldLeases.keySet())) {
+            try {
+                release(lockName);
+            } catch (DataAccessException e) {
+                log.warn("Could not release lease for {} on shutdown: {}", lockName, e.getMessage());
+            }
+        }
+    }
+
+    private boolean createLock(String lockName, LocalDateTime now, LocalDateTime until) {
+        if (lockRepository.existsById(lockName)) {
+            return false;
+        }
+        try {
+            lockRepository.saveAndFlush(SchedulerLock.builder()
+                    .name(lockName)
+                    .lockedBy(getNodeId())
+                    .lockedAt(now)
+                    .lockedUntil(until)
+                    .build());
+            return true;
+        } catch (DataAccessException e) {
+            log.debug("Another node created lock {} first", lockName);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.entity.BookingEventType;
+import com.interview_scheduler.backend.entity.OutboxEvent;
+import com.interview_scheduler.backend.event.OutboxEventSink;
+import com.interview_scheduler.backend.repository.OutboxEventRepository;
+import com.interview_scheduler.backend.service.OutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private static final String BOOKING_AGGREGATE = "Booking";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventSink> sinks;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${outbox.relay.max-batches-per-run:10}")
+    private int maxBatchesPerRun = 10;
+
+    // Events younger than this are left for the next run so that transactions
+    // which grabbed a lower id but committed later are not overtaken.
+    @Value("${outbox.relay.settle-ms:500}")
+    private long settleMillis = 500;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBookingEvent(BookingEventType eventType, BookingResponse booking) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(BOOKING_AGGREGATE)
+                .aggregateId(booking.getId())
+                .eventType(eventType)
+                .payload(toJson(booking))
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        outboxEventRepository.save(event);
+        log.debug("Recorded outbox event {} for booking {}", eventType, booking.getId());
+    }
+
+    @Override
+    @Transactional
+    public int relayPendingEvents() {
+        int relayed = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            LocalDateTime cutoff = LocalDateTime.now().minusNanos(settleMillis * 1_000_000);
+            List<OutboxEvent> events = outboxEventRepository.findPendingEvents(
+                    cutoff, PageRequest.of(0, batchSize));
+
+            if (events.isEmpty()) {
+                break;
+            }
+
+            for (OutboxEventSink sink : sinks) {
+                try {
+                    sink.publish(events);
+                } catch (RuntimeException ex) {
+                    // Stop here so the batch is retried in order on the next run
+                    log.warn("Outbox sink {} failed on events {}..{}: {}", sink.getName(),
+                            events.get(0).getId(), events.get(events.size() - 1).getId(), ex.getMessage());
+                    return relayed;
+                }
+            }
+
+            List<Long> ids = events.stream()
+                    .map(OutboxEvent::getId)
+                    .collect(Collectors.toList());
+            outboxEventRepository.markPublished(ids, LocalDateTime.now());
+            relayed += events.size();
+
+            if (events.size() < batchSize) {
+                break;
+            }
+        }
+
+        return relayed;
+    }
+
+    private String toJson(BookingResponse booking) {
+        try {
+            return objectMapper.writeValueAsString(booking);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize booking " + booking.getId(), ex);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Service;
+
+import com.interview_scheduler.backend.dto.response.QueryStatisticsResponse;
+import com.interview_scheduler.backend.dto.response.SlowQueryResponse;
+import com.interview_scheduler.backend.monitoring.SlowQueryLog;
+import com.interview_scheduler.backend.service.QueryStatisticsService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class QueryStatisticsServiceImpl implements QueryStatisticsService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String COUNT_PREFIX = "select count(";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ListableBeanFactory beanFactory;
+    private final SlowQueryLog slowQueryLog;
+
+    // Normalized @Query text -> "Repository.method", built on first use once all repositories exist
+    private volatile Map<String, String> repositoryMethods;
+
+    @Override
+    public List<QueryStatisticsResponse> getQueryStatistics() {
+        Statistics statistics = statistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+        Map<String, String> methods = repositoryMethods();
+        return Arrays.stream(statistics.getQueries())
+                .map(query -> toResponse(query, statistics.getQueryStatistics(query), methods))
+                .sorted(Comparator.comparingLong(QueryStatisticsResponse::getTotalTimeMs).reversed()
+                        .thenComparing(Comparator.comparingLong(QueryStatisticsResponse::getExecutions).reversed()))
+                .toList();
+    }
+
+    @Override
+    public List<SlowQueryResponse> getSlowQueries(int limit) {
+        return slowQueryLog.recent(limit).stream()
+                .map(entry -> SlowQueryResponse.builder()
+                        .sql(entry.sql())
+                        .durationMs(entry.durationMs())
+                        .recordedAt(entry.recordedAt())
+                        .tenantId(entry.tenantId())
+                        .thread(entry.thread())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public void reset() {
+        statistics().clear();
+        slowQueryLog.clear();
+    }
+
+    private QueryStatisticsResponse toResponse(String query, QueryStatistics stats, Map<String, String> methods) {
+        long executions = stats.getExecutionCount();
+        return QueryStatisticsResponse.builder()
+                .repositoryMethod(repositoryMethod(query, methods))
+                .query(query)
+                .executions(executions)
+                .averageTimeMs(stats.getExecutionAvgTimeAsDouble())
+                .maxTimeMs(stats.getExecutionMaxTime())
+                .totalTimeMs(stats.getExecutionTotalTime())
+                .rowsReturned(stats.getExecutionRowCount())
+                .averageRows(executions > 0 ? (double) stats.getExecutionRowCount() / executions : 0)
+                .build();
+    }
+
+    // Page-returning methods also run a count query that Spring Data derives from the declared one; it is
+    // attributed to the method whose FROM ... WHERE clause it repeats.
+    private static String repositoryMethod(String query, Map<String, String> methods) {
+        String normalized = normalize(query);
+        String method = methods.get(normalized);
+        if (method != null || !normalized.startsWith(COUNT_PREFIX)) {
+            return method;
+        }
+        String from = fromClause(normalized);
+        return methods.entrySet().stream()
+                .filter(entry -> fromClause(entry.getKey()).equals(from))
+                .map(entry -> entry.getValue() + " (count)")
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Map<String, String> repositoryMethods() {
+        Map<String, String> methods = repositoryMethods;
+        if (methods == null) {
+            methods = new HashMap<>();
+            Repositories repositories = new Repositories(beanFactory);
+            for (Class<?> domainType : repositories) {
+                Class<?> repository = repositories.getRequiredRepositoryInformation(domainType)
+                        .getRepositoryInterface();
+                for (Method method : repository.getDeclaredMethods()) {
+                    Query query = method.getAnnotation(Query.class);
+                    if (query != null && !query.nativeQuery()) {
+                        methods.putIfAbsent(normalize(query.value()),
+                                repository.getSimpleName() + "." + method.getName());
+                    }
+                }
+            }
+            repositoryMethods = methods;
+        }
+        return methods;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static String normalize(String query) {
+        return WHITESPACE.matcher(query.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String fromClause(String normalized) {
+        int from = normalized.indexOf(" from ");
+        int orderBy = normalized.lastIndexOf(" order by ");
+        return from < 0 ? normalized : normalized.substring(from, orderBy > from ? orderBy : normalized.length());
+    }
+}
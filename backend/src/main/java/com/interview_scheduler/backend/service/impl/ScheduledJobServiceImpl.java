@@ -0,0 +1,181 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.interview_scheduler.backend.dto.response.JobRunResponse;
+import com.interview_scheduler.backend.dto.response.JobStatsResponse;
+import com.interview_scheduler.backend.entity.JobRun;
+import com.interview_scheduler.backend.entity.JobRunStatus;
+import com.interview_scheduler.backend.repository.JobRunRepository;
+import com.interview_scheduler.backend.service.LeaderLockService;
+import com.interview_scheduler.backend.service.ScheduledJobService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledJobServiceImpl implements ScheduledJobService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final LeaderLockService leaderLockService;
+    private final JobRunRepository jobRunRepository;
+
+    private final Map<String, JobStats> stats = new ConcurrentHashMap<>();
+
+    @Value("${scheduler.lock.enabled:true}")
+    private boolean lockEnabled = true;
+
+    @Value("${scheduler.history.retention-days:7}")
+    private int historyRetentionDays = 7;
+
+    @Override
+    public boolean runExclusive(String jobName, boolean recordHistory, IntSupplier job) {
+        JobStats jobStats = stats.computeIfAbsent(jobName, name -> new JobStats(true));
+        if (lockEnabled && !leaderLockService.tryAcquire(jobName)) {
+            jobStats.recordSkip();
+            return false;
+        }
+        execute(jobName, jobStats, recordHistory, job);
+        return true;
+    }
+
+    @Override
+    public void runLocal(String jobName, IntSupplier job) {
+        execute(jobName, stats.computeIfAbsent(jobName, name -> new JobStats(false)), false, job);
+    }
+
+    @Override
+    public List<JobStatsResponse> getJobStats() {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey(),
+                        entry.getValue().exclusive && leaderLockService.isHeld(entry.getKey())))
+                .sorted(Comparator.comparing(JobStatsResponse::getJobName))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<JobRunResponse> getRecentRuns(String jobName, int limit) {
+        return jobRunRepository.findByJobNameOrderByStartedAtDesc(jobName, PageRequest.of(0, limit)).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int pruneHistory() {
+        return jobRunRepository.deleteStartedBefore(LocalDateTime.now().minusDays(historyRetentionDays));
+    }
+
+    private void execute(String jobName, JobStats jobStats, boolean recordHistory, IntSupplier job) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        int affected = 0;
+        String error = null;
+        try {
+            affected = job.getAsInt();
+        } catch (RuntimeException e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("Scheduled job {} failed", jobName, e);
+        }
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        jobStats.recordRun(startedAt, durationMs, affected, error);
+
+        if (recordHistory || error != null) {
+            saveRun(jobName, startedAt, durationMs, affected, error);
+        }
+    }
+
+    private void saveRun(String jobName, LocalDateTime startedAt, long durationMs, int affected, String error) {
+        try {
+            jobRunRepository.save(JobRun.builder()
+                    .jobName(jobName)
+                    .nodeId(leaderLockService.getNodeId())
+                    .status(error == null ? JobRunStatus.SUCCEEDED : JobRunStatus.FAILED)
+                    .startedAt(startedAt)
+                    .durationMs(durationMs)
+                    .affectedRows(affected)
+                    .errorMessage(error == null ? null : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)))
+                    .build());
+        } catch (DataAccessException e) {
+            log.warn("Could not record run of {}: {}", jobName, e.getMessage());
+        }
+    }
+
+    private JobRunResponse mapToResponse(JobRun run) {
+        return JobRunResponse.builder()
+                .id(run.getId())
+                .jobName(run.getJobName())
+                .nodeId(run.getNodeId())
+                .status(run.getStatus())
+                .startedAt(run.getStartedAt())
+                .durationMs(run.getDurationMs())
+                .affectedRows(run.getAffectedRows())
+                .errorMessage(run.getErrorMessage())
+                .build();
+    }
+
+    private static final class JobStats {
+
+        private final boolean exclusive;
+        private long runs;
+        private long skipped;
+        private long failures;
+        private long totalDurationMs;
+        private long maxDurationMs;
+        private LocalDateTime lastStartedAt;
+        private long lastDurationMs;
+        private int lastAffectedRows;
+        private String lastError;
+
+        private JobStats(boolean exclusive) {
+            this.exclusive = exclusive;
+        }
+
+        synchronized void recordSkip() {
+            skipped++;
+        }
+
+        synchronized void recordRun(LocalDateTime startedAt, long durationMs, int affected, String error) {
+            runs++;
+            if (error != null) {
+                failures++;
+            }
+            totalDurationMs += durationMs;
+            maxDurationMs = Math.max(maxDurationMs, durationMs);
+            lastStartedAt = startedAt;
+            lastDurationMs = durationMs;
+            lastAffectedRows = affected;
+            lastError = error;
+        }
+
+        synchronized JobStatsResponse toResponse(String jobName, boolean leaseHeld) {
+            return JobStatsResponse.builder()
+                    .jobName(jobName)
+                    .exclusive(exclusive)
+                    .leaseHeld(leaseHeld)
+                    .runs(runs)
+                    .skipped(skipped)
+                    .failures(failures)
+                    .averageDurationMs(runs == 0 ? 0 : (double) totalDurationMs / runs)
+                    .maxDurationMs(maxDurationMs)
+                    .lastStartedAt(lastStartedAt)
+                    .lastDurationMs(lastDurationMs)
+                    .lastAffectedRows(lastAffectedRows)
+                    .lastError(lastError)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository.SlotStart;
+import com.interview_scheduler.backend.scheduling.TimingWheel;
+import com.interview_scheduler.backend.service.SlotExpiryService;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotExpiryServiceImpl implements SlotExpiryService {
+
+    private static final long WHEEL_TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 512;
+
+    private final InterviewSlotRepository slotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Slot ids are only unique within a shard, so each shard gets its own wheel.
+    private final Map<String, TimingWheel<Long>> expiryWheels = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> lastScans = new ConcurrentHashMap<>();
+
+    @Value("${slot.expiry.horizon-hours:48}")
+    private long horizonHours = 48;
+
+    @Value("${slot.expiry.batch-size:500}")
+    private int batchSize = 500;
+
+    // How far back each scan for new slots reaches past the previous one, covering clock skew between nodes
+    // and generation transactions that commit after their created_at
+    @Value("${slot.expiry.scan-overlap-ms:30000}")
+    private long scanOverlapMillis = 30000;
+
+    @Override
+    public void register(Long slotId, LocalDateTime startTime) {
+        if (startTime.isBefore(LocalDateTime.now().plusHours(horizonHours))) {
+            expiryWheel().schedule(slotId, toEpochMillis(startTime));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        lastScans.put(TenantContext.getShard(), LocalDateTime.now());
+        List<SlotStart> upcoming = slotRepository
+                .findOpenSlotStartsBefore(LocalDateTime.now().plusHours(horizonHours));
+        for (SlotStart slot : upcoming) {
+            expiryWheel().schedule(slot.getId(), toEpochMillis(slot.getStartTime()));
+        }
+        return upcoming.size();
+    }
+
+    @Override
+    @Transactional
+    public int expireDueSlots() {
+        scheduleNewSlots();
+        List<Long> dueSlotIds = expiryWheel().advanceTo(System.currentTimeMillis());
+        if (dueSlotIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        for (int from = 0; from < dueSlotIds.size(); from += batchSize) {
+            List<Long> batch = dueSlotIds.subList(from, Math.min(from + batchSize, dueSlotIds.size()));
+            expired += slotRepository.markSlotsExpired(batch, now);
+        }
+        if (expired > 0) {
+            eventPublisher.publishEvent(SlotsChangedEvent.of(dueSlotIds));
+        }
+        return expired;
+    }
+
+    @Override
+    public int discardDueSlots() {
+        return expiryWheel().advanceTo(System.currentTimeMillis()).size();
+    }
+
+    @Override
+    @Transactional
+    public int reconcile() {
+        int expired = slotRepository.markExpiredSlots(LocalDateTime.now());
+        if (expired > 0) {
+            log.warn("Reconciliation expired {} slots missed by the expiry wheel", expired);
+            eventPublisher.publishEvent(SlotsChangedEvent.anyOnShard());
+        }
+        rebuild();
+        return expired;
+    }
+
+    // Slots generated on other nodes were only registered in their wheels, which do not expire anything.
+    // The lease holder picks up whatever was created since its previous scan; schedule() replaces existing
+    // entries, so the overlap between scans is harmless.
+    private void scheduleNewSlots() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastScans.put(TenantContext.getShard(), now);
+        if (since == null) {
+            rebuild();
+            return;
+        }
+        List<SlotStart> created = slotRepository.findOpenSlotStartsCreatedSince(
+                since.minusNanos(scanOverlapMillis * 1_000_000), now.plusHours(horizonHours));
+        for (SlotStart slot : created) {
+            expiryWheel().schedule(slot.getId(), toEpochMillis(slot.getStartTime()));
+        }
+    }
+
+    private TimingWheel<Long> expiryWheel() {
+        return expiryWheels.computeIfAbsent(TenantContext.getShard(),
+                shard -> new TimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis()));
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,120 @@
+package com.interview_scheduler.backend.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interview_scheduler.backend.dto.response.SlotHoldResponse;
+import com.interview_scheduler.backend.entity.InterviewSlot;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
+import com.interview_scheduler.backend.exception.ResourceNotFoundException;
+import com.interview_scheduler.backend.exception.SlotAlreadyBookedException;
+import com.interview_scheduler.backend.exception.SlotNotAvailableException;
+import com.interview_scheduler.backend.repository.CandidateRepository;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.scheduling.TimingWheel;
+import com.interview_scheduler.backend.service.SlotHoldService;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotHoldServiceImpl implements SlotHoldService {
+
+    private static final long WHEEL_TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 512;
+
+    private final InterviewSlotRepository slotRepository;
+    private final CandidateRepository candidateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Slot ids are only unique within a shard, so each shard gets its own wheel.
+    private final Map<String, TimingWheel<Long>> holdWheels = new ConcurrentHashMap<>();
+
+    @Value("${slot.hold.ttl-seconds:120}")
+    private long holdTtlSeconds = 120;
+
+    @Override
+    @Transactional
+    public SlotHoldResponse holdSlot(Long slotId, Long candidateId) {
+        if (!candidateRepository.existsById(candidateId)) {
+            throw new ResourceNotFoundException("Candidate", "id", candidateId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime heldUntil = now.plusSeconds(holdTtlSeconds);
+
+        if (slotRepository.claimHold(slotId, candidateId, heldUntil, now) == 0) {
+            InterviewSlot slot = slotRepository.findById(slotId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Interview Slot", "id", slotId));
+            if (slot.isPast()) {
+                throw new SlotNotAvailableException(slotId, "Slot is in the past");
+            }
+            throw new SlotAlreadyBookedException(slotId);
+        }
+
+        holdWheel().schedule(slotId, toEpochMillis(heldUntil));
+        eventPublisher.publishEvent(SlotsChangedEvent.of(slotId));
+        log.info("Slot {} held for candidate {} until {}", slotId, candidateId, heldUntil);
+
+        return SlotHoldResponse.builder()
+                .slotId(slotId)
+                .candidateId(candidateId)
+                .heldUntil(heldUntil)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void releaseHold(Long slotId, Long candidateId) {
+        if (slotRepository.releaseHold(slotId, candidateId, LocalDateTime.now()) == 0) {
+            throw new SlotNotAvailableException(slotId, "Slot is not held by candidate " + candidateId);
+        }
+        holdWheel().cancel(slotId);
+        eventPublisher.publishEvent(SlotsChangedEvent.of(slotId));
+        log.info("Released hold on slot {} for candidate {}", slotId, candidateId);
+    }
+
+    @Override
+    @Transactional
+    public int expireDueHolds() {
+        List<Long> dueSlotIds = holdWheel().advanceTo(System.currentTimeMillis());
+        if (dueSlotIds.isEmpty()) {
+            return 0;
+        }
+        int released = slotRepository.releaseExpiredHolds(dueSlotIds, LocalDateTime.now());
+        if (released > 0) {
+            eventPublisher.publishEvent(SlotsChangedEvent.of(dueSlotIds));
+        }
+        return released;
+    }
+
+    @Override
+    @Transactional
+    public int releaseExpiredHolds() {
+        int released = slotRepository.releaseAllExpiredHolds(LocalDateTime.now());
+        if (released > 0) {
+            eventPublisher.publishEvent(SlotsChangedEvent.anyOnShard());
+        }
+        return released;
+    }
+
+    private TimingWheel<Long> holdWheel() {
+        return holdWheels.computeIfAbsent(TenantContext.getShard(),
+                shard -> new TimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis()));
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
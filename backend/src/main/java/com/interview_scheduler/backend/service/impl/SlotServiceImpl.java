@@ -12,9 +12,12 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.interview_scheduler.backend.cache.SlotReadCaches;
+import com.interview_scheduler.backend.cache.SlotReadCaches.CachedSlot;
 import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
 import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
 import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
@@ -23,11 +26,15 @@ import com.interview_scheduler.backend.entity.Interviewer;
 import com.interview_scheduler.backend.entity.InterviewSlot;
 import com.interview_scheduler.backend.entity.SlotStatus;
 import com.interview_scheduler.backend.entity.WeeklyAvailability;
+import com.interview_scheduler.backend.event.AvailabilityChangedEvent;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
 import com.interview_scheduler.backend.exception.ValidationException;
 import com.interview_scheduler.backend.repository.InterviewerRepository;
 import com.interview_scheduler.backend.repository.InterviewSlotRepository;
 import com.interview_scheduler.backend.repository.WeeklyAvailabilityRepository;
+import com.interview_scheduler.backend.service.CalendarProjectionService;
+import com.interview_scheduler.backend.service.SlotExpiryService;
 import com.interview_scheduler.backend.service.SlotService;
 
 import lombok.RequiredArgsConstructor;
@@ -41,6 +48,10 @@ public class SlotServiceImpl implements SlotService {
     private final InterviewSlotRepository slotRepository;
     private final InterviewerRepository interviewerRepository;
     private final WeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    private final SlotExpiryService slotExpiryService;
+    private final CalendarProjectionService calendarProjectionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotReadCaches readCaches;
 
     @Override
     @Transactional
@@ -104,7 +115,9 @@ public class SlotServiceImpl implements SlotService {
                                 .createdAt(LocalDateTime.now())
                                 .build();
 
-                        generatedSlots.add(slotRepository.save(slot));
+                        InterviewSlot saved = slotRepository.save(slot);
+                        slotExpiryService.register(saved.getId(), saved.getStartTime());
+                        generatedSlots.add(saved);
                     }
 
                     currentTime = currentTime.plusMinutes(slotDuration);
@@ -112,6 +125,7 @@ public class SlotServiceImpl implements SlotService {
             }
         }
 
+        calendarProjectionService.recordSlotChanges(generatedSlots);
         log.info("Generated {} slots for interviewer: {}", generatedSlots.size(), interviewer.getId());
 
         return generatedSlots.stream()
@@ -227,9 +241,9 @@ public class SlotServiceImpl implements SlotService {
             throw new ResourceNotFoundException("Interviewer", "id", interviewerId);
         }
 
-        return slotRepository.findByInterviewerIdAndStatus(interviewerId, SlotStatus.AVAILABLE)
+        return slotRepository.findUpcomingByInterviewerIdAndStatus(interviewerId, SlotStatus.AVAILABLE,
+                LocalDateTime.now())
                 .stream()
-                .filter(slot -> slot.getStartTime().isAfter(LocalDateTime.now()))
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -237,25 +251,35 @@ public class SlotServiceImpl implements SlotService {
     @Override
     @Transactional(readOnly = true)
     public InterviewSlotResponse getSlotById(Long id) {
-        InterviewSlot slot = slotRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Interview Slot", "id", id));
-        return mapToResponse(slot);
+        return cachedSlot(id).response();
+    }
+
+    // Served from the same cache entry as the body, so a conditional GET that misses the ETag costs no query
+    @Override
+    @Transactional(readOnly = true)
+    public long getSlotVersion(Long id) {
+        return cachedSlot(id).version();
     }
 
     @Override
     @Transactional
     public int markExpiredSlots() {
-        LocalDateTime now = LocalDateTime.now();
-        List<InterviewSlot> expiredSlots = slotRepository.findExpiredAvailableSlots(now);
-
-        for (InterviewSlot slot : expiredSlots) {
-            slot.setStatus(SlotStatus.EXPIRED);
-            slot.setUpdatedAt(now);
-            slotRepository.save(slot);
+        int expired = slotRepository.markExpiredSlots(LocalDateTime.now());
+        if (expired > 0) {
+            eventPublisher.publishEvent(SlotsChangedEvent.anyOnShard());
         }
+        log.info("Marked {} slots as expired", expired);
+        return expired;
+    }
 
-        log.info("Marked {} slots as expired", expiredSlots.size());
-        return expiredSlots.size();
+    private CachedSlot cachedSlot(Long id) {
+        CachedSlot cached = readCaches.slot(id, slotId -> slotRepository.findById(slotId)
+                .map(slot -> new CachedSlot(slot.getTenantId(), slot.getVersion(), mapToResponse(slot)))
+                .orElse(null));
+        if (cached == null) {
+            throw new ResourceNotFoundException("Interview Slot", "id", id);
+        }
+        return cached;
     }
 
     private void updateWeeklyAvailabilities(Interviewer interviewer,
@@ -283,6 +307,10 @@ public class SlotServiceImpl implements SlotService {
 
             weeklyAvailabilityRepository.save(availability);
         }
+
+        // Lets the incremental free/busy refresh on other nodes pick the change up.
+        interviewer.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new AvailabilityChangedEvent(interviewer.getTenantId(), interviewer.getId()));
     }
 
     private InterviewSlotResponse mapToResponse(InterviewSlot slot) {
@@ -0,0 +1,70 @@
+package com.interview_scheduler.backend.tenant;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+public final class TenantContext {
+
+    public static final String DEFAULT_SHARD = "primary";
+
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+    private static final ThreadLocal<String> SHARD = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /** The bound tenant, or {@code null} for system work (scheduled jobs, startup) that spans tenants. */
+    public static String getTenantId() {
+        return TENANT.get();
+    }
+
+    public static String getShard() {
+        String shard = SHARD.get();
+        return shard != null ? shard : DEFAULT_SHARD;
+    }
+
+    public static void bind(String tenantId, String shard) {
+        TENANT.set(tenantId);
+        SHARD.set(shard);
+    }
+
+    public static void clear() {
+        TENANT.remove();
+        SHARD.remove();
+    }
+
+    public static <T> T callAs(String tenantId, String shard, Supplier<T> action) {
+        String previousTenant = TENANT.get();
+        String previousShard = SHARD.get();
+        bind(tenantId, shard);
+        try {
+            return action.get();
+        } finally {
+            restore(previousTenant, previousShard);
+        }
+    }
+
+    public static int callOnShard(String shard, IntSupplier action) {
+        String previousTenant = TENANT.get();
+        String previousShard = SHARD.get();
+        SHARD.set(shard);
+        try {
+            return action.getAsInt();
+        } finally {
+            restore(previousTenant, previousShard);
+        }
+    }
+
+    private static void restore(String tenantId, String shard) {
+        if (tenantId == null) {
+            TENANT.remove();
+        } else {
+            TENANT.set(tenantId);
+        }
+        if (shard == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(shard);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.interview_scheduler.backend.tenant;
+
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds the request's tenant into Hibernate so every {@code @TenantId} entity is filtered and stamped
+ * automatically. Threads without a tenant (scheduled jobs, startup) resolve to the root tenant, which
+ * sees all rows.
+ */
+@Component
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String>,
+        HibernatePropertiesCustomizer {
+
+    public static final String ROOT_TENANT = "__root__";
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        String tenantId = TenantContext.getTenantId();
+        return tenantId != null ? tenantId : ROOT_TENANT;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+
+    @Override
+    public boolean isRoot(String tenantId) {
+        return ROOT_TENANT.equals(tenantId);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
@@ -0,0 +1,114 @@
+package com.interview_scheduler.backend.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Appends finished spans to a local NDJSON file, one span per line in the field layout of OTLP/JSON
+ * ({@code traceId}, {@code spanId}, {@code parentSpanId}, {@code startTimeUnixNano}, attributes as key/value
+ * pairs), as a stand-in for a collector during development. Called from the SDK's batch processor thread.
+ */
+@Slf4j
+public class FileSpanExporter implements SpanExporter {
+
+    private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileSpanExporter(ObjectMapper objectMapper, Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+        log.info("Span file exporter writing to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (SpanData span : spans) {
+                    writer.write(objectMapper.writeValueAsString(toOtlpJson(span)));
+                    writer.newLine();
+                }
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            log.warn("Could not append {} spans to {}: {}", spans.size(), path, ex.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    static Map<String, Object> toOtlpJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", "SPAN_KIND_" + span.getKind().name());
+        json.put("startTimeUnixNano", String.valueOf(span.getStartEpochNanos()));
+        json.put("endTimeUnixNano", String.valueOf(span.getEndEpochNanos()));
+        json.put("attributes", attributes(span.getAttributes()));
+        if (!span.getEvents().isEmpty()) {
+            List<Map<String, Object>> events = new ArrayList<>();
+            for (EventData event : span.getEvents()) {
+                events.add(Map.of(
+                        "timeUnixNano", String.valueOf(event.getEpochNanos()),
+                        "name", event.getName(),
+                        "attributes", attributes(event.getAttributes())));
+            }
+            json.put("events", events);
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("code", "STATUS_CODE_" + span.getStatus().getStatusCode().name());
+        if (!span.getStatus().getDescription().isEmpty()) {
+            status.put("message", span.getStatus().getDescription());
+        }
+        json.put("status", status);
+        json.put("serviceName", span.getResource().getAttribute(SERVICE_NAME));
+        return json;
+    }
+
+    private static List<Map<String, Object>> attributes(Attributes attributes) {
+        List<Map<String, Object>> pairs = new ArrayList<>(attributes.size());
+        attributes.forEach((key, value) -> pairs.add(Map.of(
+                "key", key.getKey(),
+                "value", Map.of("stringValue", String.valueOf(value)))));
+        return pairs;
+    }
+}
@@ -0,0 +1,108 @@
+package com.interview_scheduler.backend.tracing;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Opens a child span for every public controller, service implementation and repository method, named
+ * {@code Type.method}. Spans are only created under a sampled parent (the HTTP request or scheduled task
+ * span), so unsampled requests skip the tracer and the MDC updates entirely.
+ * <p>
+ * Ordered between the retry interceptor and the transaction interceptor: each {@code @Retryable} attempt is
+ * a separate span (tagged {@code retry.attempt}) that covers its own commit, under the span opened by
+ * {@link TracingRetryListener}.
+ */
+@Aspect
+@Order(TracingAspect.ORDER)
+public class TracingAspect {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final Tracer tracer;
+    private final Map<Class<?>, String> typeNames = new ConcurrentHashMap<>();
+    private final Map<Method, Boolean> retryable = new ConcurrentHashMap<>();
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("execution(public * com.interview_scheduler.backend.controller..*.*(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller");
+    }
+
+    @Around("execution(public * com.interview_scheduler.backend.service.impl..*.*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service");
+    }
+
+    // Inherited JpaRepository methods (save, findById) are declared outside this package, so repositories
+    // are matched by type rather than by package
+    @Around("this(org.springframework.data.repository.Repository) && execution(public * *(..)) "
+            + "&& !execution(* java.lang.Object.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Span parent = tracer.currentSpan();
+        if (parent == null || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Span span = tracer.nextSpan()
+                .name(typeName(joinPoint.getTarget().getClass(), layer) + "." + method.getName())
+                .tag("app.layer", layer)
+                .start();
+        if (isRetryable(method, joinPoint.getTarget().getClass())) {
+            RetryContext retry = RetrySynchronizationManager.getContext();
+            if (retry != null) {
+                span.tag("retry.attempt", String.valueOf(retry.getRetryCount() + 1));
+            }
+        }
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            span.error(ex);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+
+    // Repository targets are JDK proxies, so their name comes from the application interface they implement
+    private String typeName(Class<?> targetClass, String layer) {
+        return typeNames.computeIfAbsent(targetClass, type -> {
+            if ("repository".equals(layer)) {
+                for (Class<?> candidate : type.getInterfaces()) {
+                    if (candidate.getPackageName().startsWith("com.interview_scheduler")) {
+                        return candidate.getSimpleName();
+                    }
+                }
+            }
+            return ClassUtils.getUserClass(type).getSimpleName();
+        });
+    }
+
+    private boolean isRetryable(Method method, Class<?> targetClass) {
+        return retryable.computeIfAbsent(method,
+                m -> AopUtils.getMostSpecificMethod(m, targetClass).isAnnotationPresent(Retryable.class));
+    }
+}
@@ -0,0 +1,73 @@
+package com.interview_scheduler.backend.tracing;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * Wraps every {@code @Retryable} call in a {@code retry Type.method} span, so its attempts (opened by
+ * {@link TracingAspect}) appear as siblings with the failures between them recorded as events, and the
+ * backoff sleeps show up as gaps. Registered as a bean, spring-retry applies it to every retryable method.
+ */
+public class TracingRetryListener implements RetryListener {
+
+    private static final String SPAN = TracingRetryListener.class.getName() + ".span";
+    private static final String SCOPE = TracingRetryListener.class.getName() + ".scope";
+
+    private final Tracer tracer;
+
+    public TracingRetryListener(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+        Span parent = tracer.currentSpan();
+        if (parent != null && Boolean.TRUE.equals(parent.context().sampled())) {
+            Span span = tracer.nextSpan().name("retry " + operationName(callback)).start();
+            context.setAttribute(SPAN, span);
+            context.setAttribute(SCOPE, tracer.withSpan(span));
+        }
+        return true;
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+            Throwable throwable) {
+        if (context.getAttribute(SPAN) instanceof Span span) {
+            span.event("attempt " + context.getRetryCount() + " failed: " + throwable.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+            Throwable throwable) {
+        if (context.getAttribute(SCOPE) instanceof Tracer.SpanInScope scope) {
+            scope.close();
+        }
+        if (context.getAttribute(SPAN) instanceof Span span) {
+            // The retry count is the number of failed attempts
+            int attempts = context.getRetryCount() + (throwable == null ? 1 : 0);
+            span.tag("retry.attempts", String.valueOf(attempts));
+            if (throwable != null) {
+                span.error(throwable);
+            }
+            span.end();
+        }
+    }
+
+    // Interceptor-driven retries (@Retryable) expose the invocation; the context label is not set yet on open
+    static String operationName(RetryCallback<?, ?> callback) {
+        if (callback instanceof MethodInvocationRetryCallback<?, ?> invocation
+                && invocation.getInvocation().getThis() != null) {
+            return ClassUtils.getUserClass(invocation.getInvocation().getThis()).getSimpleName() + "."
+                    + invocation.getInvocation().getMethod().getName();
+        }
+        return "operation";
+    }
+}
@@ -0,0 +1,90 @@
+-- Schema of the original entities, as spring.jpa.hibernate.ddl-auto=update created it before migrations were
+-- introduced. Databases that already have it are baselined at version 1 (spring.flyway.baseline-on-migrate)
+-- and only run the migrations after this one. ddl-auto named the unique keys itself (UK...); later migrations
+-- must not refer to them by the names given here.
+
+CREATE TABLE interviewers (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    max_interviews_per_week INTEGER NOT NULL,
+    slot_duration_minutes INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_interviewer_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_interviewer_email ON interviewers (email);
+
+CREATE TABLE weekly_availabilities (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    interviewer_id BIGINT NOT NULL,
+    day_of_week ENUM ('FRIDAY','MONDAY','SATURDAY','SUNDAY','THURSDAY','TUESDAY','WEDNESDAY') NOT NULL,
+    start_time TIME(6) NOT NULL,
+    end_time TIME(6) NOT NULL,
+    is_active BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_weekly_availability_interviewer FOREIGN KEY (interviewer_id) REFERENCES interviewers (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_weekly_availability_interviewer ON weekly_availabilities (interviewer_id);
+CREATE INDEX idx_weekly_availability_day ON weekly_availabilities (day_of_week);
+
+CREATE TABLE candidates (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_candidate_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_candidate_email ON candidates (email);
+
+CREATE TABLE interview_slots (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    interviewer_id BIGINT NOT NULL,
+    start_time DATETIME(6) NOT NULL,
+    end_time DATETIME(6) NOT NULL,
+    status ENUM ('AVAILABLE','BOOKED','CANCELLED','CONFIRMED','EXPIRED') NOT NULL,
+    week_number INTEGER NOT NULL,
+    `year` INTEGER NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_slot_interviewer FOREIGN KEY (interviewer_id) REFERENCES interviewers (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_slot_interviewer ON interview_slots (interviewer_id);
+CREATE INDEX idx_slot_start_time ON interview_slots (start_time);
+CREATE INDEX idx_slot_status ON interview_slots (status);
+CREATE INDEX idx_slot_week_number ON interview_slots (week_number);
+CREATE INDEX idx_slot_cursor ON interview_slots (id, status, start_time);
+
+CREATE TABLE bookings (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    slot_id BIGINT NOT NULL,
+    candidate_id BIGINT NOT NULL,
+    status ENUM ('CANCELLED','COMPLETED','CONFIRMED','NO_SHOW','PENDING') NOT NULL,
+    week_number INTEGER NOT NULL,
+    `year` INTEGER NOT NULL,
+    booking_notes VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    confirmed_at DATETIME(6),
+    cancelled_at DATETIME(6),
+    version BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_booking_slot UNIQUE (slot_id),
+    CONSTRAINT fk_booking_slot FOREIGN KEY (slot_id) REFERENCES interview_slots (id),
+    CONSTRAINT fk_booking_candidate FOREIGN KEY (candidate_id) REFERENCES candidates (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_booking_candidate ON bookings (candidate_id);
+CREATE INDEX idx_booking_slot ON bookings (slot_id);
+CREATE INDEX idx_booking_status ON bookings (status);
+CREATE INDEX idx_booking_week ON bookings (week_number, `year`);
@@ -0,0 +1,54 @@
+-- Booking lifecycle additions made before tenancy: the booking event outbox, slot holds, the scheduled-job
+-- lease and run log, and bookings.slot_start_time for the booking-window check.
+
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type ENUM ('BOOKING_CANCELLED','BOOKING_CONFIRMED','BOOKING_CREATED','BOOKING_RESCHEDULED') NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    published_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_outbox_pending ON outbox_events (published_at, id);
+CREATE INDEX idx_outbox_aggregate ON outbox_events (aggregate_type, aggregate_id);
+
+ALTER TABLE interview_slots
+    MODIFY status ENUM ('AVAILABLE','BOOKED','CANCELLED','CONFIRMED','EXPIRED','HELD') NOT NULL;
+ALTER TABLE interview_slots ADD COLUMN held_by_candidate_id BIGINT;
+ALTER TABLE interview_slots ADD COLUMN held_until DATETIME(6);
+
+CREATE TABLE scheduler_locks (
+    name VARCHAR(100) NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    locked_at DATETIME(6) NOT NULL,
+    locked_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
+
+CREATE TABLE job_runs (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    job_name VARCHAR(100) NOT NULL,
+    node_id VARCHAR(255) NOT NULL,
+    status ENUM ('FAILED','SUCCEEDED') NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    duration_ms BIGINT NOT NULL,
+    affected_rows INTEGER,
+    error_message VARCHAR(500),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_job_run_name_started ON job_runs (job_name, started_at);
+CREATE INDEX idx_job_run_started ON job_runs (started_at);
+
+ALTER TABLE bookings ADD COLUMN slot_start_time DATETIME(6);
+UPDATE bookings SET slot_start_time = (SELECT s.start_time FROM interview_slots s WHERE s.id = bookings.slot_id);
+
+-- idx_booking_candidate_window leads with candidate_id, so it replaces idx_booking_candidate. The foreign key is
+-- re-created around the drop because some databases bind it to the index it was created with.
+CREATE INDEX idx_booking_candidate_window ON bookings (candidate_id, status, slot_start_time);
+ALTER TABLE bookings DROP CONSTRAINT fk_booking_candidate;
+DROP INDEX idx_booking_candidate ON bookings;
+ALTER TABLE bookings ADD CONSTRAINT fk_booking_candidate FOREIGN KEY (candidate_id) REFERENCES candidates (id);
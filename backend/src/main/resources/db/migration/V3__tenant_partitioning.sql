@@ -0,0 +1,24 @@
+-- Tenant-owned rows carry tenant_id. Rows written before tenancy belong to the default tenant
+-- (app.tenancy.default-tenant, passed in as a Flyway placeholder). Emails become unique per tenant; the
+-- global unique keys on email are dropped by V4, which looks them up by column because ddl-auto named them.
+
+ALTER TABLE interviewers ADD COLUMN tenant_id VARCHAR(64);
+UPDATE interviewers SET tenant_id = '${default_tenant}';
+ALTER TABLE interviewers MODIFY tenant_id VARCHAR(64) NOT NULL;
+
+ALTER TABLE candidates ADD COLUMN tenant_id VARCHAR(64);
+UPDATE candidates SET tenant_id = '${default_tenant}';
+ALTER TABLE candidates MODIFY tenant_id VARCHAR(64) NOT NULL;
+
+ALTER TABLE interview_slots ADD COLUMN tenant_id VARCHAR(64);
+UPDATE interview_slots SET tenant_id = '${default_tenant}';
+ALTER TABLE interview_slots MODIFY tenant_id VARCHAR(64) NOT NULL;
+
+ALTER TABLE bookings ADD COLUMN tenant_id VARCHAR(64);
+UPDATE bookings SET tenant_id = '${default_tenant}';
+ALTER TABLE bookings MODIFY tenant_id VARCHAR(64) NOT NULL;
+
+ALTER TABLE interviewers ADD CONSTRAINT uk_interviewer_tenant_email UNIQUE (tenant_id, email);
+ALTER TABLE candidates ADD CONSTRAINT uk_candidate_tenant_email UNIQUE (tenant_id, email);
+
+CREATE INDEX idx_slot_tenant_status_start ON interview_slots (tenant_id, status, start_time);
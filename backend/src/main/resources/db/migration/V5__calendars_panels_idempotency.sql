@@ -0,0 +1,33 @@
+-- Week calendar projection, panel bookings and Idempotency-Key replay records.
+
+CREATE TABLE interviewer_week_calendars (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    tenant_id VARCHAR(64) NOT NULL,
+    interviewer_id BIGINT NOT NULL,
+    week_start DATE NOT NULL,
+    free_bits VARBINARY(84) NOT NULL,
+    booked_bits VARBINARY(84) NOT NULL,
+    updated_at DATETIME(6),
+    version BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_calendar_interviewer_week UNIQUE (tenant_id, interviewer_id, week_start)
+) ENGINE=InnoDB;
+
+ALTER TABLE bookings ADD COLUMN panel_id VARCHAR(36);
+CREATE INDEX idx_booking_panel ON bookings (panel_id);
+
+CREATE TABLE idempotency_keys (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    tenant_id VARCHAR(64) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_status INTEGER,
+    content_type VARCHAR(100),
+    response_body LONGBLOB,
+    created_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_idempotency_tenant_key UNIQUE (tenant_id, idempotency_key)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_idempotency_created ON idempotency_keys (created_at);
@@ -0,0 +1,44 @@
+-- Indexes reshaped around the predicates of the repository queries. Requests add tenant_id = ? to every
+-- tenant-scoped query, but scheduled jobs run across tenants without it, so the interviewer, status and
+-- week lookups each get an index of their own. New indexes are created before the old ones are dropped
+-- because MySQL needs an index led by interviewer_id for fk_slot_interviewer at all times. The foreign keys
+-- are re-created around the drops because some databases bind them to the index they were created with.
+-- QueryIndexUsageTest checks every repository query against this set.
+
+-- Slot listings and the expiry / hold sweeps: status = ? (or IN) with a start_time range
+CREATE INDEX idx_slot_status_start ON interview_slots (status, start_time);
+-- Per-interviewer listings and the available-times lookup
+CREATE INDEX idx_slot_interviewer_status_start ON interview_slots (interviewer_id, status, start_time);
+-- Duplicate check during slot generation: interviewer_id = ? AND start_time = ?
+CREATE INDEX idx_slot_interviewer_start ON interview_slots (interviewer_id, start_time);
+-- Weekly interview cap: interviewer_id = ? AND week_number = ? AND year = ? AND status IN (...)
+CREATE INDEX idx_slot_interviewer_week ON interview_slots (interviewer_id, week_number, `year`, status);
+CREATE INDEX idx_slot_week ON interview_slots (week_number, `year`);
+
+-- idx_slot_cursor led with the primary key and could only ever serve id lookups
+DROP INDEX idx_slot_cursor ON interview_slots;
+DROP INDEX idx_slot_status ON interview_slots;
+DROP INDEX idx_slot_start_time ON interview_slots;
+DROP INDEX idx_slot_week_number ON interview_slots;
+ALTER TABLE interview_slots DROP CONSTRAINT fk_slot_interviewer;
+DROP INDEX idx_slot_interviewer ON interview_slots;
+ALTER TABLE interview_slots
+    ADD CONSTRAINT fk_slot_interviewer FOREIGN KEY (interviewer_id) REFERENCES interviewers (id);
+
+CREATE INDEX idx_booking_week_status ON bookings (week_number, `year`, status);
+DROP INDEX idx_booking_week ON bookings;
+
+-- Availability is always read by interviewer, sometimes narrowed to a day; day_of_week alone never is
+CREATE INDEX idx_weekly_availability_interviewer_day ON weekly_availabilities (interviewer_id, day_of_week);
+ALTER TABLE weekly_availabilities DROP CONSTRAINT fk_weekly_availability_interviewer;
+DROP INDEX idx_weekly_availability_interviewer ON weekly_availabilities;
+ALTER TABLE weekly_availabilities
+    ADD CONSTRAINT fk_weekly_availability_interviewer FOREIGN KEY (interviewer_id) REFERENCES interviewers (id);
+DROP INDEX idx_weekly_availability_day ON weekly_availabilities;
+
+-- Interviewer ids are unique across tenants, so leading with them keeps the constraint equivalent while
+-- letting the cross-tenant projection jobs use it. week_start serves the free/busy refresh.
+ALTER TABLE interviewer_week_calendars DROP INDEX uk_calendar_interviewer_week;
+ALTER TABLE interviewer_week_calendars
+    ADD CONSTRAINT uk_calendar_interviewer_week UNIQUE (interviewer_id, week_start, tenant_id);
+CREATE INDEX idx_calendar_week_start ON interviewer_week_calendars (week_start);
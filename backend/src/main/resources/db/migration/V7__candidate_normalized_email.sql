@@ -0,0 +1,16 @@
+-- Candidate emails are unique per tenant regardless of case and surrounding whitespace. email keeps the
+-- address as entered; email_normalized (trimmed, lower-cased) carries the lookups and the constraint, which
+-- leads with the email so lookups made without a tenant can use it too. Rows that differ from an existing
+-- candidate only by case must be merged before this runs, or the unique constraint cannot be created.
+
+ALTER TABLE candidates ADD COLUMN email_normalized VARCHAR(255);
+UPDATE candidates SET email_normalized = LOWER(TRIM(email));
+ALTER TABLE candidates MODIFY email_normalized VARCHAR(255) NOT NULL;
+
+ALTER TABLE candidates
+    ADD CONSTRAINT uk_candidate_email_normalized_tenant UNIQUE (email_normalized, tenant_id);
+ALTER TABLE candidates DROP INDEX uk_candidate_tenant_email;
+DROP INDEX idx_candidate_email ON candidates;
+
+-- Incremental refresh of the in-memory email filter: created_at >= ?
+CREATE INDEX idx_candidate_created_at ON candidates (created_at);
@@ -0,0 +1,6 @@
+-- Bulk imports look interviewers up with email IN (...) inside a tenant. Leading the unique key with the email
+-- lets those lookups, and the single-email ones idx_interviewer_email served, use it; the constraint itself is
+-- unchanged.
+ALTER TABLE interviewers DROP INDEX uk_interviewer_tenant_email;
+ALTER TABLE interviewers ADD CONSTRAINT uk_interviewer_tenant_email UNIQUE (email, tenant_id);
+DROP INDEX idx_interviewer_email ON interviewers;
@@ -0,0 +1,3 @@
+-- The expiry lease holder scans for slots created since its previous tick, including slots generated on
+-- other nodes: created_at >= ?
+CREATE INDEX idx_slot_created_at ON interview_slots (created_at);
@@ -0,0 +1,147 @@
+package com.interview_scheduler.backend.benchmark;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Opt-in benchmark for the one-booking-per-window check:
+ * {@code ./gradlew test --tests '*BookingWindowBenchmarkTest' -Dbenchmark=true -Dbenchmark.bookings=1000000}.
+ * Compares the old slot join against the denormalized slot_start_time lookup on a file-backed H2 database.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Booking Window Benchmark")
+class BookingWindowBenchmarkTest {
+
+    private static final int BOOKINGS_PER_CANDIDATE = 10;
+    private static final int LOOKUPS = 20_000;
+
+    private static final String JOIN_QUERY = "SELECT COUNT(*) FROM bookings b "
+            + "JOIN interview_slots s ON s.id = b.slot_id "
+            + "WHERE b.candidate_id = ? AND b.status <> 'CANCELLED' AND s.start_time >= ? AND s.start_time <= ?";
+
+    private static final String DENORMALIZED_QUERY = "SELECT COUNT(*) FROM bookings b "
+            + "WHERE b.candidate_id = ? AND b.status IN ('PENDING', 'CONFIRMED', 'NO_SHOW', 'COMPLETED') "
+            + "AND b.slot_start_time >= ? AND b.slot_start_time <= ?";
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("Join on slots vs denormalized slot_start_time index")
+    void compareWindowChecks() throws Exception {
+        int bookings = Integer.getInteger("benchmark.bookings", 1_000_000);
+        int candidates = bookings / BOOKINGS_PER_CANDIDATE;
+
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:file:" + dataDir.resolve("bookings") + ";CACHE_SIZE=262144");
+        dataSource.setUser("sa");
+
+        try (Connection connection = dataSource.getConnection()) {
+            LocalDateTime base = LocalDateTime.now().minusWeeks(26);
+            long loadStart = System.nanoTime();
+            createSchema(connection);
+            load(connection, bookings, candidates, base);
+            System.out.printf("Loaded %,d bookings for %,d candidates in %.1f s%n",
+                    bookings, candidates, (System.nanoTime() - loadStart) / 1e9);
+
+            LocalDateTime windowStart = base.plusWeeks(24);
+            LocalDateTime windowEnd = windowStart.plusWeeks(2);
+
+            for (int round = 0; round < 2; round++) {
+                double joinMicros = measure(connection, JOIN_QUERY, candidates, windowStart, windowEnd);
+                double denormalizedMicros = measure(connection, DENORMALIZED_QUERY, candidates, windowStart,
+                        windowEnd);
+                System.out.printf("%s join: %.1f us/lookup  denormalized: %.1f us/lookup%n",
+                        round == 0 ? "warmup" : "measured", joinMicros, denormalizedMicros);
+            }
+            printPlan(connection, JOIN_QUERY);
+            printPlan(connection, DENORMALIZED_QUERY);
+        }
+    }
+
+    private void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE interview_slots (id BIGINT PRIMARY KEY, start_time TIMESTAMP NOT NULL)");
+            statement.execute("CREATE TABLE bookings (id BIGINT PRIMARY KEY, candidate_id BIGINT NOT NULL, "
+                    + "slot_id BIGINT NOT NULL, status VARCHAR(20) NOT NULL, slot_start_time TIMESTAMP)");
+        }
+    }
+
+    private void load(Connection connection, int bookings, int candidates, LocalDateTime base) throws SQLException {
+        String[] statuses = { "PENDING", "CONFIRMED", "CANCELLED", "COMPLETED" };
+        Random random = new Random(7);
+        connection.setAutoCommit(false);
+        try (PreparedStatement slot = connection.prepareStatement("INSERT INTO interview_slots VALUES (?, ?)");
+                PreparedStatement booking = connection.prepareStatement("INSERT INTO bookings VALUES (?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= bookings; id++) {
+                Timestamp start = Timestamp.valueOf(base.plusMinutes(random.nextInt(26 * 7 * 24 * 60)));
+                slot.setLong(1, id);
+                slot.setTimestamp(2, start);
+                slot.addBatch();
+                booking.setLong(1, id);
+                booking.setLong(2, 1 + random.nextInt(candidates));
+                booking.setLong(3, id);
+                booking.setString(4, statuses[random.nextInt(statuses.length)]);
+                booking.setTimestamp(5, start);
+                booking.addBatch();
+                if (id % 10_000 == 0) {
+                    slot.executeBatch();
+                    booking.executeBatch();
+                    connection.commit();
+                }
+            }
+            slot.executeBatch();
+            booking.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE INDEX idx_booking_candidate ON bookings (candidate_id)");
+            statement.execute("CREATE INDEX idx_booking_slot ON bookings (slot_id)");
+            statement.execute("CREATE INDEX idx_booking_candidate_window ON bookings (candidate_id, status, slot_start_time)");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private double measure(Connection connection, String sql, int candidates, LocalDateTime from, LocalDateTime to)
+            throws SQLException {
+        Random random = new Random(11);
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < LOOKUPS; i++) {
+                statement.setLong(1, 1 + random.nextInt(candidates));
+                statement.setTimestamp(2, Timestamp.valueOf(from));
+                statement.setTimestamp(3, Timestamp.valueOf(to));
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                }
+            }
+        }
+        return (System.nanoTime() - start) / 1_000.0 / LOOKUPS;
+    }
+
+    private void printPlan(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            statement.setLong(1, 1);
+            statement.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                System.out.println(rs.getString(1).replaceAll("\\s+", " "));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.interview_scheduler.backend.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.interview_scheduler.backend.scheduling.FreeBusyIndex;
+import com.interview_scheduler.backend.scheduling.WeekGrid;
+
+/**
+ * Opt-in benchmark for free/busy searches:
+ * {@code ./gradlew test --tests '*FreeBusySearchBenchmarkTest' -Dbenchmark=true -Dbenchmark.interviewers=5000}.
+ * Loads four weeks of randomly booked calendars and times ANY searches over everyone and ALL searches over
+ * small panels.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Free/Busy Search Benchmark")
+class FreeBusySearchBenchmarkTest {
+
+    private static final String TENANT = "default";
+    private static final int WEEKS = 4;
+    private static final int SEARCHES = 2_000;
+    private static final int PANEL_SIZE = 4;
+
+    @Test
+    @DisplayName("ANY across all interviewers and ALL across panels")
+    void searchLatency() {
+        int interviewers = Integer.getInteger("benchmark.interviewers", 5_000);
+        Random random = new Random(7);
+        LocalDate firstWeek = WeekGrid.weekStartOf(LocalDate.now()).plusWeeks(1);
+
+        FreeBusyIndex index = new FreeBusyIndex();
+        long loadStart = System.nanoTime();
+        for (long id = 1; id <= interviewers; id++) {
+            BitSet availability = new BitSet();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (day.getValue() <= 5) {
+                    int startHour = 8 + random.nextInt(3);
+                    WeekGrid.setDaily(availability, day, LocalTime.of(startHour, 0),
+                            LocalTime.of(startHour + 8, 0));
+                }
+            }
+            index.putAvailability(TENANT, id, availability);
+            for (int week = 0; week < WEEKS; week++) {
+                BitSet open = (BitSet) availability.clone();
+                for (int booked = 0; booked < 10; booked++) {
+                    int start = random.nextInt(WeekGrid.PERIODS_PER_WEEK - 4);
+                    open.clear(start, start + 4);
+                }
+                index.putWeek(TENANT, id, firstWeek.plusWeeks(week), open);
+            }
+        }
+        System.out.printf("Indexed %,d interviewers x %d weeks in %.1f ms%n",
+                interviewers, WEEKS, (System.nanoTime() - loadStart) / 1e6);
+
+        LocalDateTime from = firstWeek.atStartOfDay();
+        LocalDateTime to = firstWeek.plusWeeks(WEEKS).atStartOfDay();
+
+        List<List<Long>> panels = new ArrayList<>();
+        for (int i = 0; i < SEARCHES; i++) {
+            List<Long> panel = new ArrayList<>(PANEL_SIZE);
+            for (int j = 0; j < PANEL_SIZE; j++) {
+                panel.add(1L + random.nextInt(interviewers));
+            }
+            panels.add(panel);
+        }
+
+        long found = 0;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            for (List<Long> panel : panels) {
+                found += index.findAll(TENANT, panel, from, to, 4, 50).size();
+            }
+            for (int i = 0; i < SEARCHES / 20; i++) {
+                found += index.findAny(TENANT, null, from, to, 4, 50).size();
+            }
+        }
+
+        long anyStart = System.nanoTime();
+        int anySearches = SEARCHES / 20;
+        for (int i = 0; i < anySearches; i++) {
+            found += index.findAny(TENANT, null, from, to, 4, 50).size();
+        }
+        long anyNanos = System.nanoTime() - anyStart;
+
+        long allStart = System.nanoTime();
+        for (List<Long> panel : panels) {
+            found += index.findAll(TENANT, panel, from, to, 4, 50).size();
+        }
+        long allNanos = System.nanoTime() - allStart;
+
+        System.out.printf("ANY over %,d interviewers: %.1f us/search%n", interviewers, anyNanos / 1e3 / anySearches);
+        System.out.printf("ALL over panels of %d: %.1f us/search (%d windows seen)%n",
+                PANEL_SIZE, allNanos / 1e3 / SEARCHES, found);
+    }
+}
@@ -0,0 +1,82 @@
+package com.interview_scheduler.backend.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.interview_scheduler.backend.BackendApplication;
+import com.interview_scheduler.backend.dto.response.ImportResponse;
+import com.interview_scheduler.backend.importer.ImportFormat;
+import com.interview_scheduler.backend.service.ImportService;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+/**
+ * Opt-in benchmark of the bulk import pipeline:
+ * {@code ./gradlew test --tests '*ImportBenchmarkTest' -Dbenchmark=true -Dbenchmark.rows=100000}.
+ * Imports {@code benchmark.rows} candidates from CSV and as many interviewers (five weekly windows each)
+ * from NDJSON into a fresh in-memory H2 database, then imports the candidates again, which is all duplicates.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Bulk Import Benchmark")
+class ImportBenchmarkTest {
+
+    @Test
+    @DisplayName("Import candidates and interviewers")
+    void importRows() {
+        int rows = Integer.getInteger("benchmark.rows", 100_000);
+        StringBuilder candidates = new StringBuilder("name,email,phoneNumber\n");
+        StringBuilder interviewers = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            candidates.append("Candidate ").append(i).append(",candidate").append(i).append("@bench.test,555-")
+                    .append(i % 10_000).append('\n');
+            interviewers.append("{\"name\":\"Interviewer ").append(i).append("\",\"email\":\"interviewer").append(i)
+                    .append("@bench.test\",\"maxInterviewsPerWeek\":10,\"weeklyAvailabilities\":[");
+            for (String day : new String[] { "MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY" }) {
+                interviewers.append("{\"dayOfWeek\":\"").append(day)
+                        .append("\",\"startTime\":\"09:00\",\"endTime\":\"17:00\"},");
+            }
+            interviewers.setLength(interviewers.length() - 1);
+            interviewers.append("]}\n");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:import-bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--logging.level.com.interview_scheduler=WARN")) {
+            ImportService importService = context.getBean(ImportService.class);
+
+            ImportResponse first = run("candidates (csv)", () -> importService.importCandidates(
+                    body(candidates), ImportFormat.CSV));
+            assertEquals(rows, first.getCreated());
+            ImportResponse again = run("candidates again", () -> importService.importCandidates(
+                    body(candidates), ImportFormat.CSV));
+            assertEquals(rows, again.getFailed());
+            ImportResponse imported = run("interviewers (ndjson)", () -> importService.importInterviewers(
+                    body(interviewers), ImportFormat.NDJSON));
+            assertEquals(rows, imported.getCreated());
+        }
+    }
+
+    private static ImportResponse run(String label, Supplier<ImportResponse> action) {
+        ImportResponse response = TenantContext.callAs("default", TenantContext.DEFAULT_SHARD, action);
+        System.out.printf("%-22s %,d rows in %.2f s (%,.0f rows/s), %,d created, %,d rejected%n", label,
+                response.getRows(), response.getDurationMillis() / 1e3,
+                response.getRows() * 1e3 / Math.max(response.getDurationMillis(), 1),
+                response.getCreated(), response.getFailed());
+        return response;
+    }
+
+    private static ByteArrayInputStream body(StringBuilder content) {
+        return new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
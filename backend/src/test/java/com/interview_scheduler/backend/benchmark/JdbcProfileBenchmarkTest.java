@@ -0,0 +1,148 @@
+package com.interview_scheduler.backend.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.interview_scheduler.backend.BackendApplication;
+import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
+import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
+import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
+import com.interview_scheduler.backend.service.BookingService;
+import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.InterviewerService;
+import com.interview_scheduler.backend.service.SlotService;
+
+/**
+ * Opt-in benchmark of the {@code perf} profile against the default one:
+ * {@code ./gradlew test --tests '*JdbcProfileBenchmarkTest' -Dbenchmark=true -Dbenchmark.interviewers=50}.
+ * Each profile gets a fresh application context and schema; slot generation runs per interviewer, then
+ * every candidate books one slot from {@code benchmark.threads} threads. Runs on in-memory H2 unless
+ * {@code -Dbenchmark.url=jdbc:mysql://...} (with {@code benchmark.username} and {@code benchmark.password})
+ * points it at MySQL, where the driver settings take effect. H2 takes table locks for the serializable
+ * booking transaction, so bookings default to a single thread there and to 16 against MySQL.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("JDBC Profile Benchmark")
+class JdbcProfileBenchmarkTest {
+
+    private static final int WEEKS = 4;
+
+    @Test
+    @DisplayName("Slot generation and booking: default vs perf profile")
+    void compareProfiles() throws Exception {
+        for (String profile : List.of("default", "perf", "default", "perf")) {
+            run(profile);
+        }
+    }
+
+    private void run(String profile) throws Exception {
+        int interviewers = Integer.getInteger("benchmark.interviewers", 50);
+        String url = System.getProperty("benchmark.url",
+                "jdbc:h2:mem:bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE");
+        int threads = Integer.getInteger("benchmark.threads", url.startsWith("jdbc:h2:") ? 1 : 16);
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--logging.level.com.interview_scheduler=WARN"));
+        if (url.startsWith("jdbc:mysql:")) {
+            args.add("--spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver");
+            args.add("--spring.datasource.username=" + System.getProperty("benchmark.username", "root"));
+            args.add("--spring.datasource.password=" + System.getProperty("benchmark.password", "root"));
+            args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profile.equals("default") ? new String[0] : new String[] { profile })
+                .run(args.toArray(String[]::new))) {
+            InterviewerService interviewerService = context.getBean(InterviewerService.class);
+            CandidateService candidateService = context.getBean(CandidateService.class);
+            SlotService slotService = context.getBean(SlotService.class);
+            BookingService bookingService = context.getBean(BookingService.class);
+
+            List<Long> interviewerIds = new ArrayList<>();
+            for (int i = 0; i < interviewers; i++) {
+                interviewerIds.add(interviewerService.createInterviewer(interviewer(i)).getId());
+            }
+            List<List<Long>> slotIds = new ArrayList<>();
+            int slots = 0;
+            long generationStart = System.nanoTime();
+            for (Long interviewerId : interviewerIds) {
+                List<Long> generated = slotService.generateSlots(GenerateSlotsRequest.builder()
+                        .interviewerId(interviewerId)
+                        .weeksToGenerate(WEEKS)
+                        .build()).stream().map(InterviewSlotResponse::getId).toList();
+                slotIds.add(generated);
+                slots += generated.size();
+            }
+            double generationSeconds = (System.nanoTime() - generationStart) / 1e9;
+
+            // One booking per candidate, taking every fourth slot round-robin over interviewers so that
+            // concurrent bookings rarely share an interviewer's week and no weekly cap is reached
+            int bookings = slots / 4;
+            List<Long> candidateIds = new ArrayList<>();
+            for (int i = 0; i < bookings; i++) {
+                candidateIds.add(candidateService.createCandidate(CreateCandidateRequest.builder()
+                        .name("Candidate " + i)
+                        .email("candidate" + i + "@bench.test")
+                        .build()).getId());
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> results = new ArrayList<>();
+            long bookingStart = System.nanoTime();
+            for (int i = 0; i < bookings; i++) {
+                BookSlotRequest request = BookSlotRequest.builder()
+                        .slotId(slotIds.get(i % interviewers).get(i / interviewers * 4))
+                        .candidateId(candidateIds.get(i))
+                        .build();
+                results.add(executor.submit(() -> bookingService.bookSlot(request)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            double bookingSeconds = (System.nanoTime() - bookingStart) / 1e9;
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+
+            System.out.printf("%-8s generation: %,d slots in %.2f s (%,.0f slots/s)  "
+                    + "booking: %,d on %d threads in %.2f s (%,.0f bookings/s)%n",
+                    profile, slots, generationSeconds, slots / generationSeconds,
+                    bookings, threads, bookingSeconds, bookings / bookingSeconds);
+        }
+    }
+
+    private static CreateInterviewerRequest interviewer(int i) {
+        List<WeeklyAvailabilityRequest> availability = new ArrayList<>();
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            availability.add(WeeklyAvailabilityRequest.builder()
+                    .dayOfWeek(day)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(17, 0))
+                    .build());
+        }
+        return CreateInterviewerRequest.builder()
+                .name("Interviewer " + i)
+                .email("interviewer" + i + "@bench.test")
+                .maxInterviewsPerWeek(40)
+                .slotDurationMinutes(30)
+                .weeklyAvailabilities(availability)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.interview_scheduler.backend.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.interview_scheduler.backend.dto.response.ApiResponse;
+import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
+import com.interview_scheduler.backend.dto.response.PaginatedResponse;
+import com.interview_scheduler.backend.entity.BookingStatus;
+import com.interview_scheduler.backend.entity.SlotStatus;
+
+/**
+ * Opt-in benchmark: {@code ./gradlew test --tests '*SlotEncodingBenchmarkTest' -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Slot Encoding Benchmark")
+class SlotEncodingBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 5_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .factory(new CBORFactory())
+            .build();
+
+    @Test
+    @DisplayName("JSON vs CBOR: slot page and booking encode/decode")
+    void compareJsonAndCbor() throws Exception {
+        ApiResponse<PaginatedResponse<InterviewSlotResponse>> page = ApiResponse.success(page(100));
+        ApiResponse<BookingResponse> booking = ApiResponse.success(booking());
+
+        report("slot page (100)", page, new TypeReference<ApiResponse<PaginatedResponse<InterviewSlotResponse>>>() {
+        });
+        report("booking", booking, new TypeReference<ApiResponse<BookingResponse>>() {
+        });
+    }
+
+    private <T> void report(String label, T value, TypeReference<T> type) throws Exception {
+        byte[] jsonBytes = json.writeValueAsBytes(value);
+        byte[] cborBytes = cbor.writeValueAsBytes(value);
+
+        double jsonWrite = measure(() -> json.writeValueAsBytes(value));
+        double cborWrite = measure(() -> cbor.writeValueAsBytes(value));
+        double jsonRead = measure(() -> json.readValue(jsonBytes, type));
+        double cborRead = measure(() -> cbor.readValue(cborBytes, type));
+
+        System.out.printf("%s json: %d B write %.2f us read %.2f us | cbor: %d B write %.2f us read %.2f us%n",
+                label, jsonBytes.length, jsonWrite, jsonRead, cborBytes.length, cborWrite, cborRead);
+    }
+
+    private double measure(ThrowingRunnable body) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            body.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            body.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static PaginatedResponse<InterviewSlotResponse> page(int slots) {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 9, 0);
+        List<InterviewSlotResponse> data = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            data.add(InterviewSlotResponse.builder()
+                    .id((long) i + 1)
+                    .interviewerId((long) i % 8 + 1)
+                    .interviewerName("Interviewer Number " + (i % 8 + 1))
+                    .startTime(start.plusMinutes(60L * i))
+                    .endTime(start.plusMinutes(60L * i + 60))
+                    .status(SlotStatus.AVAILABLE)
+                    .weekNumber(11)
+                    .year(2025)
+                    .build());
+        }
+        return PaginatedResponse.ofOffset(data, 0, slots, slots * 10L, 10);
+    }
+
+    private static BookingResponse booking() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 9, 0);
+        return BookingResponse.builder()
+                .id(42L)
+                .candidateId(7L)
+                .candidateName("Alice Brown")
+                .candidateEmail("alice.brown@email.com")
+                .slotId(1001L)
+                .slotStartTime(start)
+                .slotEndTime(start.plusHours(1))
+                .interviewerId(3L)
+                .interviewerName("John Smith")
+                .status(BookingStatus.CONFIRMED)
+                .bookingNotes("Technical interview")
+                .weekNumber(11)
+                .year(2025)
+                .createdAt(start.minusDays(2))
+                .confirmedAt(start.minusDays(1))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,96 @@
+package com.interview_scheduler.backend.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.interview_scheduler.backend.dto.response.ApiResponse;
+import com.interview_scheduler.backend.dto.response.CompactSlotPage;
+import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
+import com.interview_scheduler.backend.dto.response.PaginatedResponse;
+import com.interview_scheduler.backend.entity.SlotStatus;
+
+/**
+ * Opt-in benchmark: {@code ./gradlew test --tests '*SlotPayloadBenchmarkTest' -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Slot Payload Benchmark")
+class SlotPayloadBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("Payload size and serialization time: standard vs compact")
+    void compareStandardAndCompact() throws Exception {
+        for (int pageSize : new int[] { 10, 50, 200 }) {
+            PaginatedResponse<InterviewSlotResponse> page = page(pageSize, 8);
+
+            byte[] standard = objectMapper.writeValueAsBytes(ApiResponse.success(page));
+            byte[] compact = objectMapper.writeValueAsBytes(CompactSlotPage.from(page));
+
+            double standardMicros = measure(() -> objectMapper.writeValueAsBytes(ApiResponse.success(page)));
+            double compactMicros = measure(() -> objectMapper.writeValueAsBytes(CompactSlotPage.from(page)));
+
+            System.out.printf("page=%d standard: %d B (gzip %d B, %.1f us)  compact: %d B (gzip %d B, %.1f us)%n",
+                    pageSize, standard.length, gzip(standard), standardMicros,
+                    compact.length, gzip(compact), compactMicros);
+        }
+    }
+
+    private double measure(ThrowingRunnable body) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            body.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            body.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    private static PaginatedResponse<InterviewSlotResponse> page(int slots, int interviewers) {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 9, 0);
+        List<InterviewSlotResponse> data = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            long interviewerId = i % interviewers + 1;
+            data.add(InterviewSlotResponse.builder()
+                    .id((long) i + 1)
+                    .interviewerId(interviewerId)
+                    .interviewerName("Interviewer Number " + interviewerId)
+                    .startTime(start.plusMinutes(60L * i))
+                    .endTime(start.plusMinutes(60L * i + 60))
+                    .status(SlotStatus.AVAILABLE)
+                    .weekNumber(11)
+                    .year(2025)
+                    .build());
+        }
+        return PaginatedResponse.ofOffset(data, 0, slots, slots * 10L, 10);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,52 @@
+package com.interview_scheduler.backend.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Bloom Filter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should admit every key that was put")
+    void mightContain_NoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("default\0candidate" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("default\0candidate" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured probability")
+    void mightContain_FalsePositiveRate() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("candidate" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should size bits and hash functions from the expected insertions")
+    void create_Sizing() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // -n ln p / (ln 2)^2 bits and (m / n) ln 2 hashes
+        assertEquals(9_586, filter.getBitSize());
+        assertEquals(7, filter.getHashFunctions());
+        assertFalse(filter.mightContain("anything"));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1_000, 1));
+    }
+}
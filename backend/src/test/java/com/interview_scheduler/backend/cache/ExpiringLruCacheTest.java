@@ -0,0 +1,108 @@
+package com.interview_scheduler.backend.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Expiring LRU Cache Tests")
+class ExpiringLruCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private String load(Long key) {
+        loads.incrementAndGet();
+        return "value-" + key;
+    }
+
+    @Test
+    @DisplayName("Should load once and count hits and misses")
+    void get_LoadsOnce() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(30), nanos::get);
+
+        assertEquals("value-1", cache.get(1L, this::load));
+        assertEquals("value-1", cache.get(1L, this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Should reload entries older than the ttl")
+    void get_ReloadsExpired() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(30), nanos::get);
+
+        cache.get(1L, this::load);
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry beyond capacity")
+    void get_EvictsLeastRecentlyUsed() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(2, Duration.ofSeconds(30), nanos::get);
+
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+        cache.get(3L, this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        cache.get(1L, this::load);
+        assertEquals(3, loads.get(), "key 1 was used last and should have survived");
+    }
+
+    @Test
+    @DisplayName("Should not cache null results or failed loads")
+    void get_SkipsNullAndFailures() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(30), nanos::get);
+
+        assertNull(cache.get(1L, key -> null));
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, key -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Should drop a value loaded across an invalidation")
+    void get_DiscardsValueLoadedDuringInvalidation() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(30), nanos::get);
+
+        assertEquals("stale", cache.get(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        }));
+
+        assertEquals(0, cache.size());
+        assertEquals("value-1", cache.get(1L, this::load));
+    }
+
+    @Test
+    @DisplayName("Should invalidate only matching keys")
+    void invalidateIf_MatchingKeys() {
+        ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(30), nanos::get);
+        for (long key = 1; key <= 4; key++) {
+            cache.get(key, this::load);
+        }
+
+        cache.invalidateIf(key -> key % 2 == 0);
+
+        assertEquals(2, cache.size());
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        assertEquals(5, loads.get());
+    }
+}
@@ -2,6 +2,9 @@ package com.interview_scheduler.backend.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -16,16 +19,23 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.PanelBookingRequest;
 import com.interview_scheduler.backend.dto.request.UpdateBookingRequest;
+import com.interview_scheduler.backend.dto.response.ApiResponse;
 import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.PanelBookingResponse;
 import com.interview_scheduler.backend.entity.BookingStatus;
 import com.interview_scheduler.backend.exception.DuplicateBookingException;
+import com.interview_scheduler.backend.exception.PanelBookingException;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
 import com.interview_scheduler.backend.exception.SlotAlreadyBookedException;
 import com.interview_scheduler.backend.service.BookingService;
@@ -140,6 +150,79 @@ class BookingControllerTest {
                 }
         }
 
+        @Nested
+        @DisplayName("Panel Booking Endpoint Tests")
+        class PanelBookingTests {
+
+                @Test
+                @DisplayName("POST /api/bookings/panel - Success")
+                void bookPanel_Success() throws Exception {
+                        PanelBookingRequest request = PanelBookingRequest.builder()
+                                        .candidateId(1L)
+                                        .interviewerIds(List.of(1L, 2L))
+                                        .build();
+                        PanelBookingResponse response = PanelBookingResponse.builder()
+                                        .panelId("panel-1")
+                                        .candidateId(1L)
+                                        .bookings(List.of(testBookingResponse, testBookingResponse))
+                                        .build();
+
+                        when(bookingService.bookPanel(any(PanelBookingRequest.class))).thenReturn(response);
+
+                        mockMvc.perform(post("/api/bookings/panel")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isCreated())
+                                        .andExpect(jsonPath("$.message").value("Panel booked successfully"))
+                                        .andExpect(jsonPath("$.data.panelId").value("panel-1"))
+                                        .andExpect(jsonPath("$.data.bookings.length()").value(2));
+                }
+
+                @Test
+                @DisplayName("POST /api/bookings/panel - Single Interviewer Rejected")
+                void bookPanel_TooFewInterviewers() throws Exception {
+                        PanelBookingRequest request = PanelBookingRequest.builder()
+                                        .candidateId(1L)
+                                        .interviewerIds(List.of(1L))
+                                        .build();
+
+                        mockMvc.perform(post("/api/bookings/panel")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isBadRequest())
+                                        .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+
+                        verify(bookingService, never()).bookPanel(any());
+                }
+
+                @Test
+                @DisplayName("DELETE /api/bookings/panel/{panelId} - Success")
+                void cancelPanel_Success() throws Exception {
+                        PanelBookingResponse response = PanelBookingResponse.builder()
+                                        .panelId("panel-1")
+                                        .candidateId(1L)
+                                        .bookings(List.of(testBookingResponse, testBookingResponse))
+                                        .build();
+
+                        when(bookingService.cancelPanel("panel-1")).thenReturn(response);
+
+                        mockMvc.perform(delete("/api/bookings/panel/panel-1"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.message").value("Panel cancelled successfully"))
+                                        .andExpect(jsonPath("$.data.bookings.length()").value(2));
+                }
+
+                @Test
+                @DisplayName("DELETE /api/bookings/{id} - Panel Member Rejected")
+                void cancelBooking_PanelMember() throws Exception {
+                        when(bookingService.cancelBooking(1L)).thenThrow(new PanelBookingException(1L, "panel-1"));
+
+                        mockMvc.perform(delete("/api/bookings/1"))
+                                        .andExpect(status().isConflict())
+                                        .andExpect(jsonPath("$.errorCode").value("PANEL_BOOKING"));
+                }
+        }
+
         @Nested
         @DisplayName("Update Booking Endpoint Tests")
         class UpdateBookingTests {
@@ -230,6 +313,38 @@ class BookingControllerTest {
                                         .andExpect(jsonPath("$.data.id").value(1));
                 }
 
+                @Test
+                @DisplayName("GET /api/bookings/{id} - CBOR round trip via Accept header")
+                void getBookingById_CborRoundTrip() throws Exception {
+                        when(bookingService.getBookingById(1L)).thenReturn(testBookingResponse);
+
+                        byte[] body = mockMvc.perform(get("/api/bookings/1")
+                                        .accept(MediaType.APPLICATION_CBOR))
+                                        .andExpect(status().isOk())
+                                        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                                        .andReturn().getResponse().getContentAsByteArray();
+
+                        ApiResponse<BookingResponse> decoded = CBORMapper.builder()
+                                        .findAndAddModules().build()
+                                        .readValue(body, new TypeReference<>() {
+                                        });
+
+                        assertEquals(testBookingResponse, decoded.getData());
+                }
+
+                @Test
+                @DisplayName("GET /api/bookings/{id} - Not Modified when ETag matches")
+                void getBookingById_NotModified() throws Exception {
+                        when(bookingService.getBookingVersion(1L)).thenReturn(2L);
+
+                        mockMvc.perform(get("/api/bookings/1")
+                                        .header(HttpHeaders.IF_NONE_MATCH, "\"booking-1-2\""))
+                                        .andExpect(status().isNotModified())
+                                        .andExpect(header().string(HttpHeaders.ETAG, "\"booking-1-2\""));
+
+                        verify(bookingService, never()).getBookingById(1L);
+                }
+
                 @Test
                 @DisplayName("GET /api/bookings/candidate/{candidateId} - Success")
                 void getBookingsByCandidate_Success() throws Exception {
@@ -3,6 +3,11 @@ package com.interview_scheduler.backend.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -15,19 +20,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.interview_scheduler.backend.dto.response.ApiResponse;
+import com.interview_scheduler.backend.dto.request.FreeBusySearchRequest;
 import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.HoldSlotRequest;
+import com.interview_scheduler.backend.dto.response.CompactSlotPage;
+import com.interview_scheduler.backend.dto.response.FreeBusySearchResponse;
 import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
 import com.interview_scheduler.backend.dto.response.PaginatedResponse;
+import com.interview_scheduler.backend.dto.response.SlotHoldResponse;
 import com.interview_scheduler.backend.entity.SlotStatus;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
+import com.interview_scheduler.backend.exception.SlotAlreadyBookedException;
+import com.interview_scheduler.backend.exception.SlotNotAvailableException;
 import com.interview_scheduler.backend.exception.ValidationException;
+import com.interview_scheduler.backend.service.FreeBusyService;
+import com.interview_scheduler.backend.service.SlotHoldService;
 import com.interview_scheduler.backend.service.SlotService;
 
 @WebMvcTest(SlotController.class)
@@ -43,6 +62,12 @@ class SlotControllerTest {
         @MockitoBean
         private SlotService slotService;
 
+        @MockitoBean
+        private SlotHoldService slotHoldService;
+
+        @MockitoBean
+        private FreeBusyService freeBusyService;
+
         private InterviewSlotResponse testSlotResponse;
         private List<InterviewSlotResponse> testSlotList;
 
@@ -158,7 +183,7 @@ class SlotControllerTest {
                         PaginatedResponse<InterviewSlotResponse> response = PaginatedResponse.ofOffset(
                                         testSlotList, 0, 10, 2L, 1);
 
-                        when(slotService.getAvailableSlots(anyInt(), anyInt())).thenReturn(response);
+                        when(slotService.getAvailableSlots(anyInt(), anyInt(), isNull())).thenReturn(response);
 
                         mockMvc.perform(get("/api/slots/available")
                                         .param("page", "0")
@@ -177,7 +202,7 @@ class SlotControllerTest {
                         PaginatedResponse<InterviewSlotResponse> response = PaginatedResponse.ofCursor(
                                         testSlotList, 2L, 0L, false);
 
-                        when(slotService.getAvailableSlotsByCursor(anyLong(), anyInt())).thenReturn(response);
+                        when(slotService.getAvailableSlotsByCursor(anyLong(), anyInt(), isNull())).thenReturn(response);
 
                         mockMvc.perform(get("/api/slots/available/cursor")
                                         .param("cursor", "0")
@@ -188,6 +213,108 @@ class SlotControllerTest {
                                         .andExpect(jsonPath("$.data.nextCursor").value(2))
                                         .andExpect(jsonPath("$.data.hasNext").value(false));
                 }
+
+                @Test
+                @DisplayName("GET /api/slots/available - CBOR round trip via Accept header")
+                void getAvailableSlots_CborRoundTrip() throws Exception {
+                        PaginatedResponse<InterviewSlotResponse> response = PaginatedResponse.ofOffset(
+                                        testSlotList, 0, 10, 2L, 1);
+
+                        when(slotService.getAvailableSlots(anyInt(), anyInt(), isNull())).thenReturn(response);
+
+                        byte[] body = mockMvc.perform(get("/api/slots/available")
+                                        .accept(MediaType.APPLICATION_CBOR))
+                                        .andExpect(status().isOk())
+                                        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                                        .andReturn().getResponse().getContentAsByteArray();
+
+                        ApiResponse<PaginatedResponse<InterviewSlotResponse>> decoded = CBORMapper.builder()
+                                        .findAndAddModules().build()
+                                        .readValue(body, new TypeReference<>() {
+                                        });
+
+                        assertEquals(response, decoded.getData());
+                }
+
+                @Test
+                @DisplayName("GET /api/slots/available - Compact mode via Accept header")
+                void getAvailableSlots_CompactMode() throws Exception {
+                        PaginatedResponse<InterviewSlotResponse> response = PaginatedResponse.ofOffset(
+                                        testSlotList, 0, 10, 2L, 1);
+
+                        when(slotService.getAvailableSlots(anyInt(), anyInt(), isNull())).thenReturn(response);
+
+                        mockMvc.perform(get("/api/slots/available")
+                                        .accept(CompactSlotPage.MEDIA_TYPE))
+                                        .andExpect(status().isOk())
+                                        .andExpect(content().contentTypeCompatibleWith(CompactSlotPage.MEDIA_TYPE))
+                                        .andExpect(jsonPath("$.success").doesNotExist())
+                                        .andExpect(jsonPath("$.interviewers.length()").value(1))
+                                        .andExpect(jsonPath("$.interviewers[0].name").value("Test Interviewer"))
+                                        .andExpect(jsonPath("$.ids[1]").value(2))
+                                        .andExpect(jsonPath("$.interviewerIndexes[1]").value(0))
+                                        .andExpect(jsonPath("$.durationMinutes[0]").value(60))
+                                        .andExpect(jsonPath("$.totalElements").value(2));
+                }
+
+                @Test
+                @DisplayName("GET /api/slots/available - Malformed Accept header is not a server error")
+                void getAvailableSlots_MalformedAccept() throws Exception {
+                        PaginatedResponse<InterviewSlotResponse> response = PaginatedResponse.ofOffset(
+                                        testSlotList, 0, 10, 2L, 1);
+
+                        when(slotService.getAvailableSlots(anyInt(), anyInt(), isNull())).thenReturn(response);
+
+                        mockMvc.perform(get("/api/slots/available")
+                                        .header("Accept", "application/vnd.interview-scheduler.compact+json, text/"))
+                                        .andExpect(status().isNotAcceptable());
+                }
+        }
+
+        @Nested
+        @DisplayName("Free/Busy Search Tests")
+        class FreeBusySearchTests {
+
+                @Test
+                @DisplayName("GET /api/slots/search - Binds the query and returns shared windows")
+                void searchFreeWindows_AllMode() throws Exception {
+                        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+                        FreeBusySearchResponse response = FreeBusySearchResponse.builder()
+                                        .mode(FreeBusySearchRequest.Mode.ALL)
+                                        .durationMinutes(45)
+                                        .windows(List.of(new FreeBusySearchResponse.Window(null, start,
+                                                        start.plusHours(1))))
+                                        .build();
+                        when(freeBusyService.search(any(FreeBusySearchRequest.class))).thenReturn(response);
+
+                        mockMvc.perform(get("/api/slots/search")
+                                        .param("from", "2030-01-07T00:00:00")
+                                        .param("to", "2030-01-12T00:00:00")
+                                        .param("durationMinutes", "45")
+                                        .param("interviewerIds", "1,2")
+                                        .param("mode", "ALL"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.data.mode").value("ALL"))
+                                        .andExpect(jsonPath("$.data.windows[0].start").value("2030-01-07T10:00:00"));
+
+                        ArgumentCaptor<FreeBusySearchRequest> captor = ArgumentCaptor
+                                        .forClass(FreeBusySearchRequest.class);
+                        verify(freeBusyService).search(captor.capture());
+                        assertEquals(List.of(1L, 2L), captor.getValue().getInterviewerIds());
+                        assertEquals(45, captor.getValue().getDurationMinutes());
+                        assertEquals(50, captor.getValue().getLimit());
+                }
+
+                @Test
+                @DisplayName("GET /api/slots/search - Missing range is a bad request")
+                void searchFreeWindows_MissingRange() throws Exception {
+                        mockMvc.perform(get("/api/slots/search").param("from", "2030-01-07T00:00:00"))
+                                        .andExpect(status().isBadRequest())
+                                        .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"))
+                                        .andExpect(jsonPath("$.details.to").value("Required"));
+
+                        verify(freeBusyService, never()).search(any());
+                }
         }
 
         @Nested
@@ -205,6 +332,44 @@ class SlotControllerTest {
                                         .andExpect(jsonPath("$.data.id").value(1));
                 }
 
+                @Test
+                @DisplayName("GET /api/slots/{id} - Returns strong ETag from slot version")
+                void getSlotById_ReturnsETag() throws Exception {
+                        when(slotService.getSlotVersion(1L)).thenReturn(3L);
+                        when(slotService.getSlotById(1L)).thenReturn(testSlotResponse);
+
+                        mockMvc.perform(get("/api/slots/1"))
+                                        .andExpect(status().isOk())
+                                        .andExpect(header().string(HttpHeaders.ETAG, "\"slot-1-3\""));
+                }
+
+                @Test
+                @DisplayName("GET /api/slots/{id} - Not Modified when ETag matches")
+                void getSlotById_NotModified() throws Exception {
+                        when(slotService.getSlotVersion(1L)).thenReturn(3L);
+
+                        mockMvc.perform(get("/api/slots/1")
+                                        .header(HttpHeaders.IF_NONE_MATCH, "\"slot-1-3\""))
+                                        .andExpect(status().isNotModified())
+                                        .andExpect(header().string(HttpHeaders.ETAG, "\"slot-1-3\""))
+                                        .andExpect(content().string(""));
+
+                        verify(slotService, never()).getSlotById(1L);
+                }
+
+                @Test
+                @DisplayName("GET /api/slots/{id} - Full response when ETag is stale")
+                void getSlotById_StaleETag() throws Exception {
+                        when(slotService.getSlotVersion(1L)).thenReturn(4L);
+                        when(slotService.getSlotById(1L)).thenReturn(testSlotResponse);
+
+                        mockMvc.perform(get("/api/slots/1")
+                                        .header(HttpHeaders.IF_NONE_MATCH, "\"slot-1-3\""))
+                                        .andExpect(status().isOk())
+                                        .andExpect(header().string(HttpHeaders.ETAG, "\"slot-1-4\""))
+                                        .andExpect(jsonPath("$.data.id").value(1));
+                }
+
                 @Test
                 @DisplayName("GET /api/slots/{id} - Not Found")
                 void getSlotById_NotFound() throws Exception {
@@ -233,4 +398,62 @@ class SlotControllerTest {
                                         .andExpect(jsonPath("$.data.length()").value(2));
                 }
         }
+
+        @Nested
+        @DisplayName("Slot Hold Tests")
+        class SlotHoldTests {
+
+                @Test
+                @DisplayName("POST /api/slots/{id}/hold - Success")
+                void holdSlot_Success() throws Exception {
+                        LocalDateTime heldUntil = LocalDateTime.now().plusMinutes(2);
+                        when(slotHoldService.holdSlot(1L, 5L)).thenReturn(SlotHoldResponse.builder()
+                                        .slotId(1L)
+                                        .candidateId(5L)
+                                        .heldUntil(heldUntil)
+                                        .build());
+
+                        mockMvc.perform(post("/api/slots/1/hold")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(new HoldSlotRequest(5L))))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$.data.slotId").value(1))
+                                        .andExpect(jsonPath("$.data.candidateId").value(5))
+                                        .andExpect(jsonPath("$.data.heldUntil").exists());
+                }
+
+                @Test
+                @DisplayName("POST /api/slots/{id}/hold - Conflict when held by another candidate")
+                void holdSlot_Conflict() throws Exception {
+                        when(slotHoldService.holdSlot(1L, 6L)).thenThrow(new SlotAlreadyBookedException(1L));
+
+                        mockMvc.perform(post("/api/slots/1/hold")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(new HoldSlotRequest(6L))))
+                                        .andExpect(status().isConflict())
+                                        .andExpect(jsonPath("$.errorCode").value("SLOT_ALREADY_BOOKED"));
+                }
+
+                @Test
+                @DisplayName("POST /api/slots/{id}/hold - Validation error without candidate")
+                void holdSlot_MissingCandidate() throws Exception {
+                        mockMvc.perform(post("/api/slots/1/hold")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content("{}"))
+                                        .andExpect(status().isBadRequest());
+
+                        verify(slotHoldService, never()).holdSlot(anyLong(), anyLong());
+                }
+
+                @Test
+                @DisplayName("DELETE /api/slots/{id}/hold - Rejected when not the holder")
+                void releaseHold_NotHolder() throws Exception {
+                        doThrow(new SlotNotAvailableException(1L, "Slot is not held by candidate 6"))
+                                        .when(slotHoldService).releaseHold(1L, 6L);
+
+                        mockMvc.perform(delete("/api/slots/1/hold").param("candidateId", "6"))
+                                        .andExpect(status().isBadRequest())
+                                        .andExpect(jsonPath("$.errorCode").value("SLOT_NOT_AVAILABLE"));
+                }
+        }
 }
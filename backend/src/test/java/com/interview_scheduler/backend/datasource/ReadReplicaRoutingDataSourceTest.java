@@ -0,0 +1,136 @@
+package com.interview_scheduler.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.interview_scheduler.backend.filter.ReadYourWritesFilter;
+
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate writeTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadReplicaRoutingDataSource.Target.PRIMARY, primary,
+                ReadReplicaRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        writeTx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("CALL DATABASE()", String.class);
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should route read-only transactions to the replica")
+        void readOnlyTransaction_UsesReplica() {
+            assertEquals("ROUTING_REPLICA", readOnlyTx.execute(status -> currentDatabase()));
+        }
+
+        @Test
+        @DisplayName("Should route read-write transactions to the primary")
+        void writeTransaction_UsesPrimary() {
+            assertEquals("ROUTING_PRIMARY", writeTx.execute(status -> currentDatabase()));
+        }
+
+        @Test
+        @DisplayName("Should use the primary outside of a transaction")
+        void noTransaction_UsesPrimary() {
+            assertEquals("ROUTING_PRIMARY", currentDatabase());
+        }
+
+        @Test
+        @DisplayName("Should keep read-only transactions on the primary when pinned")
+        void pinnedReadOnlyTransaction_UsesPrimary() {
+            String database = ReplicaRoutingContext.onPrimary(
+                    () -> readOnlyTx.execute(status -> currentDatabase()));
+
+            assertEquals("ROUTING_PRIMARY", database);
+            assertFalse(ReplicaRoutingContext.isPrimaryPinned());
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Your-Writes Filter Tests")
+    class ReadYourWritesFilterTests {
+
+        private final ReadYourWritesFilter filter = new ReadYourWritesFilter(60_000);
+
+        private List<String> perform(String method, String clientId, int status) throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/bookings/1");
+            request.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, clientId);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            List<String> databases = new ArrayList<>();
+            filter.doFilter(request, response, (req, res) -> {
+                ((MockHttpServletResponse) res).setStatus(status);
+                databases.add(readOnlyTx.execute(tx -> currentDatabase()));
+            });
+            return databases;
+        }
+
+        @Test
+        @DisplayName("Should serve reads from the replica for clients without recent writes")
+        void readWithoutRecentWrite_UsesReplica() throws Exception {
+            assertEquals(List.of("ROUTING_REPLICA"), perform("GET", "dashboard", 200));
+        }
+
+        @Test
+        @DisplayName("Should pin a client's reads to the primary after a successful write")
+        void readAfterWrite_UsesPrimary() throws Exception {
+            perform("POST", "candidate-portal", 201);
+
+            assertEquals(List.of("ROUTING_PRIMARY"), perform("GET", "candidate-portal", 200));
+            assertEquals(List.of("ROUTING_REPLICA"), perform("GET", "another-client", 200));
+        }
+
+        @Test
+        @DisplayName("Should not pin a client after a failed write")
+        void readAfterFailedWrite_UsesReplica() throws Exception {
+            perform("POST", "retrying-client", 409);
+
+            assertEquals(List.of("ROUTING_REPLICA"), perform("GET", "retrying-client", 200));
+        }
+    }
+}
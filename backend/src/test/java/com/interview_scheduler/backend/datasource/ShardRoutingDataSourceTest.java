@@ -0,0 +1,134 @@
+package com.interview_scheduler.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.interview_scheduler.backend.config.TenancyProperties;
+import com.interview_scheduler.backend.filter.TenantFilter;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+@DisplayName("Shard Routing Tests")
+class ShardRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TenantShardResolver shardResolver;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:shard_primary;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource shardA = new DriverManagerDataSource("jdbc:h2:mem:shard_a;DB_CLOSE_DELAY=-1", "sa", "");
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(Map.of(TenantContext.DEFAULT_SHARD, primary, "shard-a", shardA));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        jdbcTemplate = new JdbcTemplate(routing);
+
+        TenancyProperties properties = new TenancyProperties();
+        properties.setShardingEnabled(true);
+        properties.getTenantShards().put("acme", "shard-a");
+        properties.getShards().put("shard-a", new TenancyProperties.Shard());
+        shardResolver = new TenantShardResolver(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("CALL DATABASE()", String.class);
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should route unmapped tenants to the default shard")
+        void unmappedTenant_UsesDefaultShard() {
+            assertEquals("primary", shardResolver.shardFor("globex"));
+            TenantContext.bind("globex", shardResolver.shardFor("globex"));
+
+            assertEquals("SHARD_PRIMARY", currentDatabase());
+        }
+
+        @Test
+        @DisplayName("Should route mapped tenants to their shard")
+        void mappedTenant_UsesItsShard() {
+            TenantContext.bind("acme", shardResolver.shardFor("acme"));
+
+            assertEquals("SHARD_A", currentDatabase());
+        }
+
+        @Test
+        @DisplayName("Should run system work once on every shard")
+        void sumOverShards_VisitsEveryShard() {
+            List<String> visited = new ArrayList<>();
+
+            int total = shardResolver.sumOverShards(() -> {
+                visited.add(currentDatabase());
+                return 2;
+            });
+
+            assertEquals(List.of("SHARD_PRIMARY", "SHARD_A"), visited);
+            assertEquals(4, total);
+            assertEquals("SHARD_PRIMARY", currentDatabase());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tenant Filter Tests")
+    class TenantFilterTests {
+
+        private MockHttpServletResponse perform(String tenantHeader, List<String> seen) throws Exception {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/slots/1");
+            if (tenantHeader != null) {
+                request.addHeader(TenantFilter.TENANT_HEADER, tenantHeader);
+            }
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            new TenantFilter(shardResolver, "default").doFilter(request, response,
+                    (req, res) -> seen.add(TenantContext.getTenantId() + "@" + currentDatabase()));
+            return response;
+        }
+
+        @Test
+        @DisplayName("Should bind the header's tenant and shard for the request only")
+        void tenantHeader_BindsTenantAndShard() throws Exception {
+            List<String> seen = new ArrayList<>();
+
+            perform("acme", seen);
+            perform(null, seen);
+
+            assertEquals(List.of("acme@SHARD_A", "default@SHARD_PRIMARY"), seen);
+            assertNull(TenantContext.getTenantId());
+        }
+
+        @Test
+        @DisplayName("Should reject malformed tenant ids")
+        void invalidTenantHeader_Returns400() throws Exception {
+            List<String> seen = new ArrayList<>();
+
+            MockHttpServletResponse response = perform("../acme", seen);
+
+            assertEquals(400, response.getStatus());
+            assertTrue(response.getContentAsString().contains("INVALID_TENANT"));
+            assertTrue(seen.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.interview_scheduler.backend.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.interview_scheduler.backend.dto.response.ApiResponse;
+import com.interview_scheduler.backend.dto.response.CompactSlotPage;
+import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
+import com.interview_scheduler.backend.dto.response.PaginatedResponse;
+import com.interview_scheduler.backend.entity.SlotStatus;
+
+@DisplayName("Compact Slot Page Tests")
+class CompactSlotPageTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    static PaginatedResponse<InterviewSlotResponse> samplePage(int slots, int interviewers) {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 10, 9, 0);
+        List<InterviewSlotResponse> data = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            long interviewerId = i % interviewers + 1;
+            data.add(InterviewSlotResponse.builder()
+                    .id((long) i + 1)
+                    .interviewerId(interviewerId)
+                    .interviewerName("Interviewer Number " + interviewerId)
+                    .startTime(start.plusMinutes(45L * i))
+                    .endTime(start.plusMinutes(45L * i + 45))
+                    .status(SlotStatus.AVAILABLE)
+                    .weekNumber(11)
+                    .year(2025)
+                    .build());
+        }
+        return PaginatedResponse.ofOffset(data, 0, slots, slots * 10L, 10);
+    }
+
+    @Test
+    @DisplayName("Should emit each interviewer once and reference it by index")
+    void from_DictionaryEncodesInterviewers() {
+        CompactSlotPage page = CompactSlotPage.from(samplePage(6, 2));
+
+        assertEquals(2, page.getInterviewers().size());
+        assertEquals(List.of(0, 1, 0, 1, 0, 1), page.getInterviewerIndexes());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), page.getIds());
+        assertEquals(45, page.getDurationMinutes().get(0));
+        assertEquals(60L, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should be substantially smaller than the wrapped JSON page")
+    void from_IsSmallerThanStandardPayload() throws Exception {
+        PaginatedResponse<InterviewSlotResponse> page = samplePage(100, 5);
+
+        int standard = objectMapper.writeValueAsBytes(ApiResponse.success(page)).length;
+        int compact = objectMapper.writeValueAsBytes(CompactSlotPage.from(page)).length;
+
+        assertTrue(compact * 2 < standard, "compact=" + compact + " standard=" + standard);
+    }
+
+    @Test
+    @DisplayName("Should recognise the compact media type in an Accept list")
+    void isAcceptable() {
+        assertTrue(CompactSlotPage.isAcceptable("application/vnd.interview-scheduler.compact+json"));
+        assertTrue(CompactSlotPage.isAcceptable("application/json;q=0.5, application/vnd.interview-scheduler.compact+json"));
+        assertFalse(CompactSlotPage.isAcceptable("application/json"));
+        assertFalse(CompactSlotPage.isAcceptable(null));
+        assertFalse(CompactSlotPage.isAcceptable("application/vnd.interview-scheduler.compact+json, text/"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.interview_scheduler.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("Correlation Id Filter Tests")
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    private String serve(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                seen.set(MDC.get(CorrelationIdFilter.REQUEST_ID_MDC_KEY));
+            }
+        }));
+        return seen.get();
+    }
+
+    @Test
+    @DisplayName("Should reuse a well-formed X-Request-Id for the MDC and the response")
+    void reusesCallerId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/bookings");
+        request.addHeader(CorrelationIdFilter.REQUEST_ID_HEADER, "gateway-7f3a.12");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertEquals("gateway-7f3a.12", serve(request, response));
+        assertEquals("gateway-7f3a.12", response.getHeader(CorrelationIdFilter.REQUEST_ID_HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.REQUEST_ID_MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Should generate an id when the header is missing or unsafe to log")
+    void generatesId() throws Exception {
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        String generated = serve(new MockHttpServletRequest("GET", "/api/slots"), missing);
+
+        MockHttpServletRequest unsafe = new MockHttpServletRequest("GET", "/api/slots");
+        unsafe.addHeader(CorrelationIdFilter.REQUEST_ID_HEADER, "abc\nFAKE LOG LINE");
+        String replaced = serve(unsafe, new MockHttpServletResponse());
+
+        assertTrue(generated.matches("[0-9a-f]{16}"), generated);
+        assertEquals(generated, missing.getHeader(CorrelationIdFilter.REQUEST_ID_HEADER));
+        assertTrue(replaced.matches("[0-9a-f]{16}"), replaced);
+        assertNotEquals(generated, replaced);
+    }
+}
@@ -0,0 +1,108 @@
+package com.interview_scheduler.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.interview_scheduler.backend.ratelimit.AdaptiveConcurrencyLimiter;
+import com.interview_scheduler.backend.ratelimit.TokenBucketRateLimiter;
+
+@DisplayName("Rate Limit Filter Tests")
+class RateLimitFilterTest {
+
+    private final AdaptiveConcurrencyLimiter bookingLimiter = new AdaptiveConcurrencyLimiter("bookings", 1, 1, 1, 100);
+    private final AdaptiveConcurrencyLimiter slotLimiter = new AdaptiveConcurrencyLimiter("slots", 5, 1, 5, 100);
+    private final RateLimitFilter filter = new RateLimitFilter(
+            new TokenBucketRateLimiter(2, 0.001, 100),
+            new TokenBucketRateLimiter(1, 0.001, 100),
+            bookingLimiter,
+            slotLimiter);
+
+    private static MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a client's bucket is empty")
+    void rateLimitsPerClient() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/bookings", "10.0.0.1"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/bookings", "10.0.0.1"), second, new MockFilterChain());
+        MockHttpServletResponse otherClient = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/bookings", "10.0.0.2"), otherClient, new MockFilterChain());
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertTrue(Long.parseLong(second.getHeader("Retry-After")) >= 1);
+        assertTrue(second.getContentAsString().contains("RATE_LIMITED"));
+        assertEquals(200, otherClient.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should not give a new bucket to every X-Client-Id from the same address")
+    void ignoresClientIdHeader() throws Exception {
+        MockHttpServletRequest first = request("POST", "/api/bookings", "10.0.0.1");
+        first.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, "first");
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletRequest second = request("POST", "/api/bookings", "10.0.0.1");
+        second.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, "second");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(second, response, new MockFilterChain());
+
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should count reads and writes in separate buckets")
+    void separateEndpointClasses() throws Exception {
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/bookings", "10.0.0.1"), write, new MockFilterChain());
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/slots/available", "10.0.0.1"), read, new MockFilterChain());
+
+        assertEquals(200, write.getStatus());
+        assertEquals(200, read.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when the controller's concurrency limit is reached")
+    void shedsLoadOverConcurrencyLimit() throws Exception {
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        MockFilterChain blocking = new MockFilterChain(new HttpServlet() {
+            // Runs while the outer request still holds the only place.
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                try {
+                    filter.doFilter(request("GET", "/api/bookings/1", "10.0.0.2"), response, new MockFilterChain());
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+                nested.set(response);
+            }
+        });
+
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/bookings/1", "10.0.0.1"), outer, blocking);
+
+        assertEquals(200, outer.getStatus());
+        assertEquals(503, nested.get().getStatus());
+        assertEquals("1", nested.get().getHeader("Retry-After"));
+        assertEquals(1, bookingLimiter.getRejected());
+        assertEquals(0, bookingLimiter.getInFlight());
+        assertEquals(0, slotLimiter.getRejected());
+    }
+}
@@ -0,0 +1,61 @@
+package com.interview_scheduler.backend.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CSV Reader Tests")
+class CsvReaderTest {
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        for (List<String> record = reader.next(); record != null; record = reader.next()) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("Should split records on LF, CRLF and CR and skip blank lines")
+    void next_LineEndings() throws IOException {
+        assertEquals(List.of(List.of("a", "b"), List.of("c", ""), List.of("d"), List.of("e", "f")),
+                readAll("a,b\r\nc,\n\nd\re,f"));
+    }
+
+    @Test
+    @DisplayName("Should keep commas, doubled quotes and line breaks inside quoted fields")
+    void next_QuotedFields() throws IOException {
+        assertEquals(List.of(List.of("Doe, Jane", "say \"hi\"", "two\nlines"), List.of("", "x")),
+                readAll("\"Doe, Jane\",\"say \"\"hi\"\"\",\"two\nlines\"\n\"\",x\n"));
+    }
+
+    @Test
+    @DisplayName("Should read records spanning the internal buffer")
+    void next_LongInput() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            csv.append("name").append(i).append(",user").append(i).append("@example.com\n");
+        }
+
+        List<List<String>> records = readAll(csv.toString());
+
+        assertEquals(5_000, records.size());
+        assertEquals(List.of("name4999", "user4999@example.com"), records.get(4_999));
+    }
+
+    @Test
+    @DisplayName("Should reject input ending inside a quoted field")
+    void next_UnterminatedQuote() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\"open,c\n"));
+
+        assertEquals(List.of("a", "b"), reader.next());
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+}
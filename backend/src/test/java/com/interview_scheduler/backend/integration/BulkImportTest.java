@@ -0,0 +1,175 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.cache.CandidateEmailCache;
+import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
+import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
+import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application.properties", properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkimportdb;DB_CLOSE_DELAY=-1",
+        "bulk-import.chunk-size=100",
+        "candidate-email-cache.refresh-ms=3600000"
+})
+@DisplayName("Bulk Import Tests")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class BulkImportTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CandidateEmailCache emailCache;
+
+    @Test
+    @DisplayName("Should import candidates from CSV across chunks and report every rejected row")
+    void importCandidates_Csv() throws Exception {
+        mockMvc.perform(post("/api/candidates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateCandidateRequest.builder()
+                        .name("Existing Candidate")
+                        .email("existing@campus.example")
+                        .build())))
+                .andExpect(status().isCreated());
+
+        StringBuilder csv = new StringBuilder("Name,Email,phoneNumber\n");
+        for (int i = 0; i < 250; i++) {
+            csv.append("\"Student ").append(i).append(", Jr.\",student").append(i).append("@campus.example,\n");
+        }
+        csv.append("Repeat,STUDENT7@campus.example,\n")
+                .append("Bad Email,not-an-email,\n")
+                .append(",nameless@campus.example,\n")
+                .append("Existing,Existing@Campus.example,555-0100\n");
+
+        mockMvc.perform(post("/api/candidates/import").contentType(CSV).content(csv.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rows").value(254))
+                .andExpect(jsonPath("$.data.created").value(250))
+                .andExpect(jsonPath("$.data.failed").value(4))
+                .andExpect(jsonPath("$.data.errors", hasSize(4)))
+                .andExpect(jsonPath("$.data.errors[0].row").value(251))
+                .andExpect(jsonPath("$.data.errors[0].field").value("email"))
+                .andExpect(jsonPath("$.data.errors[1].row").value(252))
+                .andExpect(jsonPath("$.data.errors[1].field").value("email"))
+                .andExpect(jsonPath("$.data.errors[2].row").value(253))
+                .andExpect(jsonPath("$.data.errors[2].field").value("name"))
+                .andExpect(jsonPath("$.data.errors[3].row").value(254))
+                .andExpect(jsonPath("$.data.errors[3].message").value("A candidate with this email already exists"))
+                .andExpect(jsonPath("$.data.errorsTruncated").value(false));
+
+        mockMvc.perform(get("/api/candidates/email/student249@campus.example"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("Student 249, Jr."));
+        mockMvc.perform(post("/api/candidates/import").contentType(CSV).content(csv.toString()))
+                .andExpect(jsonPath("$.data.created").value(0))
+                .andExpect(jsonPath("$.data.failed").value(254));
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate the email filter missed instead of failing the chunk")
+    void importCandidates_FilterFalseNegative() throws Exception {
+        mockMvc.perform(post("/api/candidates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateCandidateRequest.builder()
+                        .name("Created Elsewhere")
+                        .email("elsewhere@campus.example")
+                        .build())))
+                .andExpect(status().isCreated());
+        // As on a node that has not refreshed since another node created the candidate
+        emailCache.replaceFilter(TenantContext.DEFAULT_SHARD, emailCache.newFilter(0));
+
+        String csv = "name,email\nFresh,fresh@campus.example\nElsewhere,elsewhere@campus.example\n";
+        mockMvc.perform(post("/api/candidates/import").contentType(CSV).content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.errors", hasSize(1)))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].message").value("A candidate with this email already exists"));
+    }
+
+    @Test
+    @DisplayName("Should import interviewers with weekly availabilities from NDJSON")
+    void importInterviewers_Ndjson() throws Exception {
+        String valid = objectMapper.writeValueAsString(CreateInterviewerRequest.builder()
+                .name("Imported Interviewer")
+                .email("imported.interviewer@campus.example")
+                .maxInterviewsPerWeek(5)
+                .weeklyAvailabilities(List.of(
+                        new WeeklyAvailabilityRequest(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                        new WeeklyAvailabilityRequest(DayOfWeek.THURSDAY, LocalTime.of(13, 0), LocalTime.of(17, 0))))
+                .build());
+        String backwards = objectMapper.writeValueAsString(CreateInterviewerRequest.builder()
+                .name("Backwards Interviewer")
+                .email("backwards@campus.example")
+                .maxInterviewsPerWeek(5)
+                .weeklyAvailabilities(List.of(
+                        new WeeklyAvailabilityRequest(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(9, 0))))
+                .build());
+        String body = valid + "\n\n" + backwards + "\n{\"name\": \"Broken\", \"maxInterviewsPerWeek\": \"many\"}\n";
+
+        mockMvc.perform(post("/api/interviewers/import").contentType(NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.rows").value(3))
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].field").value("weeklyAvailabilities[0].endTime"))
+                .andExpect(jsonPath("$.data.errors[1].row").value(3))
+                .andExpect(jsonPath("$.data.errors[1].field").value("maxInterviewsPerWeek"));
+
+        mockMvc.perform(get("/api/interviewers"))
+                .andExpect(jsonPath("$.data[?(@.email == 'imported.interviewer@campus.example')].weeklyAvailabilities[*]",
+                        hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("Should parse availability windows from interviewer CSV")
+    void importInterviewers_Csv() throws Exception {
+        String csv = "name,email,maxInterviewsPerWeek,slotDurationMinutes,weeklyAvailabilities\n"
+                + "CSV Interviewer,csv.interviewer@campus.example,3,30,MONDAY 09:00-12:00;friday 14:00-16:00\n"
+                + "Bad Window,bad.window@campus.example,3,,Mondays 9-12\n"
+                + "Bad Number,bad.number@campus.example,three,,\n";
+
+        mockMvc.perform(post("/api/interviewers/import").contentType(CSV).content(csv))
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.errors[0].field").value("weeklyAvailabilities"))
+                .andExpect(jsonPath("$.data.errors[1].field").value("maxInterviewsPerWeek"));
+
+        mockMvc.perform(get("/api/interviewers"))
+                .andExpect(jsonPath("$.data[?(@.email == 'csv.interviewer@campus.example')].slotDurationMinutes")
+                        .value(30));
+    }
+
+    @Test
+    @DisplayName("Should reject bodies that are neither CSV nor NDJSON")
+    void import_UnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/api/candidates/import").contentType(MediaType.APPLICATION_XML).content("<a/>"))
+                .andExpect(status().isBadRequest());
+    }
+}
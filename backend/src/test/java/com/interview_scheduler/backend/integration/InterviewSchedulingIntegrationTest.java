@@ -1,10 +1,16 @@
 package com.interview_scheduler.backend.integration;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 
@@ -25,15 +31,20 @@ import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.cache.CandidateEmailCache;
 import com.interview_scheduler.backend.dto.request.BookSlotRequest;
 import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
 import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
 import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.HoldSlotRequest;
 import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.entity.BookingEventType;
+import com.interview_scheduler.backend.entity.OutboxEvent;
+import com.interview_scheduler.backend.repository.OutboxEventRepository;
 
 @SpringBootTest
 @AutoConfigureMockMvc
-@TestPropertySource(locations = "classpath:application.properties")
+@TestPropertySource(locations = "classpath:application.properties", properties = "bulk-delete.chunk-size=7")
 @TestMethodOrder(OrderAnnotation.class)
 @DisplayName("Interview Scheduling Integration Tests")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
@@ -45,6 +56,12 @@ class InterviewSchedulingIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CandidateEmailCache candidateEmailCache;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
     private static Long interviewerId;
     private static Long candidateId;
     private static Long slotId;
@@ -323,4 +340,370 @@ class InterviewSchedulingIntegrationTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").value("Interview Scheduler API is running"));
     }
+
+    @Test
+    @Order(11)
+    @DisplayName("11. Hold a slot and book it before the hold expires")
+    void holdAndBookSlot() throws Exception {
+        Long holdSlotId = setupSlots(setupInterviewer());
+        if (holdSlotId == null) {
+            return;
+        }
+        Long holder = setupCandidate();
+
+        MvcResult rivalResult = mockMvc.perform(post("/api/candidates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateCandidateRequest.builder()
+                        .name("Rival Candidate")
+                        .email("rival.test" + System.nanoTime() + "@email.com")
+                        .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long rival = objectMapper.readTree(rivalResult.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+
+        mockMvc.perform(post("/api/slots/" + holdSlotId + "/hold")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new HoldSlotRequest(holder))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.candidateId").value(holder));
+
+        mockMvc.perform(get("/api/slots/" + holdSlotId))
+                .andExpect(jsonPath("$.data.status").value("HELD"));
+
+        mockMvc.perform(post("/api/slots/" + holdSlotId + "/hold")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new HoldSlotRequest(rival))))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(holdSlotId)
+                        .candidateId(rival)
+                        .build())))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(holdSlotId)
+                        .candidateId(holder)
+                        .build())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.slotId").value(holdSlotId));
+    }
+
+    @Test
+    @Order(12)
+    @DisplayName("12. Keep one tenant's slots invisible to another tenant")
+    void isolateTenants() throws Exception {
+        Long defaultSlotId = setupSlots(setupInterviewer());
+        if (defaultSlotId == null) {
+            return;
+        }
+
+        MvcResult otherCandidate = mockMvc.perform(post("/api/candidates")
+                .header("X-Tenant-Id", "other")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateCandidateRequest.builder()
+                        .name("Other Tenant Candidate")
+                        .email("integration.test@company.com")
+                        .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long otherCandidateId = objectMapper.readTree(otherCandidate.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+
+        mockMvc.perform(get("/api/slots/" + defaultSlotId).header("X-Tenant-Id", "other"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/slots/" + defaultSlotId + "/hold")
+                .header("X-Tenant-Id", "other")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new HoldSlotRequest(otherCandidateId))))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/candidates/" + otherCandidateId))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/slots/" + defaultSlotId))
+                .andExpect(jsonPath("$.data.status").value("AVAILABLE"));
+
+        mockMvc.perform(get("/api/slots/" + defaultSlotId).header("X-Tenant-Id", "Not A Tenant"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_TENANT"));
+    }
+
+    @Test
+    @Order(13)
+    @DisplayName("13. Serve an interviewer's week from the calendar projection")
+    void weekCalendar() throws Exception {
+        Long calendarInterviewerId = setupInterviewer();
+        Long calendarSlotId = setupSlots(calendarInterviewerId);
+        if (calendarSlotId == null) {
+            return;
+        }
+
+        mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(calendarSlotId)
+                        .candidateId(setupCandidate())
+                        .build())))
+                .andExpect(status().isCreated());
+
+        MvcResult slotResult = mockMvc.perform(get("/api/slots/" + calendarSlotId)).andReturn();
+        String slotDate = objectMapper.readTree(slotResult.getResponse().getContentAsString())
+                .path("data").path("startTime").asText().substring(0, 10);
+
+        MvcResult result = mockMvc.perform(get("/api/interviewers/" + calendarInterviewerId + "/calendar")
+                .param("week", slotDate))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.periodMinutes").value(15))
+                .andExpect(jsonPath("$.data.days.length()").value(7))
+                .andReturn();
+
+        JsonNode days = objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("days");
+        boolean booked = false;
+        for (JsonNode day : days) {
+            if (day.path("date").asText().equals(slotDate)) {
+                booked = day.path("booked").asText().contains("1111");
+            }
+        }
+        assertTrue(booked, "booked slot should appear in the week calendar");
+    }
+
+    @Test
+    @Order(14)
+    @DisplayName("14. Search free windows from the in-memory free/busy index")
+    void freeBusySearch() throws Exception {
+        Long searchInterviewerId = setupInterviewer();
+        Long searchSlotId = setupSlots(searchInterviewerId);
+        if (searchSlotId == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        JsonNode windows = searchWindows(searchInterviewerId, now);
+        assertTrue(windows.size() > 0, "generated slots should show up as free windows");
+        assertEquals(searchInterviewerId, windows.get(0).path("interviewerId").asLong());
+
+        mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(searchSlotId)
+                        .candidateId(setupCandidate())
+                        .build())))
+                .andExpect(status().isCreated());
+
+        MvcResult slotResult = mockMvc.perform(get("/api/slots/" + searchSlotId)).andReturn();
+        LocalDateTime slotStart = LocalDateTime.parse(objectMapper.readTree(slotResult.getResponse()
+                .getContentAsString()).path("data").path("startTime").asText());
+        for (JsonNode window : searchWindows(searchInterviewerId, now)) {
+            LocalDateTime start = LocalDateTime.parse(window.path("start").asText());
+            LocalDateTime end = LocalDateTime.parse(window.path("end").asText());
+            assertFalse(!start.isAfter(slotStart) && end.isAfter(slotStart),
+                    "booked slot should no longer be free");
+        }
+    }
+
+    @Test
+    @Order(15)
+    @DisplayName("15. Replay a booking retried with the same Idempotency-Key")
+    void idempotentBookingRetry() throws Exception {
+        Long retryInterviewerId = setupInterviewer();
+        Long retrySlotId = setupSlots(retryInterviewerId);
+        if (retrySlotId == null) {
+            return;
+        }
+        Long retryCandidateId = setupCandidate();
+        String key = "retry-" + System.nanoTime();
+        String body = objectMapper.writeValueAsString(BookSlotRequest.builder()
+                .slotId(retrySlotId)
+                .candidateId(retryCandidateId)
+                .build());
+
+        MvcResult first = mockMvc.perform(post("/api/bookings")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        MvcResult retry = mockMvc.perform(post("/api/bookings")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+        assertEquals(first.getResponse().getContentAsString(), retry.getResponse().getContentAsString());
+
+        mockMvc.perform(get("/api/bookings/candidate/" + retryCandidateId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+
+        mockMvc.perform(post("/api/bookings")
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(retrySlotId + 1)
+                        .candidateId(retryCandidateId)
+                        .build())))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    @Order(16)
+    @DisplayName("16. Serve repeated slot and booking reads from the cache until the slot changes")
+    void cachedSlotReads() throws Exception {
+        Long cachedSlotId = setupSlots(setupInterviewer());
+        if (cachedSlotId == null) {
+            return;
+        }
+        Long cachedCandidateId = setupCandidate();
+        mockMvc.perform(delete("/api/admin/caches")).andExpect(status().isOk());
+
+        MvcResult first = mockMvc.perform(get("/api/slots/" + cachedSlotId))
+                .andExpect(jsonPath("$.data.status").value("AVAILABLE"))
+                .andReturn();
+        mockMvc.perform(get("/api/slots/" + cachedSlotId)
+                .header("If-None-Match", first.getResponse().getHeader("ETag")))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/slots/" + cachedSlotId).header("X-Tenant-Id", "other"))
+                .andExpect(status().isNotFound());
+
+        MvcResult booked = mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(cachedSlotId)
+                        .candidateId(cachedCandidateId)
+                        .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long cachedBookingId = objectMapper.readTree(booked.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+
+        mockMvc.perform(get("/api/slots/" + cachedSlotId))
+                .andExpect(jsonPath("$.data.status").value("BOOKED"));
+        mockMvc.perform(get("/api/bookings/slot/" + cachedSlotId))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+
+        mockMvc.perform(post("/api/bookings/" + cachedBookingId + "/confirm")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/bookings/slot/" + cachedSlotId))
+                .andExpect(jsonPath("$.data.status").value("CONFIRMED"));
+        mockMvc.perform(get("/api/slots/" + cachedSlotId))
+                .andExpect(jsonPath("$.data.status").value("CONFIRMED"));
+
+        mockMvc.perform(delete("/api/bookings/" + cachedBookingId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/bookings/slot/" + cachedSlotId))
+                .andExpect(jsonPath("$.data.status").value("CANCELLED"));
+        mockMvc.perform(get("/api/slots/" + cachedSlotId))
+                .andExpect(jsonPath("$.data.status").value("AVAILABLE"));
+
+        mockMvc.perform(get("/api/admin/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("slots"))
+                .andExpect(jsonPath("$.data[0].hits").value(greaterThan(0)))
+                .andExpect(jsonPath("$.data[1].name").value("bookingsBySlot"));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("17. Match candidate emails case-insensitively and answer unknown emails from the filter")
+    void candidateEmailLookups() throws Exception {
+        String email = "Mixed.Case" + System.currentTimeMillis() + "@Example.com";
+        MvcResult created = mockMvc.perform(post("/api/candidates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateCandidateRequest.builder()
+                        .name("Email Lookup Candidate")
+                        .email(email)
+                        .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long createdId = objectMapper.readTree(created.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+
+        mockMvc.perform(get("/api/candidates/email/" + email.toLowerCase()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(createdId))
+                .andExpect(jsonPath("$.data.email").value(email));
+        mockMvc.perform(post("/api/candidates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(CreateCandidateRequest.builder()
+                        .name("Duplicate Candidate")
+                        .email(" " + email.toUpperCase() + " ")
+                        .build())))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/candidates/email/" + email).header("X-Tenant-Id", "other"))
+                .andExpect(status().isNotFound());
+
+        long negatives = candidateEmailCache.getFilterNegatives();
+        mockMvc.perform(get("/api/candidates/email/nobody" + System.currentTimeMillis() + "@example.com"))
+                .andExpect(status().isNotFound());
+        assertEquals(negatives + 1, candidateEmailCache.getFilterNegatives());
+
+        mockMvc.perform(delete("/api/candidates/" + createdId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/candidates/email/" + email))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("18. Delete a candidate and an interviewer together with their bookings in chunks")
+    void deleteWithBookings() throws Exception {
+        Long deletedInterviewerId = setupInterviewer();
+        Long bookedSlotId = setupSlots(deletedInterviewerId);
+        if (bookedSlotId == null) {
+            return;
+        }
+
+        Long firstCandidateId = setupCandidate();
+        Long firstBookingId = book(bookedSlotId, firstCandidateId);
+        mockMvc.perform(delete("/api/candidates/" + firstCandidateId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/bookings/" + firstBookingId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/slots/" + bookedSlotId))
+                .andExpect(jsonPath("$.data.status").value("AVAILABLE"));
+
+        Long secondCandidateId = setupCandidate();
+        Long secondBookingId = book(bookedSlotId, secondCandidateId);
+        mockMvc.perform(post("/api/bookings/" + secondBookingId + "/confirm")).andExpect(status().isOk());
+        // More slots than one chunk (bulk-delete.chunk-size=7), with a booking in one of them
+        mockMvc.perform(delete("/api/interviewers/" + deletedInterviewerId)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/interviewers/" + deletedInterviewerId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/slots/" + bookedSlotId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/bookings/" + secondBookingId)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/candidates/" + secondCandidateId)).andExpect(status().isOk());
+
+        List<Long> cancelled = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getEventType() == BookingEventType.BOOKING_CANCELLED)
+                .map(OutboxEvent::getAggregateId)
+                .toList();
+        assertTrue(cancelled.containsAll(List.of(firstBookingId, secondBookingId)));
+    }
+
+    private Long book(Long slotId, Long candidateId) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(slotId)
+                        .candidateId(candidateId)
+                        .build())))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("id").asLong();
+    }
+
+    private JsonNode searchWindows(Long interviewerId, LocalDateTime from) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/slots/search")
+                .param("from", from.toString())
+                .param("to", from.plusDays(21).toString())
+                .param("interviewerIds", interviewerId.toString())
+                .param("limit", "500"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).path("data").path("windows");
+    }
 }
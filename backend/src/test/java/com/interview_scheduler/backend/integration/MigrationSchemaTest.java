@@ -0,0 +1,40 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Boots against a database built only by the Flyway migrations (H2 in MySQL mode) with Hibernate validating
+ * every entity against it, the way the prod profile runs. Fails when an entity changes without a migration.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties", properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrationdb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@DisplayName("Migration Schema Tests")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class MigrationSchemaTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    @DisplayName("Migrations apply cleanly and match the entity mappings")
+    void migrationsMatchEntities() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertTrue(applied.length > 0);
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(flyway.validateWithResult().validationSuccessful);
+    }
+}
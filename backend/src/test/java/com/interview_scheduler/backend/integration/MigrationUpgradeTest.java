@@ -0,0 +1,88 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.interview_scheduler.backend.migration.V4__DropGlobalEmailKeys;
+
+/**
+ * Upgrades a database the way production has it: created by {@code ddl-auto} from the original entities,
+ * with Hibernate-named unique keys and rows but no Flyway history, then baselined at V1 and migrated.
+ */
+@DisplayName("Migration Upgrade Tests")
+class MigrationUpgradeTest {
+
+    private static final String URL = "jdbc:h2:mem:upgradedb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("Baselined pre-tenancy database gets the default tenant and per-tenant email keys")
+    void upgradesLegacyDatabase() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").target("1").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            // What ddl-auto left behind: generated key names and no schema history
+            statement.execute("DROP TABLE \"flyway_schema_history\"");
+            statement.execute("ALTER TABLE interviewers RENAME CONSTRAINT uk_interviewer_email "
+                    + "TO uk2xy0pl7v5kgfqvsq4mmp4nh3m");
+            statement.execute("ALTER TABLE candidates RENAME CONSTRAINT uk_candidate_email "
+                    + "TO uk6kl4tdkq8yq1rgu6f0ei3lh1f");
+
+            statement.execute("INSERT INTO interviewers (name, email, max_interviews_per_week, slot_duration_minutes, "
+                    + "created_at) VALUES ('Ada', 'ada@example.com', 5, 60, NOW())");
+            statement.execute("INSERT INTO candidates (name, email, created_at) "
+                    + "VALUES ('Grace', ' Grace@Example.com', NOW())");
+            statement.execute("INSERT INTO interview_slots (interviewer_id, start_time, end_time, status, week_number, "
+                    + "`year`, created_at) "
+                    + "VALUES (1, '2026-03-02 10:00:00', '2026-03-02 11:00:00', 'BOOKED', 10, 2026, NOW())");
+            statement.execute("INSERT INTO bookings (slot_id, candidate_id, status, week_number, `year`, created_at) "
+                    + "VALUES (1, 1, 'CONFIRMED', 10, 2026, NOW())");
+        }
+
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .placeholders(Map.of("default_tenant", "default"))
+                .javaMigrations(new V4__DropGlobalEmailKeys())
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            for (String table : new String[] { "interviewers", "candidates", "interview_slots", "bookings" }) {
+                assertEquals("default", single(statement, "SELECT tenant_id FROM " + table), table);
+            }
+            assertEquals("grace@example.com", single(statement, "SELECT email_normalized FROM candidates"));
+            assertEquals("2026-03-02 10:00:00", single(statement, "SELECT slot_start_time FROM bookings"));
+
+            // The global keys are gone: the same email can exist in another tenant, but not twice in one
+            statement.execute("INSERT INTO interviewers (name, email, max_interviews_per_week, slot_duration_minutes, "
+                    + "created_at, tenant_id) VALUES ('Ada', 'ada@example.com', 5, 60, NOW(), 'acme')");
+            statement.execute("INSERT INTO candidates (name, email, email_normalized, created_at, tenant_id) "
+                    + "VALUES ('Grace', 'grace@example.com', 'grace@example.com', NOW(), 'acme')");
+            assertThrows(SQLException.class, () -> statement.execute("INSERT INTO interviewers (name, email, "
+                    + "max_interviews_per_week, slot_duration_minutes, created_at, tenant_id) "
+                    + "VALUES ('Ada', 'ada@example.com', 5, 60, NOW(), 'acme')"));
+        }
+    }
+
+    private static String single(Statement statement, String sql) throws SQLException {
+        try (ResultSet rows = statement.executeQuery(sql)) {
+            assertTrue(rows.next());
+            String value = rows.getString(1);
+            assertFalse(rows.next());
+            return value;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
+import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
+import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.PanelBookingRequest;
+import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.PanelBookingResponse;
+import com.interview_scheduler.backend.entity.InterviewSlot;
+import com.interview_scheduler.backend.entity.SlotStatus;
+import com.interview_scheduler.backend.exception.BaseException;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.service.BookingService;
+import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.InterviewerService;
+import com.interview_scheduler.backend.service.SlotService;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+/**
+ * Books overlapping panels from many threads at once and checks that panels are all-or-nothing, that no
+ * slot is booked twice and that neither a weekly cap nor a candidate's single active booking is exceeded.
+ * Size it up with {@code -Dpanel.threads=16 -Dpanel.candidates=200}.
+ */
+@SpringBootTest
+// Own in-memory database: another context closing mid-run would otherwise drop the shared schema.
+@TestPropertySource(locations = "classpath:application.properties",
+        properties = "spring.datasource.url=jdbc:h2:mem:paneldb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@DisplayName("Panel Booking Contention Tests")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PanelBookingContentionTest {
+
+    private static final String TENANT = "default";
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private SlotService slotService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private InterviewSlotRepository slotRepository;
+
+    private <T> T asTenant(Supplier<T> action) {
+        return TenantContext.callAs(TENANT, TenantContext.DEFAULT_SHARD, action);
+    }
+
+    @Test
+    @DisplayName("Concurrent overlapping panels never double-book or half-book")
+    void concurrentPanels() throws Exception {
+        int threads = Integer.getInteger("panel.threads", 8);
+        int candidates = Integer.getInteger("panel.candidates", 32);
+        String run = Long.toString(System.nanoTime());
+
+        List<Long> interviewerIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String email = "panel.interviewer." + run + "." + i + "@company.com";
+            interviewerIds.add(asTenant(() -> createInterviewer(email, 100)));
+        }
+        List<Long> candidateIds = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            int index = i;
+            candidateIds.add(asTenant(() -> candidateService.createCandidate(CreateCandidateRequest.builder()
+                    .name("Panel Candidate " + index)
+                    .email("panel.candidate." + run + "." + index + "@email.com")
+                    .build()).getId()));
+        }
+
+        Random random = new Random(11);
+        List<List<Long>> panels = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            List<Long> shuffled = new ArrayList<>(interviewerIds);
+            Collections.shuffle(shuffled, random);
+            panels.add(shuffled.subList(0, 2 + random.nextInt(3)));
+        }
+
+        List<PanelBookingResponse> booked = new CopyOnWriteArrayList<>();
+        Map<String, Integer> failures = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            PanelBookingRequest request = PanelBookingRequest.builder()
+                    .candidateId(candidateIds.get(i))
+                    .interviewerIds(panels.get(i))
+                    .build();
+            futures.add(executor.submit(() -> {
+                try {
+                    booked.add(asTenant(() -> bookingService.bookPanel(request)));
+                } catch (BaseException | ConcurrencyFailureException ex) {
+                    failures.merge(ex.getClass().getSimpleName(), 1, Integer::sum);
+                }
+            }));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES), "panel bookings should not deadlock");
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertFalse(booked.isEmpty(), "failures: " + failures);
+        Set<Long> bookedSlots = new HashSet<>();
+        for (PanelBookingResponse panel : booked) {
+            assertTrue(panel.getBookings().size() >= 2);
+            for (BookingResponse booking : panel.getBookings()) {
+                assertEquals(panel.getStartTime(), booking.getSlotStartTime());
+                assertEquals(panel.getPanelId(), booking.getPanelId());
+                assertTrue(bookedSlots.add(booking.getSlotId()), "slot booked twice: " + booking.getSlotId());
+            }
+        }
+
+        // Failed panels must not leave any of their slots behind.
+        Set<Long> slotsMarkedBooked = new HashSet<>();
+        for (Long interviewerId : interviewerIds) {
+            asTenant(() -> slotRepository.findByInterviewerIdAndStatus(interviewerId, SlotStatus.BOOKED)).stream()
+                    .map(InterviewSlot::getId)
+                    .forEach(slotsMarkedBooked::add);
+        }
+        assertEquals(bookedSlots, slotsMarkedBooked);
+    }
+
+    @Test
+    @DisplayName("Repeated panels for the same candidates keep the weekly cap and one active booking")
+    void concurrentPanelsWithinLimits() throws Exception {
+        int maxPerWeek = 2;
+        String run = Long.toString(System.nanoTime());
+
+        List<Long> interviewerIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String email = "capped.interviewer." + run + "." + i + "@company.com";
+            interviewerIds.add(asTenant(() -> createInterviewer(email, maxPerWeek)));
+        }
+        List<Long> candidateIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int index = i;
+            candidateIds.add(asTenant(() -> candidateService.createCandidate(CreateCandidateRequest.builder()
+                    .name("Capped Candidate " + index)
+                    .email("capped.candidate." + run + "." + index + "@email.com")
+                    .build()).getId()));
+        }
+
+        // Each candidate asks two disjoint pairs at once, so its panels do not meet on a slot lock, and the
+        // spread start times send panels of the same pair to different slots of the same week. Every slot
+        // lies inside the one-booking window.
+        LocalDateTime now = LocalDateTime.now();
+        Random random = new Random(7);
+        List<List<Long>> pairs = List.of(interviewerIds.subList(0, 2), interviewerIds.subList(2, 4));
+        List<PanelBookingResponse> booked = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long candidateId : candidateIds) {
+            for (List<Long> pair : pairs) {
+                PanelBookingRequest request = PanelBookingRequest.builder()
+                        .candidateId(candidateId)
+                        .interviewerIds(pair)
+                        .earliestStart(now.plusHours(random.nextInt(96)))
+                        .latestStart(now.plusDays(10))
+                        .build();
+                futures.add(executor.submit(() -> {
+                    try {
+                        booked.add(asTenant(() -> bookingService.bookPanel(request)));
+                    } catch (BaseException | ConcurrencyFailureException ex) {
+                        // Duplicate booking, no week under the cap, or retries exhausted
+                    }
+                }));
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES), "panel bookings should not deadlock");
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        assertFalse(booked.isEmpty());
+        for (Long candidateId : candidateIds) {
+            long panels = booked.stream().filter(panel -> panel.getCandidateId().equals(candidateId)).count();
+            assertTrue(panels <= 1, "candidate " + candidateId + " booked " + panels + " panels");
+        }
+        for (Long interviewerId : interviewerIds) {
+            Map<String, Long> perWeek = asTenant(
+                    () -> slotRepository.findByInterviewerIdAndStatus(interviewerId, SlotStatus.BOOKED)).stream()
+                    .collect(Collectors.groupingBy(slot -> slot.getYear() + "/" + slot.getWeekNumber(),
+                            Collectors.counting()));
+            perWeek.forEach((week, count) -> assertTrue(count <= maxPerWeek,
+                    "interviewer " + interviewerId + " has " + count + " interviews in week " + week));
+        }
+    }
+
+    private Long createInterviewer(String email, int maxInterviewsPerWeek) {
+        List<WeeklyAvailabilityRequest> availabilities = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            availabilities.add(WeeklyAvailabilityRequest.builder()
+                    .dayOfWeek(day)
+                    .startTime(LocalTime.of(9, 0))
+                    .endTime(LocalTime.of(17, 0))
+                    .build());
+        }
+        Long id = interviewerService.createInterviewer(CreateInterviewerRequest.builder()
+                .name("Panel Interviewer")
+                .email(email)
+                .maxInterviewsPerWeek(maxInterviewsPerWeek)
+                .slotDurationMinutes(60)
+                .weeklyAvailabilities(availabilities)
+                .build()).getId();
+        slotService.generateSlots(GenerateSlotsRequest.builder().interviewerId(id).weeksToGenerate(2).build());
+        return id;
+    }
+}
@@ -0,0 +1,119 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
+import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
+import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
+import com.interview_scheduler.backend.service.BookingService;
+import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.InterviewerService;
+import com.interview_scheduler.backend.service.SlotService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Boots the {@code perf} profile on H2 (which is told to ignore the MySQL driver properties) and checks that
+ * the pool, driver and Hibernate settings are applied and that writes still commit with auto-commit off.
+ */
+@SpringBootTest
+@ActiveProfiles("perf")
+@TestPropertySource(locations = "classpath:application.properties", properties =
+        "spring.datasource.url=jdbc:h2:mem:perfdb;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE")
+@DisplayName("Perf Profile Tests")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PerfProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private SlotService slotService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    @DisplayName("Should size a fixed pool from the core count and pass the driver properties")
+    void configuresPool() throws Exception {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        int expected = Math.min(64, Runtime.getRuntime().availableProcessors() * 2 + 1);
+
+        assertEquals(expected, pool.getMaximumPoolSize());
+        assertEquals(expected, pool.getMinimumIdle());
+        assertFalse(pool.isAutoCommit());
+        assertEquals("true", pool.getDataSourceProperties().getProperty("rewriteBatchedStatements"));
+        assertEquals("true", pool.getDataSourceProperties().getProperty("cachePrepStmts"));
+    }
+
+    @Test
+    @DisplayName("Should enable Hibernate batching and plan caching")
+    void configuresHibernate() {
+        var properties = entityManagerFactory.getProperties();
+
+        assertEquals("50", String.valueOf(properties.get("hibernate.jdbc.batch_size")));
+        assertEquals("true", String.valueOf(properties.get("hibernate.order_updates")));
+        assertEquals("true", String.valueOf(properties.get("hibernate.connection.provider_disables_autocommit")));
+        assertEquals("true", String.valueOf(properties.get("hibernate.query.in_clause_parameter_padding")));
+    }
+
+    @Test
+    @DisplayName("Should commit generation and booking writes with auto-commit off")
+    void commitsWrites() {
+        Long interviewerId = interviewerService.createInterviewer(CreateInterviewerRequest.builder()
+                .name("Perf Interviewer")
+                .email("perf.interviewer@company.com")
+                .maxInterviewsPerWeek(10)
+                .weeklyAvailabilities(List.of(WeeklyAvailabilityRequest.builder()
+                        .dayOfWeek(DayOfWeek.TUESDAY)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(12, 0))
+                        .build()))
+                .build()).getId();
+        List<InterviewSlotResponse> slots = slotService.generateSlots(GenerateSlotsRequest.builder()
+                .interviewerId(interviewerId)
+                .weeksToGenerate(2)
+                .build());
+        Long candidateId = candidateService.createCandidate(CreateCandidateRequest.builder()
+                .name("Perf Candidate")
+                .email("perf.candidate@company.com")
+                .build()).getId();
+
+        BookingResponse booking = bookingService.bookSlot(BookSlotRequest.builder()
+                .slotId(slots.get(0).getId())
+                .candidateId(candidateId)
+                .build());
+
+        assertFalse(slots.isEmpty());
+        assertEquals(booking.getId(), bookingService.getBookingBySlotId(slots.get(0).getId()).getId());
+        assertTrue(slotService.getAvailableSlotsForInterviewer(interviewerId).size() < slots.size());
+    }
+}
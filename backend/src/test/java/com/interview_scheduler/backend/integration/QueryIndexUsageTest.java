@@ -0,0 +1,387 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.interview_scheduler.backend.entity.BookingStatus;
+import com.interview_scheduler.backend.entity.SlotStatus;
+import com.interview_scheduler.backend.repository.BookingRepository;
+import com.interview_scheduler.backend.repository.CandidateRepository;
+import com.interview_scheduler.backend.repository.IdempotencyRecordRepository;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.repository.InterviewerRepository;
+import com.interview_scheduler.backend.repository.InterviewerWeekCalendarRepository;
+import com.interview_scheduler.backend.repository.JobRunRepository;
+import com.interview_scheduler.backend.repository.OutboxEventRepository;
+import com.interview_scheduler.backend.repository.SchedulerLockRepository;
+import com.interview_scheduler.backend.repository.WeeklyAvailabilityRepository;
+
+/**
+ * Runs every query declared on the repositories against the migrated schema (H2 in MySQL mode), captures
+ * the SQL Hibernate sends and checks H2's EXPLAIN plan: each table must be read through an index whose
+ * leading column is constrained by the query. Queries run without a tenant, the way scheduled jobs issue
+ * them, so the tenant_id predicate added to requests cannot hide a missing index.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application.properties", properties = {
+        "spring.datasource.url=jdbc:h2:mem:indexdb;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.interview_scheduler.backend.integration.QueryIndexUsageTest$RecordingStatementInspector"
+})
+@DisplayName("Query Index Usage Tests")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class QueryIndexUsageTest {
+
+    /** Queries that read a whole (small) table by design and are not expected to use an index. */
+    private static final Set<String> FULL_SCANS = Set.of(
+            // ETag of the whole interviewer collection
+            "InterviewerRepository.findCollectionVersion",
+            // Free/busy index rebuilds over all interviewers and their weekly windows
+            "InterviewerRepository.findTenantRefs",
+            "InterviewerRepository.findTenantRefsChangedSince",
+            "WeeklyAvailabilityRepository.findActiveWindows",
+            // Candidate email filter rebuilds
+            "CandidateRepository.findEmailKeys",
+            // One-off backfill of rows written before slot_start_time existed
+            "BookingRepository.backfillSlotStartTimes");
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            InterviewSlotRepository.class, BookingRepository.class, InterviewerRepository.class,
+            CandidateRepository.class, WeeklyAvailabilityRepository.class, InterviewerWeekCalendarRepository.class,
+            OutboxEventRepository.class, JobRunRepository.class, SchedulerLockRepository.class,
+            IdempotencyRecordRepository.class);
+
+    private static final Pattern TABLE_ACCESS = Pattern.compile(
+            "/\\* public\\.([A-Za-z0-9_]+)(\\.tableScan|: (.*?))? \\*/", Pattern.DOTALL);
+
+    @Autowired
+    private InterviewSlotRepository slotRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private WeeklyAvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private InterviewerWeekCalendarRepository calendarRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Should exercise every query declared on the repositories")
+    void everyQueryIsCovered() {
+        Set<String> declared = new TreeSet<>();
+        for (Class<?> repository : REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+                    declared.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        assertEquals(declared, new TreeSet<>(queries().keySet()));
+    }
+
+    @Test
+    @DisplayName("Should read every table through an index on the query's leading predicate")
+    void everyQueryUsesAnIndex() throws SQLException {
+        List<String> problems = new ArrayList<>();
+
+        for (Map.Entry<String, Runnable> query : queries().entrySet()) {
+            if (FULL_SCANS.contains(query.getKey())) {
+                continue;
+            }
+            List<String> statements = capture(query.getValue());
+            assertFalse(statements.isEmpty(), query.getKey() + " issued no SQL");
+            for (String sql : statements) {
+                problems.addAll(checkPlan(query.getKey(), sql));
+            }
+        }
+
+        assertTrue(problems.isEmpty(), String.join("\n", problems));
+    }
+
+    private Map<String, Runnable> queries() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate week = LocalDate.now();
+        PageRequest page = PageRequest.of(0, 20);
+        List<Long> ids = List.of(1L, 2L);
+        List<SlotStatus> booked = List.of(SlotStatus.BOOKED, SlotStatus.CONFIRMED);
+
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("InterviewSlotRepository.findByIdWithLock", () -> slotRepository.findByIdWithLock(1L));
+        queries.put("InterviewSlotRepository.findVersionById", () -> slotRepository.findVersionById(1L));
+        queries.put("InterviewSlotRepository.findByInterviewerIdAndStatus",
+                () -> slotRepository.findByInterviewerIdAndStatus(1L, SlotStatus.AVAILABLE));
+        queries.put("InterviewSlotRepository.findUpcomingByInterviewerIdAndStatus",
+                () -> slotRepository.findUpcomingByInterviewerIdAndStatus(1L, SlotStatus.AVAILABLE, now));
+        queries.put("InterviewSlotRepository.findAvailableSlotsInDateRange",
+                () -> slotRepository.findAvailableSlotsInDateRange(SlotStatus.AVAILABLE, now, now.plusDays(7)));
+        queries.put("InterviewSlotRepository.findAvailableSlotsPageable",
+                () -> slotRepository.findAvailableSlotsPageable(SlotStatus.AVAILABLE, now, page));
+        queries.put("InterviewSlotRepository.findAvailableSlotsPageableByInterviewer",
+                () -> slotRepository.findAvailableSlotsPageableByInterviewer(SlotStatus.AVAILABLE, now, 1L, page));
+        queries.put("InterviewSlotRepository.findAvailableSlotsByCursor",
+                () -> slotRepository.findAvailableSlotsByCursor(SlotStatus.AVAILABLE, now, 0L, page));
+        queries.put("InterviewSlotRepository.findAvailableSlotsByCursorByInterviewer",
+                () -> slotRepository.findAvailableSlotsByCursorByInterviewer(SlotStatus.AVAILABLE, now, 1L, 0L, page));
+        queries.put("InterviewSlotRepository.findAvailableSlotsByTimeCursor",
+                () -> slotRepository.findAvailableSlotsByTimeCursor(SlotStatus.AVAILABLE, now, page));
+        queries.put("InterviewSlotRepository.countBookedSlotsForWeek",
+                () -> slotRepository.countBookedSlotsForWeek(1L, 10, 2026, booked));
+        queries.put("InterviewSlotRepository.findByWeekNumberAndYear",
+                () -> slotRepository.findByWeekNumberAndYear(10, 2026));
+        queries.put("InterviewSlotRepository.findByInterviewerIdAndStartTime",
+                () -> slotRepository.findByInterviewerIdAndStartTime(1L, now));
+        queries.put("InterviewSlotRepository.findByInterviewerId", () -> slotRepository.findByInterviewerId(1L));
+        queries.put("InterviewSlotRepository.markExpiredSlots", () -> slotRepository.markExpiredSlots(now));
+        queries.put("InterviewSlotRepository.markSlotsExpired", () -> slotRepository.markSlotsExpired(ids, now));
+        queries.put("InterviewSlotRepository.findOpenSlotStartsBefore",
+                () -> slotRepository.findOpenSlotStartsBefore(now));
+        queries.put("InterviewSlotRepository.findOpenSlotStartsCreatedSince",
+                () -> slotRepository.findOpenSlotStartsCreatedSince(now, now.plusDays(2)));
+        queries.put("InterviewSlotRepository.claimHold",
+                () -> slotRepository.claimHold(1L, 1L, now.plusMinutes(5), now));
+        queries.put("InterviewSlotRepository.releaseHold", () -> slotRepository.releaseHold(1L, 1L, now));
+        queries.put("InterviewSlotRepository.releaseExpiredHolds",
+                () -> slotRepository.releaseExpiredHolds(ids, now));
+        queries.put("InterviewSlotRepository.releaseAllExpiredHolds",
+                () -> slotRepository.releaseAllExpiredHolds(now));
+        queries.put("InterviewSlotRepository.lockIdsByInterviewerId",
+                () -> slotRepository.lockIdsByInterviewerId(1L, page));
+        queries.put("InterviewSlotRepository.releaseBookedSlots", () -> slotRepository.releaseBookedSlots(ids, now));
+        queries.put("InterviewSlotRepository.findCalendarCellsFrom", () -> slotRepository.findCalendarCellsFrom(now));
+        queries.put("InterviewSlotRepository.findCalendarCellsByInterviewerId",
+                () -> slotRepository.findCalendarCellsByInterviewerId(1L, now, now.plusWeeks(1)));
+        queries.put("InterviewSlotRepository.findAvailableTimesByInterviewerId",
+                () -> slotRepository.findAvailableTimesByInterviewerId(1L, now));
+
+        queries.put("BookingRepository.findByIdWithLock", () -> bookingRepository.findByIdWithLock(1L));
+        queries.put("BookingRepository.findVersionById", () -> bookingRepository.findVersionById(1L));
+        queries.put("BookingRepository.findBySlotId", () -> bookingRepository.findBySlotId(1L));
+        queries.put("BookingRepository.findByCandidateId", () -> bookingRepository.findByCandidateId(1L));
+        queries.put("BookingRepository.findByPanelIdOrderById", () -> bookingRepository.findByPanelIdOrderById("p"));
+        queries.put("BookingRepository.lockIdsByPanelIdIn", () -> bookingRepository.lockIdsByPanelIdIn(List.of("p")));
+        queries.put("BookingRepository.findBySlotIdsWithDetails",
+                () -> bookingRepository.findBySlotIdsWithDetails(ids));
+        queries.put("BookingRepository.lockIdsByCandidateId",
+                () -> bookingRepository.lockIdsByCandidateId(1L, page));
+        queries.put("BookingRepository.findByIdsWithDetails", () -> bookingRepository.findByIdsWithDetails(ids));
+        queries.put("BookingRepository.findActiveByCandidateId", () -> bookingRepository.findActiveByCandidateId(1L));
+        queries.put("BookingRepository.hasActiveBookingInDateRange",
+                () -> bookingRepository.hasActiveBookingInDateRange(1L, now, now.plusDays(1)));
+        queries.put("BookingRepository.findActiveBookingInDateRange",
+                () -> bookingRepository.findActiveBookingInDateRange(1L, now, now.plusDays(1)));
+        queries.put("BookingRepository.countByWeekNumberAndYearAndStatus",
+                () -> bookingRepository.countByWeekNumberAndYearAndStatus(10, 2026, BookingStatus.PENDING));
+        queries.put("BookingRepository.findByStatus", () -> bookingRepository.findByStatus(BookingStatus.PENDING));
+        queries.put("BookingRepository.existsBySlotIdAndStatusNot",
+                () -> bookingRepository.existsBySlotIdAndStatusNot(1L, BookingStatus.CANCELLED));
+        queries.put("BookingRepository.backfillSlotStartTimes", () -> bookingRepository.backfillSlotStartTimes());
+
+        queries.put("InterviewerRepository.findByEmail", () -> interviewerRepository.findByEmail("a@example.com"));
+        queries.put("InterviewerRepository.existsByEmail",
+                () -> interviewerRepository.existsByEmail("a@example.com"));
+        queries.put("InterviewerRepository.lockIdsByIdIn", () -> interviewerRepository.lockIdsByIdIn(ids));
+        queries.put("InterviewerRepository.findVersionById", () -> interviewerRepository.findVersionById(1L));
+        queries.put("InterviewerRepository.findCollectionVersion",
+                () -> interviewerRepository.findCollectionVersion());
+        queries.put("InterviewerRepository.findExistingEmails",
+                () -> interviewerRepository.findExistingEmails(List.of("a@example.com", "b@example.com")));
+        queries.put("InterviewerRepository.findTenantRefs", () -> interviewerRepository.findTenantRefs());
+        queries.put("InterviewerRepository.findTenantRefsChangedSince",
+                () -> interviewerRepository.findTenantRefsChangedSince(now));
+
+        queries.put("CandidateRepository.findByEmailNormalized",
+                () -> candidateRepository.findByEmailNormalized("a@example.com"));
+        queries.put("CandidateRepository.existsByEmailNormalized",
+                () -> candidateRepository.existsByEmailNormalized("a@example.com"));
+        queries.put("CandidateRepository.lockById", () -> candidateRepository.lockById(1L));
+        queries.put("CandidateRepository.findExistingEmails",
+                () -> candidateRepository.findExistingEmails(List.of("a@example.com", "b@example.com")));
+        queries.put("CandidateRepository.findEmailKeys", () -> candidateRepository.findEmailKeys());
+        queries.put("CandidateRepository.findEmailKeysCreatedSince",
+                () -> candidateRepository.findEmailKeysCreatedSince(now));
+
+        queries.put("WeeklyAvailabilityRepository.findByInterviewerIdAndIsActiveTrue",
+                () -> availabilityRepository.findByInterviewerIdAndIsActiveTrue(1L));
+        queries.put("WeeklyAvailabilityRepository.findByInterviewerId",
+                () -> availabilityRepository.findByInterviewerId(1L));
+        queries.put("WeeklyAvailabilityRepository.findByInterviewerIdAndDayOfWeekAndIsActiveTrue",
+                () -> availabilityRepository.findByInterviewerIdAndDayOfWeekAndIsActiveTrue(1L, DayOfWeek.MONDAY));
+        queries.put("WeeklyAvailabilityRepository.deleteByInterviewerId",
+                () -> availabilityRepository.deleteByInterviewerId(1L));
+        queries.put("WeeklyAvailabilityRepository.findActiveWindows",
+                () -> availabilityRepository.findActiveWindows());
+        queries.put("WeeklyAvailabilityRepository.findActiveWindowsByInterviewerIds",
+                () -> availabilityRepository.findActiveWindowsByInterviewerIds(ids));
+        queries.put("WeeklyAvailabilityRepository.hasActiveAvailability",
+                () -> availabilityRepository.hasActiveAvailability(1L));
+
+        queries.put("InterviewerWeekCalendarRepository.findByInterviewerIdAndWeekStart",
+                () -> calendarRepository.findByInterviewerIdAndWeekStart(1L, week));
+        queries.put("InterviewerWeekCalendarRepository.findForUpdate",
+                () -> calendarRepository.findForUpdate(1L, week));
+        queries.put("InterviewerWeekCalendarRepository.findByWeekStartGreaterThanEqual",
+                () -> calendarRepository.findByWeekStartGreaterThanEqual(week));
+        queries.put("InterviewerWeekCalendarRepository.findByWeekStartGreaterThanEqualAndUpdatedAtGreaterThanEqual",
+                () -> calendarRepository.findByWeekStartGreaterThanEqualAndUpdatedAtGreaterThanEqual(week, now));
+        queries.put("InterviewerWeekCalendarRepository.deleteByInterviewerId",
+                () -> calendarRepository.deleteByInterviewerId(1L));
+
+        queries.put("OutboxEventRepository.findPendingEvents",
+                () -> outboxEventRepository.findPendingEvents(now, page));
+        queries.put("OutboxEventRepository.markPublished", () -> outboxEventRepository.markPublished(ids, now));
+        queries.put("OutboxEventRepository.countByPublishedAtIsNull",
+                () -> outboxEventRepository.countByPublishedAtIsNull());
+
+        queries.put("JobRunRepository.findByJobNameOrderByStartedAtDesc",
+                () -> jobRunRepository.findByJobNameOrderByStartedAtDesc("job", page));
+        queries.put("JobRunRepository.deleteStartedBefore", () -> jobRunRepository.deleteStartedBefore(now));
+
+        queries.put("SchedulerLockRepository.tryLock",
+                () -> schedulerLockRepository.tryLock("job", "node", now, now.plusMinutes(1)));
+        queries.put("SchedulerLockRepository.unlock", () -> schedulerLockRepository.unlock("job", "node", now));
+
+        queries.put("IdempotencyRecordRepository.findByTenantIdAndIdempotencyKey",
+                () -> idempotencyRecordRepository.findByTenantIdAndIdempotencyKey("t", "k"));
+        queries.put("IdempotencyRecordRepository.complete",
+                () -> idempotencyRecordRepository.complete("t", "k", "h", 200, "application/json", new byte[0], now));
+        queries.put("IdempotencyRecordRepository.reclaimStale",
+                () -> idempotencyRecordRepository.reclaimStale(1L, now, now));
+        queries.put("IdempotencyRecordRepository.release", () -> idempotencyRecordRepository.release("t", "k", "h"));
+        queries.put("IdempotencyRecordRepository.deleteCreatedBefore",
+                () -> idempotencyRecordRepository.deleteCreatedBefore(now));
+        return queries;
+    }
+
+    /** Runs the query in a rolled-back transaction and returns the statements Hibernate prepared for it. */
+    private List<String> capture(Runnable query) {
+        RecordingStatementInspector.start();
+        transactionTemplate.executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        });
+        return RecordingStatementInspector.stop();
+    }
+
+    private List<String> checkPlan(String query, String sql) throws SQLException {
+        List<String> problems = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql);
+                ResultSet plan = explain.executeQuery()) {
+            plan.next();
+            String text = plan.getString(1);
+            Matcher access = TABLE_ACCESS.matcher(text);
+            boolean found = false;
+            while (access.find()) {
+                found = true;
+                String index = access.group(1);
+                String conditions = access.group(3);
+                if (access.group(2) == null || access.group(2).endsWith("tableScan")) {
+                    problems.add(query + ": full scan of " + index + "\n" + text);
+                } else if (!Pattern.compile("\\b" + leadingColumn(connection, index) + "\\b")
+                        .matcher(conditions).find()) {
+                    problems.add(query + ": " + index + " is read without its leading column\n" + text);
+                }
+            }
+            if (!found) {
+                problems.add(query + ": no table access in plan\n" + text);
+            }
+        }
+        return problems;
+    }
+
+    private static String leadingColumn(Connection connection, String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT column_name FROM information_schema.index_columns "
+                        + "WHERE index_schema = 'public' AND index_name = ? AND ordinal_position = 1")) {
+            statement.setString(1, index);
+            try (ResultSet column = statement.executeQuery()) {
+                assertTrue(column.next(), "unknown index " + index);
+                return column.getString(1);
+            }
+        }
+    }
+
+    /** Records the SQL prepared on the test thread while recording is on; other threads are ignored. */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+        static void start() {
+            RECORDED.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> statements = RECORDED.get();
+            RECORDED.remove();
+            return statements.stream()
+                    .filter(sql -> !sql.stripLeading().toLowerCase().startsWith("insert"))
+                    .toList();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = RECORDED.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
+import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
+import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
+import com.interview_scheduler.backend.dto.response.QueryStatisticsResponse;
+import com.interview_scheduler.backend.monitoring.SlowQueryRecordingStatistics;
+import com.interview_scheduler.backend.service.BookingService;
+import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.InterviewerService;
+import com.interview_scheduler.backend.service.QueryStatisticsService;
+import com.interview_scheduler.backend.service.SlotService;
+
+/**
+ * Runs repository queries through the services and checks that Hibernate's per-query statistics are reported
+ * against the declaring repository method, and that statements Hibernate flags as slow reach the admin API.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application.properties", properties =
+        "spring.datasource.url=jdbc:h2:mem:statsdb;DB_CLOSE_DELAY=-1")
+@DisplayName("Query Statistics Tests")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class QueryStatisticsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private QueryStatisticsService queryStatisticsService;
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private SlotService slotService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @BeforeEach
+    void reset() {
+        queryStatisticsService.reset();
+    }
+
+    @Test
+    @DisplayName("Should report executions and rows per repository @Query")
+    void reportsRepositoryQueries() {
+        Long interviewerId = interviewerService.createInterviewer(CreateInterviewerRequest.builder()
+                .name("Stats Interviewer")
+                .email("stats.interviewer@company.com")
+                .maxInterviewsPerWeek(10)
+                .weeklyAvailabilities(List.of(WeeklyAvailabilityRequest.builder()
+                        .dayOfWeek(DayOfWeek.THURSDAY)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(12, 0))
+                        .build()))
+                .build()).getId();
+        List<InterviewSlotResponse> slots = slotService.generateSlots(GenerateSlotsRequest.builder()
+                .interviewerId(interviewerId)
+                .weeksToGenerate(2)
+                .build());
+        Long candidateId = candidateService.createCandidate(CreateCandidateRequest.builder()
+                .name("Stats Candidate")
+                .email("stats.candidate@company.com")
+                .build()).getId();
+        bookingService.bookSlot(BookSlotRequest.builder()
+                .slotId(slots.get(0).getId())
+                .candidateId(candidateId)
+                .build());
+        bookingService.getBookingBySlotId(slots.get(0).getId());
+        slotService.getAvailableSlots(0, 1);
+
+        Map<String, QueryStatisticsResponse> byMethod = queryStatisticsService.getQueryStatistics().stream()
+                .filter(stats -> stats.getRepositoryMethod() != null)
+                .collect(Collectors.toMap(QueryStatisticsResponse::getRepositoryMethod, Function.identity()));
+
+        QueryStatisticsResponse bySlot = byMethod.get("BookingRepository.findBySlotId");
+        assertNotNull(bySlot, "recorded: " + byMethod.keySet());
+        assertEquals(1, bySlot.getExecutions());
+        assertEquals(1, bySlot.getRowsReturned());
+        assertEquals(1, byMethod.get("InterviewSlotRepository.findByIdWithLock").getExecutions());
+        assertEquals(1, byMethod.get("InterviewSlotRepository.findAvailableSlotsPageable").getRowsReturned());
+        assertTrue(byMethod.containsKey("InterviewSlotRepository.findAvailableSlotsPageable (count)"),
+                "recorded: " + byMethod.keySet());
+    }
+
+    @Test
+    @DisplayName("Should keep statements Hibernate reports as slow and serve them newest first")
+    void capturesSlowQueries() throws Exception {
+        StatisticsImplementor statistics = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getStatistics();
+        assertInstanceOf(SlowQueryRecordingStatistics.class, statistics);
+
+        statistics.slowQuery("select * from interview_slots where status = ?", 250);
+        statistics.slowQuery("select * from bookings where slot_id = ?", 900);
+
+        mockMvc.perform(get("/api/admin/queries/slow").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].sql").value("select * from bookings where slot_id = ?"))
+                .andExpect(jsonPath("$.data[0].durationMs").value(900));
+
+        mockMvc.perform(delete("/api/admin/queries"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/queries/slow"))
+                .andExpect(jsonPath("$.data.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should serve per-query statistics from the admin API")
+    void servesQueryStatistics() throws Exception {
+        slotService.getAvailableSlotsForInterviewer(1L);
+
+        mockMvc.perform(get("/api/admin/queries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[?(@.repositoryMethod == "
+                        + "'InterviewSlotRepository.findUpcomingByInterviewerIdAndStatus')].executions")
+                        .value(hasItem(1)));
+    }
+}
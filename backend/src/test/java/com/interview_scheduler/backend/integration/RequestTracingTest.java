@@ -0,0 +1,214 @@
+package com.interview_scheduler.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.CreateCandidateRequest;
+import com.interview_scheduler.backend.dto.request.CreateInterviewerRequest;
+import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
+import com.interview_scheduler.backend.dto.request.WeeklyAvailabilityRequest;
+import com.interview_scheduler.backend.service.CandidateService;
+import com.interview_scheduler.backend.service.InterviewerService;
+import com.interview_scheduler.backend.service.SlotService;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Books a slot over HTTP with every request sampled and checks the exported span tree: the HTTP server span,
+ * then the controller, the retry wrapper, the attempt on the service implementation and its repository calls,
+ * both in the SDK and in the NDJSON file written by the local exporter.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+@TestPropertySource(locations = "classpath:application.properties", properties = {
+        "spring.datasource.url=jdbc:h2:mem:tracingdb;DB_CLOSE_DELAY=-1",
+        "management.tracing.sampling.probability=1.0",
+        "tracing.file.enabled=true",
+        "tracing.file.path=build/traces/tracing-test-spans.ndjson" })
+@DisplayName("Request Tracing Tests")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RequestTracingTest {
+
+    private static final String TENANT = "default";
+    private static final AttributeKey<String> LAYER = AttributeKey.stringKey("app.layer");
+
+    @TestConfiguration
+    static class CollectingExporterConfig {
+
+        @Bean
+        CollectingSpanExporter collectingSpanExporter() {
+            return new CollectingSpanExporter();
+        }
+    }
+
+    static class CollectingSpanExporter implements SpanExporter {
+
+        final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private CollectingSpanExporter exporter;
+
+    @Autowired
+    private InterviewerService interviewerService;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private SlotService slotService;
+
+    @BeforeEach
+    void clearSpans() {
+        flush();
+        exporter.spans.clear();
+    }
+
+    @Test
+    @DisplayName("Should nest controller, retry, service and repository spans under the request span")
+    void bookingProducesLayeredSpans() throws Exception {
+        Long interviewerId = asTenant(() -> interviewerService.createInterviewer(CreateInterviewerRequest.builder()
+                .name("Traced Interviewer")
+                .email("traced.interviewer@company.com")
+                .maxInterviewsPerWeek(10)
+                .weeklyAvailabilities(List.of(WeeklyAvailabilityRequest.builder()
+                        .dayOfWeek(DayOfWeek.TUESDAY)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(11, 0))
+                        .build()))
+                .build()).getId());
+        Long slotId = asTenant(() -> slotService.generateSlots(GenerateSlotsRequest.builder()
+                .interviewerId(interviewerId)
+                .weeksToGenerate(1)
+                .build()).get(0).getId());
+        Long candidateId = asTenant(() -> candidateService.createCandidate(CreateCandidateRequest.builder()
+                .name("Traced Candidate")
+                .email("traced.candidate@company.com")
+                .build()).getId());
+        flush();
+        exporter.spans.clear();
+
+        mockMvc.perform(post("/api/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BookSlotRequest.builder()
+                        .slotId(slotId)
+                        .candidateId(candidateId)
+                        .build())))
+                .andExpect(status().isCreated());
+        flush();
+
+        Map<String, SpanData> byName = exporter.spans.stream()
+                .collect(Collectors.toMap(SpanData::getName, span -> span, (first, second) -> first));
+        SpanData controller = byName.get("BookingController.bookSlot");
+        SpanData retry = byName.get("retry BookingServiceImpl.bookSlot");
+        SpanData service = byName.get("BookingServiceImpl.bookSlot");
+        SpanData lock = byName.get("InterviewSlotRepository.findByIdWithLock");
+        SpanData inherited = byName.get("CandidateRepository.findById");
+        assertNotNull(controller, "exported: " + byName.keySet());
+        assertNotNull(retry, "exported: " + byName.keySet());
+        assertNotNull(service, "exported: " + byName.keySet());
+        assertNotNull(lock, "exported: " + byName.keySet());
+        assertNotNull(inherited, "exported: " + byName.keySet());
+
+        assertEquals("controller", controller.getAttributes().get(LAYER));
+        assertEquals(controller.getSpanId(), retry.getParentSpanId());
+        assertEquals(retry.getSpanId(), service.getParentSpanId());
+        assertEquals("1", service.getAttributes().get(AttributeKey.stringKey("retry.attempt")));
+        assertEquals("1", retry.getAttributes().get(AttributeKey.stringKey("retry.attempts")));
+        assertEquals(service.getSpanId(), lock.getParentSpanId());
+        assertEquals("repository", inherited.getAttributes().get(LAYER));
+
+        SpanData server = exporter.spans.stream()
+                .filter(span -> span.getSpanId().equals(controller.getParentSpanId()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("controller span has no exported parent"));
+        assertFalse(server.getParentSpanContext().isValid(), "HTTP server span should be the root");
+        assertEquals(server.getTraceId(), lock.getTraceId());
+
+        List<String> lines = Files.readAllLines(Path.of("build/traces/tracing-test-spans.ndjson"));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"spanId\":\"" + service.getSpanId() + "\"")
+                && line.contains("\"parentSpanId\":\"" + retry.getSpanId() + "\"")
+                && line.contains("\"name\":\"BookingServiceImpl.bookSlot\"")), "service span missing from file");    }
+
+    @Test
+    @DisplayName("Should not create layer spans outside a sampled request or task")
+    void callsWithoutParentSpanAreNotTraced() {
+        asTenant(() -> candidateService.createCandidate(CreateCandidateRequest.builder()
+                .name("Untraced Candidate")
+                .email("untraced.candidate@company.com")
+                .build()));
+        flush();
+
+        // Scheduled tasks may export their own traces meanwhile; none of them touch candidates
+        assertTrue(exporter.spans.stream().noneMatch(span -> span.getName().startsWith("Candidate")),
+                "exported: " + exporter.spans.stream().map(SpanData::getName).toList());
+    }
+
+    private <T> T asTenant(Supplier<T> action) {
+        return TenantContext.callAs(TENANT, TenantContext.DEFAULT_SHARD, action);
+    }
+
+    private void flush() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+    }
+}
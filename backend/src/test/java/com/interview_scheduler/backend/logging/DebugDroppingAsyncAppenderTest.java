@@ -0,0 +1,31 @@
+package com.interview_scheduler.backend.logging;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+@DisplayName("Debug Dropping Async Appender Tests")
+class DebugDroppingAsyncAppenderTest {
+
+    private final DebugDroppingAsyncAppender appender = new DebugDroppingAsyncAppender();
+    private final LoggerContext context = new LoggerContext();
+
+    private LoggingEvent event(Level level) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, "message", null, null);
+    }
+
+    @Test
+    @DisplayName("Should only let TRACE and DEBUG be dropped under back-pressure")
+    void isDiscardable_OnlyDebugAndBelow() {
+        assertTrue(appender.isDiscardable(event(Level.TRACE)));
+        assertTrue(appender.isDiscardable(event(Level.DEBUG)));
+        assertFalse(appender.isDiscardable(event(Level.INFO)));
+        assertFalse(appender.isDiscardable(event(Level.WARN)));
+        assertFalse(appender.isDiscardable(event(Level.ERROR)));
+    }
+}
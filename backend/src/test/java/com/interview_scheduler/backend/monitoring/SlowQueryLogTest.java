@@ -0,0 +1,70 @@
+package com.interview_scheduler.backend.monitoring;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+@DisplayName("Slow Query Log Tests")
+class SlowQueryLogTest {
+
+    @Test
+    @DisplayName("Should return entries newest first")
+    void recent_NewestFirst() {
+        SlowQueryLog log = new SlowQueryLog(5);
+
+        log.record("select 1", 300);
+        log.record("select 2", 400);
+
+        List<SlowQueryLog.Entry> entries = log.recent(10);
+        assertEquals(List.of("select 2", "select 1"), entries.stream().map(SlowQueryLog.Entry::sql).toList());
+        assertEquals(400, entries.get(0).durationMs());
+    }
+
+    @Test
+    @DisplayName("Should overwrite the oldest entries once the ring is full")
+    void record_OverwritesOldest() {
+        SlowQueryLog log = new SlowQueryLog(3);
+
+        for (int i = 1; i <= 7; i++) {
+            log.record("select " + i, i);
+        }
+
+        assertEquals(List.of("select 7", "select 6", "select 5"),
+                log.recent(10).stream().map(SlowQueryLog.Entry::sql).toList());
+        assertEquals(7, log.getRecorded());
+        assertEquals(List.of("select 7"), log.recent(1).stream().map(SlowQueryLog.Entry::sql).toList());
+    }
+
+    @Test
+    @DisplayName("Should capture the tenant bound to the recording thread")
+    void record_CapturesTenant() {
+        SlowQueryLog log = new SlowQueryLog(2);
+
+        TenantContext.bind("acme", TenantContext.DEFAULT_SHARD);
+        try {
+            log.record("select 1", 250);
+        } finally {
+            TenantContext.clear();
+        }
+
+        assertEquals("acme", log.recent(1).get(0).tenantId());
+        assertEquals(Thread.currentThread().getName(), log.recent(1).get(0).thread());
+    }
+
+    @Test
+    @DisplayName("Should start empty again after clear")
+    void clear_EmptiesRing() {
+        SlowQueryLog log = new SlowQueryLog(2);
+        log.record("select 1", 250);
+
+        log.clear();
+
+        assertTrue(log.recent(10).isEmpty());
+        assertEquals(0, log.getRecorded());
+    }
+}
@@ -0,0 +1,101 @@
+package com.interview_scheduler.backend.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit and accept them again once one finishes")
+    void tryAcquire_EnforcesLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 100);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(5 * MILLI);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while it is in use and latency stays at the baseline")
+    void release_GrowsWithoutQueueing() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 20, 1000);
+
+        for (int i = 0; i < 10; i++) {
+            fill(limiter);
+            limiter.release(5 * MILLI);
+            drain(limiter, 5 * MILLI);
+        }
+
+        assertTrue(limiter.getLimit() > 4, "limit should grow, was " + limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should not grow a limit that is not being used")
+    void release_IdleDoesNotGrow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 20, 1000);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(5 * MILLI);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should shrink towards the minimum when latency shows a growing queue")
+    void release_ShrinksWhenQueueing() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 2, 40, 1000);
+        limiter.tryAcquire();
+        limiter.release(5 * MILLI);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(200 * MILLI);
+        }
+
+        assertTrue(limiter.getLimit() < 20, "limit should shrink, was " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 2);
+    }
+
+    @Test
+    @DisplayName("Should forget an old baseline after a window so a slower steady state is not treated as queueing")
+    void release_ResetsBaselinePerWindow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 40, 5);
+        limiter.tryAcquire();
+        limiter.release(1 * MILLI);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(50 * MILLI);
+        }
+        int settled = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(50 * MILLI);
+        }
+
+        assertEquals(settled, limiter.getLimit());
+    }
+
+    private static void fill(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.tryAcquire()) {
+            // take every free place
+        }
+    }
+
+    private static void drain(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        while (limiter.getInFlight() > 0) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
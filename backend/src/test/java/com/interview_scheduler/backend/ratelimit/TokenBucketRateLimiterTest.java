@@ -0,0 +1,69 @@
+package com.interview_scheduler.backend.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Token Bucket Rate Limiter Tests")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(SECOND * 100);
+
+    @Test
+    @DisplayName("Should allow a burst up to capacity and then report the wait for the next token")
+    void tryAcquire_BurstThenWait() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 2, 10, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("client"));
+        }
+        long wait = limiter.tryAcquire("client");
+        assertEquals(SECOND / 2, wait, 1);
+
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("client"));
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per key")
+    void tryAcquire_PerKey() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 10, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    @DisplayName("Should not refill beyond capacity after a long idle period")
+    void tryAcquire_CapsRefill() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 10, 10, clock::get);
+        limiter.tryAcquire("client");
+
+        clock.addAndGet(SECOND * 60);
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertEquals(0, limiter.tryAcquire("client"));
+        assertTrue(limiter.tryAcquire("client") > 0);
+    }
+
+    @Test
+    @DisplayName("Should drop refilled buckets when full and share an overflow bucket when nothing can go")
+    void tryAcquire_BoundsTrackedKeys() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // a and b are still empty, so newcomers share the overflow bucket.
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertTrue(limiter.tryAcquire("d") > 0);
+
+        clock.addAndGet(SECOND * 5);
+        assertEquals(0, limiter.tryAcquire("e"));
+        assertTrue(limiter.trackedKeys() <= 2);
+    }
+}
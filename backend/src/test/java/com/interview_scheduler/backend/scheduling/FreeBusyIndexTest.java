@@ -0,0 +1,209 @@
+package com.interview_scheduler.backend.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Free/Busy Index Tests")
+class FreeBusyIndexTest {
+
+    private static final String TENANT = "default";
+    private static final LocalDate WEEK = LocalDate.of(2030, 1, 7);
+
+    private final FreeBusyIndex index = new FreeBusyIndex();
+
+    private static BitSet weekdays(int fromHour, int toHour) {
+        BitSet mask = new BitSet();
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            WeekGrid.setDaily(mask, day, LocalTime.of(fromHour, 0),
+                    toHour == 24 ? LocalTime.MIDNIGHT : LocalTime.of(toHour, 0));
+        }
+        return mask;
+    }
+
+    private static BitSet open(LocalDateTime start, LocalDateTime end) {
+        LocalDate weekStart = WeekGrid.weekStartOf(start);
+        BitSet bits = new BitSet();
+        bits.set(WeekGrid.periodOf(weekStart, start), WeekGrid.periodOf(weekStart, end));
+        return bits;
+    }
+
+    @Test
+    @DisplayName("Should only report periods that are both open and within weekly availability")
+    void findAny_IntersectsOpenSlotsWithAvailability() {
+        index.putAvailability(TENANT, 1L, weekdays(9, 12));
+        index.putWeek(TENANT, 1L, WEEK, open(WEEK.atTime(11, 0), WEEK.atTime(14, 0)));
+
+        List<FreeBusyIndex.Window> windows = index.findAny(TENANT, null, WEEK.atStartOfDay(),
+                WEEK.plusDays(7).atStartOfDay(), 4, 10);
+
+        assertEquals(List.of(new FreeBusyIndex.Window(1L, WEEK.atTime(11, 0), WEEK.atTime(12, 0))), windows);
+    }
+
+    @Test
+    @DisplayName("Should drop runs shorter than the requested duration")
+    void findAny_RespectsMinimumLength() {
+        index.putAvailability(TENANT, 1L, weekdays(0, 24));
+        BitSet bits = open(WEEK.atTime(9, 0), WEEK.atTime(9, 45));
+        bits.or(open(WEEK.atTime(13, 0), WEEK.atTime(15, 0)));
+        index.putWeek(TENANT, 1L, WEEK, bits);
+
+        List<FreeBusyIndex.Window> windows = index.findAny(TENANT, List.of(1L), WEEK.atStartOfDay(),
+                WEEK.plusDays(1).atStartOfDay(), 4, 10);
+
+        assertEquals(1, windows.size());
+        assertEquals(WEEK.atTime(13, 0), windows.get(0).start());
+    }
+
+    @Test
+    @DisplayName("Should clip windows to the search range, rounding the start up to a whole period")
+    void findAny_ClipsToRange() {
+        index.putAvailability(TENANT, 1L, weekdays(0, 24));
+        index.putWeek(TENANT, 1L, WEEK, open(WEEK.atTime(9, 0), WEEK.atTime(17, 0)));
+
+        List<FreeBusyIndex.Window> windows = index.findAny(TENANT, null, WEEK.atTime(10, 5),
+                WEEK.atTime(12, 0), 1, 10);
+
+        assertEquals(List.of(new FreeBusyIndex.Window(1L, WEEK.atTime(10, 15), WEEK.atTime(12, 0))), windows);
+    }
+
+    @Test
+    @DisplayName("Should order results by start time across interviewers and weeks, then apply the limit")
+    void findAny_OrdersAndLimits() {
+        for (long id = 1; id <= 3; id++) {
+            index.putAvailability(TENANT, id, weekdays(0, 24));
+            index.putWeek(TENANT, id, WEEK, open(WEEK.atTime(12 - (int) id, 0), WEEK.atTime(13, 0)));
+            index.putWeek(TENANT, id, WEEK.plusWeeks(1),
+                    open(WEEK.plusWeeks(1).atTime(9, 0), WEEK.plusWeeks(1).atTime(10, 0)));
+        }
+
+        List<FreeBusyIndex.Window> windows = index.findAny(TENANT, null, WEEK.atStartOfDay(),
+                WEEK.plusWeeks(2).atStartOfDay(), 4, 4);
+
+        assertEquals(List.of(3L, 2L, 1L, 1L), windows.stream().map(FreeBusyIndex.Window::interviewerId).toList());
+        assertEquals(WEEK.plusWeeks(1).atTime(9, 0), windows.get(3).start());
+    }
+
+    @Test
+    @DisplayName("Should only return windows where every requested interviewer is free")
+    void findAll_IntersectsInterviewers() {
+        index.putAvailability(TENANT, 1L, weekdays(9, 17));
+        index.putAvailability(TENANT, 2L, weekdays(9, 17));
+        index.putWeek(TENANT, 1L, WEEK, open(WEEK.atTime(9, 0), WEEK.atTime(12, 0)));
+        index.putWeek(TENANT, 2L, WEEK, open(WEEK.atTime(10, 30), WEEK.atTime(15, 0)));
+
+        List<FreeBusyIndex.Window> windows = index.findAll(TENANT, List.of(1L, 2L), WEEK.atStartOfDay(),
+                WEEK.plusDays(7).atStartOfDay(), 4, 10);
+
+        assertEquals(List.of(new FreeBusyIndex.Window(null, WEEK.atTime(10, 30), WEEK.atTime(12, 0))), windows);
+        assertTrue(index.findAll(TENANT, List.of(1L, 2L, 3L), WEEK.atStartOfDay(),
+                WEEK.plusDays(7).atStartOfDay(), 1, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not offer a period that 20-minute slots split between open and booked")
+    void findAll_SharedPeriodStaysBusy() {
+        WeekCoverage coverage = new WeekCoverage(WEEK);
+        coverage.addOpen(WEEK.atTime(9, 0), WEEK.atTime(9, 20));
+        coverage.addBooked(WEEK.atTime(9, 20), WEEK.atTime(9, 40));
+        coverage.addOpen(WEEK.atTime(9, 40), WEEK.atTime(11, 0));
+        index.putAvailability(TENANT, 1L, weekdays(9, 17));
+        index.putAvailability(TENANT, 2L, weekdays(9, 17));
+        index.putWeek(TENANT, 1L, WEEK, coverage.freePeriods());
+        index.putWeek(TENANT, 2L, WEEK, open(WEEK.atTime(9, 0), WEEK.atTime(12, 0)));
+
+        List<FreeBusyIndex.Window> windows = index.findAll(TENANT, List.of(1L, 2L), WEEK.atStartOfDay(),
+                WEEK.plusDays(1).atStartOfDay(), 1, 10);
+
+        assertEquals(List.of(new FreeBusyIndex.Window(null, WEEK.atTime(9, 0), WEEK.atTime(9, 15)),
+                new FreeBusyIndex.Window(null, WEEK.atTime(9, 45), WEEK.atTime(11, 0))), windows);
+        assertTrue(windows.stream().noneMatch(window -> window.start().isBefore(WEEK.atTime(9, 40))
+                && window.end().isAfter(WEEK.atTime(9, 20))));
+    }
+
+    @Test
+    @DisplayName("Should keep tenants apart and forget removed interviewers")
+    void tenantsAndRemoval() {
+        index.putAvailability(TENANT, 1L, weekdays(0, 24));
+        index.putWeek(TENANT, 1L, WEEK, open(WEEK.atTime(9, 0), WEEK.atTime(10, 0)));
+
+        assertTrue(index.findAny("other", null, WEEK.atStartOfDay(), WEEK.plusDays(1).atStartOfDay(), 1, 10)
+                .isEmpty());
+
+        index.removeInterviewer(TENANT, 1L);
+        assertTrue(index.findAny(TENANT, null, WEEK.atStartOfDay(), WEEK.plusDays(1).atStartOfDay(), 1, 10)
+                .isEmpty());
+        assertEquals(0, index.interviewerCount());
+    }
+
+    @Test
+    @DisplayName("Should replace only the tenants in scope on a full reload")
+    void replaceTenants_ScopedToShard() {
+        index.putAvailability("a", 1L, weekdays(0, 24));
+        index.putAvailability("b", 2L, weekdays(0, 24));
+        index.putAvailability("c", 3L, weekdays(0, 24));
+
+        FreeBusyIndex fresh = new FreeBusyIndex();
+        fresh.putAvailability("a", 4L, weekdays(0, 24));
+        index.replaceTenants(fresh, tenantId -> !tenantId.equals("c"));
+
+        assertEquals(2, index.interviewerCount());
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force scan on random calendars")
+    void findAny_MatchesBruteForce() {
+        Random random = new Random(42);
+        List<BitSet> free = new ArrayList<>();
+        for (long id = 0; id < 20; id++) {
+            BitSet availability = new BitSet();
+            BitSet open = new BitSet();
+            for (int period = 0; period < WeekGrid.PERIODS_PER_WEEK; period++) {
+                availability.set(period, random.nextInt(4) != 0);
+                open.set(period, random.nextInt(3) != 0);
+            }
+            index.putAvailability(TENANT, id, availability);
+            index.putWeek(TENANT, id, WEEK, open);
+            BitSet expected = (BitSet) open.clone();
+            expected.and(availability);
+            free.add(expected);
+        }
+
+        int minPeriods = 3;
+        List<FreeBusyIndex.Window> windows = index.findAny(TENANT, null, WEEK.atStartOfDay(),
+                WEEK.plusDays(7).atStartOfDay(), minPeriods, Integer.MAX_VALUE);
+
+        int expectedCount = 0;
+        for (BitSet bits : free) {
+            int run = 0;
+            for (int period = 0; period <= WeekGrid.PERIODS_PER_WEEK; period++) {
+                if (period < WeekGrid.PERIODS_PER_WEEK && bits.get(period)) {
+                    run++;
+                } else {
+                    expectedCount += run >= minPeriods ? 1 : 0;
+                    run = 0;
+                }
+            }
+        }
+        assertEquals(expectedCount, windows.size());
+        for (FreeBusyIndex.Window window : windows) {
+            BitSet bits = free.get(window.interviewerId().intValue());
+            int start = WeekGrid.periodOf(WEEK, window.start());
+            int end = WeekGrid.periodOf(WEEK, window.end());
+            assertEquals(end - start, bits.get(start, end).cardinality());
+            assertFalse(start > 0 && bits.get(start - 1));
+            assertFalse(bits.get(end));
+        }
+    }
+}
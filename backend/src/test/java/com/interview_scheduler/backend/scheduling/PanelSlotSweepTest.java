@@ -0,0 +1,94 @@
+package com.interview_scheduler.backend.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.interview_scheduler.backend.repository.InterviewSlotRepository.SlotTimes;
+
+@DisplayName("Panel Slot Sweep Tests")
+class PanelSlotSweepTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private static SlotTimes slot(long id, int hour, int minutes) {
+        LocalDateTime start = DAY.plusHours(hour);
+        return new SlotTimes() {
+
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndTime() {
+                return start.plusMinutes(minutes);
+            }
+
+            @Override
+            public Integer getWeekNumber() {
+                return 2;
+            }
+
+            @Override
+            public Integer getYear() {
+                return 2030;
+            }
+        };
+    }
+
+    private static List<Long> ids(List<SlotTimes> group) {
+        return group.stream().map(SlotTimes::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Should return the start times shared by every interviewer, earliest first")
+    void alignedSlots_FindsCommonStarts() {
+        List<List<SlotTimes>> panel = List.of(
+                List.of(slot(1, 9, 60), slot(2, 10, 60), slot(3, 13, 60), slot(4, 15, 60)),
+                List.of(slot(11, 10, 60), slot(12, 11, 60), slot(13, 15, 60)),
+                List.of(slot(21, 8, 60), slot(22, 10, 60), slot(23, 15, 60), slot(24, 16, 60)));
+
+        List<List<SlotTimes>> matches = PanelSlotSweep.alignedSlots(panel, null, 10);
+
+        assertEquals(2, matches.size());
+        assertEquals(List.of(2L, 11L, 22L), ids(matches.get(0)));
+        assertEquals(List.of(4L, 13L, 23L), ids(matches.get(1)));
+    }
+
+    @Test
+    @DisplayName("Should skip starts whose slots end at different times")
+    void alignedSlots_RequiresSameEnd() {
+        List<List<SlotTimes>> panel = List.of(
+                List.of(slot(1, 9, 30), slot(2, 10, 60)),
+                List.of(slot(11, 9, 60), slot(12, 10, 60)));
+
+        assertEquals(List.of(List.of(2L, 12L)),
+                PanelSlotSweep.alignedSlots(panel, null, 10).stream().map(PanelSlotSweepTest::ids).toList());
+    }
+
+    @Test
+    @DisplayName("Should stop at the match limit and the latest start")
+    void alignedSlots_Bounds() {
+        List<SlotTimes> first = new ArrayList<>();
+        List<SlotTimes> second = new ArrayList<>();
+        for (int hour = 8; hour < 18; hour++) {
+            first.add(slot(hour, hour, 60));
+            second.add(slot(100 + hour, hour, 60));
+        }
+
+        assertEquals(3, PanelSlotSweep.alignedSlots(List.of(first, second), null, 3).size());
+        assertEquals(3, PanelSlotSweep.alignedSlots(List.of(first, second), DAY.plusHours(10), 10).size());
+        assertTrue(PanelSlotSweep.alignedSlots(List.of(first, List.of()), null, 10).isEmpty());
+    }
+}
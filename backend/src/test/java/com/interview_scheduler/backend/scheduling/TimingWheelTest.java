@@ -0,0 +1,97 @@
+package com.interview_scheduler.backend.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Timing Wheel Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Should fire keys once their deadline is reached and not before")
+    void advanceTo_FiresAtDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 8, START);
+        wheel.schedule(1L, START + 2500);
+
+        assertTrue(wheel.advanceTo(START + 2999).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceTo(START + 3000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should cascade deadlines beyond the first level")
+    void advanceTo_CascadesAcrossLevels() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 4, START);
+        long deadline = START + 4 * 4 * 4 * 1000L + 1000;
+        wheel.schedule(7L, deadline);
+
+        assertTrue(wheel.advanceTo(deadline - 1).isEmpty());
+        assertEquals(List.of(7L), wheel.advanceTo(deadline));
+    }
+
+    @Test
+    @DisplayName("Should fire past deadlines on the next advance")
+    void schedule_PastDeadline() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 8, START);
+        wheel.schedule(3L, START - 60_000);
+
+        assertEquals(List.of(3L), wheel.advanceTo(START));
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled or rescheduled keys at their old deadline")
+    void cancelAndReschedule() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 8, START);
+        wheel.schedule(1L, START + 2000);
+        wheel.schedule(2L, START + 2000);
+
+        assertTrue(wheel.cancel(1L));
+        assertFalse(wheel.cancel(1L));
+        wheel.schedule(2L, START + 20_000);
+
+        assertTrue(wheel.advanceTo(START + 10_000).isEmpty());
+        assertEquals(List.of(2L), wheel.advanceTo(START + 20_000));
+    }
+
+    @Test
+    @DisplayName("Should match a naive scheduler for random deadlines and advances")
+    void advanceTo_MatchesNaiveModel() {
+        Random random = new Random(42);
+        TimingWheel<Long> wheel = new TimingWheel<>(100, 16, START);
+        Map<Long, Long> deadlines = new HashMap<>();
+
+        long now = START;
+        for (long key = 0; key < 2_000; key++) {
+            long deadline = now + random.nextLong(-1_000, 3_000_000);
+            wheel.schedule(key, deadline);
+            deadlines.put(key, deadline);
+        }
+
+        while (!deadlines.isEmpty()) {
+            now += random.nextLong(1, 50_000);
+            long cutoff = now;
+
+            List<Long> expected = new ArrayList<>();
+            deadlines.forEach((key, deadline) -> {
+                if (Math.ceilDiv(deadline, 100) * 100 <= cutoff) {
+                    expected.add(key);
+                }
+            });
+            List<Long> fired = wheel.advanceTo(now);
+
+            assertEquals(expected.size(), fired.size());
+            assertTrue(fired.containsAll(expected));
+            fired.forEach(deadlines::remove);
+        }
+        assertEquals(0, wheel.size());
+    }
+}
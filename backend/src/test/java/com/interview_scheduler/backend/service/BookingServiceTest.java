@@ -7,6 +7,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,27 +16,38 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import com.interview_scheduler.backend.cache.SlotReadCaches;
 import com.interview_scheduler.backend.dto.request.BookSlotRequest;
+import com.interview_scheduler.backend.dto.request.PanelBookingRequest;
 import com.interview_scheduler.backend.dto.request.UpdateBookingRequest;
 import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.dto.response.PanelBookingResponse;
 import com.interview_scheduler.backend.entity.Booking;
+import com.interview_scheduler.backend.entity.BookingEventType;
 import com.interview_scheduler.backend.entity.BookingStatus;
 import com.interview_scheduler.backend.entity.Candidate;
 import com.interview_scheduler.backend.entity.Interviewer;
 import com.interview_scheduler.backend.entity.InterviewSlot;
 import com.interview_scheduler.backend.entity.SlotStatus;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
 import com.interview_scheduler.backend.exception.DuplicateBookingException;
 import com.interview_scheduler.backend.exception.MaxInterviewsExceededException;
+import com.interview_scheduler.backend.exception.PanelBookingException;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
 import com.interview_scheduler.backend.exception.SlotAlreadyBookedException;
 import com.interview_scheduler.backend.exception.SlotNotAvailableException;
 import com.interview_scheduler.backend.repository.BookingRepository;
 import com.interview_scheduler.backend.repository.CandidateRepository;
 import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.repository.InterviewerRepository;
 import com.interview_scheduler.backend.service.impl.BookingServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +63,21 @@ class BookingServiceTest {
     @Mock
     private CandidateRepository candidateRepository;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private CalendarProjectionService calendarProjectionService;
+
+    @Mock
+    private InterviewerRepository interviewerRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SlotReadCaches readCaches = new SlotReadCaches(true, 100, 30);
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -122,7 +150,9 @@ class BookingServiceTest {
             assertEquals(testCandidate.getId(), response.getCandidateId());
             assertEquals(testSlot.getId(), response.getSlotId());
             verify(slotRepository).save(any(InterviewSlot.class));
-            verify(bookingRepository).save(any(Booking.class));
+            verify(bookingRepository).save(argThat(booking -> testSlot.getStartTime().equals(booking.getSlotStartTime())));
+            verify(outboxService).recordBookingEvent(BookingEventType.BOOKING_CREATED, response);
+            verify(calendarProjectionService).recordSlotChanges(List.of(testSlot));
         }
 
         @Test
@@ -170,6 +200,48 @@ class BookingServiceTest {
             verify(bookingRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("Should book a slot held by the same candidate and clear the hold")
+        void bookSlot_HeldByCandidate() {
+            testSlot.setStatus(SlotStatus.HELD);
+            testSlot.setHeldByCandidateId(1L);
+            testSlot.setHeldUntil(LocalDateTime.now().plusMinutes(2));
+            BookSlotRequest request = BookSlotRequest.builder()
+                    .slotId(1L)
+                    .candidateId(1L)
+                    .build();
+
+            when(candidateRepository.findById(1L)).thenReturn(Optional.of(testCandidate));
+            when(slotRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testSlot));
+            when(bookingRepository.hasActiveBookingInDateRange(anyLong(), any(), any())).thenReturn(false);
+            when(slotRepository.countBookedSlotsForWeek(anyLong(), anyInt(), anyInt(), anyList())).thenReturn(0L);
+            when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
+
+            bookingService.bookSlot(request);
+
+            assertEquals(SlotStatus.BOOKED, testSlot.getStatus());
+            assertNull(testSlot.getHeldByCandidateId());
+            assertNull(testSlot.getHeldUntil());
+        }
+
+        @Test
+        @DisplayName("Should throw SlotAlreadyBookedException when slot is held by another candidate")
+        void bookSlot_HeldByAnotherCandidate() {
+            testSlot.setStatus(SlotStatus.HELD);
+            testSlot.setHeldByCandidateId(2L);
+            testSlot.setHeldUntil(LocalDateTime.now().plusMinutes(2));
+            BookSlotRequest request = BookSlotRequest.builder()
+                    .slotId(1L)
+                    .candidateId(1L)
+                    .build();
+
+            when(candidateRepository.findById(1L)).thenReturn(Optional.of(testCandidate));
+            when(slotRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testSlot));
+
+            assertThrows(SlotAlreadyBookedException.class, () -> bookingService.bookSlot(request));
+            verify(bookingRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should throw SlotNotAvailableException when slot is in the past")
         void bookSlot_SlotInPast() {
@@ -200,6 +272,7 @@ class BookingServiceTest {
 
             assertThrows(DuplicateBookingException.class, () -> bookingService.bookSlot(request));
             verify(bookingRepository, never()).save(any());
+            verify(outboxService, never()).recordBookingEvent(any(), any());
         }
 
         @Test
@@ -221,6 +294,160 @@ class BookingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Panel Booking Tests")
+    class PanelBookingTests {
+
+        private Interviewer secondInterviewer;
+        private LocalDateTime start;
+
+        @BeforeEach
+        void setUpPanel() {
+            secondInterviewer = Interviewer.builder().id(2L).name("Second Interviewer").maxInterviewsPerWeek(5).build();
+            start = LocalDateTime.now().plusDays(2).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        }
+
+        private PanelBookingRequest request() {
+            return PanelBookingRequest.builder().candidateId(1L).interviewerIds(List.of(2L, 1L)).build();
+        }
+
+        private InterviewSlot slot(Long id, Interviewer interviewer, LocalDateTime slotStart) {
+            return InterviewSlot.builder().id(id).interviewer(interviewer).startTime(slotStart)
+                    .endTime(slotStart.plusHours(1)).status(SlotStatus.AVAILABLE).weekNumber(1).year(2030).build();
+        }
+
+        private InterviewSlotRepository.SlotTimes slotTimes(InterviewSlot slot) {
+            return new InterviewSlotRepository.SlotTimes() {
+
+                @Override
+                public Long getId() {
+                    return slot.getId();
+                }
+
+                @Override
+                public LocalDateTime getStartTime() {
+                    return slot.getStartTime();
+                }
+
+                @Override
+                public LocalDateTime getEndTime() {
+                    return slot.getEndTime();
+                }
+
+                @Override
+                public Integer getWeekNumber() {
+                    return slot.getWeekNumber();
+                }
+
+                @Override
+                public Integer getYear() {
+                    return slot.getYear();
+                }
+            };
+        }
+
+        private void givenPanel(List<InterviewSlot> firstSlots, List<InterviewSlot> secondSlots) {
+            when(candidateRepository.findById(1L)).thenReturn(Optional.of(testCandidate));
+            when(interviewerRepository.findAllById(List.of(2L, 1L)))
+                    .thenReturn(List.of(testInterviewer, secondInterviewer));
+            when(bookingRepository.hasActiveBookingInDateRange(eq(1L), any(), any())).thenReturn(false);
+            when(slotRepository.findAvailableTimesByInterviewerId(eq(1L), any()))
+                    .thenReturn(firstSlots.stream().map(this::slotTimes).toList());
+            when(slotRepository.findAvailableTimesByInterviewerId(eq(2L), any()))
+                    .thenReturn(secondSlots.stream().map(this::slotTimes).toList());
+        }
+
+        @Test
+        @DisplayName("Should lock the common slots in id order and book them under one panel id")
+        void bookPanel_Success() {
+            InterviewSlot first = slot(7L, testInterviewer, start.plusHours(1));
+            InterviewSlot second = slot(3L, secondInterviewer, start.plusHours(1));
+            givenPanel(List.of(slot(6L, testInterviewer, start), first), List.of(second));
+            when(slotRepository.findByIdWithLock(3L)).thenReturn(Optional.of(second));
+            when(slotRepository.findByIdWithLock(7L)).thenReturn(Optional.of(first));
+            List<Booking> saved = new ArrayList<>();
+            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+                Booking booking = invocation.getArgument(0);
+                booking.setId((long) saved.size() + 1);
+                saved.add(booking);
+                return booking;
+            });
+
+            PanelBookingResponse response = bookingService.bookPanel(request());
+
+            InOrder lockOrder = inOrder(slotRepository);
+            lockOrder.verify(slotRepository).findByIdWithLock(3L);
+            lockOrder.verify(slotRepository).findByIdWithLock(7L);
+            assertEquals(start.plusHours(1), response.getStartTime());
+            assertEquals(List.of(2L, 1L),
+                    response.getBookings().stream().map(BookingResponse::getInterviewerId).toList());
+            assertEquals(SlotStatus.BOOKED, first.getStatus());
+            assertEquals(SlotStatus.BOOKED, second.getStatus());
+            assertNotNull(response.getPanelId());
+            assertTrue(saved.stream().allMatch(booking -> response.getPanelId().equals(booking.getPanelId())));
+            verify(calendarProjectionService).recordSlotChanges(List.of(second, first));
+            verify(outboxService, times(2)).recordBookingEvent(eq(BookingEventType.BOOKING_CREATED), any());
+        }
+
+        @Test
+        @DisplayName("Should skip a common time where an interviewer is at their weekly limit")
+        void bookPanel_SkipsFullWeeks() {
+            InterviewSlot thisWeek = slot(1L, testInterviewer, start);
+            InterviewSlot nextWeek = slot(2L, testInterviewer, start.plusWeeks(1));
+            nextWeek.setWeekNumber(2);
+            InterviewSlot secondThisWeek = slot(11L, secondInterviewer, start);
+            InterviewSlot secondNextWeek = slot(12L, secondInterviewer, start.plusWeeks(1));
+            secondNextWeek.setWeekNumber(2);
+            givenPanel(List.of(thisWeek, nextWeek), List.of(secondThisWeek, secondNextWeek));
+            when(slotRepository.countBookedSlotsForWeek(eq(2L), eq(1), eq(2030), anyList())).thenReturn(5L);
+            when(slotRepository.findByIdWithLock(2L)).thenReturn(Optional.of(nextWeek));
+            when(slotRepository.findByIdWithLock(12L)).thenReturn(Optional.of(secondNextWeek));
+            when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            PanelBookingResponse response = bookingService.bookPanel(request());
+
+            assertEquals(start.plusWeeks(1), response.getStartTime());
+            verify(slotRepository, never()).findByIdWithLock(1L);
+        }
+
+        @Test
+        @DisplayName("Should abandon the attempt when a matched slot was taken before it was locked")
+        void bookPanel_SlotTakenConcurrently() {
+            InterviewSlot first = slot(1L, testInterviewer, start);
+            InterviewSlot second = slot(2L, secondInterviewer, start);
+            givenPanel(List.of(first), List.of(second));
+            first.markAsBooked();
+            when(slotRepository.findByIdWithLock(1L)).thenReturn(Optional.of(first));
+
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> bookingService.bookPanel(request()));
+
+            verify(bookingRepository, never()).save(any());
+            verify(slotRepository, never()).findByIdWithLock(2L);
+        }
+
+        @Test
+        @DisplayName("Should reject a panel with no common free time")
+        void bookPanel_NoCommonTime() {
+            givenPanel(List.of(slot(1L, testInterviewer, start)),
+                    List.of(slot(2L, secondInterviewer, start.plusHours(1))));
+
+            assertThrows(SlotNotAvailableException.class, () -> bookingService.bookPanel(request()));
+            verify(slotRepository, never()).findByIdWithLock(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject a candidate who already has a booking in the window")
+        void bookPanel_DuplicateBooking() {
+            when(candidateRepository.findById(1L)).thenReturn(Optional.of(testCandidate));
+            when(interviewerRepository.findAllById(List.of(2L, 1L)))
+                    .thenReturn(List.of(testInterviewer, secondInterviewer));
+            when(bookingRepository.hasActiveBookingInDateRange(eq(1L), any(), any())).thenReturn(true);
+
+            assertThrows(DuplicateBookingException.class, () -> bookingService.bookPanel(request()));
+            verify(slotRepository, never()).findAvailableTimesByInterviewerId(anyLong(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Update Booking Tests")
     class UpdateBookingTests {
@@ -258,8 +485,11 @@ class BookingServiceTest {
             BookingResponse response = bookingService.updateBooking(1L, request);
 
             assertNotNull(response);
+            assertEquals(newSlot.getStartTime(), testBooking.getSlotStartTime());
             verify(slotRepository, times(2)).save(any(InterviewSlot.class));
             verify(bookingRepository).save(any(Booking.class));
+            verify(outboxService).recordBookingEvent(BookingEventType.BOOKING_RESCHEDULED, response);
+            verify(calendarProjectionService).recordSlotChanges(List.of(testSlot, newSlot));
         }
 
         @Test
@@ -275,6 +505,21 @@ class BookingServiceTest {
                     () -> bookingService.updateBooking(999L, request));
         }
 
+        @Test
+        @DisplayName("Should not move one member of a panel on its own")
+        void updateBooking_PanelMember() {
+            testBooking.setPanelId("panel-1");
+            UpdateBookingRequest request = UpdateBookingRequest.builder()
+                    .newSlotId(2L)
+                    .build();
+
+            when(bookingRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testBooking));
+
+            assertThrows(PanelBookingException.class, () -> bookingService.updateBooking(1L, request));
+            verify(slotRepository, never()).findByIdWithLock(any());
+            verify(bookingRepository, never()).save(any());
+        }
+
         @Test
         @DisplayName("Should throw exception for already cancelled booking")
         void updateBooking_AlreadyCancelled() {
@@ -309,6 +554,58 @@ class BookingServiceTest {
             assertNotNull(response);
             verify(slotRepository).save(any(InterviewSlot.class));
             verify(bookingRepository).save(any(Booking.class));
+            verify(outboxService).recordBookingEvent(BookingEventType.BOOKING_CANCELLED, response);
+            verify(calendarProjectionService).recordSlotChanges(List.of(testSlot));
+            verify(eventPublisher).publishEvent(SlotsChangedEvent.of(1L));
+        }
+
+        @Test
+        @DisplayName("Should not cancel one member of a panel on its own")
+        void cancelBooking_PanelMember() {
+            testSlot.setStatus(SlotStatus.BOOKED);
+            testBooking.setPanelId("panel-1");
+
+            when(bookingRepository.findByIdWithLock(1L)).thenReturn(Optional.of(testBooking));
+
+            assertThrows(PanelBookingException.class, () -> bookingService.cancelBooking(1L));
+            assertEquals(SlotStatus.BOOKED, testSlot.getStatus());
+            verify(bookingRepository, never()).save(any());
+            verifyNoInteractions(outboxService);
+        }
+
+        @Test
+        @DisplayName("Should cancel every member of a panel and free their slots")
+        void cancelPanel_Success() {
+            InterviewSlot secondSlot = InterviewSlot.builder().id(2L).interviewer(testInterviewer)
+                    .startTime(testSlot.getStartTime()).endTime(testSlot.getEndTime())
+                    .status(SlotStatus.BOOKED).weekNumber(1).year(2025).build();
+            testSlot.setStatus(SlotStatus.BOOKED);
+            testBooking.setPanelId("panel-1");
+            Booking second = Booking.builder().id(2L).candidate(testCandidate).slot(secondSlot)
+                    .status(BookingStatus.CONFIRMED).panelId("panel-1").createdAt(LocalDateTime.now()).build();
+
+            when(bookingRepository.lockIdsByPanelIdIn(List.of("panel-1"))).thenReturn(List.of(1L, 2L));
+            when(bookingRepository.findByIdsWithDetails(List.of(1L, 2L))).thenReturn(List.of(second, testBooking));
+            when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> i.getArgument(0));
+
+            PanelBookingResponse response = bookingService.cancelPanel("panel-1");
+
+            assertEquals(2, response.getBookings().size());
+            assertEquals(BookingStatus.CANCELLED, testBooking.getStatus());
+            assertEquals(BookingStatus.CANCELLED, second.getStatus());
+            assertEquals(SlotStatus.AVAILABLE, testSlot.getStatus());
+            assertEquals(SlotStatus.AVAILABLE, secondSlot.getStatus());
+            verify(calendarProjectionService).recordSlotChanges(List.of(testSlot, secondSlot));
+            verify(eventPublisher).publishEvent(SlotsChangedEvent.of(List.of(1L, 2L)));
+            verify(outboxService, times(2)).recordBookingEvent(eq(BookingEventType.BOOKING_CANCELLED), any());
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for an unknown panel")
+        void cancelPanel_NotFound() {
+            when(bookingRepository.lockIdsByPanelIdIn(List.of("missing"))).thenReturn(List.of());
+
+            assertThrows(ResourceNotFoundException.class, () -> bookingService.cancelPanel("missing"));
         }
 
         @Test
@@ -323,6 +620,51 @@ class BookingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Delete Interviewer Slots Tests")
+    class DeleteInterviewerSlotsTests {
+
+        @Test
+        @DisplayName("Should cancel the rest of a panel when one member's booking is deleted")
+        void deleteInterviewerSlots_CancelsRestOfPanel() {
+            Interviewer other = Interviewer.builder().id(2L).name("Other Interviewer").build();
+            InterviewSlot siblingSlot = InterviewSlot.builder().id(2L).interviewer(other)
+                    .startTime(testSlot.getStartTime()).endTime(testSlot.getEndTime())
+                    .status(SlotStatus.CONFIRMED).weekNumber(1).year(2025).build();
+            testSlot.setStatus(SlotStatus.BOOKED);
+            testBooking.setPanelId("panel-1");
+            Booking sibling = Booking.builder().id(2L).candidate(testCandidate).slot(siblingSlot)
+                    .status(BookingStatus.CONFIRMED).panelId("panel-1").createdAt(LocalDateTime.now()).build();
+
+            when(slotRepository.lockIdsByInterviewerId(eq(1L), any())).thenReturn(List.of(1L));
+            when(bookingRepository.findBySlotIdsWithDetails(List.of(1L))).thenReturn(List.of(testBooking));
+            when(bookingRepository.lockIdsByPanelIdIn(List.of("panel-1"))).thenReturn(List.of(1L, 2L));
+            when(bookingRepository.findByIdsWithDetails(List.of(2L))).thenReturn(List.of(sibling));
+            when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> i.getArgument(0));
+
+            assertEquals(1, bookingService.deleteInterviewerSlots(1L, 100));
+
+            assertEquals(BookingStatus.CANCELLED, sibling.getStatus());
+            assertEquals(SlotStatus.AVAILABLE, siblingSlot.getStatus());
+            verify(calendarProjectionService).recordSlotChanges(List.of(siblingSlot));
+            verify(outboxService, times(2)).recordBookingEvent(eq(BookingEventType.BOOKING_CANCELLED), any());
+            verify(bookingRepository).deleteAllByIdInBatch(List.of(1L));
+            verify(slotRepository).deleteAllByIdInBatch(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("Should not look for panels when no deleted booking belongs to one")
+        void deleteInterviewerSlots_NoPanel() {
+            when(slotRepository.lockIdsByInterviewerId(eq(1L), any())).thenReturn(List.of(1L));
+            when(bookingRepository.findBySlotIdsWithDetails(List.of(1L))).thenReturn(List.of(testBooking));
+
+            assertEquals(1, bookingService.deleteInterviewerSlots(1L, 100));
+
+            verify(bookingRepository, never()).lockIdsByPanelIdIn(any());
+            verify(outboxService).recordBookingEvent(eq(BookingEventType.BOOKING_CANCELLED), any());
+        }
+    }
+
     @Nested
     @DisplayName("Confirm Booking Tests")
     class ConfirmBookingTests {
@@ -339,6 +681,8 @@ class BookingServiceTest {
             assertNotNull(response);
             verify(bookingRepository).save(any(Booking.class));
             verify(slotRepository).save(any(InterviewSlot.class));
+            verify(outboxService).recordBookingEvent(BookingEventType.BOOKING_CONFIRMED, response);
+            verify(eventPublisher).publishEvent(SlotsChangedEvent.of(1L));
         }
 
         @Test
@@ -352,4 +696,35 @@ class BookingServiceTest {
                     () -> bookingService.confirmBooking(1L));
         }
     }
+
+    @Nested
+    @DisplayName("Booking By Slot Tests")
+    class BookingBySlotTests {
+
+        @Test
+        @DisplayName("Should serve repeated lookups from the cache until the slot changes")
+        void getBookingBySlotId_CachedUntilSlotChanges() {
+            when(bookingRepository.findBySlotId(1L)).thenReturn(Optional.of(testBooking));
+
+            assertEquals(BookingStatus.PENDING, bookingService.getBookingBySlotId(1L).getStatus());
+            testBooking.setStatus(BookingStatus.CONFIRMED);
+            assertEquals(BookingStatus.PENDING, bookingService.getBookingBySlotId(1L).getStatus());
+            verify(bookingRepository, times(1)).findBySlotId(1L);
+
+            readCaches.onSlotsChanged(SlotsChangedEvent.of(1L));
+
+            assertEquals(BookingStatus.CONFIRMED, bookingService.getBookingBySlotId(1L).getStatus());
+            verify(bookingRepository, times(2)).findBySlotId(1L);
+        }
+
+        @Test
+        @DisplayName("Should not cache a missing booking")
+        void getBookingBySlotId_NotFound() {
+            when(bookingRepository.findBySlotId(2L)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> bookingService.getBookingBySlotId(2L));
+            assertThrows(ResourceNotFoundException.class, () -> bookingService.getBookingBySlotId(2L));
+            verify(bookingRepository, times(2)).findBySlotId(2L);
+        }
+    }
 }
@@ -0,0 +1,352 @@
+package com.interview_scheduler.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.interview_scheduler.backend.dto.response.WeekCalendarResponse;
+import com.interview_scheduler.backend.entity.InterviewSlot;
+import com.interview_scheduler.backend.entity.Interviewer;
+import com.interview_scheduler.backend.entity.InterviewerWeekCalendar;
+import com.interview_scheduler.backend.entity.SlotStatus;
+import com.interview_scheduler.backend.event.CalendarWeekChangedEvent;
+import com.interview_scheduler.backend.event.SlotWeeksChangedEvent;
+import com.interview_scheduler.backend.exception.ResourceNotFoundException;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.repository.InterviewerRepository;
+import com.interview_scheduler.backend.repository.InterviewerWeekCalendarRepository;
+import com.interview_scheduler.backend.scheduling.WeekCoverage;
+import com.interview_scheduler.backend.scheduling.WeekGrid;
+import com.interview_scheduler.backend.service.impl.CalendarProjectionServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Calendar Projection Service Tests")
+class CalendarProjectionServiceTest {
+
+    @Mock
+    private InterviewerWeekCalendarRepository calendarRepository;
+
+    @Mock
+    private InterviewSlotRepository slotRepository;
+
+    @Mock
+    private InterviewerRepository interviewerRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CalendarProjectionServiceImpl calendarProjectionService;
+
+    private Interviewer interviewer;
+    private LocalDate nextWeek;
+
+    @BeforeEach
+    void setUp() {
+        interviewer = Interviewer.builder().id(1L).name("Test Interviewer").build();
+        nextWeek = WeekGrid.weekStartOf(LocalDate.now()).plusWeeks(1);
+    }
+
+    private InterviewSlot slot(LocalDate day, int hour, SlotStatus status) {
+        LocalDateTime start = day.atTime(LocalTime.of(hour, 0));
+        return InterviewSlot.builder()
+                .id((long) hour)
+                .tenantId("default")
+                .interviewer(interviewer)
+                .startTime(start)
+                .endTime(start.plusMinutes(60))
+                .status(status)
+                .build();
+    }
+
+    private static InterviewSlotRepository.SlotCell cell(LocalDateTime start, int minutes, SlotStatus status) {
+        return new InterviewSlotRepository.SlotCell() {
+
+            @Override
+            public String getTenantId() {
+                return "default";
+            }
+
+            @Override
+            public Long getInterviewerId() {
+                return 1L;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndTime() {
+                return start.plusMinutes(minutes);
+            }
+
+            @Override
+            public SlotStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public String toString() {
+                return status + "@" + start.toLocalTime();
+            }
+        };
+    }
+
+    private static WeekCoverage coverage(LocalDateTime start, int minutes, SlotStatus status) {
+        WeekCoverage coverage = new WeekCoverage(WeekGrid.weekStartOf(start));
+        if (status == SlotStatus.AVAILABLE) {
+            coverage.addOpen(start, start.plusMinutes(minutes));
+        } else {
+            coverage.addBooked(start, start.plusMinutes(minutes));
+        }
+        return coverage;
+    }
+
+    @Nested
+    @DisplayName("Record Slot Changes Tests")
+    class RecordSlotChangesTests {
+
+        @Test
+        @DisplayName("Should publish each affected week once, in lock order")
+        void recordSlotChanges_PublishesWeeksInOrder() {
+            calendarProjectionService.recordSlotChanges(List.of(
+                    slot(nextWeek.plusWeeks(1), 9, SlotStatus.AVAILABLE),
+                    slot(nextWeek, 9, SlotStatus.BOOKED),
+                    slot(nextWeek, 11, SlotStatus.AVAILABLE)));
+
+            ArgumentCaptor<SlotWeeksChangedEvent> event = ArgumentCaptor.forClass(SlotWeeksChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertEquals(List.of(new SlotWeeksChangedEvent.Week("default", 1L, nextWeek),
+                    new SlotWeeksChangedEvent.Week("default", 1L, nextWeek.plusWeeks(1))), event.getValue().weeks());
+            verifyNoInteractions(calendarRepository, slotRepository);
+        }
+
+        @Test
+        @DisplayName("Should create the week row and mark open slots free")
+        void onSlotWeeksChanged_CreatesWeek() {
+            when(calendarRepository.findForUpdate(1L, nextWeek)).thenReturn(Optional.empty());
+            when(slotRepository.findCalendarCellsByInterviewerId(1L, nextWeek.atStartOfDay(),
+                    nextWeek.plusWeeks(1).atStartOfDay())).thenReturn(List.of(
+                            cell(nextWeek.atTime(9, 0), 60, SlotStatus.AVAILABLE),
+                            cell(nextWeek.plusDays(2).atTime(14, 0), 60, SlotStatus.AVAILABLE)));
+
+            calendarProjectionService.onSlotWeeksChanged(weeks(nextWeek));
+
+            ArgumentCaptor<InterviewerWeekCalendar> captor = ArgumentCaptor.forClass(InterviewerWeekCalendar.class);
+            verify(calendarRepository).save(captor.capture());
+            InterviewerWeekCalendar saved = captor.getValue();
+            assertEquals("default", saved.getTenantId());
+            assertEquals(nextWeek, saved.getWeekStart());
+            assertEquals(8, saved.free().cardinality());
+            assertTrue(saved.free().get(9 * 4));
+            assertTrue(saved.free().get(2 * WeekGrid.PERIODS_PER_DAY + 14 * 4 + 3));
+            assertTrue(saved.booked().isEmpty());
+
+            ArgumentCaptor<CalendarWeekChangedEvent> event = ArgumentCaptor.forClass(CalendarWeekChangedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertEquals(nextWeek, event.getValue().weekStart());
+            assertEquals(saved.free(), WeekGrid.fromBytes(event.getValue().freeBits()));
+        }
+
+        @Test
+        @DisplayName("Should recompute the existing row from the week's current slots")
+        void onSlotWeeksChanged_BooksSlot() {
+            InterviewerWeekCalendar calendar = InterviewerWeekCalendar.builder()
+                    .interviewerId(1L).weekStart(nextWeek).build();
+            calendar.apply(coverage(nextWeek.atTime(9, 0), 120, SlotStatus.AVAILABLE));
+            when(calendarRepository.findForUpdate(1L, nextWeek)).thenReturn(Optional.of(calendar));
+            when(slotRepository.findCalendarCellsByInterviewerId(eq(1L), any(), any())).thenReturn(List.of(
+                    cell(nextWeek.atTime(9, 0), 60, SlotStatus.BOOKED),
+                    cell(nextWeek.atTime(10, 0), 60, SlotStatus.AVAILABLE)));
+
+            calendarProjectionService.onSlotWeeksChanged(weeks(nextWeek));
+
+            assertEquals(4, calendar.free().cardinality());
+            assertTrue(calendar.free().get(10 * 4));
+            assertEquals(4, calendar.booked().cardinality());
+            assertTrue(calendar.booked().get(9 * 4));
+            verify(calendarRepository).save(calendar);
+        }
+
+        @Test
+        @DisplayName("Should keep a booked 20-minute slot busy in the period it shares with an open neighbour")
+        void onSlotWeeksChanged_SharedPeriod() {
+            InterviewSlotRepository.SlotCell booked = cell(nextWeek.atTime(9, 0), 20, SlotStatus.BOOKED);
+            InterviewSlotRepository.SlotCell open = cell(nextWeek.atTime(9, 20), 20, SlotStatus.AVAILABLE);
+            InterviewSlotRepository.SlotCell next = cell(nextWeek.atTime(9, 40), 20, SlotStatus.AVAILABLE);
+
+            for (List<InterviewSlotRepository.SlotCell> order : List.of(List.of(booked, open, next),
+                    List.of(next, open, booked))) {
+                InterviewerWeekCalendar calendar = InterviewerWeekCalendar.builder()
+                        .interviewerId(1L).weekStart(nextWeek).build();
+                when(calendarRepository.findForUpdate(1L, nextWeek)).thenReturn(Optional.of(calendar));
+                when(slotRepository.findCalendarCellsByInterviewerId(eq(1L), any(), any())).thenReturn(order);
+
+                calendarProjectionService.onSlotWeeksChanged(weeks(nextWeek));
+
+                // 9:00-9:15 and 9:15-9:30 touch the booked slot; 9:30-10:00 is wholly covered by open ones.
+                assertEquals(List.of(9 * 4, 9 * 4 + 1), calendar.booked().stream().boxed().toList(), order::toString);
+                assertEquals(List.of(9 * 4 + 2, 9 * 4 + 3), calendar.free().stream().boxed().toList(),
+                        order::toString);
+            }
+        }
+
+        @Test
+        @DisplayName("Should lock each week in the order it was published")
+        void onSlotWeeksChanged_LocksWeeksInOrder() {
+            when(calendarRepository.findForUpdate(eq(1L), any())).thenReturn(Optional.empty());
+
+            calendarProjectionService.onSlotWeeksChanged(weeks(nextWeek, nextWeek.plusWeeks(1)));
+
+            InOrder inOrder = inOrder(calendarRepository);
+            inOrder.verify(calendarRepository).findForUpdate(1L, nextWeek);
+            inOrder.verify(calendarRepository).findForUpdate(1L, nextWeek.plusWeeks(1));
+            verify(calendarRepository, times(2)).save(any());
+        }
+
+        private SlotWeeksChangedEvent weeks(LocalDate... weekStarts) {
+            return new SlotWeeksChangedEvent(Arrays.stream(weekStarts)
+                    .map(weekStart -> new SlotWeeksChangedEvent.Week("default", 1L, weekStart))
+                    .toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get Week Calendar Tests")
+    class GetWeekCalendarTests {
+
+        @Test
+        @DisplayName("Should render one free/booked string per day from a single row")
+        void getWeekCalendar_RendersDays() {
+            InterviewerWeekCalendar calendar = InterviewerWeekCalendar.builder()
+                    .interviewerId(1L).weekStart(nextWeek).build();
+            WeekCoverage coverage = new WeekCoverage(nextWeek);
+            coverage.addOpen(nextWeek.plusDays(1).atTime(9, 0), nextWeek.plusDays(1).atTime(9, 30));
+            coverage.addBooked(nextWeek.plusDays(1).atTime(10, 0), nextWeek.plusDays(1).atTime(10, 15));
+            calendar.apply(coverage);
+            when(interviewerRepository.existsById(1L)).thenReturn(true);
+            when(calendarRepository.findByInterviewerIdAndWeekStart(1L, nextWeek)).thenReturn(Optional.of(calendar));
+
+            WeekCalendarResponse response = calendarProjectionService.getWeekCalendar(1L, nextWeek.plusDays(3));
+
+            assertEquals(nextWeek, response.getWeekStart());
+            assertEquals(WeekGrid.PERIOD_MINUTES, response.getPeriodMinutes());
+            assertEquals(7, response.getDays().size());
+            WeekCalendarResponse.Day tuesday = response.getDays().get(1);
+            assertEquals(nextWeek.plusDays(1), tuesday.date());
+            assertEquals(WeekGrid.PERIODS_PER_DAY, tuesday.free().length());
+            assertEquals("11", tuesday.free().substring(36, 38));
+            assertEquals(2, tuesday.free().chars().filter(c -> c == '1').count());
+            assertEquals('1', tuesday.booked().charAt(40));
+            assertFalse(response.getDays().get(0).free().contains("1"));
+        }
+
+        @Test
+        @DisplayName("Should never report periods that have already started as free")
+        void getWeekCalendar_MasksPast() {
+            LocalDate lastWeek = nextWeek.minusWeeks(2);
+            InterviewerWeekCalendar calendar = InterviewerWeekCalendar.builder()
+                    .interviewerId(1L).weekStart(lastWeek).build();
+            WeekCoverage coverage = new WeekCoverage(lastWeek);
+            coverage.addOpen(lastWeek.atTime(9, 0), lastWeek.atTime(10, 0));
+            coverage.addBooked(lastWeek.atTime(11, 0), lastWeek.atTime(12, 0));
+            calendar.apply(coverage);
+            when(interviewerRepository.existsById(1L)).thenReturn(true);
+            when(calendarRepository.findByInterviewerIdAndWeekStart(1L, lastWeek)).thenReturn(Optional.of(calendar));
+
+            WeekCalendarResponse response = calendarProjectionService.getWeekCalendar(1L, lastWeek);
+
+            assertFalse(response.getDays().get(0).free().contains("1"));
+            assertTrue(response.getDays().get(0).booked().contains("1111"));
+        }
+
+        @Test
+        @DisplayName("Should return an empty week when nothing was generated for it")
+        void getWeekCalendar_EmptyWeek() {
+            when(interviewerRepository.existsById(1L)).thenReturn(true);
+            when(calendarRepository.findByInterviewerIdAndWeekStart(1L, nextWeek)).thenReturn(Optional.empty());
+
+            WeekCalendarResponse response = calendarProjectionService.getWeekCalendar(1L, nextWeek);
+
+            assertTrue(response.getDays().stream().noneMatch(day -> day.free().contains("1")));
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for unknown interviewer")
+        void getWeekCalendar_InterviewerNotFound() {
+            when(interviewerRepository.existsById(99L)).thenReturn(false);
+
+            assertThrows(ResourceNotFoundException.class,
+                    () -> calendarProjectionService.getWeekCalendar(99L, nextWeek));
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild Tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should reset existing weeks and replay current slots")
+        void rebuild_ReplaysSlots() {
+            InterviewerWeekCalendar stale = InterviewerWeekCalendar.builder()
+                    .interviewerId(1L).weekStart(nextWeek).build();
+            stale.apply(coverage(nextWeek.atTime(15, 0), 60, SlotStatus.AVAILABLE));
+            when(calendarRepository.findByWeekStartGreaterThanEqual(any())).thenReturn(List.of(stale));
+
+            List<InterviewSlotRepository.SlotCell> cells = new ArrayList<>();
+            cells.add(cell(nextWeek.atTime(9, 0), 60, SlotStatus.BOOKED));
+            cells.add(cell(nextWeek.plusWeeks(1).atTime(9, 0), 60, SlotStatus.AVAILABLE));
+            when(slotRepository.findCalendarCellsFrom(any())).thenReturn(cells);
+
+            assertEquals(2, calendarProjectionService.rebuild());
+
+            assertTrue(stale.free().isEmpty());
+            assertEquals(4, stale.booked().cardinality());
+            verify(calendarRepository).saveAll(argThat(saved -> ((Collection<?>) saved).size() == 2));
+        }
+
+        @Test
+        @DisplayName("Should give 20-minute neighbours the same periods whatever order their rows come back in")
+        void rebuild_SharedPeriodInAnyOrder() {
+            InterviewSlotRepository.SlotCell booked = cell(nextWeek.atTime(9, 0), 20, SlotStatus.BOOKED);
+            InterviewSlotRepository.SlotCell open = cell(nextWeek.atTime(9, 20), 20, SlotStatus.AVAILABLE);
+
+            for (List<InterviewSlotRepository.SlotCell> order : List.of(List.of(booked, open),
+                    List.of(open, booked))) {
+                InterviewerWeekCalendar calendar = InterviewerWeekCalendar.builder()
+                        .interviewerId(1L).weekStart(nextWeek).build();
+                when(calendarRepository.findByWeekStartGreaterThanEqual(any())).thenReturn(List.of(calendar));
+                when(slotRepository.findCalendarCellsFrom(any())).thenReturn(order);
+
+                calendarProjectionService.rebuild();
+
+                // 9:15-9:30 is shared with the booked slot and 9:30-9:45 only partly open, so nothing is free.
+                assertEquals(List.of(9 * 4, 9 * 4 + 1), calendar.booked().stream().boxed().toList(), order::toString);
+                assertTrue(calendar.free().isEmpty(), order::toString);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.interview_scheduler.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.interview_scheduler.backend.entity.IdempotencyRecord;
+import com.interview_scheduler.backend.repository.IdempotencyRecordRepository;
+import com.interview_scheduler.backend.service.IdempotencyService.ClaimState;
+import com.interview_scheduler.backend.service.IdempotencyService.StoredResponse;
+import com.interview_scheduler.backend.service.impl.IdempotencyServiceImpl;
+import com.interview_scheduler.backend.tenant.TenantContext;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Service Tests")
+class IdempotencyServiceTest {
+
+    private static final String TENANT = "acme";
+    private static final String KEY = "key-1";
+    private static final String HASH = "hash-1";
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @InjectMocks
+    private IdempotencyServiceImpl idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        TenantContext.bind(TENANT, TenantContext.DEFAULT_SHARD);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    private IdempotencyRecord record(Integer status) {
+        return IdempotencyRecord.builder()
+                .id(1L)
+                .tenantId(TENANT)
+                .idempotencyKey(KEY)
+                .requestHash(HASH)
+                .responseStatus(status)
+                .contentType("application/json")
+                .responseBody(status != null ? "{}".getBytes() : null)
+                .createdAt(LocalDateTime.now())
+                .completedAt(status != null ? LocalDateTime.now() : null)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should claim a new key")
+    void begin_NewKey() {
+        when(idempotencyRecordRepository.findByTenantIdAndIdempotencyKey(TENANT, KEY)).thenReturn(Optional.empty());
+
+        assertEquals(ClaimState.ACQUIRED, idempotencyService.begin(KEY, HASH).state());
+        verify(idempotencyRecordRepository).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should replay a completed response from memory without touching the database again")
+    void begin_ReplaysFromCache() {
+        when(idempotencyRecordRepository.complete(eq(TENANT), eq(KEY), eq(HASH), eq(201), anyString(), any(),
+                any())).thenReturn(1);
+        idempotencyService.complete(KEY, HASH, new StoredResponse(201, "application/json", "{}".getBytes()));
+
+        IdempotencyService.Claim claim = idempotencyService.begin(KEY, HASH);
+
+        assertEquals(ClaimState.REPLAY, claim.state());
+        assertEquals(201, claim.response().status());
+        verify(idempotencyRecordRepository, never()).findByTenantIdAndIdempotencyKey(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should replay a response stored by another node")
+    void begin_ReplaysFromTable() {
+        when(idempotencyRecordRepository.findByTenantIdAndIdempotencyKey(TENANT, KEY))
+                .thenReturn(Optional.of(record(200)));
+
+        IdempotencyService.Claim claim = idempotencyService.begin(KEY, HASH);
+
+        assertEquals(ClaimState.REPLAY, claim.state());
+        assertArrayEquals("{}".getBytes(), claim.response().body());
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void begin_Mismatch() {
+        when(idempotencyRecordRepository.findByTenantIdAndIdempotencyKey(TENANT, KEY))
+                .thenReturn(Optional.of(record(200)));
+
+        assertEquals(ClaimState.MISMATCH, idempotencyService.begin(KEY, "other-hash").state());
+    }
+
+    @Test
+    @DisplayName("Should report a concurrent request that won the insert race as in progress")
+    void begin_LostInsertRace() {
+        when(idempotencyRecordRepository.findByTenantIdAndIdempotencyKey(TENANT, KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(record(null)));
+        when(idempotencyRecordRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("dup"));
+        when(idempotencyRecordRepository.reclaimStale(eq(1L), any(), any())).thenReturn(0);
+
+        assertEquals(ClaimState.IN_PROGRESS, idempotencyService.begin(KEY, HASH).state());
+    }
+
+    @Test
+    @DisplayName("Should take over a claim that went stale")
+    void begin_ReclaimsStaleClaim() {
+        when(idempotencyRecordRepository.findByTenantIdAndIdempotencyKey(TENANT, KEY))
+                .thenReturn(Optional.of(record(null)));
+        when(idempotencyRecordRepository.reclaimStale(eq(1L), any(), any())).thenReturn(1);
+
+        assertEquals(ClaimState.ACQUIRED, idempotencyService.begin(KEY, HASH).state());
+    }
+
+    @Test
+    @DisplayName("Should not cache a response whose claim is gone")
+    void complete_ClaimGone() {
+        when(idempotencyRecordRepository.complete(anyString(), anyString(), anyString(), anyInt(), any(), any(),
+                any())).thenReturn(0);
+        when(idempotencyRecordRepository.findByTenantIdAndIdempotencyKey(TENANT, KEY)).thenReturn(Optional.empty());
+
+        idempotencyService.complete(KEY, HASH, new StoredResponse(201, "application/json", "{}".getBytes()));
+
+        assertEquals(ClaimState.ACQUIRED, idempotencyService.begin(KEY, HASH).state());
+    }
+}
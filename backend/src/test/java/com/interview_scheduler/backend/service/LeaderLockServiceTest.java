@@ -0,0 +1,106 @@
+package com.interview_scheduler.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.interview_scheduler.backend.entity.SchedulerLock;
+import com.interview_scheduler.backend.repository.SchedulerLockRepository;
+import com.interview_scheduler.backend.service.impl.LeaderLockServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Leader Lock Service Tests")
+class LeaderLockServiceTest {
+
+    private static final String JOB = "slot-expiry-reconcile";
+
+    @Mock
+    private SchedulerLockRepository lockRepository;
+
+    @InjectMocks
+    private LeaderLockServiceImpl leaderLockService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(leaderLockService, "nodeId", "node-a");
+    }
+
+    @Test
+    @DisplayName("Should acquire the lease and reuse it without another round trip")
+    void tryAcquire_CachesLease() {
+        when(lockRepository.tryLock(eq(JOB), eq("node-a"), any(), any())).thenReturn(1);
+
+        assertTrue(leaderLockService.tryAcquire(JOB));
+        assertTrue(leaderLockService.tryAcquire(JOB));
+        assertTrue(leaderLockService.isHeld(JOB));
+        verify(lockRepository, times(1)).tryLock(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should renew the lease once less than half of it remains")
+    void tryAcquire_RenewsLease() {
+        ReflectionTestUtils.setField(leaderLockService, "leaseMillis", 0L);
+        when(lockRepository.tryLock(eq(JOB), eq("node-a"), any(), any())).thenReturn(1);
+
+        leaderLockService.tryAcquire(JOB);
+        leaderLockService.tryAcquire(JOB);
+
+        verify(lockRepository, times(2)).tryLock(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should back off while another node holds the lease")
+    void tryAcquire_HeldElsewhere() {
+        when(lockRepository.tryLock(eq(JOB), eq("node-a"), any(), any())).thenReturn(0);
+        when(lockRepository.existsById(JOB)).thenReturn(true);
+
+        assertFalse(leaderLockService.tryAcquire(JOB));
+        assertFalse(leaderLockService.tryAcquire(JOB));
+        assertFalse(leaderLockService.isHeld(JOB));
+        verify(lockRepository, times(1)).tryLock(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should create the lock row the first time a job runs")
+    void tryAcquire_CreatesLock() {
+        when(lockRepository.tryLock(eq(JOB), eq("node-a"), any(), any())).thenReturn(0);
+        when(lockRepository.existsById(JOB)).thenReturn(false);
+
+        assertTrue(leaderLockService.tryAcquire(JOB));
+        verify(lockRepository).saveAndFlush(any(SchedulerLock.class));
+    }
+
+    @Test
+    @DisplayName("Should lose the race gracefully when another node creates the lock row")
+    void tryAcquire_CreateRace() {
+        when(lockRepository.tryLock(eq(JOB), eq("node-a"), any(), any())).thenReturn(0);
+        when(lockRepository.existsById(JOB)).thenReturn(false);
+        when(lockRepository.saveAndFlush(any(SchedulerLock.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertFalse(leaderLockService.tryAcquire(JOB));
+    }
+
+    @Test
+    @DisplayName("Should release held leases")
+    void release_HeldLease() {
+        when(lockRepository.tryLock(eq(JOB), eq("node-a"), any(), any())).thenReturn(1);
+        leaderLockService.tryAcquire(JOB);
+
+        leaderLockService.release(JOB);
+
+        verify(lockRepository).unlock(eq(JOB), eq("node-a"), any());
+        assertFalse(leaderLockService.isHeld(JOB));
+    }
+}
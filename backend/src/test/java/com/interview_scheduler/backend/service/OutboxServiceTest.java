@@ -0,0 +1,126 @@
+package com.interview_scheduler.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview_scheduler.backend.dto.response.BookingResponse;
+import com.interview_scheduler.backend.entity.BookingEventType;
+import com.interview_scheduler.backend.entity.BookingStatus;
+import com.interview_scheduler.backend.entity.OutboxEvent;
+import com.interview_scheduler.backend.event.OutboxEventSink;
+import com.interview_scheduler.backend.repository.OutboxEventRepository;
+import com.interview_scheduler.backend.service.impl.OutboxServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Outbox Service Tests")
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxEventSink firstSink;
+
+    @Mock
+    private OutboxEventSink secondSink;
+
+    private OutboxServiceImpl outboxService;
+
+    private List<OutboxEvent> pendingEvents;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxEventRepository, List.of(firstSink, secondSink),
+                new ObjectMapper().findAndRegisterModules());
+
+        pendingEvents = List.of(
+                OutboxEvent.builder().id(1L).aggregateType("Booking").aggregateId(10L)
+                        .eventType(BookingEventType.BOOKING_CREATED).payload("{}").build(),
+                OutboxEvent.builder().id(2L).aggregateType("Booking").aggregateId(10L)
+                        .eventType(BookingEventType.BOOKING_CONFIRMED).payload("{}").build());
+    }
+
+    @Nested
+    @DisplayName("Record Event Tests")
+    class RecordEventTests {
+
+        @Test
+        @DisplayName("Should store the booking snapshot as the event payload")
+        void recordBookingEvent_StoresPayload() {
+            BookingResponse booking = BookingResponse.builder()
+                    .id(10L)
+                    .candidateId(1L)
+                    .slotId(5L)
+                    .status(BookingStatus.PENDING)
+                    .slotStartTime(LocalDateTime.of(2025, 3, 10, 9, 0))
+                    .build();
+
+            outboxService.recordBookingEvent(BookingEventType.BOOKING_CREATED, booking);
+
+            ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+            verify(outboxEventRepository).save(captor.capture());
+            OutboxEvent saved = captor.getValue();
+            assertEquals("Booking", saved.getAggregateType());
+            assertEquals(10L, saved.getAggregateId());
+            assertEquals(BookingEventType.BOOKING_CREATED, saved.getEventType());
+            assertTrue(saved.getPayload().contains("\"slotId\":5"));
+            assertNull(saved.getPublishedAt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Relay Tests")
+    class RelayTests {
+
+        @Test
+        @DisplayName("Should publish pending events to every sink and mark them published")
+        void relayPendingEvents_Success() {
+            when(outboxEventRepository.findPendingEvents(any(), any())).thenReturn(pendingEvents);
+
+            int relayed = outboxService.relayPendingEvents();
+
+            assertEquals(2, relayed);
+            InOrder inOrder = inOrder(firstSink, secondSink, outboxEventRepository);
+            inOrder.verify(firstSink).publish(pendingEvents);
+            inOrder.verify(secondSink).publish(pendingEvents);
+            inOrder.verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any());
+        }
+
+        @Test
+        @DisplayName("Should leave the batch pending when a sink fails")
+        void relayPendingEvents_SinkFailure() {
+            when(outboxEventRepository.findPendingEvents(any(), any())).thenReturn(pendingEvents);
+            doThrow(new IllegalStateException("queue unavailable")).when(secondSink).publish(anyList());
+
+            int relayed = outboxService.relayPendingEvents();
+
+            assertEquals(0, relayed);
+            verify(outboxEventRepository, never()).markPublished(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("Should do nothing when there are no pending events")
+        void relayPendingEvents_Empty() {
+            when(outboxEventRepository.findPendingEvents(any(), any())).thenReturn(List.of());
+
+            assertEquals(0, outboxService.relayPendingEvents());
+            verifyNoInteractions(firstSink, secondSink);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.interview_scheduler.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.interview_scheduler.backend.dto.response.JobStatsResponse;
+import com.interview_scheduler.backend.entity.JobRun;
+import com.interview_scheduler.backend.entity.JobRunStatus;
+import com.interview_scheduler.backend.repository.JobRunRepository;
+import com.interview_scheduler.backend.service.impl.ScheduledJobServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Scheduled Job Service Tests")
+class ScheduledJobServiceTest {
+
+    @Mock
+    private LeaderLockService leaderLockService;
+
+    @Mock
+    private JobRunRepository jobRunRepository;
+
+    @InjectMocks
+    private ScheduledJobServiceImpl scheduledJobService;
+
+    @Test
+    @DisplayName("Should skip the job when another node holds the lease")
+    void runExclusive_NotLeader() {
+        when(leaderLockService.tryAcquire("slot-hold-sweep")).thenReturn(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertFalse(scheduledJobService.runExclusive("slot-hold-sweep", true, calls::incrementAndGet));
+
+        assertEquals(0, calls.get());
+        verifyNoInteractions(jobRunRepository);
+        JobStatsResponse stats = scheduledJobService.getJobStats().get(0);
+        assertEquals(1, stats.getSkipped());
+        assertEquals(0, stats.getRuns());
+    }
+
+    @Test
+    @DisplayName("Should run the job and record its history when leader")
+    void runExclusive_Leader() {
+        when(leaderLockService.tryAcquire("slot-hold-sweep")).thenReturn(true);
+        when(leaderLockService.getNodeId()).thenReturn("node-a");
+
+        assertTrue(scheduledJobService.runExclusive("slot-hold-sweep", true, () -> 4));
+
+        ArgumentCaptor<JobRun> captor = ArgumentCaptor.forClass(JobRun.class);
+        verify(jobRunRepository).save(captor.capture());
+        assertEquals(JobRunStatus.SUCCEEDED, captor.getValue().getStatus());
+        assertEquals(4, captor.getValue().getAffectedRows());
+        assertEquals("node-a", captor.getValue().getNodeId());
+        assertEquals(4, scheduledJobService.getJobStats().get(0).getLastAffectedRows());
+    }
+
+    @Test
+    @DisplayName("Should record failed runs even when history is off")
+    void runExclusive_Failure() {
+        when(leaderLockService.tryAcquire("outbox-relay")).thenReturn(true);
+
+        scheduledJobService.runExclusive("outbox-relay", false, () -> {
+            throw new IllegalStateException("sink down");
+        });
+
+        ArgumentCaptor<JobRun> captor = ArgumentCaptor.forClass(JobRun.class);
+        verify(jobRunRepository).save(captor.capture());
+        assertEquals(JobRunStatus.FAILED, captor.getValue().getStatus());
+        assertTrue(captor.getValue().getErrorMessage().contains("sink down"));
+        assertEquals(1, scheduledJobService.getJobStats().get(0).getFailures());
+    }
+
+    @Test
+    @DisplayName("Should run local jobs on every node without a lease")
+    void runLocal_NoLease() {
+        scheduledJobService.runLocal("slot-hold-tick", () -> 0);
+        scheduledJobService.runLocal("slot-hold-tick", () -> 2);
+
+        verify(leaderLockService, never()).tryAcquire(any());
+        verify(jobRunRepository, never()).save(any());
+        List<JobStatsResponse> stats = scheduledJobService.getJobStats();
+        assertEquals(2, stats.get(0).getRuns());
+        assertFalse(stats.get(0).isExclusive());
+    }
+}
@@ -0,0 +1,140 @@
+package com.interview_scheduler.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository.SlotStart;
+import com.interview_scheduler.backend.service.impl.SlotExpiryServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Slot Expiry Service Tests")
+class SlotExpiryServiceTest {
+
+    @Mock
+    private InterviewSlotRepository slotRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SlotExpiryServiceImpl slotExpiryService;
+
+    private record TestSlotStart(Long id, LocalDateTime startTime) implements SlotStart {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+    }
+
+    @Nested
+    @DisplayName("Expire Due Slots Tests")
+    class ExpireDueSlotsTests {
+
+        @Test
+        @DisplayName("Should expire slots whose start time has been reached")
+        void expireDueSlots_StartReached() {
+            slotExpiryService.register(1L, LocalDateTime.now().minusSeconds(1));
+            slotExpiryService.register(2L, LocalDateTime.now().plusHours(1));
+            when(slotRepository.markSlotsExpired(eq(List.of(1L)), any())).thenReturn(1);
+
+            assertEquals(1, slotExpiryService.expireDueSlots());
+            verify(slotRepository).markSlotsExpired(eq(List.of(1L)), any());
+            verify(eventPublisher).publishEvent(SlotsChangedEvent.of(List.of(1L)));
+        }
+
+        @Test
+        @DisplayName("Should not query the database when nothing is due")
+        void expireDueSlots_NothingDue() {
+            slotExpiryService.register(1L, LocalDateTime.now().plusMinutes(5));
+
+            assertEquals(0, slotExpiryService.expireDueSlots());
+            verify(slotRepository, never()).markSlotsExpired(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("Should split due slots into batches")
+        void expireDueSlots_Batches() {
+            ReflectionTestUtils.setField(slotExpiryService, "batchSize", 2);
+            for (long id = 1; id <= 5; id++) {
+                slotExpiryService.register(id, LocalDateTime.now().minusMinutes(id));
+            }
+            when(slotRepository.markSlotsExpired(anyList(), any())).thenAnswer(i -> ((List<?>) i.getArgument(0)).size());
+
+            assertEquals(5, slotExpiryService.expireDueSlots());
+            verify(slotRepository, times(3)).markSlotsExpired(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("Should ignore slots beyond the horizon until the next rebuild")
+        void register_BeyondHorizon() {
+            slotExpiryService.register(1L, LocalDateTime.now().plusDays(30));
+
+            assertEquals(0, slotExpiryService.expireDueSlots());
+            verify(slotRepository, never()).markSlotsExpired(anyList(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rebuild And Reconcile Tests")
+    class RebuildTests {
+
+        @Test
+        @DisplayName("Should load open slots within the horizon on rebuild")
+        void rebuild_LoadsUpcomingSlots() {
+            when(slotRepository.findOpenSlotStartsBefore(any())).thenReturn(List.of(
+                    new TestSlotStart(1L, LocalDateTime.now().minusSeconds(5)),
+                    new TestSlotStart(2L, LocalDateTime.now().plusHours(3))));
+            when(slotRepository.markSlotsExpired(eq(List.of(1L)), any())).thenReturn(1);
+
+            assertEquals(2, slotExpiryService.rebuild());
+            assertEquals(1, slotExpiryService.expireDueSlots());
+        }
+
+        @Test
+        @DisplayName("Should pick up slots generated on other nodes since the previous tick")
+        void expireDueSlots_ScansNewSlots() {
+            when(slotRepository.findOpenSlotStartsBefore(any())).thenReturn(List.of());
+            slotExpiryService.rebuild();
+            when(slotRepository.findOpenSlotStartsCreatedSince(any(), any())).thenReturn(List.of(
+                    new TestSlotStart(7L, LocalDateTime.now().minusSeconds(1))));
+            when(slotRepository.markSlotsExpired(eq(List.of(7L)), any())).thenReturn(1);
+
+            assertEquals(1, slotExpiryService.expireDueSlots());
+            verify(slotRepository).findOpenSlotStartsCreatedSince(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should sweep missed slots and reload the horizon")
+        void reconcile_SweepsAndReloads() {
+            when(slotRepository.markExpiredSlots(any())).thenReturn(3);
+            when(slotRepository.findOpenSlotStartsBefore(any())).thenReturn(List.of());
+
+            assertEquals(3, slotExpiryService.reconcile());
+            verify(slotRepository).findOpenSlotStartsBefore(any());
+            verify(eventPublisher).publishEvent(SlotsChangedEvent.anyOnShard());
+        }
+    }
+}
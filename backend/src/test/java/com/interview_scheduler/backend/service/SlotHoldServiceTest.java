@@ -0,0 +1,129 @@
+package com.interview_scheduler.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.interview_scheduler.backend.dto.response.SlotHoldResponse;
+import com.interview_scheduler.backend.entity.InterviewSlot;
+import com.interview_scheduler.backend.entity.SlotStatus;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
+import com.interview_scheduler.backend.exception.ResourceNotFoundException;
+import com.interview_scheduler.backend.exception.SlotAlreadyBookedException;
+import com.interview_scheduler.backend.exception.SlotNotAvailableException;
+import com.interview_scheduler.backend.repository.CandidateRepository;
+import com.interview_scheduler.backend.repository.InterviewSlotRepository;
+import com.interview_scheduler.backend.service.impl.SlotHoldServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Slot Hold Service Tests")
+class SlotHoldServiceTest {
+
+    @Mock
+    private InterviewSlotRepository slotRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SlotHoldServiceImpl slotHoldService;
+
+    @Nested
+    @DisplayName("Hold Slot Tests")
+    class HoldSlotTests {
+
+        @Test
+        @DisplayName("Should claim the slot with a conditional update")
+        void holdSlot_Success() {
+            when(candidateRepository.existsById(5L)).thenReturn(true);
+            when(slotRepository.claimHold(eq(1L), eq(5L), any(), any())).thenReturn(1);
+
+            SlotHoldResponse response = slotHoldService.holdSlot(1L, 5L);
+
+            assertEquals(1L, response.getSlotId());
+            assertEquals(5L, response.getCandidateId());
+            assertTrue(response.getHeldUntil().isAfter(LocalDateTime.now()));
+            verify(slotRepository, never()).findById(any());
+            verify(eventPublisher).publishEvent(SlotsChangedEvent.of(1L));
+        }
+
+        @Test
+        @DisplayName("Should throw SlotAlreadyBookedException when the claim loses")
+        void holdSlot_AlreadyClaimed() {
+            InterviewSlot slot = InterviewSlot.builder()
+                    .id(1L)
+                    .status(SlotStatus.HELD)
+                    .startTime(LocalDateTime.now().plusDays(1))
+                    .build();
+            when(candidateRepository.existsById(6L)).thenReturn(true);
+            when(slotRepository.claimHold(eq(1L), eq(6L), any(), any())).thenReturn(0);
+            when(slotRepository.findById(1L)).thenReturn(Optional.of(slot));
+
+            assertThrows(SlotAlreadyBookedException.class, () -> slotHoldService.holdSlot(1L, 6L));
+        }
+
+        @Test
+        @DisplayName("Should throw SlotNotAvailableException for past slots")
+        void holdSlot_PastSlot() {
+            InterviewSlot slot = InterviewSlot.builder()
+                    .id(1L)
+                    .status(SlotStatus.AVAILABLE)
+                    .startTime(LocalDateTime.now().minusHours(1))
+                    .build();
+            when(candidateRepository.existsById(5L)).thenReturn(true);
+            when(slotRepository.claimHold(eq(1L), eq(5L), any(), any())).thenReturn(0);
+            when(slotRepository.findById(1L)).thenReturn(Optional.of(slot));
+
+            assertThrows(SlotNotAvailableException.class, () -> slotHoldService.holdSlot(1L, 5L));
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for unknown candidate")
+        void holdSlot_CandidateNotFound() {
+            when(candidateRepository.existsById(99L)).thenReturn(false);
+
+            assertThrows(ResourceNotFoundException.class, () -> slotHoldService.holdSlot(1L, 99L));
+            verify(slotRepository, never()).claimHold(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiry Tests")
+    class ExpiryTests {
+
+        @Test
+        @DisplayName("Should not touch the database when no hold is due")
+        void expireDueHolds_NothingDue() {
+            when(candidateRepository.existsById(5L)).thenReturn(true);
+            when(slotRepository.claimHold(eq(1L), eq(5L), any(), any())).thenReturn(1);
+            slotHoldService.holdSlot(1L, 5L);
+
+            assertEquals(0, slotHoldService.expireDueHolds());
+            verify(slotRepository, never()).releaseExpiredHolds(anyList(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject releasing a hold owned by someone else")
+        void releaseHold_NotHolder() {
+            when(slotRepository.releaseHold(eq(1L), eq(6L), any())).thenReturn(0);
+
+            assertThrows(SlotNotAvailableException.class, () -> slotHoldService.releaseHold(1L, 6L));
+        }
+    }
+}
@@ -19,11 +19,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import com.interview_scheduler.backend.cache.SlotReadCaches;
 import com.interview_scheduler.backend.dto.request.GenerateSlotsRequest;
 import com.interview_scheduler.backend.dto.response.InterviewSlotResponse;
 import com.interview_scheduler.backend.dto.response.PaginatedResponse;
@@ -31,6 +34,7 @@ import com.interview_scheduler.backend.entity.Interviewer;
 import com.interview_scheduler.backend.entity.InterviewSlot;
 import com.interview_scheduler.backend.entity.SlotStatus;
 import com.interview_scheduler.backend.entity.WeeklyAvailability;
+import com.interview_scheduler.backend.event.SlotsChangedEvent;
 import com.interview_scheduler.backend.exception.ResourceNotFoundException;
 import com.interview_scheduler.backend.exception.ValidationException;
 import com.interview_scheduler.backend.repository.InterviewSlotRepository;
@@ -51,6 +55,18 @@ class SlotServiceTest {
         @Mock
         private WeeklyAvailabilityRepository weeklyAvailabilityRepository;
 
+        @Mock
+        private SlotExpiryService slotExpiryService;
+
+        @Mock
+        private CalendarProjectionService calendarProjectionService;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        @Spy
+        private SlotReadCaches readCaches = new SlotReadCaches(true, 100, 30);
+
         @InjectMocks
         private SlotServiceImpl slotService;
 
@@ -116,6 +132,7 @@ class SlotServiceTest {
                         assertNotNull(result);
                         assertTrue(result.size() > 0, "Should generate at least one slot");
                         verify(slotRepository, atLeastOnce()).save(any(InterviewSlot.class));
+                        verify(slotExpiryService, times(result.size())).register(eq(1L), any());
                 }
 
                 @Test
@@ -276,6 +293,7 @@ class SlotServiceTest {
                                         .status(SlotStatus.AVAILABLE)
                                         .weekNumber(1)
                                         .year(2025)
+                                        .version(0L)
                                         .build();
 
                         when(slotRepository.findById(1L)).thenReturn(Optional.of(slot));
@@ -286,6 +304,34 @@ class SlotServiceTest {
                         assertEquals(1L, result.getId());
                 }
 
+                @Test
+                @DisplayName("Should serve the slot and its version from the cache until the slot changes")
+                void getSlotById_CachedUntilSlotChanges() {
+                        InterviewSlot slot = InterviewSlot.builder()
+                                        .id(2L)
+                                        .interviewer(testInterviewer)
+                                        .startTime(LocalDateTime.now().plusDays(1))
+                                        .endTime(LocalDateTime.now().plusDays(1).plusHours(1))
+                                        .status(SlotStatus.AVAILABLE)
+                                        .weekNumber(1)
+                                        .year(2025)
+                                        .version(4L)
+                                        .build();
+                        when(slotRepository.findById(2L)).thenReturn(Optional.of(slot));
+
+                        assertEquals(4L, slotService.getSlotVersion(2L));
+                        assertEquals(SlotStatus.AVAILABLE, slotService.getSlotById(2L).getStatus());
+                        verify(slotRepository, times(1)).findById(2L);
+
+                        slot.setStatus(SlotStatus.BOOKED);
+                        slot.setVersion(5L);
+                        readCaches.onSlotsChanged(SlotsChangedEvent.of(2L));
+
+                        assertEquals(SlotStatus.BOOKED, slotService.getSlotById(2L).getStatus());
+                        assertEquals(5L, slotService.getSlotVersion(2L));
+                        verify(slotRepository, times(2)).findById(2L);
+                }
+
                 @Test
                 @DisplayName("Should throw ResourceNotFoundException when slot not found")
                 void getSlotById_NotFound() {
@@ -300,43 +346,24 @@ class SlotServiceTest {
         class MarkExpiredSlotsTests {
 
                 @Test
-                @DisplayName("Should mark expired available slots")
+                @DisplayName("Should expire open slots with a single bulk update")
                 void markExpiredSlots_Success() {
-                        InterviewSlot expiredSlot1 = InterviewSlot.builder()
-                                        .id(1L)
-                                        .interviewer(testInterviewer)
-                                        .startTime(LocalDateTime.now().minusHours(2))
-                                        .endTime(LocalDateTime.now().minusHours(1))
-                                        .status(SlotStatus.AVAILABLE)
-                                        .build();
-
-                        InterviewSlot expiredSlot2 = InterviewSlot.builder()
-                                        .id(2L)
-                                        .interviewer(testInterviewer)
-                                        .startTime(LocalDateTime.now().minusDays(1))
-                                        .endTime(LocalDateTime.now().minusDays(1).plusHours(1))
-                                        .status(SlotStatus.AVAILABLE)
-                                        .build();
-
-                        when(slotRepository.findExpiredAvailableSlots(any()))
-                                        .thenReturn(Arrays.asList(expiredSlot1, expiredSlot2));
-                        when(slotRepository.save(any(InterviewSlot.class))).thenAnswer(i -> i.getArgument(0));
+                        when(slotRepository.markExpiredSlots(any())).thenReturn(2);
 
                         int result = slotService.markExpiredSlots();
 
                         assertEquals(2, result);
-                        verify(slotRepository, times(2)).save(any(InterviewSlot.class));
+                        verify(slotRepository, never()).save(any(InterviewSlot.class));
                 }
 
                 @Test
                 @DisplayName("Should return 0 when no expired slots")
                 void markExpiredSlots_NoExpired() {
-                        when(slotRepository.findExpiredAvailableSlots(any())).thenReturn(List.of());
+                        when(slotRepository.markExpiredSlots(any())).thenReturn(0);
 
                         int result = slotService.markExpiredSlots();
 
                         assertEquals(0, result);
-                        verify(slotRepository, never()).save(any(InterviewSlot.class));
                 }
         }
 }